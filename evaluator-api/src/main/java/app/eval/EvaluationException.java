@@ -0,0 +1,32 @@
+package app.eval;
+
+/**
+ * EvaluationException is thrown when an expression cannot be evaluated to a number.
+ * It wraps the underlying engine failure (syntax errors, non-numeric results, etc.) so callers
+ * only need to handle a single checked exception regardless of which evaluator is in use.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class EvaluationException extends Exception {
+
+    /**
+     * Creates a new EvaluationException with the given message.
+     *
+     * @param message Description of why the evaluation failed
+     */
+    public EvaluationException(String message) {
+        super(message);
+    }
+
+    /**
+     * Creates a new EvaluationException with the given message and cause.
+     *
+     * @param message Description of why the evaluation failed
+     * @param cause The underlying exception thrown by the evaluator
+     */
+    public EvaluationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,40 @@
+package app.eval;
+
+/**
+ * EvaluatorProvider is the service interface for plugging expression evaluators into the calculator.
+ * Providers are discovered with {@link java.util.ServiceLoader} from
+ * {@code META-INF/services/app.eval.EvaluatorProvider}, so an evaluator with heavy dependencies (such as
+ * the GraalJS one) is only loaded when its artifact is on the class path.
+ *
+ * <p>Implementations must have a public no-argument constructor and must not touch their evaluator's
+ * dependencies until {@link #create()} is called.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public interface EvaluatorProvider {
+
+    /**
+     * Returns the name used to select this provider with the {@code calculator.evaluator} system property.
+     *
+     * @return The provider name (e.g., "java", "graaljs")
+     */
+    String name();
+
+    /**
+     * Returns the priority of this provider. When no provider is selected explicitly, the available
+     * provider with the highest priority is used.
+     *
+     * @return The provider priority
+     */
+    int priority();
+
+    /**
+     * Creates a new evaluator. Each call returns a new instance that may be confined to a single thread.
+     *
+     * @return A new evaluator
+     * @throws EvaluationException if the evaluator cannot be created
+     */
+    ExpressionEvaluator create() throws EvaluationException;
+}
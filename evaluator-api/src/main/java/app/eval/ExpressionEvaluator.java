@@ -0,0 +1,37 @@
+package app.eval;
+
+/**
+ * ExpressionEvaluator evaluates calculator expressions to a numeric result.
+ * Implementations are NOT required to be thread-safe. Code that evaluates from several threads
+ * (such as the batch evaluator) must create one instance per thread and keep it confined there.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public interface ExpressionEvaluator extends AutoCloseable {
+
+    /**
+     * Evaluates the given expression.
+     *
+     * @param expression The expression to evaluate (e.g., "5+3*(2-1)")
+     * @return The numeric result of the expression
+     * @throws EvaluationException if the expression is invalid or does not produce a number
+     */
+    double evaluate(String expression) throws EvaluationException;
+
+    /**
+     * Returns a short, human readable name of the evaluator, used for logging and diagnostics.
+     *
+     * @return The evaluator name
+     */
+    String name();
+
+    /**
+     * Releases any resources held by the evaluator.
+     * The default implementation does nothing.
+     */
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,27 @@
+package app.eval;
+
+/**
+ * Provides the JavaScript (GraalJS) evaluator. Takes priority over the built-in Java evaluator whenever
+ * this artifact is on the class path, so builds that opt in to GraalJS keep the full JavaScript semantics.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class GraalJsEvaluatorProvider implements EvaluatorProvider {
+
+    @Override
+    public String name() {
+        return "graaljs";
+    }
+
+    @Override
+    public int priority() {
+        return 10;
+    }
+
+    @Override
+    public ExpressionEvaluator create() throws EvaluationException {
+        return ScriptEngineEvaluator.create();
+    }
+}
@@ -0,0 +1,82 @@
+package app.eval;
+
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineManager;
+import javax.script.ScriptException;
+
+/**
+ * ScriptEngineEvaluator evaluates expressions with a JavaScript engine.
+ * This uses GraalVM JavaScript engine if available, otherwise falls back to generic JavaScript engine.
+ * A ScriptEngine instance must not be shared between threads, so each evaluator owns its own engine.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class ScriptEngineEvaluator implements ExpressionEvaluator {
+
+    /**
+     * JavaScript engine used for evaluating expressions. Confined to the thread that uses this evaluator.
+     */
+    private final ScriptEngine engine;
+
+    /**
+     * Creates an evaluator wrapping the given engine.
+     *
+     * @param engine The JavaScript engine to evaluate expressions with
+     */
+    private ScriptEngineEvaluator(ScriptEngine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Creates a new evaluator with its own JavaScript engine.
+     *
+     * @return A new evaluator
+     * @throws EvaluationException if no JavaScript engine is available
+     */
+    public static ScriptEngineEvaluator create() throws EvaluationException {
+        ScriptEngine engine = new ScriptEngineManager().getEngineByName("graal.js");
+
+        // Checks if GraalVM JavaScript engine initialized sucessfully, if not, tries to fall back to generic JavaScript engine
+        // The generic JavaScript engine was removed in Java 15+, so this is a fallback for older versions
+        if (engine == null) {
+            System.err.println("GraalVM JavaScript engine not found, trying generic JavaScript");
+            engine = new ScriptEngineManager().getEngineByName("JavaScript");
+
+            if (engine == null) {
+                throw new EvaluationException("No JavaScript engine found!");
+            }
+        }
+        return new ScriptEngineEvaluator(engine);
+    }
+
+    @Override
+    public double evaluate(String expression) throws EvaluationException {
+        try {
+            Object result = engine.eval(expression);
+            if (result == null) {
+                throw new EvaluationException("Expression produced no value: " + expression);
+            }
+            return Double.parseDouble(result.toString());
+        } catch (ScriptException | NumberFormatException e) {
+            throw new EvaluationException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String name() {
+        return engine.getClass().getName();
+    }
+
+    @Override
+    public void close() {
+        if (engine instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                System.err.println("Error closing JavaScript engine: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package app.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import app.eval.Evaluators;
+
+/**
+ * Scaling benchmark for the parallel batch evaluator.
+ * Evaluates the same batch of expressions with 1, 2, 4 and 8 threads; near-linear scaling shows up as
+ * the time per batch halving with each doubling of threads (up to the number of physical cores).
+ *
+ * <p>Run with {@code ./gradlew jmh -Pjmh.includes=BatchEvaluatorBenchmark}
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BatchEvaluatorBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    private int threads;
+
+    @Param({"20000"})
+    private int expressionCount;
+
+    private List<String> expressions;
+    private BatchEvaluator batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        expressions = generateExpressions(expressionCount, 42L);
+        batch = new BatchEvaluator(threads, Evaluators::create);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        batch.close();
+    }
+
+    @Benchmark
+    public String[] evaluateBatch() {
+        return batch.evaluateAll(expressions);
+    }
+
+    /**
+     * Generates expressions shaped like the ones the calculator builds (binary operators, unary functions).
+     *
+     * @param count The number of expressions
+     * @param seed Random seed so every run evaluates the same input
+     * @return The generated expressions
+     */
+    static List<String> generateExpressions(int count, long seed) {
+        Random random = new Random(seed);
+        char[] operators = {'+', '-', '*', '/'};
+        List<String> result = new ArrayList<>(count);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.setLength(0);
+            int terms = 2 + random.nextInt(6);
+            for (int t = 0; t < terms; t++) {
+                if (t > 0) {
+                    sb.append(operators[random.nextInt(operators.length)]);
+                }
+                double value = random.nextInt(10_000) / 100.0;
+                switch (random.nextInt(4)) {
+                    case 0 -> sb.append("Math.sqrt(").append(value).append(')');
+                    case 1 -> sb.append("Math.pow(").append(value).append(", 2)");
+                    default -> sb.append(value);
+                }
+            }
+            result.add(sb.toString());
+        }
+        return result;
+    }
+}
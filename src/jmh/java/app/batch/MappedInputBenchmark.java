@@ -0,0 +1,107 @@
+package app.batch;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import app.eval.ArithmeticParser;
+import app.eval.EvaluationException;
+import app.eval.ResultFormatter;
+
+/**
+ * Compares evaluating an expression file through a memory mapping against a BufferedReader baseline
+ * that reads each line into a String. Both paths use the same parser and output format.
+ *
+ * <p>Run with {@code ./gradlew jmh -Pjmh.includes=MappedInputBenchmark -Pjmh.profilers=gc} to also report
+ * allocation rate and GC counts (the "gc.alloc.rate.norm" and "gc.count" columns).
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MappedInputBenchmark {
+
+    @Param({"1000000"})
+    private int lineCount;
+
+    private Path input;
+    private Path output;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        input = Files.createTempFile("expressions", ".txt");
+        output = Files.createTempFile("results", ".txt");
+
+        Random random = new Random(42L);
+        char[] operators = {'+', '-', '*', '/'};
+        try (BufferedWriter writer = Files.newBufferedWriter(input, StandardCharsets.US_ASCII)) {
+            for (int i = 0; i < lineCount; i++) {
+                int terms = 2 + random.nextInt(6);
+                for (int t = 0; t < terms; t++) {
+                    if (t > 0) {
+                        writer.write(operators[random.nextInt(operators.length)]);
+                    }
+                    writer.write(Double.toString(random.nextInt(100_000) / 100.0));
+                }
+                writer.newLine();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(input);
+        Files.deleteIfExists(output);
+    }
+
+    @Benchmark
+    public long memoryMapped() throws IOException {
+        return new MappedBatchEvaluator().evaluateFile(input, output);
+    }
+
+    @Benchmark
+    public long bufferedReaderBaseline() throws IOException {
+        ArithmeticParser parser = new ArithmeticParser();
+        ResultFormatter formatter = new ResultFormatter();
+        long lines = 0;
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.US_ASCII);
+             BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                try {
+                    writer.write(formatter.format(parser.evaluate(line)));
+                } catch (EvaluationException e) {
+                    writer.write(BatchEvaluator.ERROR_RESULT);
+                }
+                writer.newLine();
+                lines++;
+            }
+        }
+        return lines;
+    }
+}
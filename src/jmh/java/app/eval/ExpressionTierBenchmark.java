@@ -0,0 +1,113 @@
+package app.eval;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the evaluation tiers on the same formula, evaluated at SAMPLES points as when plotting a graph:
+ * the bytecode tier, the interpreted closure tree, the tiered expression (interpreted, then bytecode), and
+ * the string path the calculator uses for its display, which builds and evaluates one expression string per
+ * point (the Java evaluator by default, GraalJS's engine.eval when built with -PwithGraalJs and run with
+ * -Dcalculator.evaluator=graaljs).
+ *
+ * <p>Run with {@code ./gradlew jmh -Pjmh.includes=ExpressionTierBenchmark}
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExpressionTierBenchmark {
+
+    private static final int SAMPLES = 1024;
+
+    /**
+     * Each formula as "formula|JavaScript form with X in place of x".
+     */
+    @Param({
+        "x * x + 3 * x - 1|X * X + 3 * X - 1",
+        "sin(x) * x^2 + 3 * x - 1 / (x + 2)|Math.sin(X) * Math.pow(X, 2) + 3 * X - 1 / (X + 2)",
+        "sqrt(abs(x)) + exp(-x / 10) * cos(3 * x)|Math.sqrt(Math.abs(X)) + Math.exp(-X / 10) * Math.cos(3 * X)"
+    })
+    private String formula;
+
+    private CompiledExpression bytecode;
+    private CompiledExpression interpreted;
+    private CompiledExpression tiered;
+    private String script;
+    private ExpressionEvaluator evaluator;
+    private final double[] xs = new double[SAMPLES];
+
+    @Setup(Level.Trial)
+    public void setUp() throws EvaluationException {
+        String[] parts = formula.split("\\|");
+        ExpressionCompiler compiler = new ExpressionCompiler();
+        Expr expr = compiler.parse(parts[0], List.of("x"));
+        bytecode = ExpressionCompiler.compileToBytecode(expr);
+        interpreted = compiler.compile(expr);
+        tiered = ExpressionCompiler.compile(parts[0], "x");
+        script = parts[1];
+        evaluator = Evaluators.create();
+        for (int i = 0; i < SAMPLES; i++) {
+            xs[i] = 0.25 + i * 0.01;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        evaluator.close();
+    }
+
+    @Benchmark
+    public double bytecode() {
+        return sum(bytecode);
+    }
+
+    @Benchmark
+    public double interpreted() {
+        return sum(interpreted);
+    }
+
+    @Benchmark
+    public double tiered() {
+        return sum(tiered);
+    }
+
+    @Benchmark
+    public double evaluatorString() throws EvaluationException {
+        double sum = 0;
+        for (double x : xs) {
+            sum += evaluator.evaluate(script.replace("X", "(" + x + ")"));
+        }
+        return sum;
+    }
+
+    private double sum(CompiledExpression expression) {
+        double[] variables = new double[1];
+        double sum = 0;
+        for (double x : xs) {
+            variables[0] = x;
+            sum += expression.evaluate(variables);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,59 @@
+package app.eval;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares exact evaluation with the RationalParser against the double-precision ArithmeticParser on the same
+ * expressions: small fractions that stay on the long fast path, and an expression whose intermediate results
+ * overflow a long and fall back to BigInteger.
+ *
+ * <p>Run with {@code ./gradlew jmh -Pjmh.includes=RationalParserBenchmark -Pjmh.profilers=gc}; the
+ * "gc.alloc.rate.norm" column of the exact benchmark is 0 bytes per operation on the fast path.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RationalParserBenchmark {
+
+    @Param({
+        "1/3*3+0.25-7/8*(2+5)%3",
+        "0.1+0.2-0.3/7*Math.pow(2/3, 4)",
+        "Math.pow(3, 45)/Math.pow(7, 20)+1/3"
+    })
+    private String expression;
+
+    private final RationalParser rationalParser = new RationalParser();
+    private final ArithmeticParser arithmeticParser = new ArithmeticParser();
+    private final StringBuilder text = new StringBuilder();
+
+    @Benchmark
+    public int exact() throws EvaluationException {
+        rationalParser.evaluate(expression);
+        text.setLength(0);
+        rationalParser.appendFraction(text);
+        return text.length();
+    }
+
+    @Benchmark
+    public double floatingPoint() throws EvaluationException {
+        return arithmeticParser.evaluate(expression);
+    }
+}
@@ -0,0 +1,75 @@
+package app.history;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures history searches over 100,000 entries with the HistoryIndex: short and long text, a range of results,
+ * and both together, against a linear scan with String.contains.
+ *
+ * <p>Run with {@code ./gradlew jmh -Pjmh.includes=HistorySearchBenchmark}.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HistorySearchBenchmark {
+
+    private static final int ENTRIES = 100_000;
+    private static final String[] FUNCTIONS = { "sqrt", "sin", "cos", "ln" };
+
+    @Param({ "12", "sqrt", "sin(99", "> 100000", "sqrt >= 500" })
+    private String query;
+
+    private final HistoryIndex index = new HistoryIndex();
+    private String[] entries;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        entries = new String[ENTRIES];
+        for (int i = 0; i < ENTRIES; i++) {
+            int x = random.nextInt(100_000);
+            int y = random.nextInt(1000);
+            entries[i] = random.nextBoolean()
+                    ? x + " + " + y + " = " + (x + y)
+                    : FUNCTIONS[random.nextInt(FUNCTIONS.length)] + "(" + x + ") × " + y + " = " + random.nextDouble() * 1000;
+            index.add(entries[i]);
+        }
+    }
+
+    @Benchmark
+    public List<String> indexed() {
+        return index.search(query);
+    }
+
+    @Benchmark
+    public int linearScan() {
+        int matches = 0;
+        for (int i = entries.length - 1; i >= 0; i--) {
+            if (entries[i].contains(query)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,91 @@
+package app.matrix;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Times the matrix operations on random n x n matrices: the blocked, parallel product against a plain i-j-k triple
+ * loop over the same arrays, the blocked transpose, and the LU-based determinant, inverse and solve.
+ *
+ * <p>Run with {@code ./gradlew jmh -Pjmh.includes=MatrixBenchmark}
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatrixBenchmark {
+
+    @Param({ "64", "256", "512", "1000" })
+    private int size;
+
+    private Matrix a;
+    private Matrix b;
+    private Matrix vector;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        a = Matrix.random(size, size, 1);
+        b = Matrix.random(size, size, 2);
+        vector = Matrix.random(size, 1, 3);
+    }
+
+    @Benchmark
+    public Matrix multiply() {
+        return a.times(b);
+    }
+
+    @Benchmark
+    public double[] naiveMultiply() {
+        double[] x = a.data();
+        double[] y = b.data();
+        double[] product = new double[size * size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                double sum = 0;
+                for (int k = 0; k < size; k++) {
+                    sum += x[i * size + k] * y[k * size + j];
+                }
+                product[i * size + j] = sum;
+            }
+        }
+        return product;
+    }
+
+    @Benchmark
+    public Matrix transpose() {
+        return a.transpose();
+    }
+
+    @Benchmark
+    public double determinant() {
+        return a.determinant();
+    }
+
+    @Benchmark
+    public Matrix inverse() {
+        return a.inverse();
+    }
+
+    @Benchmark
+    public Matrix solve() {
+        return a.solve(vector);
+    }
+}
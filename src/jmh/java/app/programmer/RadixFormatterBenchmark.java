@@ -0,0 +1,61 @@
+package app.programmer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares refreshing the four radix views of programmer mode with the RadixFormatter, into a reused buffer, against
+ * formatting them with Long.toString, Long.toHexString, Long.toOctalString and Long.toBinaryString.
+ *
+ * <p>Run with {@code ./gradlew jmh -Pjmh.includes=RadixFormatterBenchmark -Pjmh.profilers=gc}; the
+ * "gc.alloc.rate.norm" column of the formatter benchmark is 0 bytes per operation.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RadixFormatterBenchmark {
+
+    private static final long[] VALUES = { 0, 42, -1, 0x7F3A_91C2_55E0_1B64L, Long.MIN_VALUE, 1_000_000_007 };
+
+    private final char[] buffer = new char[RadixFormatter.BUFFER_SIZE];
+    private int index;
+
+    @Benchmark
+    public int radixFormatter() {
+        long value = nextValue();
+        return RadixFormatter.format(value, WordSize.QWORD, 16, buffer)
+                + RadixFormatter.format(value, WordSize.QWORD, 10, buffer)
+                + RadixFormatter.format(value, WordSize.QWORD, 8, buffer)
+                + RadixFormatter.format(value, WordSize.QWORD, 2, buffer);
+    }
+
+    @Benchmark
+    public int longToString() {
+        long value = nextValue();
+        return Long.toHexString(value).length()
+                + Long.toString(value).length()
+                + Long.toOctalString(value).length()
+                + Long.toBinaryString(value).length();
+    }
+
+    private long nextValue() {
+        index = index == VALUES.length - 1 ? 0 : index + 1;
+        return VALUES[index];
+    }
+}
@@ -0,0 +1,69 @@
+package app.units;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares converting a value into every unit of a dimension with the precomputed ConversionTable against the usual
+ * approach of looking both units up by symbol and converting through the base unit.
+ *
+ * <p>Run with {@code ./gradlew jmh -Pjmh.includes=UnitConversionBenchmark}.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UnitConversionBenchmark {
+
+    private final Map<String, Unit> unitsBySymbol = new HashMap<>();
+    private String[] symbols;
+    private double[] results;
+    private double value = 1;
+
+    @Setup
+    public void setUp() {
+        symbols = new String[Dimension.LENGTH.units().size()];
+        for (int i = 0; i < symbols.length; i++) {
+            Unit unit = Dimension.LENGTH.units().get(i);
+            unitsBySymbol.put(unit.symbol(), unit);
+            symbols[i] = unit.symbol();
+        }
+        results = new double[symbols.length];
+    }
+
+    @Benchmark
+    public double[] table() {
+        value += 0.5;
+        Dimension.LENGTH.table().convertAll(value, 9, results);
+        return results;
+    }
+
+    @Benchmark
+    public double[] lookup() {
+        value += 0.5;
+        Unit from = unitsBySymbol.get("mi");
+        for (int i = 0; i < symbols.length; i++) {
+            Unit to = unitsBySymbol.get(symbols[i]);
+            results[i] = (value * from.scale() + from.offset() - to.offset()) / to.scale();
+        }
+        return results;
+    }
+}
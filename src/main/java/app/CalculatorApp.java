@@ -1,6 +1,17 @@
 package app;
 
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import app.log.Log;
+
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
@@ -21,16 +32,28 @@ import javafx.stage.Stage;
  */
 public class CalculatorApp extends Application {
 
+    /**
+     * System property that makes the application print its startup time and exit as soon as the window is shown.
+     * Used by the Gradle startup timing and AppCDS training tasks.
+     */
+    public static final String EXIT_AFTER_STARTUP_PROPERTY = "calculator.exitAfterStartup";
+
+    /**
+     * Controller of the loaded layout, shut down when the application stops.
+     */
+    private JavaFXController controller;
+
     @Override
     public void start(Stage primaryStage) {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/app/CalculatorLayout.fxml"));
             Parent root = loader.load();
+            controller = loader.getController();
             primaryStage.setTitle("Calculator");
 
             Scene scene = new Scene(root, 400, 600);
 
-            scene.getStylesheets().add(getClass().getResource("/styles/style.css").toExternalForm());
+            scene.getStylesheets().add(stylesheetUrl());
 
             primaryStage.setScene(scene);
 
@@ -38,8 +61,72 @@ public class CalculatorApp extends Application {
             primaryStage.setMinWidth(320);
 
             primaryStage.show();
+
+            if (Boolean.getBoolean(EXIT_AFTER_STARTUP_PROPERTY)) {
+                reportStartupAndExit();
+            }
         } catch (java.io.IOException | java.lang.NullPointerException e) {
-            System.err.println("Error loading files: " + e.getMessage());
+            Log.error("Error loading files", e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (controller != null) {
+            controller.shutdown();
+        }
+    }
+
+    /**
+     * Returns the URL of the calculator stylesheet.
+     * The build precompiles the stylesheet to binary CSS (.bss), which JavaFX loads without parsing any CSS text.
+     * Falls back to the plain .css when the generated .bss is not on the class path (e.g., running from an IDE).
+     * 
+     * @return The external form of the stylesheet URL
+     */
+    static String stylesheetUrl() {
+        URL binary = CalculatorApp.class.getResource("/styles/style.bss");
+        URL url = binary != null ? binary : CalculatorApp.class.getResource("/styles/style.css");
+        return url.toExternalForm();
+    }
+
+    /**
+     * Prints the time from process launch until the window is ready for input, then exits.
+     * The time is taken on the second animation pulse after showing the window, so the first frame has
+     * already been laid out and rendered.
+     */
+    private void reportStartupAndExit() {
+        new AnimationTimer() {
+            private int frames = 0;
+
+            @Override
+            public void handle(long now) {
+                if (++frames < 2) {
+                    return;
+                }
+                stop();
+                Instant processStart = ProcessHandle.current().info().startInstant().orElse(Instant.now());
+                long startupMillis = Duration.between(processStart, Instant.now()).toMillis();
+                System.out.println("Startup time: " + startupMillis + " ms");
+                printResidentMemory();
+                Platform.exit();
+            }
+        }.start();
+    }
+
+    /**
+     * Prints the resident set size of the process on Linux (read from /proc, so no management classes are loaded).
+     * Does nothing on other platforms.
+     */
+    private static void printResidentMemory() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    System.out.println("Resident memory: " + line.substring("VmRSS:".length()).trim());
+                }
+            }
+        } catch (IOException e) {
+            // Not available on this platform
         }
     }
 
@@ -1,15 +1,65 @@
 package app;
 
-import java.text.DecimalFormat;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
-
-import javax.script.ScriptEngine;
-import javax.script.ScriptEngineManager;
-import javax.script.ScriptException;
+import java.util.concurrent.CompletableFuture;
+
+import app.currency.CurrencyWindow;
+import app.eval.EvaluationException;
+import app.eval.ExpressionEvaluator;
+import app.eval.Evaluators;
+import app.eval.ExpressionNormalizer;
+import app.eval.RationalParser;
+import app.eval.ResultFormatter;
+import app.graph.GraphWindow;
+import app.history.HistoryIndex;
+import app.log.Log;
+import app.matrix.MatrixWindow;
+import app.perf.CalculatorEvent;
+import app.perf.CalculatorMetrics;
+import app.perf.DisplayUpdateEvent;
+import app.perf.EvaluateEvent;
+import app.perf.ExpressionBuildEvent;
+import app.perf.FormatEvent;
+import app.perf.KeyDispatchEvent;
+import app.perf.LatencyHistogram;
+import app.perf.NormalizeEvent;
+import app.programmer.ProgrammerWindow;
+import app.session.SessionInput;
+import app.session.SessionPersistence;
+import app.session.SessionRecorder;
+import app.solve.SolverWindow;
+import app.stats.DataParser;
+import app.stats.DoubleChunks;
+import app.stats.RunningStats;
+import app.stats.StatisticsSummary;
+import app.symbols.DefinitionStore;
+import app.symbols.WorksheetWindow;
+import app.undo.UndoHistory;
+import app.undo.VersionedList;
+import app.undo.VersionedText;
+import app.units.ConverterWindow;
+
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 
 import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.css.PseudoClass;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.Scene;
@@ -18,6 +68,7 @@ import javafx.scene.control.Button;
 import javafx.scene.control.ButtonType;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListView;
+import javafx.scene.control.TextField;
 import javafx.scene.input.Clipboard;
 import javafx.scene.input.ClipboardContent;
 import javafx.scene.input.KeyCode;
@@ -25,10 +76,12 @@ import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.control.Tooltip;
+import javafx.stage.FileChooser;
+import javafx.util.Duration;
 
 /**
  * JavaFXController class handles the user interface and logic for the calculator application.
- * It manages the calculator's state, input handling, and expression evaluation using a JavaScript engine.
+ * It manages the calculator's state, input handling, and expression evaluation using a pluggable expression evaluator.
  * The class is responsible for updating the UI components based on user interactions and calculations.
  * It also provides functionality for memory operations, history tracking, and context menu management.
  * 
@@ -64,6 +117,11 @@ public class JavaFXController {
      */
     @FXML private Label displayTypeLabel;
 
+    /**
+     * Label in the top bar showing the current calculator mode (e.g., Standard or Statistics).
+     */
+    @FXML private Label calculatorTypeLabel;
+
     /**
      * Button for clearing all entries in the calculator.
      */
@@ -116,6 +174,26 @@ public class JavaFXController {
      */
     @FXML private ListView<String> sidePanelListView;
 
+    /**
+     * Search box above the history list, filtering it as the user types.
+     */
+    @FXML private TextField historySearchField;
+
+    /**
+     * Container of the history/memory list and its clear button, hidden while the diagnostics view is shown.
+     */
+    @FXML private VBox historyMemoryPanel;
+
+    /**
+     * Optional diagnostics view in the side panel, toggled from the context menu.
+     */
+    @FXML private VBox diagnosticsPanel;
+
+    /**
+     * Label showing the performance metrics in the diagnostics view.
+     */
+    @FXML private Label diagnosticsLabel;
+
     /**
      * Tooltip for the clear history/memory button.
      * This tooltip provides additional information about the button's function when hovered over.
@@ -128,6 +206,12 @@ public class JavaFXController {
      */
     private boolean darkMode = true;
 
+    /**
+     * Pseudo-class set on the scene root while the light theme is active.
+     * The stylesheet switches its looked-up colors to the light palette under .root:light.
+     */
+    private static final PseudoClass LIGHT_THEME = PseudoClass.getPseudoClass("light");
+
     /**
      * List of history entries for the calculator.
      * This is used to keep track of previous calculations and results.
@@ -135,6 +219,16 @@ public class JavaFXController {
      */
     private final ObservableList<String> historyList = FXCollections.observableArrayList();
 
+    /**
+     * Index of the history entries for the search box, kept in step with historyList by a list listener.
+     */
+    private final HistoryIndex historyIndex = new HistoryIndex();
+
+    /**
+     * The history entries matching the search box, shown instead of historyList while a search is entered.
+     */
+    private final ObservableList<String> historySearchResults = FXCollections.observableArrayList();
+
     /**
      * List of memory values for the calculator.
      * This is used to store values that can be recalled later.
@@ -143,14 +237,9 @@ public class JavaFXController {
     private final ObservableList<String> memoryList = FXCollections.observableArrayList();
 
     /**
-     * DecimalFormat for formatting numbers in decimal notation.
+     * Formatter for converting results into the text shown on the displays.
      */
-    private final DecimalFormat decimalFormat = new DecimalFormat("#.##########");
-
-    /**
-     * DecimalFormat for scientific notation with 6 decimal places.
-     */
-    private final DecimalFormat scientificFormat = new DecimalFormat("0.######E0");
+    private final ResultFormatter resultFormatter = new ResultFormatter();
 
     /**
      * Full expression shown in expressionDisplay above the mainDisplay.
@@ -169,10 +258,159 @@ public class JavaFXController {
     private final StringBuilder jsExpressionBuilder = new StringBuilder();
 
     /**
-     * JavaScript engine for evaluating expressions.
-     * This uses GraalVM JavaScript engine if available, otherwise falls back to generic JavaScript engine.
+     * Largest number of steps that can be undone.
+     */
+    private static final int MAX_UNDO_STEPS = 1000;
+
+    /**
+     * Structurally shared versions of the texts and lists that undo restores, so each undo step only holds what
+     * changed in it rather than copies of the expressions and the whole history.
+     */
+    private final VersionedText expressionVersions = new VersionedText();
+    private final VersionedText jsExpressionVersions = new VersionedText();
+    private final VersionedText currentInputVersions = new VersionedText();
+    private final VersionedText expressionDisplayVersions = new VersionedText();
+    private final VersionedList<String> historyVersions = new VersionedList<>(historyList);
+    private final VersionedList<String> memoryVersions = new VersionedList<>(memoryList);
+
+    /**
+     * Undo and redo steps, recorded after each action that changed the calculator state.
+     */
+    private UndoHistory<UndoState> undoHistory;
+
+    /**
+     * Evaluator for the JavaScript-syntax expressions built by the calculator.
+     * This is the built-in Java evaluator by default, or the GraalJS evaluator when that optional artifact is on the class path.
+     */
+    private ExpressionEvaluator evaluator;
+
+    /**
+     * Name of the evaluator in use, recorded in the Flight Recorder pipeline events.
+     */
+    private String evaluatorName;
+
+    /**
+     * Flight Recorder event for the display update in progress, committed once the next pulse has laid out the new text.
+     * Null when no display update is being measured.
+     */
+    private DisplayUpdateEvent pendingDisplayUpdate;
+
+    /**
+     * Always-on performance counters (evaluations, latency, allocation, GC pauses, pulse time) shown in the diagnostics view.
+     */
+    private final CalculatorMetrics metrics = new CalculatorMetrics();
+
+    /**
+     * Refreshes the diagnostics view once a second while it is shown.
+     */
+    private final Timeline diagnosticsTimeline = new Timeline(new KeyFrame(Duration.seconds(1), e -> updateDiagnostics()));
+
+    /**
+     * Records the dispatched clicks and key presses for replay as a benchmark (-Dcalculator.recordSession=path).
+     * Null when no session is being recorded.
+     */
+    private final SessionRecorder sessionRecorder = SessionRecorder.fromSystemProperty();
+
+    /**
+     * Saves the history, memory and pending input so the next start can restore them
+     * (-Dcalculator.sessionFile=path, or none to disable). Null when disabled, and while a session is recorded: a
+     * recording must start from a cleared calculator, as its replay does.
+     */
+    private final SessionPersistence sessionPersistence = sessionRecorder == null
+            ? SessionPersistence.fromSystemProperty(historyList, memoryList, new SessionHost())
+            : null;
+
+    /**
+     * Flag to indicate if the calculator is in statistics mode.
+     * In statistics mode pasted, loaded and entered values are aggregated instead of being built into an expression.
+     */
+    private boolean statisticsMode = false;
+
+    /**
+     * Streaming aggregates and quantile sketch of all values entered in statistics mode.
+     * Batches are parsed and summarized on a background thread and merged into this summary on the FX thread.
+     */
+    private StatisticsSummary statisticsSummary = new StatisticsSummary();
+
+    /**
+     * Flag to indicate if the calculator is in rational mode.
+     * In rational mode arithmetic is evaluated exactly as fractions, so 1/3*3 is exactly 1 instead of being rounded for display.
+     */
+    private boolean rationalMode = false;
+
+    /**
+     * Whether rational mode shows results as fractions (1/3) or as decimals (0.3333333333). Switched with the F key.
+     */
+    private boolean showFractions = true;
+
+    /**
+     * Exact evaluator for rational mode, reused for every evaluation.
+     */
+    private final RationalParser rationalParser = new RationalParser();
+
+    /**
+     * Exact value of the result on the main display as a fraction (e.g., "1/3"), or null if it is not an exact result.
+     */
+    private String exactResult;
+
+    /**
+     * Number of decimal places shown for rational results in decimal form, as in ResultFormatter.
+     */
+    private static final int RATIONAL_DECIMAL_PLACES = 10;
+
+    /**
+     * Graphing window, created the first time graphing mode is opened and reused afterwards.
+     */
+    private GraphWindow graphWindow;
+
+    /**
+     * Variables and functions window, created the first time it is opened and reused afterwards.
      */
-    private ScriptEngine engine;
+    private WorksheetWindow worksheetWindow;
+
+    /**
+     * Equation solver window, created the first time it is opened and reused afterwards.
+     */
+    private SolverWindow solverWindow;
+
+    /**
+     * Matrix window, created the first time it is opened and reused afterwards.
+     */
+    private MatrixWindow matrixWindow;
+
+    /**
+     * Programmer window, created the first time it is opened and reused afterwards.
+     */
+    private ProgrammerWindow programmerWindow;
+
+    /**
+     * Unit converter window, created the first time it is opened and reused afterwards.
+     */
+    private ConverterWindow converterWindow;
+
+    /**
+     * Currency window, created the first time it is opened and reused afterwards.
+     */
+    private CurrencyWindow currencyWindow;
+
+    /**
+     * The calculator state that undo and redo restore. Statistics are not part of it, so there is no undo in statistics
+     * mode.
+     */
+    private record UndoState(VersionedText.Version expression, VersionedText.Version jsExpression,
+            VersionedText.Version currentInput, String mainDisplay, VersionedText.Version expressionDisplay, String displayType,
+            boolean startNewInput, boolean hasJustPerformedOperation, String pendingUnaryOperation,
+            int unclosedParenthesesCount, boolean percentFormatActive, String exactResult,
+            VersionedList.Version<String> history, VersionedList.Version<String> memory) {
+    }
+
+    /**
+     * Source of a batch of statistics values, such as pasted text or a data file.
+     */
+    @FunctionalInterface
+    private interface StatisticsSource {
+        void parseInto(DataParser parser, DoubleChunks values) throws IOException;
+    }
     
     /**
      * Flag to indicate if a new input is being started.
@@ -214,48 +452,119 @@ public class JavaFXController {
      */
     private static final double RESPONSIVE_THRESHOLD = 555.0;
 
+    /**
+     * Hysteresis around RESPONSIVE_THRESHOLD. The side panel is shown above threshold + hysteresis and only hidden
+     * again below threshold - hysteresis, so dragging the window edge near the threshold does not make it flicker.
+     */
+    private static final double RESPONSIVE_HYSTERESIS = 20.0;
+
+    /**
+     * Width of the side panel at the default window size. The panel is scaled together with the text.
+     */
+    private static final double SIDE_PANEL_WIDTH = 245.0;
+
+    /**
+     * Default window size, at which text is shown at BASE_FONT_SIZE.
+     */
+    private static final double BASE_WIDTH = 400.0;
+    private static final double BASE_HEIGHT = 600.0;
+
+    /**
+     * Root font size at the default window size. Must match $base-font-size in _variables.scss,
+     * as all text sizes in the stylesheet are in em relative to this value.
+     */
+    private static final double BASE_FONT_SIZE = 13.0;
+
+    /**
+     * Limits of the text and side panel scale factor.
+     */
+    private static final double MIN_SCALE = 0.85;
+    private static final double MAX_SCALE = 1.4;
+
+    /**
+     * Root font size in pixels. The root -fx-font-size is bound to this property, which only changes in 0.5px
+     * steps, so CSS is only re-applied when the text size actually changes and not on every pixel of a resize.
+     */
+    private final DoubleProperty rootFontSize = new SimpleDoubleProperty(BASE_FONT_SIZE);
+
+    /**
+     * Whether the side panel is currently shown. The scene graph is only touched when this state changes.
+     */
+    private boolean sidePanelShown = false;
+
+    /**
+     * Current width of the side panel in pixels.
+     */
+    private double sidePanelWidth = SIDE_PANEL_WIDTH;
+
     /**
      * Initializes the JavaFX controller.
-     * Sets up the JavaScript engine, initializes the calculator state, configures the UI, and sets up Key Event Handler.
+     * Sets up the expression evaluator, initializes the calculator state, configures the UI, and sets up Key Event Handler.
      */
     @FXML
     public void initialize() {
         try {
-            this.engine = new ScriptEngineManager().getEngineByName("graal.js");
-
-            // Checks if GraalVM JavaScript engine initialized sucessfully, if not, tries to fall back to generic JavaScript engine
-            // The generic JavaScript engine was removed in Java 15+, so this is a fallback for older versions
-            if (this.engine == null) {
-                System.err.println("GraalVM JavaScript engine not found, trying generic JavaScript");
-                this.engine = new ScriptEngineManager().getEngineByName("JavaScript");
-                
-                // Checks if the generic JavaScript engine initialized successfully, if not, exits the application
-                if (this.engine == null) {
-                    System.err.println("No JavaScript engine found! Application will exit.");
-                    Platform.exit();
-                    return;
-                }
+            try {
+                this.evaluator = Evaluators.create();
+            } catch (EvaluationException e) {
+                // Exits the application if no evaluator could be created
+                Log.error("%s Application will exit.", e.getMessage());
+                Platform.exit();
+                return;
             }
             
-            // Print the name of the JavaScript engine for debugging purposes
-            System.out.println("JavaScript engine created successfully: " + engine.getClass().getName() + "\n");
+            // Log the name of the expression evaluator for debugging purposes
+            evaluatorName = evaluator.name();
+            Log.info("Expression evaluator created successfully: %s", evaluatorName);
             
             // Set text for the percent button is required as % is used as a special character in JavaFX and cannot be set directly in FXML
             togglePercentButton.setText("%");
 
             resetCalculator();
 
+            // The diagnostics view replaces the history/memory list while shown
+            historyMemoryPanel.managedProperty().bind(historyMemoryPanel.visibleProperty());
+            diagnosticsPanel.managedProperty().bind(diagnosticsPanel.visibleProperty());
+            diagnosticsTimeline.setCycleCount(Animation.INDEFINITE);
+
+            // The history search box indexes every history entry as it is added, and filters as the user types
+            historySearchField.managedProperty().bind(historySearchField.visibleProperty());
+            historyList.addListener(this::updateHistoryIndex);
+            historySearchField.textProperty().addListener(obs -> refreshHistorySearch());
+            historySearchField.setOnKeyPressed(event -> {
+                if (event.getCode() == KeyCode.ESCAPE) {
+                    historySearchField.clear();
+                    event.consume();
+                }
+            });
+
             // Calculator defaults to showing the history panel over the memory panel
             showHistoryPanel();
 
+            // Undo starts from the cleared calculator
+            undoHistory = new UndoHistory<>(MAX_UNDO_STEPS, captureUndoState());
+
+            // Saves every change of the session, and restores the last one in the background
+            if (sessionPersistence != null) {
+                sessionPersistence.start();
+            }
+
             // Sets up the calculator layout to be responsive to window size changes, as sidePanel is hidden by default
             setupResponsiveLayout();
 
             // Event handler for key presses
             root.setOnKeyPressed(this::handleKeyPress);
 
+            // Measures each main display update until it has been laid out (only while a Flight Recording is running)
+            mainDisplay.textProperty().addListener(obs -> beginDisplayUpdateEvent());
+
             // Add clipboard functionality
             root.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+                // The history search box keeps its own copy and paste
+                if (event.getTarget() == historySearchField) {
+                    return;
+                }
+
                 // TODO: Test edge cases for copying values as input
                 // Handle Ctrl+C for copy
                 if (event.isControlDown() && event.getCode() == KeyCode.C) {
@@ -283,7 +592,11 @@ public class JavaFXController {
                     String clipboardText = clipboard.getString();
                     
                     // Validate the clipboard content
-                    if (clipboardText != null && isValidCalculatorInput(clipboardText)) {
+                    if (clipboardText != null && statisticsMode) {
+                        // In statistics mode the clipboard is a column (or table) of values to aggregate
+                        addStatisticsData(clipboardText.length() + " pasted characters",
+                                (parser, values) -> parser.parse(clipboardText, values));
+                    } else if (clipboardText != null && isValidCalculatorInput(clipboardText)) {
                         // For valid numeric content, append to current input
                         for (char c : clipboardText.toCharArray()) {
                             // Process each character as if it were typed
@@ -298,6 +611,16 @@ public class JavaFXController {
                     
                     // TODO: Provide visual feedback that paste occured
 
+                    recordUndoState();
+                    event.consume();
+                }
+
+                // Handle Ctrl+Z for undo, and Ctrl+Y or Ctrl+Shift+Z for redo
+                if (event.isControlDown() && event.getCode() == KeyCode.Z && !event.isShiftDown()) {
+                    undo();
+                    event.consume();
+                } else if (event.isControlDown() && (event.getCode() == KeyCode.Y || event.getCode() == KeyCode.Z)) {
+                    redo();
                     event.consume();
                 }
             });
@@ -318,42 +641,95 @@ public class JavaFXController {
                 equalsButton.setDefaultButton(true);
             });
         } catch (Exception e) {
-            System.err.println("Error initializing JavaFXController: " + e.getMessage());
+            Log.error("Error initializing JavaFXController", e);
             Platform.exit();
         }
     }
 
     /**
      * Sets up the responsive layout for the calculator.
-     * If the window width exceeds the threshold, the side panel is shown.
+     * If the window width exceeds the threshold, the side panel is shown; text and the side panel scale with the window.
+     * All text is sized in em in the stylesheet, so a single binding of the root -fx-font-size scales every label and button.
      */
     private void setupResponsiveLayout() {
         sidePanel.managedProperty().bind(sidePanel.visibleProperty());
         sidePanel.setVisible(false);
 
+        // One binding drives every text size in the layout (String concatenation keeps the decimal point locale-independent)
+        root.styleProperty().bind(Bindings.createStringBinding(
+                () -> "-fx-font-size: " + rootFontSize.get() + "px;", rootFontSize));
+
         root.sceneProperty().addListener((obsS, oldScene, newScene) -> {
             if (newScene != null) {
                 boolean shouldShow = newScene.getWidth() > RESPONSIVE_THRESHOLD;
+                sidePanelShown = shouldShow;
                 sidePanel.setVisible(shouldShow);
                 setSidePanelVisibility(shouldShow);
-
-                // Add listener to the scene width property to adjust the side panel visibility based on scene (window) width
-                newScene.widthProperty().addListener((obsW, oldW, newW) -> {
-                    boolean showPanel = newW.doubleValue() > RESPONSIVE_THRESHOLD;
-                    sidePanel.setVisible(showPanel);
-                    setSidePanelVisibility(showPanel);
-                });
+                updateResponsiveLayout(newScene);
+
+                // Add listeners to the scene size to adjust the side panel visibility and text size based on scene (window) size
+                ResizeFrameReporter frameReporter = new ResizeFrameReporter(newScene);
+                InvalidationListener sizeListener = obs -> {
+                    frameReporter.sizeChanged();
+                    updateResponsiveLayout(newScene);
+                };
+                newScene.widthProperty().addListener(sizeListener);
+                newScene.heightProperty().addListener(sizeListener);
+
+                // Records the CSS and layout time of every pulse for the diagnostics view
+                long[] pulseStart = new long[1];
+                newScene.addPreLayoutPulseListener(() -> pulseStart[0] = System.nanoTime());
+                newScene.addPostLayoutPulseListener(() -> metrics.recordPulse(System.nanoTime() - pulseStart[0]));
             }
         });
     }
 
+    /**
+     * Updates the side panel visibility and the text scale for the current scene size.
+     * Only touches the scene graph when the panel visibility, the panel width or the (quantized) font size actually changes.
+     * 
+     * @param scene The scene whose size is used
+     */
+    private void updateResponsiveLayout(Scene scene) {
+        double width = scene.getWidth();
+        double height = scene.getHeight();
+
+        // Hysteresis: the threshold to cross depends on the current state
+        boolean showPanel = sidePanelShown
+                ? width >= RESPONSIVE_THRESHOLD - RESPONSIVE_HYSTERESIS
+                : width > RESPONSIVE_THRESHOLD + RESPONSIVE_HYSTERESIS;
+
+        // Scale so that the calculator (and the side panel, if shown) fit the window as they do at the default size
+        double scale = Math.min(width / (showPanel ? BASE_WIDTH + SIDE_PANEL_WIDTH : BASE_WIDTH), height / BASE_HEIGHT);
+        scale = Math.max(MIN_SCALE, Math.min(MAX_SCALE, scale));
+
+        // Quantize to 0.5px so continuous resizing only changes the font size occasionally
+        double fontSize = Math.round(BASE_FONT_SIZE * scale * 2.0) / 2.0;
+        rootFontSize.set(fontSize);
+
+        double panelWidth = Math.round(SIDE_PANEL_WIDTH * fontSize / BASE_FONT_SIZE);
+        if (panelWidth != sidePanelWidth) {
+            sidePanelWidth = panelWidth;
+            sidePanel.setPrefWidth(panelWidth);
+            if (sidePanelShown && showPanel) {
+                setSidePanelVisibility(true);
+            }
+        }
+
+        if (showPanel != sidePanelShown) {
+            sidePanelShown = showPanel;
+            sidePanel.setVisible(showPanel);
+            setSidePanelVisibility(showPanel);
+        }
+    }
+
     /**
      * Adjusts the layout of the calculator based on whether the side panel should be visible or not.
      * @param sidePanelVisible True if the side panel should be visible, false otherwise.
      */
     private void setSidePanelVisibility(boolean sidePanelVisible) {
         // Sets the exact width of the side panel when visible versus hidden
-        AnchorPane.setRightAnchor(calculatorRoot, sidePanelVisible ? 245.0 : 0.0);
+        AnchorPane.setRightAnchor(calculatorRoot, sidePanelVisible ? sidePanelWidth : 0.0);
     }
 
     /**
@@ -380,6 +756,10 @@ public class JavaFXController {
         Button clickedButton = (Button) event.getSource();
         String id = clickedButton.getId();
 
+        KeyDispatchEvent dispatchEvent = new KeyDispatchEvent();
+        dispatchEvent.begin();
+        int historySize = historyList.size();
+
         switch (id) {
             case "cButton" -> clear();
             case "ceButton" -> clearEntry();
@@ -418,8 +798,15 @@ public class JavaFXController {
 
             case "contextMenuButton" -> handleMenuToggle();
 
-            default -> System.err.println("Unhandled button ID: " + id);
+            default -> Log.warn("Unhandled button ID: %s", id);
         }
+
+        commitDispatchEvent(dispatchEvent, id);
+        if (sessionRecorder != null) {
+            sessionRecorder.recordClick(id);
+            recordSessionResult(historySize);
+        }
+        recordUndoState();
     }
 
     // TODO: add functionality to allow other keyboard layouts
@@ -432,6 +819,192 @@ public class JavaFXController {
      * @param event The KeyEvent triggered by the key press
      */
     private void handleKeyPress(KeyEvent event) {
+        // Keys typed into the history search box are not calculator input
+        if (event.getTarget() == historySearchField) {
+            return;
+        }
+        KeyDispatchEvent dispatchEvent = new KeyDispatchEvent();
+        dispatchEvent.begin();
+        int historySize = historyList.size();
+
+        dispatchKeyPress(event);
+
+        // Only keys that triggered a calculator action are recorded
+        if (event.isConsumed()) {
+            commitDispatchEvent(dispatchEvent, event.getCode().toString());
+            if (sessionRecorder != null) {
+                sessionRecorder.recordKey(event.getCode().name(), event.getText(), event.isShiftDown());
+                recordSessionResult(historySize);
+            }
+            recordUndoState();
+        }
+    }
+
+    /**
+     * Records the calculator state as an undo step, if it changed since the last one.
+     */
+    private void recordUndoState() {
+        if (undoHistory != null && !statisticsMode) {
+            undoHistory.record(captureUndoState());
+        }
+        journalInput();
+    }
+
+    /**
+     * Forgets the undo steps, e.g. after switching modes, where the earlier states no longer apply.
+     */
+    private void resetUndo() {
+        if (undoHistory != null) {
+            undoHistory.reset(captureUndoState());
+        }
+    }
+
+    /**
+     * Undoes the last step that changed the calculator state.
+     */
+    private void undo() {
+        if (undoHistory == null || statisticsMode) {
+            return;
+        }
+        recordUndoState();
+        UndoState state = undoHistory.undo();
+        if (state != null) {
+            restoreUndoState(state);
+        }
+    }
+
+    /**
+     * Redoes the last undone step.
+     */
+    private void redo() {
+        if (undoHistory == null || statisticsMode) {
+            return;
+        }
+        UndoState state = undoHistory.redo();
+        if (state != null) {
+            restoreUndoState(state);
+        }
+    }
+
+    private UndoState captureUndoState() {
+        return new UndoState(expressionVersions.capture(expressionBuilder),
+                jsExpressionVersions.capture(jsExpressionBuilder), currentInputVersions.capture(currentInputBuilder),
+                mainDisplay.getText(), expressionDisplayVersions.capture(expressionDisplay.getText()),
+                displayTypeLabel.getText(), startNewInput, hasJustPerformedOperation, pendingUnaryOperation,
+                unclosedParenthesesCount, isPercentFormatActive, exactResult, historyVersions.capture(),
+                memoryVersions.capture());
+    }
+
+    private void restoreUndoState(UndoState state) {
+        expressionVersions.restore(state.expression(), expressionBuilder);
+        jsExpressionVersions.restore(state.jsExpression(), jsExpressionBuilder);
+        currentInputVersions.restore(state.currentInput(), currentInputBuilder);
+        mainDisplay.setText(state.mainDisplay());
+        expressionDisplay.setText(expressionDisplayVersions.restore(state.expressionDisplay()));
+        setDisplayTypeLabel(!"Result".equals(state.displayType()));
+        startNewInput = state.startNewInput();
+        hasJustPerformedOperation = state.hasJustPerformedOperation();
+        pendingUnaryOperation = state.pendingUnaryOperation();
+        unclosedParenthesesCount = state.unclosedParenthesesCount();
+        isPercentFormatActive = state.percentFormatActive();
+        exactResult = state.exactResult();
+        historyVersions.restore(state.history());
+        memoryVersions.restore(state.memory());
+        journalInput();
+    }
+
+    /**
+     * Saves the pending input in the session journal if it changed.
+     */
+    private void journalInput() {
+        if (sessionPersistence != null) {
+            sessionPersistence.inputChanged();
+        }
+    }
+
+    /**
+     * Gives the session journal the pending input, which is held in the builders and displays.
+     */
+    private final class SessionHost implements SessionPersistence.Host {
+
+        @Override
+        public SessionInput captureInput() {
+            return new SessionInput(expressionBuilder.toString(), jsExpressionBuilder.toString(),
+                    currentInputBuilder.toString(), mainDisplay.getText(), expressionDisplay.getText(),
+                    "Result".equals(displayTypeLabel.getText()), startNewInput, hasJustPerformedOperation,
+                    pendingUnaryOperation, unclosedParenthesesCount, isPercentFormatActive);
+        }
+
+        @Override
+        public void restoreInput(SessionInput input) {
+            expressionBuilder.setLength(0);
+            expressionBuilder.append(input.expression());
+            jsExpressionBuilder.setLength(0);
+            jsExpressionBuilder.append(input.jsExpression());
+            currentInputBuilder.setLength(0);
+            currentInputBuilder.append(input.currentInput());
+            mainDisplay.setText(input.mainDisplay());
+            expressionDisplay.setText(input.expressionDisplay());
+            setDisplayTypeLabel(!input.resultShown());
+            startNewInput = input.startNewInput();
+            hasJustPerformedOperation = input.hasJustPerformedOperation();
+            pendingUnaryOperation = input.pendingUnaryOperation();
+            unclosedParenthesesCount = input.unclosedParenthesesCount();
+            isPercentFormatActive = input.percentFormatActive();
+        }
+
+        @Override
+        public boolean isInputSaved() {
+            // The next session starts in the standard mode
+            return !rationalMode && !statisticsMode;
+        }
+
+        @Override
+        public boolean hasUndoSteps() {
+            return undoHistory.undoDepth() > 0;
+        }
+
+        @Override
+        public void sessionRestored() {
+            resetUndo();
+        }
+    }
+
+    /**
+     * Records the main display as a replay checkpoint if the recorded action completed a calculation.
+     * 
+     * @param historySizeBefore The size of the history list before the action
+     */
+    private void recordSessionResult(int historySizeBefore) {
+        if (historyList.size() > historySizeBefore) {
+            sessionRecorder.recordResult(mainDisplay.getText());
+        }
+    }
+
+    /**
+     * Releases the resources of the controller when the application stops.
+     * Writes the recorded session (if any) and the session journal, stops listening for GC notifications and closes the expression evaluator.
+     */
+    public void shutdown() {
+        if (sessionRecorder != null) {
+            sessionRecorder.finish(mainDisplay.getText());
+        }
+        if (sessionPersistence != null) {
+            sessionPersistence.close();
+        }
+        diagnosticsTimeline.stop();
+        metrics.close();
+        if (evaluator != null) {
+            evaluator.close();
+        }
+    }
+
+    /**
+     * Maps a key press to its calculator action and performs it, consuming the event if it was handled.
+     * 
+     * @param event The KeyEvent triggered by the key press
+     */
+    private void dispatchKeyPress(KeyEvent event) {
         KeyCode code = event.getCode();
         boolean shiftDown = event.isShiftDown();
         
@@ -525,6 +1098,13 @@ public class JavaFXController {
                 applyUnaryOperation("sqrt");
                 event.consume();
             }
+            case F -> {
+                // f/F key switches rational results between fractions and decimals
+                if (rationalMode) {
+                    toggleFractionDisplay();
+                    event.consume();
+                }
+            }
             case ENTER -> {
                 // Enter key for equals
                 evaluateExpression();
@@ -576,6 +1156,20 @@ public class JavaFXController {
      * @param value The value to append (e.g., a digit or decimal point)
      */
     private void appendToInput(String value) {
+        ExpressionBuildEvent buildEvent = new ExpressionBuildEvent();
+        buildEvent.begin();
+        try {
+            appendToCurrentInput(value);
+        } finally {
+            commitStageEvent(buildEvent, jsExpressionBuilder.length() + currentInputBuilder.length());
+        }
+    }
+
+    /**
+     * Appends a value to the current input, handling new inputs, duplicate decimal points and leading zeros.
+     * @param value The value to append (e.g., a digit or decimal point)
+     */
+    private void appendToCurrentInput(String value) {
         // If an operation was just performed or we're starting a new input,
         // clear the current input
         if (startNewInput && !hasJustPerformedOperation) {
@@ -616,6 +1210,9 @@ public class JavaFXController {
      * @param operator The operator to apply
      */
     private void processOperatorInput(String operator) {
+        ExpressionBuildEvent buildEvent = new ExpressionBuildEvent();
+        buildEvent.begin();
+
         // Convert percentage to decimal if needed
         if (mainDisplay.getText().endsWith("%")) {
             try {
@@ -626,7 +1223,7 @@ public class JavaFXController {
                 currentInputBuilder.append(decimalStr);
             } catch (NumberFormatException e) {
                 mainDisplay.setText("Error");
-                System.err.println("Error converting percentage: " + e.getMessage());
+                Log.warn("Error converting percentage: %s", e.getMessage());
                 return;
             }
         }
@@ -634,8 +1231,9 @@ public class JavaFXController {
         // If there's a current input, add it to the expression
         if (!hasJustPerformedOperation) {
             if (currentInputBuilder.length() > 0) {
-                expressionBuilder.append(currentInputBuilder);
-                jsExpressionBuilder.append(currentInputBuilder);
+                String operand = currentOperand();
+                expressionBuilder.append(operand);
+                jsExpressionBuilder.append(operand);
             } else {
                 // If no current input, append 0 before operator
                 expressionBuilder.append("0");
@@ -666,6 +1264,7 @@ public class JavaFXController {
         
         // Update the expression display
         expressionDisplay.setText(expressionBuilder.toString());
+        commitStageEvent(buildEvent, jsExpressionBuilder.length());
         
         // Evaluate the expression so far and show the result in the main display
         evaluateAndUpdateDisplay();
@@ -697,21 +1296,20 @@ public class JavaFXController {
                 if (!tempExpression.isEmpty()) {
                     tempExpression = normalizeExpression(tempExpression);
 
-                    Object result = engine.eval(tempExpression);
-                    String resultStr = formatNumber(Double.parseDouble(result.toString()));
+                    String resultStr = evaluateForDisplay(tempExpression);
 
                     mainDisplay.setText(resultStr);
                     
-                    // Store the result as the current input for the next operation
+                    // Store the result as the current input for the next operation, exactly in rational mode
                     currentInputBuilder.setLength(0);
-                    currentInputBuilder.append(resultStr);
+                    currentInputBuilder.append(exactResult != null ? exactResult : resultStr);
 
                     // Update the display type to "Result" to indicate the main display shows a result
                     setDisplayTypeLabel(false);
                 }
-            } catch (ScriptException | NumberFormatException e) {
-                // If there's an error, don't update the display
-                System.err.println("Partial expression error: " + e.getMessage());
+            } catch (EvaluationException e) {
+                // If there's an error, don't update the display (routine while typing, so only logged at DEBUG level)
+                Log.debug("Partial expression error: %s", e.getMessage());
             }
         }
     }
@@ -721,6 +1319,11 @@ public class JavaFXController {
      * Ensures all percentage values are properly converted to decimals.
      */
     private void evaluateExpression() {
+        if (statisticsMode) {
+            enterStatisticsValue();
+            return;
+        }
+
         // Convert percentage to decimal if needed
         if (mainDisplay.getText().endsWith("%")) {
             togglePercentFormat();
@@ -729,8 +1332,9 @@ public class JavaFXController {
         // If there's a current input and an operation wasn't just performed,
         // add it to the expression
         if (currentInputBuilder.length() > 0 && !hasJustPerformedOperation) {
-            expressionBuilder.append(currentInputBuilder);
-            jsExpressionBuilder.append(currentInputBuilder);
+            String operand = currentOperand();
+            expressionBuilder.append(operand);
+            jsExpressionBuilder.append(operand);
         }
         
         // Close any pending operations
@@ -762,8 +1366,7 @@ public class JavaFXController {
                 jsExpressionStr = normalizeExpression(jsExpressionStr);
                 
                 // Use jsExpressionStr for evaluation
-                Object result = engine.eval(jsExpressionStr);
-                String resultStr = formatNumber(Double.parseDouble(result.toString()));
+                String resultStr = evaluateForDisplay(jsExpressionStr);
                 
                 // Add to history
                 historyList.add(0, displayExpressionStr + " = " + resultStr);
@@ -781,14 +1384,14 @@ public class JavaFXController {
                 expressionBuilder.setLength(0);
                 jsExpressionBuilder.setLength(0);
                 currentInputBuilder.setLength(0);
-                currentInputBuilder.append(resultStr);
+                currentInputBuilder.append(exactResult != null ? exactResult : resultStr);
                 startNewInput = true;
                 hasJustPerformedOperation = false;
                 pendingUnaryOperation = null;
                 unclosedParenthesesCount = 0;
-            } catch (ScriptException | NumberFormatException e) {
+            } catch (EvaluationException e) {
                 mainDisplay.setText("Error");
-                System.err.println("Expression error: " + e.getMessage());
+                Log.warn("Expression error: %s", e.getMessage());
                 resetCalculator();
             }
         }
@@ -802,22 +1405,120 @@ public class JavaFXController {
      * @return A JavaScript-compatible expression
      */
     private String normalizeExpression(String expression) {
-        // Replace double negatives with a plus
-        String normalized = expression.replaceAll("--", "+");
-        
-        // Replace combinations like "+-" or "-+" with a single minus
-        normalized = normalized.replaceAll("\\+-", "-");
-        normalized = normalized.replaceAll("-\\+", "-");
-        
+        NormalizeEvent normalizeEvent = new NormalizeEvent();
+        normalizeEvent.begin();
+
+        // Shared with the evaluation server, so both give the same results
+        String normalized = ExpressionNormalizer.normalizeSigns(expression);
+
+        commitStageEvent(normalizeEvent, expression.length());
         return normalized;
     }
 
+    /**
+     * Evaluates an expression with the expression evaluator.
+     * The evaluation time is recorded in the metrics shown in the diagnostics view.
+     * 
+     * @param expression The normalized expression to evaluate
+     * @return The numeric result
+     * @throws EvaluationException if the expression cannot be evaluated
+     */
+    private double evaluate(String expression) throws EvaluationException {
+        EvaluateEvent evaluateEvent = new EvaluateEvent();
+        evaluateEvent.begin();
+        long start = System.nanoTime();
+        double result;
+        try {
+            result = evaluator.evaluate(expression);
+        } catch (EvaluationException e) {
+            metrics.recordEvaluationError(System.nanoTime() - start);
+            throw e;
+        }
+        metrics.recordEvaluation(System.nanoTime() - start);
+        commitStageEvent(evaluateEvent, expression.length());
+        return result;
+    }
+
+    /**
+     * Evaluates an expression and formats the result for the display.
+     * In rational mode an expression of rational operations is evaluated exactly and its fraction is kept in exactResult;
+     * anything else (such as a square root, or any expression outside rational mode) is evaluated with the expression evaluator.
+     *
+     * @param expression The normalized expression to evaluate
+     * @return The formatted result
+     * @throws EvaluationException if the expression cannot be evaluated
+     */
+    private String evaluateForDisplay(String expression) throws EvaluationException {
+        exactResult = null;
+        if (rationalMode) {
+            EvaluateEvent evaluateEvent = new EvaluateEvent();
+            evaluateEvent.begin();
+            long start = System.nanoTime();
+            try {
+                rationalParser.evaluate(expression);
+                metrics.recordEvaluation(System.nanoTime() - start);
+                commitStageEvent(evaluateEvent, expression.length());
+                StringBuilder fraction = new StringBuilder();
+                rationalParser.appendFraction(fraction);
+                exactResult = fraction.toString();
+                return formatExactResult();
+            } catch (EvaluationException e) {
+                Log.debug("Not evaluated exactly: %s", e.getMessage());
+            }
+        }
+        return formatNumber(evaluate(expression));
+    }
+
+    /**
+     * Formats the last result of the rational parser as a fraction or, if showFractions is off, as a decimal.
+     * Values too small to show in RATIONAL_DECIMAL_PLACES places are shown in scientific notation like other results.
+     */
+    private String formatExactResult() {
+        if (showFractions) {
+            return exactResult;
+        }
+        StringBuilder decimal = new StringBuilder();
+        rationalParser.appendDecimal(decimal, RATIONAL_DECIMAL_PLACES);
+        if ("0".contentEquals(decimal) && !rationalParser.isZero()) {
+            return formatNumber(rationalParser.doubleValue());
+        }
+        return decimal.toString();
+    }
+
+    /**
+     * Switches rational mode between showing results as fractions and as decimals, and shows the current result in the new form.
+     */
+    private void toggleFractionDisplay() {
+        showFractions = !showFractions;
+        if (exactResult != null && exactResult.contentEquals(currentInputBuilder)) {
+            try {
+                rationalParser.evaluate(exactResult);
+                mainDisplay.setText(formatExactResult());
+            } catch (EvaluationException e) {
+                Log.warn("Error showing exact result: %s", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the current input as an operand for the expression.
+     * A fraction from rational mode (e.g., 1/3) is parenthesized, so it stays one value after a division sign.
+     */
+    private String currentOperand() {
+        String input = currentInputBuilder.toString();
+        return input.indexOf('/') >= 0 ? "(" + input + ")" : input;
+    }
+
     /**
      * Clears the calculator state and resets the displays.
      * Alias for resetCalculator() method.
      */
     private void clear() {
         resetCalculator();
+        if (statisticsMode) {
+            statisticsSummary = new StatisticsSummary();
+            showStatistics();
+        }
     }
     
     /**
@@ -886,6 +1587,10 @@ public class JavaFXController {
             // Get the value from the main display, handling percent signs
             double value = parseDisplayValue(mainDisplay.getText());
             String valueStr = formatNumber(value);
+            if (rationalMode && currentInputBuilder.length() > 0 && currentInputBuilder.indexOf("%") < 0) {
+                // Keep the exact value, such as 1/3, which every operation below uses as a complete operand
+                valueStr = currentInputBuilder.toString();
+            }
             
             // Create display and JS representations for the operation
             String operationPrefix, operationSuffix;
@@ -982,21 +1687,19 @@ public class JavaFXController {
             }
             
             // For direct operations (not after operator or nested), proceed normally
-            // Apply the operation using JavaScript engine
-            double result;
+            // Apply the operation using the expression evaluator
+            String formatted;
             try {
-                // Construct the full JavaScript expression
+                // Construct the full JavaScript expression, and format the result
                 String jsExpression = jsOperationPrefix + valueStr + jsOperationSuffix;
-                Object evalResult = engine.eval(jsExpression);
-                result = Double.parseDouble(evalResult.toString());
-            } catch (ScriptException e) {
-                System.err.println("Error evaluating operation: " + e.getMessage());
+                formatted = evaluateForDisplay(jsExpression);
+            } catch (EvaluationException e) {
+                Log.warn("Error evaluating operation: %s", e.getMessage());
                 mainDisplay.setText("Error");
                 return;
             }
             
-            // Format and display the result
-            String formatted = formatNumber(result);
+            // Display the result
             mainDisplay.setText(formatted);
             
             // Update the display type to "Result" to indicate the main display shows a result
@@ -1065,9 +1768,9 @@ public class JavaFXController {
                 expressionDisplay.setText(expressionBuilder.toString());
             }
             
-            // Update current input with the result
+            // Update current input with the result, exactly in rational mode
             currentInputBuilder.setLength(0);
-            currentInputBuilder.append(formatted);
+            currentInputBuilder.append(exactResult != null ? exactResult : formatted);
             
             // Mark that we should start a new input next
             startNewInput = true;
@@ -1075,7 +1778,7 @@ public class JavaFXController {
             
         } catch (NumberFormatException e) {
             mainDisplay.setText("Error");
-            System.err.println("Error in unary operation: " + e.getMessage());
+            Log.warn("Error in unary operation: %s", e.getMessage());
         }
     }
 
@@ -1105,43 +1808,149 @@ public class JavaFXController {
      * Sets the list in the side panel to the history list and updates the button styles to indicate the active list.
      */
     private void showHistoryPanel() {
+        setDiagnosticsVisible(false);
+        historySearchField.setVisible(true);
         sidePanelListView.setItems(historyList);
+        refreshHistorySearch();
         historyButton.setStyle("-fx-background-color: #27c0c5");
         memoryButton.setStyle("-fx-background-color: #bdbdbd");
     }
 
+    /**
+     * Applies history changes to the search index, and refreshes the search results if a search is shown.
+     * Entries are added and removed (by undo) at the top of the history; clearing it clears the index, and any other
+     * change rebuilds it.
+     *
+     * @param change The change to the history list
+     */
+    private void updateHistoryIndex(ListChangeListener.Change<? extends String> change) {
+        boolean rebuild = false;
+        while (change.next()) {
+            if (change.getFrom() != 0 || change.wasPermutated() || change.wasUpdated()) {
+                rebuild = true;
+                continue;
+            }
+            if (change.getRemovedSize() == historyIndex.size()) {
+                historyIndex.clear();
+            } else {
+                historyIndex.removeNewest(change.getRemovedSize());
+            }
+            // The added entries are newest first, the index takes them oldest first
+            List<? extends String> added = change.getAddedSubList();
+            for (int i = added.size() - 1; i >= 0; i--) {
+                historyIndex.add(added.get(i));
+            }
+        }
+        if (rebuild) {
+            historyIndex.clear();
+            for (int i = historyList.size() - 1; i >= 0; i--) {
+                historyIndex.add(historyList.get(i));
+            }
+        }
+        if (sidePanelListView.getItems() == historySearchResults) {
+            refreshHistorySearch();
+        }
+    }
+
+    /**
+     * Shows the history entries matching the search box, or the whole history if the search box is empty.
+     */
+    private void refreshHistorySearch() {
+        if (!historySearchField.isVisible()) {
+            return;
+        }
+        String query = historySearchField.getText();
+        if (query == null || query.isBlank()) {
+            sidePanelListView.setItems(historyList);
+            return;
+        }
+        historySearchResults.setAll(historyIndex.search(query));
+        sidePanelListView.setItems(historySearchResults);
+    }
+
+    /**
+     * Returns true if the side panel shows the history, in full or filtered by the search box.
+     */
+    private boolean isHistoryShown() {
+        return sidePanelListView.getItems() == historyList || sidePanelListView.getItems() == historySearchResults;
+    }
+
     /**
      * Sets the list in the side panel to the memory list and updates the button styles to indicate the active list.
      */
     private void showMemoryPanel() {
+        setDiagnosticsVisible(false);
+        historySearchField.setVisible(false);
         sidePanelListView.setItems(memoryList);
         historyButton.setStyle("-fx-background-color: #bdbdbd");
         memoryButton.setStyle("-fx-background-color: #27c0c5");
     }
 
-    // TODO: Test edge cases for formatting numbers
     /**
      * Formats a double value, converting it to an integer if it's sufficiently close to an integer.
-     * This handles cases like sqrt(2)^2 where the result should be exactly 2 but might be 2.0000000000001
-     * due to floating-point precision issues.
+     * Delegates to the shared ResultFormatter so the GUI and batch evaluation display results identically.
      * 
      * @param value The double value to format
      * @return A string representation, either as an integer or a formatted double
      */
     private String formatNumber(double value) {
-        // Check if the value is very close to an integer
-        double roundedValue = Math.round(value);
-        if (Math.abs(value - roundedValue) < 1E-10) {
-            return String.format("%d", (long)roundedValue);
+        FormatEvent formatEvent = new FormatEvent();
+        formatEvent.begin();
+        String formatted = resultFormatter.format(value);
+        commitStageEvent(formatEvent, jsExpressionBuilder.length());
+        return formatted;
+    }
+
+    /**
+     * Commits a key dispatch Flight Recorder event, if it is enabled and above its threshold.
+     * 
+     * @param event The event to commit
+     * @param action The button ID or key code that was dispatched
+     */
+    private void commitDispatchEvent(KeyDispatchEvent event, String action) {
+        if (event.shouldCommit()) {
+            event.action = action;
+            commitStageEvent(event, jsExpressionBuilder.length());
         }
-        
-        // Handle scientific notation for very large or small numbers
-        if (Math.abs(value) < 0.0000001 || Math.abs(value) > 10000000) {
-            return scientificFormat.format(value);
+    }
+
+    /**
+     * Commits a pipeline Flight Recorder event with the expression length and evaluator name, if it is enabled and above its threshold.
+     * 
+     * @param event The event to commit
+     * @param expressionLength Length of the expression the stage worked on
+     */
+    private void commitStageEvent(CalculatorEvent event, int expressionLength) {
+        if (event.shouldCommit()) {
+            event.expressionLength = expressionLength;
+            event.evaluator = evaluatorName;
+            event.commit();
         }
-        
-        // Use decimal formatter for regular numbers
-        return decimalFormat.format(value);
+    }
+
+    /**
+     * Starts measuring a main display update. The event is committed after the next pulse has laid out the new text,
+     * so it covers the time from setText until the display is ready to render. Several updates before that pulse share one event.
+     */
+    private void beginDisplayUpdateEvent() {
+        Scene scene = root.getScene();
+        if (pendingDisplayUpdate != null || scene == null) {
+            return;
+        }
+        DisplayUpdateEvent displayEvent = new DisplayUpdateEvent();
+        if (!displayEvent.isEnabled()) {
+            return;
+        }
+        displayEvent.begin();
+        pendingDisplayUpdate = displayEvent;
+
+        Runnable[] listener = new Runnable[1];
+        listener[0] = () -> {
+            scene.removePostLayoutPulseListener(listener[0]);
+            pendingDisplayUpdate = null;
+            commitStageEvent(displayEvent, mainDisplay.getText().length());
+        };
+        scene.addPostLayoutPulseListener(listener[0]);
     }
 
     /**
@@ -1177,7 +1986,7 @@ public class JavaFXController {
                 isPercentFormatActive = true;
             } else {
                 // Convert from decimal to percentage
-                double value = Double.parseDouble(currentText);
+                double value = parseDisplayValue(currentText);
                 double percentValue;
                 
                 // If in input mode and not previously percented, use direct percentage
@@ -1193,7 +2002,7 @@ public class JavaFXController {
                 if (percentValue == (long) percentValue) {
                     formatted = String.format("%d%%", (long) percentValue);
                 } else {
-                    formatted = decimalFormat.format(percentValue) + "%";
+                    formatted = resultFormatter.formatDecimal(percentValue) + "%";
                 }
                 
                 mainDisplay.setText(formatted);
@@ -1208,7 +2017,7 @@ public class JavaFXController {
             }
         } catch (NumberFormatException e) {
             mainDisplay.setText("Error");
-            System.err.println("Error in percent toggle: " + e.getMessage());
+            Log.warn("Error in percent toggle: %s", e.getMessage());
         }
     }
 
@@ -1219,8 +2028,8 @@ public class JavaFXController {
     }
 
     /**
-     * Converts a display string to a numeric value, handling percent signs.
-     * If the string ends with a percent sign, converts it to its decimal equivalent.
+     * Converts a display string to a numeric value, handling percent signs and fractions.
+     * If the string ends with a percent sign, converts it to its decimal equivalent; a fraction such as 1/3 from rational mode is divided out.
      * 
      * @param displayValue The string value from the display
      * @return The numeric value represented by the string
@@ -1231,9 +2040,12 @@ public class JavaFXController {
             String valueWithoutPercent = displayValue.substring(0, displayValue.length() - 1);
             double value = Double.parseDouble(valueWithoutPercent);
             return value / 100.0;
-        } else {
-            return Double.parseDouble(displayValue);
         }
+        int slash = displayValue.indexOf('/');
+        if (slash > 0) {
+            return Double.parseDouble(displayValue.substring(0, slash)) / Double.parseDouble(displayValue.substring(slash + 1));
+        }
+        return Double.parseDouble(displayValue);
     }
 
     /**
@@ -1271,26 +2083,385 @@ public class JavaFXController {
         }
         */
         // Cannot swap layout yet, as not all elements in the FXML file are implemented
-        System.out.println("Layout swapping not supported yet");
+        Log.info("Layout swapping not supported yet");
     }
 
     /**
      * Toggles between light and dark theme for the calculator.
-     * Uses CSS class-based approach to switch themes defined in SCSS.
+     * Both themes live in one stylesheet as looked-up colors; the light palette applies while the scene root
+     * has the :light pseudo-class. Toggling the pseudo-class only cascades the changed color values, so the
+     * stylesheet is never reloaded and nodes are not re-matched against it.
+     * The time until the next pulse has applied CSS and layout is printed for performance tracking.
      */
     @FXML
     private void handleThemeToggle() {
         Scene scene = root.getScene();
-        ObservableList<String> sheets = scene.getStylesheets();
-        sheets.clear();
-        if (darkMode) {
-            sheets.add(getClass().getResource("/styles/style-light.css")
-                    .toExternalForm());
+        long start = System.nanoTime();
+
+        darkMode = !darkMode;
+        scene.getRoot().pseudoClassStateChanged(LIGHT_THEME, !darkMode);
+        if (graphWindow != null) {
+            graphWindow.setLightTheme(!darkMode);
+        }
+        if (worksheetWindow != null) {
+            worksheetWindow.setLightTheme(!darkMode);
+        }
+        if (solverWindow != null) {
+            solverWindow.setLightTheme(!darkMode);
+        }
+        if (matrixWindow != null) {
+            matrixWindow.setLightTheme(!darkMode);
+        }
+        if (programmerWindow != null) {
+            programmerWindow.setLightTheme(!darkMode);
+        }
+        if (converterWindow != null) {
+            converterWindow.setLightTheme(!darkMode);
+        }
+        if (currencyWindow != null) {
+            currencyWindow.setLightTheme(!darkMode);
+        }
+
+        // Measure until CSS and layout for the change have been processed in the next pulse
+        Runnable[] listener = new Runnable[1];
+        listener[0] = () -> {
+            scene.removePostLayoutPulseListener(listener[0]);
+            Log.info("Theme toggle took %.2f ms", (System.nanoTime() - start) / 1_000_000.0);
+        };
+        scene.addPostLayoutPulseListener(listener[0]);
+    }
+
+    /**
+     * Switches statistics mode on or off. Both directions start from a cleared calculator.
+     */
+    @FXML
+    private void handleStatisticsToggle() {
+        setStatisticsMode(!statisticsMode);
+    }
+
+    /**
+     * Loads a file of values (separated by whitespace, commas or semicolons) into statistics mode.
+     * The file is read and summarized in blocks on a background thread.
+     */
+    @FXML
+    private void handleLoadStatisticsData() {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Load Data File");
+        chooser.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("Data files", "*.txt", "*.csv", "*.tsv"),
+                new FileChooser.ExtensionFilter("All files", "*.*"));
+        File file = chooser.showOpenDialog(root.getScene().getWindow());
+        if (file == null) {
+            return;
+        }
+        if (!statisticsMode) {
+            setStatisticsMode(true);
+        }
+        addStatisticsData(file.getName(), (parser, values) -> {
+            try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+                parser.parse(reader, values);
+            }
+        });
+    }
+
+    /**
+     * Opens the graphing window, or brings it to the front if it is already open.
+     */
+    @FXML
+    private void handleGraphingMode() {
+        if (graphWindow == null) {
+            graphWindow = new GraphWindow(root.getScene().getWindow(), root.getScene().getStylesheets());
+        }
+        graphWindow.setLightTheme(!darkMode);
+        graphWindow.show();
+    }
+
+    /**
+     * Opens the variables and functions window, or brings it to the front if it is already open.
+     */
+    @FXML
+    private void handleWorksheet() {
+        if (worksheetWindow == null) {
+            worksheetWindow = new WorksheetWindow(root.getScene().getWindow(), root.getScene().getStylesheets(),
+                    new DefinitionStore(DefinitionStore.defaultFile()));
+        }
+        worksheetWindow.setLightTheme(!darkMode);
+        worksheetWindow.show();
+    }
+
+    /**
+     * Opens the equation solver window, or brings it to the front if it is already open.
+     */
+    @FXML
+    private void handleSolver() {
+        if (solverWindow == null) {
+            solverWindow = new SolverWindow(root.getScene().getWindow(), root.getScene().getStylesheets());
+        }
+        solverWindow.setLightTheme(!darkMode);
+        solverWindow.show();
+    }
+
+    /**
+     * Opens the matrix window, or brings it to the front if it is already open.
+     */
+    @FXML
+    private void handleMatrixMode() {
+        if (matrixWindow == null) {
+            matrixWindow = new MatrixWindow(root.getScene().getWindow(), root.getScene().getStylesheets());
+        }
+        matrixWindow.setLightTheme(!darkMode);
+        matrixWindow.show();
+    }
+
+    /**
+     * Opens the programmer window, or brings it to the front if it is already open.
+     */
+    @FXML
+    private void handleProgrammerMode() {
+        try {
+            if (programmerWindow == null) {
+                programmerWindow = new ProgrammerWindow(root.getScene().getWindow(), root.getScene().getStylesheets());
+            }
+            programmerWindow.setLightTheme(!darkMode);
+            programmerWindow.show();
+        } catch (IOException e) {
+            Log.error("Error loading programmer layout", e);
+        }
+    }
+
+    /**
+     * Opens the unit converter window, or brings it to the front if it is already open.
+     */
+    @FXML
+    private void handleUnitConverter() {
+        if (converterWindow == null) {
+            converterWindow = new ConverterWindow(root.getScene().getWindow(), root.getScene().getStylesheets());
+        }
+        converterWindow.setLightTheme(!darkMode);
+        converterWindow.show();
+    }
+
+    /**
+     * Opens the currency window, or brings it to the front if it is already open.
+     */
+    @FXML
+    private void handleCurrencyMode() {
+        if (currencyWindow == null) {
+            currencyWindow = new CurrencyWindow(root.getScene().getWindow(), root.getScene().getStylesheets());
+        }
+        currencyWindow.setLightTheme(!darkMode);
+        currencyWindow.show();
+    }
+
+    /**
+     * Switches rational mode on or off. Both directions start from a cleared calculator.
+     */
+    @FXML
+    private void handleRationalToggle() {
+        setRationalMode(!rationalMode);
+    }
+
+    private void setRationalMode(boolean enabled) {
+        if (enabled && statisticsMode) {
+            setStatisticsMode(false);
+        }
+        rationalMode = enabled;
+        exactResult = null;
+        resetCalculator();
+        calculatorTypeLabel.setText(enabled ? "Rational" : "Standard");
+        resetUndo();
+        journalInput();
+    }
+
+    private void setStatisticsMode(boolean enabled) {
+        if (enabled) {
+            rationalMode = false;
+        }
+        statisticsMode = enabled;
+        statisticsSummary = new StatisticsSummary();
+        resetCalculator();
+        calculatorTypeLabel.setText(enabled ? "Statistics" : "Standard");
+        if (enabled) {
+            showStatistics();
+        }
+        resetUndo();
+        journalInput();
+    }
+
+    /**
+     * Parses and summarizes a batch of values on a background thread (in parallel for large batches),
+     * then merges the batch into the statistics on the FX thread.
+     * 
+     * @param description Description of the batch for the log
+     * @param source The values to add
+     */
+    private void addStatisticsData(String description, StatisticsSource source) {
+        CompletableFuture.supplyAsync(() -> {
+            DataParser parser = new DataParser();
+            DoubleChunks values = new DoubleChunks();
+            try {
+                source.parseInto(parser, values);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (parser.skipped() > 0) {
+                Log.info("Skipped %s entries that are not numbers in %s", parser.skipped(), description);
+            }
+            return StatisticsSummary.of(values);
+        }).whenComplete((batch, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                Log.error("Error reading statistics data from %s: %s", description, error.getMessage());
+                return;
+            }
+            // Ignore batches that finish after statistics mode was left
+            if (statisticsMode) {
+                statisticsSummary.merge(batch);
+                showStatistics();
+            }
+        }));
+    }
+
+    /**
+     * Handles equals in statistics mode: adds the current input as a value, or without input
+     * adds a full report (count, sum, mean, standard deviation, min, quantiles, max) to the history.
+     */
+    private void enterStatisticsValue() {
+        String input = currentInputBuilder.toString();
+        currentInputBuilder.setLength(0);
+        expressionBuilder.setLength(0);
+        jsExpressionBuilder.setLength(0);
+        startNewInput = true;
+
+        if (input.isEmpty()) {
+            addStatisticsReportToHistory();
         } else {
-            sheets.add(getClass().getResource("/styles/style.css")
-                    .toExternalForm());
+            try {
+                statisticsSummary.add(parseDisplayValue(input));
+            } catch (NumberFormatException e) {
+                Log.warn("Invalid statistics value: %s", input);
+            }
         }
-        darkMode = !darkMode;
+        showStatistics();
+    }
+
+    /**
+     * Shows the sum in the main display and the count, mean and standard deviation in the expression display.
+     */
+    private void showStatistics() {
+        RunningStats stats = statisticsSummary.stats();
+        displayTypeLabel.setText("Sum");
+        if (stats.count() == 0) {
+            mainDisplay.setText("0");
+            expressionDisplay.setText("Paste, load or enter values");
+            return;
+        }
+        mainDisplay.setText(formatNumber(stats.sum()));
+        expressionDisplay.setText("n = " + stats.count() + "   mean = " + formatNumber(stats.mean())
+                + "   σ = " + (stats.count() < 2 ? "-" : formatNumber(stats.standardDeviation())));
+    }
+
+    private void addStatisticsReportToHistory() {
+        RunningStats stats = statisticsSummary.stats();
+        if (stats.count() == 0) {
+            return;
+        }
+        // Added in reverse, as the newest history entry is shown first
+        historyList.add(0, "max = " + formatNumber(stats.max()));
+        historyList.add(0, "p99 ≈ " + formatNumber(statisticsSummary.quantile(0.99)));
+        historyList.add(0, "p90 ≈ " + formatNumber(statisticsSummary.quantile(0.90)));
+        historyList.add(0, "median ≈ " + formatNumber(statisticsSummary.quantile(0.5)));
+        historyList.add(0, "min = " + formatNumber(stats.min()));
+        if (stats.count() > 1) {
+            historyList.add(0, "std dev = " + formatNumber(stats.standardDeviation()));
+        }
+        historyList.add(0, "mean = " + formatNumber(stats.mean()));
+        historyList.add(0, "sum = " + formatNumber(stats.sum()));
+        historyList.add(0, "count = " + stats.count());
+    }
+
+    /**
+     * Shows or hides the diagnostics view in the side panel.
+     */
+    @FXML
+    private void handleDiagnosticsToggle() {
+        setDiagnosticsVisible(!diagnosticsPanel.isVisible());
+    }
+
+    /**
+     * Shows the diagnostics view in place of the history/memory list, or switches back to the list.
+     * The metrics are always recorded; the view is only refreshed while it is shown.
+     * 
+     * @param visible True to show the diagnostics view
+     */
+    private void setDiagnosticsVisible(boolean visible) {
+        diagnosticsPanel.setVisible(visible);
+        historyMemoryPanel.setVisible(!visible);
+        if (visible) {
+            updateDiagnostics();
+            diagnosticsTimeline.play();
+        } else {
+            diagnosticsTimeline.stop();
+        }
+    }
+
+    /**
+     * Samples the metrics and shows them in the diagnostics view.
+     */
+    private void updateDiagnostics() {
+        metrics.sample();
+        LatencyHistogram latency = metrics.evaluationLatency();
+        LatencyHistogram pulses = metrics.pulseDuration();
+        LatencyHistogram gcPauses = metrics.gcPauses();
+
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("Evaluator     %s%n", evaluatorName));
+        text.append(String.format("Evaluations   %d (%d errors)%n", metrics.evaluationCount(), metrics.evaluationErrorCount()));
+        text.append(String.format("Rate          %.1f /s%n", metrics.evaluationsPerSecond()));
+        text.append(String.format("Eval p50      %s%n", formatNanos(latency.percentile(50))));
+        text.append(String.format("Eval p99      %s%n", formatNanos(latency.percentile(99))));
+        text.append(String.format("Eval max      %s%n%n", formatNanos(latency.maxNanos())));
+        text.append(String.format("Allocation    %.1f MB/s%n", metrics.allocationBytesPerSecond() / (1024 * 1024)));
+        text.append(String.format("GC pauses     %d (%s total)%n", gcPauses.count(), formatNanos(gcPauses.totalNanos())));
+        text.append(String.format("GC max pause  %s%n%n", formatNanos(gcPauses.maxNanos())));
+        text.append(String.format("Pulse p50     %s%n", formatNanos(pulses.percentile(50))));
+        text.append(String.format("Pulse p99     %s%n", formatNanos(pulses.percentile(99))));
+        text.append(String.format("Pulse max     %s%n%n", formatNanos(pulses.maxNanos())));
+        text.append(String.format("Undo steps    %d (%d to redo)", undoHistory.undoDepth(), undoHistory.redoDepth()));
+        diagnosticsLabel.setText(text.toString());
+    }
+
+    /**
+     * Formats a duration in nanoseconds with a unit that keeps it readable.
+     * 
+     * @param nanos The duration in nanoseconds
+     * @return The formatted duration (e.g., "12.3 µs")
+     */
+    private static String formatNanos(long nanos) {
+        if (nanos < 1_000) {
+            return nanos + " ns";
+        } else if (nanos < 1_000_000) {
+            return String.format("%.1f µs", nanos / 1_000.0);
+        } else if (nanos < 1_000_000_000) {
+            return String.format("%.1f ms", nanos / 1_000_000.0);
+        }
+        return String.format("%.2f s", nanos / 1_000_000_000.0);
+    }
+
+    /**
+     * Exports the metrics in the Prometheus text format to CalculatorMetrics.defaultExportFile().
+     * The file is written on a background thread so the UI never waits for the disk.
+     */
+    @FXML
+    private void handleExportMetrics() {
+        Path file = CalculatorMetrics.defaultExportFile();
+        CompletableFuture.runAsync(() -> {
+            try {
+                metrics.export(file);
+                Log.info("Metrics exported to %s", file);
+            } catch (IOException e) {
+                Log.error("Error exporting metrics: %s", e.getMessage());
+            }
+        });
     }
 
     /**
@@ -1311,7 +2482,7 @@ public class JavaFXController {
                 memoryList.set(0, fmt);
             }           
         } catch (Exception e) {
-            System.err.println("Error trying to add to memory: " + e.getMessage());
+            Log.warn("Error trying to add to memory: %s", e.getMessage());
         }
     }
 
@@ -1333,18 +2504,20 @@ public class JavaFXController {
                 memoryList.set(0, fmt);
             }
         } catch (Exception e) {
-            System.err.println("Error trying to add to memory: " + e.getMessage());
+            Log.warn("Error trying to add to memory: %s", e.getMessage());
         }
     }
 
     @FXML
     private void handleMemoryAdd(ActionEvent event){
         memoryAdd();
+        recordUndoState();
     }
 
     @FXML
     private void handleMemoryMinus(ActionEvent event){
         memorySubtract();
+        recordUndoState();
     }
 
     /**
@@ -1372,7 +2545,7 @@ public class JavaFXController {
     @FXML
     private void handleClearHistoryMemory() {
         // Get the current panel state
-        boolean isHistoryActive = sidePanelListView.getItems() == historyList;
+        boolean isHistoryActive = isHistoryShown();
 
         if (isHistoryActive) {
             // Clear history list
@@ -1385,6 +2558,7 @@ public class JavaFXController {
                 memoryList.clear();
             }
         }
+        recordUndoState();
     }
 
     /**
@@ -1392,7 +2566,7 @@ public class JavaFXController {
      * Call this method when switching between history and memory panels.
      */
     private void updateClearButtonTooltip() {
-        boolean isHistoryActive = sidePanelListView.getItems() == historyList;
+        boolean isHistoryActive = isHistoryShown();
         clearTooltip.setText(isHistoryActive ? "Clear History" : "Clear Memory");
     }
 }
\ No newline at end of file
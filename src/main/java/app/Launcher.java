@@ -0,0 +1,18 @@
+package app;
+
+/**
+ * Launcher is the entry point used when the calculator runs from a plain class path, such as the jar,
+ * the AppCDS training run, or the jlink runtime image.
+ * The Java launcher refuses to start a main class that extends Application unless JavaFX is on the module
+ * path, so this class, which does not extend Application, simply delegates to CalculatorApp.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class Launcher {
+
+    public static void main(String[] args) {
+        CalculatorApp.main(args);
+    }
+}
@@ -0,0 +1,98 @@
+package app;
+
+import app.log.Level;
+import app.log.Log;
+
+import javafx.animation.PauseTransition;
+import javafx.scene.Scene;
+import javafx.util.Duration;
+
+/**
+ * ResizeFrameReporter measures frame times while the window is being resized and prints a summary once the
+ * resize stops. Pulse listeners are only installed during a resize, so it costs nothing otherwise.
+ * For each pulse it records the frame interval (time since the previous pulse) and the time spent on CSS
+ * and layout (between the pre-layout and post-layout pulse listeners).
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+class ResizeFrameReporter {
+
+    /**
+     * Time without size changes after which a resize is considered finished.
+     */
+    private static final Duration RESIZE_IDLE = Duration.millis(300);
+
+    private final Scene scene;
+    private final PauseTransition idleTimer = new PauseTransition(RESIZE_IDLE);
+    private final Runnable preLayoutListener = this::onPreLayout;
+    private final Runnable postLayoutListener = this::onPostLayout;
+
+    private boolean resizing = false;
+    private long pulseStart;
+    private long previousPulseStart;
+    private int frames;
+    private long totalIntervalNanos;
+    private long maxIntervalNanos;
+    private long totalLayoutNanos;
+    private long maxLayoutNanos;
+
+    /**
+     * Creates a reporter for the given scene.
+     *
+     * @param scene The scene whose pulses are measured
+     */
+    ResizeFrameReporter(Scene scene) {
+        this.scene = scene;
+        idleTimer.setOnFinished(event -> finish());
+    }
+
+    /**
+     * Notifies the reporter that the window size changed. Starts measuring if no resize is in progress.
+     */
+    void sizeChanged() {
+        if (!resizing) {
+            resizing = true;
+            frames = 0;
+            previousPulseStart = 0;
+            totalIntervalNanos = maxIntervalNanos = 0;
+            totalLayoutNanos = maxLayoutNanos = 0;
+            scene.addPreLayoutPulseListener(preLayoutListener);
+            scene.addPostLayoutPulseListener(postLayoutListener);
+        }
+        idleTimer.playFromStart();
+    }
+
+    private void onPreLayout() {
+        pulseStart = System.nanoTime();
+        if (previousPulseStart != 0) {
+            long interval = pulseStart - previousPulseStart;
+            totalIntervalNanos += interval;
+            maxIntervalNanos = Math.max(maxIntervalNanos, interval);
+        }
+        previousPulseStart = pulseStart;
+    }
+
+    private void onPostLayout() {
+        long layout = System.nanoTime() - pulseStart;
+        totalLayoutNanos += layout;
+        maxLayoutNanos = Math.max(maxLayoutNanos, layout);
+        frames++;
+    }
+
+    private void finish() {
+        resizing = false;
+        scene.removePreLayoutPulseListener(preLayoutListener);
+        scene.removePostLayoutPulseListener(postLayoutListener);
+        if (frames < 2 || !Log.isEnabled(Level.INFO)) {
+            return;
+        }
+        // The idle timeout itself is not part of the resize, so intervals are averaged over frames - 1
+        double averageInterval = totalIntervalNanos / (frames - 1) / 1_000_000.0;
+        Log.info("Resize: %s", String.format("%d frames, frame interval avg %.2f ms (%.0f fps) max %.2f ms, "
+                + "CSS+layout avg %.2f ms max %.2f ms",
+                frames, averageInterval, 1000.0 / averageInterval, maxIntervalNanos / 1_000_000.0,
+                totalLayoutNanos / frames / 1_000_000.0, maxLayoutNanos / 1_000_000.0));
+    }
+}
@@ -0,0 +1,180 @@
+package app.batch;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import app.eval.EvaluationException;
+import app.eval.ExpressionEvaluator;
+import app.eval.ResultFormatter;
+
+/**
+ * BatchEvaluator evaluates large lists of expressions in parallel across all available cores.
+ * The input is recursively split into ranges on a dedicated ForkJoinPool. Every thread that evaluates
+ * a range gets its own evaluator and formatter (thread-confined, as JavaScript engine contexts cannot
+ * be shared), and each result is written to the slot matching its input index so the output is
+ * always in input order.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class BatchEvaluator implements AutoCloseable {
+
+    /**
+     * Text written in place of a result when an expression cannot be evaluated.
+     */
+    public static final String ERROR_RESULT = "Error";
+
+    /**
+     * Number of expressions below which a range is evaluated directly instead of being split further.
+     * Large enough to amortize task overhead, small enough to keep all workers busy on uneven input.
+     */
+    private static final int LEAF_SIZE = 64;
+
+    /**
+     * Factory for creating one evaluator per worker thread.
+     */
+    public interface EvaluatorFactory {
+        /**
+         * Creates a new evaluator that will be confined to the calling thread.
+         *
+         * @return A new evaluator
+         * @throws EvaluationException if the evaluator cannot be created
+         */
+        ExpressionEvaluator create() throws EvaluationException;
+    }
+
+    /**
+     * Pool that runs the evaluation tasks. Owned by this batch evaluator and shut down on close.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Factory for the per-thread evaluators.
+     */
+    private final EvaluatorFactory evaluatorFactory;
+
+    /**
+     * Evaluator and formatter of the current thread, created lazily the first time the thread evaluates a range.
+     */
+    private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(this::newWorker);
+
+    /**
+     * Every evaluator created so far, so they can be closed together with the pool.
+     */
+    private final Queue<ExpressionEvaluator> createdEvaluators = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates a batch evaluator using the given number of threads.
+     *
+     * @param parallelism The number of worker threads (1 evaluates on a single worker)
+     * @param evaluatorFactory Factory for the evaluator used by each worker thread
+     */
+    public BatchEvaluator(int parallelism, EvaluatorFactory evaluatorFactory) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        this.pool = new ForkJoinPool(parallelism);
+        this.evaluatorFactory = evaluatorFactory;
+    }
+
+    /**
+     * Evaluates every expression and returns the formatted results in input order.
+     * Expressions that fail to evaluate produce {@link #ERROR_RESULT} instead of aborting the batch.
+     *
+     * @param expressions The expressions to evaluate
+     * @return The formatted results, where index i holds the result of expressions.get(i)
+     */
+    public String[] evaluateAll(List<String> expressions) {
+        String[] results = new String[expressions.size()];
+        if (!expressions.isEmpty()) {
+            pool.invoke(new EvaluateRange(expressions, results, 0, expressions.size()));
+        }
+        return results;
+    }
+
+    /**
+     * Returns the number of worker threads used by this batch evaluator.
+     *
+     * @return The parallelism level
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Shuts down the worker pool and closes every evaluator that was created.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+        ExpressionEvaluator evaluator;
+        while ((evaluator = createdEvaluators.poll()) != null) {
+            evaluator.close();
+        }
+    }
+
+    /**
+     * Creates the evaluator and formatter for the calling thread.
+     *
+     * @return The new worker state
+     */
+    private Worker newWorker() {
+        try {
+            ExpressionEvaluator evaluator = evaluatorFactory.create();
+            createdEvaluators.add(evaluator);
+            return new Worker(evaluator, new ResultFormatter());
+        } catch (EvaluationException e) {
+            throw new IllegalStateException("Could not create evaluator: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Per-thread evaluation state. Never shared between threads.
+     */
+    private record Worker(ExpressionEvaluator evaluator, ResultFormatter formatter) {
+    }
+
+    /**
+     * Task that evaluates the expressions in [from, to), splitting the range in half until it is small enough.
+     */
+    private final class EvaluateRange extends RecursiveAction {
+
+        private final List<String> expressions;
+        private final String[] results;
+        private final int from;
+        private final int to;
+
+        EvaluateRange(List<String> expressions, String[] results, int from, int to) {
+            this.expressions = expressions;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                evaluateDirectly();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new EvaluateRange(expressions, results, from, middle),
+                      new EvaluateRange(expressions, results, middle, to));
+        }
+
+        private void evaluateDirectly() {
+            Worker worker = workers.get();
+            for (int i = from; i < to; i++) {
+                try {
+                    results[i] = worker.formatter().format(worker.evaluator().evaluate(expressions.get(i)));
+                } catch (EvaluationException e) {
+                    results[i] = ERROR_RESULT;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package app.batch;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import app.eval.Evaluators;
+
+/**
+ * Command line entry point for evaluating a text file of expressions (one per line) without the GUI.
+ * Results are written to the output file in the same order as the input, one per line.
+ *
+ * <p>Usage: {@code BatchEvaluatorApp <input> <output> [threads]} or {@code BatchEvaluatorApp --mapped <input> <output>}
+ *
+ * <p>The {@code --mapped} mode memory-maps the input and evaluates plain arithmetic (numbers, + - * / %,
+ * parentheses) without creating a String per line. It is meant for multi-GB expression dumps.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class BatchEvaluatorApp {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals("--mapped")) {
+            if (args.length != 3) {
+                // The mapped mode evaluates on the calling thread, so a thread count would be silently ignored
+                usage(args.length == 4 ? "--mapped evaluates on one thread and takes no thread count" : null);
+            }
+            evaluateMapped(Path.of(args[1]), Path.of(args[2]));
+            return;
+        }
+        if (args.length < 2 || args.length > 3) {
+            usage(null);
+        }
+
+        Path input = Path.of(args[0]);
+        Path output = Path.of(args[1]);
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        List<String> expressions = Files.readAllLines(input, StandardCharsets.UTF_8);
+
+        long start = System.nanoTime();
+        String[] results;
+        try (BatchEvaluator batch = new BatchEvaluator(threads, Evaluators::create)) {
+            results = batch.evaluateAll(expressions);
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Files.write(output, Arrays.asList(results), StandardCharsets.UTF_8);
+        System.out.println("Evaluated " + results.length + " expressions on " + threads
+                + " threads in " + elapsedMillis + " ms");
+    }
+
+    /**
+     * Prints the usage, after an optional explanation, and exits with status 1.
+     */
+    private static void usage(String problem) {
+        if (problem != null) {
+            System.err.println(problem);
+        }
+        System.err.println("Usage: BatchEvaluatorApp <input> <output> [threads]");
+        System.err.println("       BatchEvaluatorApp --mapped <input> <output>");
+        System.exit(1);
+    }
+
+    /**
+     * Evaluates the input through a memory mapping on the calling thread.
+     *
+     * @param input The file of expressions to evaluate
+     * @param output The file to write results to
+     * @throws IOException if reading or writing fails
+     */
+    private static void evaluateMapped(Path input, Path output) throws IOException {
+        long start = System.nanoTime();
+        long lines = new MappedBatchEvaluator().evaluateFile(input, output);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("Evaluated " + lines + " expressions (memory-mapped) in " + elapsedMillis + " ms");
+    }
+}
@@ -0,0 +1,52 @@
+package app.batch;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ByteBufferCharSequence is a read-only view of ASCII bytes in a ByteBuffer as characters.
+ * It lets the arithmetic parser read straight from a memory-mapped file without decoding lines into
+ * Strings. Only subSequence/toString allocate, and the parser only uses them on rare fallback paths.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+final class ByteBufferCharSequence implements CharSequence {
+
+    /**
+     * Buffer whose bytes are viewed as characters. Absolute gets are used, so its position is never changed.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * Points the view at a new buffer. The view covers the whole buffer, from index 0 to its limit.
+     *
+     * @param buffer The buffer to view
+     */
+    void reset(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public int length() {
+        return buffer.limit();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (buffer.get(index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public String toString() {
+        return subSequence(0, length()).toString();
+    }
+}
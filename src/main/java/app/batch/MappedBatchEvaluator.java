@@ -0,0 +1,149 @@
+package app.batch;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import app.eval.ArithmeticParser;
+import app.eval.EvaluationException;
+
+/**
+ * MappedBatchEvaluator evaluates very large expression files (one expression per line) by memory-mapping
+ * the input instead of reading it line by line. Numbers and operators are parsed straight from the mapped
+ * bytes by the {@link ArithmeticParser}, so no String is created per line, and results are written through
+ * a single reusable direct buffer.
+ *
+ * <p>Files larger than 2 GB are processed as a sequence of mapped windows, each ending on a line break.
+ * The input must be ASCII (or UTF-8 with non-ASCII characters only inside invalid lines).
+ * Instances are NOT thread-safe.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class MappedBatchEvaluator {
+
+    /**
+     * Default size of each mapped window of the input file.
+     */
+    private static final int DEFAULT_WINDOW_SIZE = 1 << 28;
+
+    /**
+     * Size of each mapped window of the input file. A single line must fit inside one window.
+     */
+    private final int windowSize;
+
+    /**
+     * Parser reused for every line.
+     */
+    private final ArithmeticParser parser = new ArithmeticParser();
+
+    /**
+     * Character view reused for every mapped window.
+     */
+    private final ByteBufferCharSequence view = new ByteBufferCharSequence();
+
+    /**
+     * Creates an evaluator that maps the input in 256 MB windows.
+     */
+    public MappedBatchEvaluator() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Creates an evaluator that maps the input in windows of the given size.
+     *
+     * @param windowSize Size of each mapped window in bytes
+     */
+    public MappedBatchEvaluator(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size must be positive: " + windowSize);
+        }
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Evaluates every line of the input file and writes the results, in order, to the output file.
+     * Lines that fail to evaluate produce {@link BatchEvaluator#ERROR_RESULT}.
+     *
+     * @param input The file of expressions to evaluate
+     * @param output The file to write results to (created or truncated)
+     * @return The number of lines evaluated
+     * @throws IOException if reading or writing fails, or a line is longer than the window size
+     */
+    public long evaluateFile(Path input, Path output) throws IOException {
+        long lines = 0;
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             ResultWriter writer = new ResultWriter(out)) {
+
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                long length = Math.min(windowSize, size - position);
+                MappedByteBuffer window = in.map(FileChannel.MapMode.READ_ONLY, position, length);
+                boolean lastWindow = position + length == size;
+
+                // Only process up to the last complete line; the rest is remapped with the next window
+                int usable = (int) length;
+                if (!lastWindow) {
+                    usable = lastLineBreak(window, (int) length) + 1;
+                    if (usable == 0) {
+                        throw new IOException("Line longer than " + windowSize + " bytes at offset " + position);
+                    }
+                }
+
+                lines += evaluateLines(window, usable, lastWindow, writer);
+                position += usable;
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Evaluates the lines in the first {@code usable} bytes of a mapped window.
+     */
+    private long evaluateLines(MappedByteBuffer window, int usable, boolean lastWindow, ResultWriter writer)
+            throws IOException {
+        view.reset(window);
+        long lines = 0;
+        int lineStart = 0;
+        for (int i = 0; i < usable; i++) {
+            if (window.get(i) == '\n') {
+                evaluateLine(lineStart, i, writer);
+                lineStart = i + 1;
+                lines++;
+            }
+        }
+        // The final line of the file may not end with a line break
+        if (lastWindow && lineStart < usable) {
+            evaluateLine(lineStart, usable, writer);
+            lines++;
+        }
+        return lines;
+    }
+
+    private void evaluateLine(int start, int end, ResultWriter writer) throws IOException {
+        // Accept Windows line endings
+        if (end > start && view.charAt(end - 1) == '\r') {
+            end--;
+        }
+        try {
+            writer.writeResult(parser.evaluate(view, start, end));
+        } catch (EvaluationException e) {
+            writer.writeError();
+        }
+    }
+
+    private static int lastLineBreak(MappedByteBuffer window, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (window.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,151 @@
+package app.batch;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+import app.eval.ResultFormatter;
+
+/**
+ * ResultWriter writes formatted results, one per line, through a single reusable direct buffer.
+ * Integer results (the common case) are written digit by digit without creating a String; all other
+ * values go through the shared ResultFormatter so the output matches the calculator display exactly.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+final class ResultWriter implements AutoCloseable {
+
+    /**
+     * Size of the direct output buffer.
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Longest line the writer ever has to hold in one piece (a long plus sign and newline, or a formatted double).
+     */
+    private static final int MAX_LINE_LENGTH = 64;
+
+    /**
+     * Destination of the results.
+     */
+    private final WritableByteChannel channel;
+
+    /**
+     * Direct buffer reused for all writes; flushed to the channel when full.
+     */
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    /**
+     * Formatter for non-integer results.
+     */
+    private final ResultFormatter formatter = new ResultFormatter();
+
+    /**
+     * Scratch space for writing the digits of a long in reverse order.
+     */
+    private final byte[] digits = new byte[20];
+
+    /**
+     * Creates a writer for the given channel.
+     *
+     * @param channel The channel to write results to
+     */
+    ResultWriter(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Writes a result followed by a newline, using the same rules as the calculator display.
+     *
+     * @param value The result to write
+     * @throws IOException if writing to the channel fails
+     */
+    void writeResult(double value) throws IOException {
+        ensureCapacity();
+
+        // Same integer check as ResultFormatter.format, written without an intermediate String
+        double roundedValue = Math.round(value);
+        if (Math.abs(value - roundedValue) < 1E-10) {
+            writeLong((long) roundedValue);
+        } else {
+            writeText(formatter.format(value));
+        }
+        buffer.put((byte) '\n');
+    }
+
+    /**
+     * Writes an error marker followed by a newline.
+     *
+     * @throws IOException if writing to the channel fails
+     */
+    void writeError() throws IOException {
+        ensureCapacity();
+        writeText(BatchEvaluator.ERROR_RESULT);
+        buffer.put((byte) '\n');
+    }
+
+    /**
+     * Writes any buffered bytes to the channel.
+     *
+     * @throws IOException if writing to the channel fails
+     */
+    void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+    private void ensureCapacity() throws IOException {
+        if (buffer.remaining() < MAX_LINE_LENGTH) {
+            flush();
+        }
+    }
+
+    private void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeText(Long.toString(value));
+            return;
+        }
+        if (value < 0) {
+            buffer.put((byte) '-');
+            value = -value;
+        }
+        int count = 0;
+        do {
+            digits[count++] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+        while (count > 0) {
+            buffer.put(digits[--count]);
+        }
+    }
+
+    /**
+     * Writes text as UTF-8. Results are almost always ASCII, but DecimalFormat uses symbols such as the
+     * infinity sign for special values.
+     */
+    private void writeText(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package app.currency;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import javafx.application.Platform;
+import javafx.css.PseudoClass;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+
+/**
+ * CurrencyWindow is the currency mode: converts an amount between two currencies offline, with the rates from the
+ * local rates file ({@link RatesFile#defaultFile()}). The file is loaded and watched by a {@link RatesWatcher}, so
+ * dropping in a new file updates the rates without blocking the window.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class CurrencyWindow {
+
+    private static final PseudoClass LIGHT_THEME = PseudoClass.getPseudoClass("light");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    /**
+     * Largest power of ten of an amount, and of its smallest digit. Amounts are converted on the FX thread at every
+     * keystroke, and an amount such as 1e10000000 would take seconds and megabytes to convert and print in full.
+     */
+    private static final int MAX_EXPONENT = 100;
+
+    /**
+     * Most significant digits of an amount.
+     */
+    private static final int MAX_DIGITS = 100;
+
+    /**
+     * Results at least this large, or nonzero and smaller than its reciprocal, are shown in scientific notation.
+     */
+    private static final BigDecimal SCIENTIFIC_ABOVE = BigDecimal.TEN.pow(15);
+    private static final BigDecimal SCIENTIFIC_BELOW = BigDecimal.ONE.movePointLeft(15);
+    private static final MathContext SCIENTIFIC_CONTEXT = new MathContext(10, RoundingMode.HALF_EVEN);
+
+    private final Stage stage = new Stage();
+    private final TextField amountField = new TextField("1");
+    private final ComboBox<String> fromBox = new ComboBox<>();
+    private final ComboBox<String> toBox = new ComboBox<>();
+    private final Label resultLabel = new Label();
+    private final Label rateLabel = new Label();
+    private final Label statusLabel = new Label("Loading rates...");
+    private final RatesWatcher watcher;
+    private RateTable table;
+
+    /**
+     * Creates the currency window and starts loading the rates.
+     *
+     * @param owner The calculator window
+     * @param stylesheets The calculator stylesheets
+     */
+    public CurrencyWindow(Window owner, List<String> stylesheets) {
+        amountField.getStyleClass().add("currency-field");
+        amountField.textProperty().addListener((observable, oldText, text) -> update());
+        fromBox.valueProperty().addListener((observable, oldCode, code) -> update());
+        toBox.valueProperty().addListener((observable, oldCode, code) -> update());
+
+        Button swapButton = new Button("⇄");
+        swapButton.getStyleClass().add("currency-button");
+        swapButton.setOnAction(event -> swap());
+        HBox currencyRow = new HBox(8, fromBox, swapButton, toBox);
+        currencyRow.setAlignment(Pos.CENTER_LEFT);
+
+        resultLabel.getStyleClass().add("currency-result");
+        resultLabel.setMaxWidth(Double.MAX_VALUE);
+        rateLabel.getStyleClass().add("currency-status");
+        statusLabel.getStyleClass().add("currency-status");
+        statusLabel.setWrapText(true);
+        VBox spacer = new VBox();
+        VBox.setVgrow(spacer, Priority.ALWAYS);
+
+        VBox layout = new VBox(8, amountField, currencyRow, resultLabel, rateLabel, spacer, statusLabel);
+        layout.getStyleClass().add("currency-root");
+
+        Scene scene = new Scene(layout, 380, 260);
+        scene.getStylesheets().addAll(stylesheets);
+        stage.setScene(scene);
+        stage.setTitle("Currency Converter");
+        stage.initOwner(owner);
+        stage.setMinWidth(320);
+        stage.setMinHeight(220);
+
+        watcher = new RatesWatcher(RatesFile.defaultFile(),
+                rates -> Platform.runLater(() -> showRates(rates)),
+                message -> Platform.runLater(() -> statusLabel.setText(message)));
+        watcher.start();
+    }
+
+    /**
+     * Shows the window.
+     */
+    public void show() {
+        stage.show();
+        stage.toFront();
+        amountField.requestFocus();
+    }
+
+    /**
+     * Switches the window to the light or dark theme, following the calculator.
+     *
+     * @param lightTheme True for the light theme
+     */
+    public void setLightTheme(boolean lightTheme) {
+        stage.getScene().getRoot().pseudoClassStateChanged(LIGHT_THEME, lightTheme);
+    }
+
+    /**
+     * Switches to newly loaded rates, keeping the selected currencies if they are still in the file.
+     */
+    private void showRates(RateTable rates) {
+        String from = fromBox.getValue();
+        String to = toBox.getValue();
+        table = rates;
+        fromBox.getItems().setAll(rates.codes());
+        toBox.getItems().setAll(rates.codes());
+        fromBox.setValue(select(rates, from == null ? "USD" : from, 0));
+        toBox.setValue(select(rates, to == null ? "EUR" : to, Math.min(1, rates.size() - 1)));
+        statusLabel.setText(rates.size() + " currencies from " + watcher.file().getFileName()
+                + ", loaded at " + LocalTime.now().format(TIME_FORMAT));
+        update();
+    }
+
+    /**
+     * Returns the code if the rates include it, otherwise the code at the fallback index.
+     */
+    private static String select(RateTable rates, String code, int fallback) {
+        return rates.indexOf(code) >= 0 ? code : rates.codes().get(fallback);
+    }
+
+    /**
+     * Converts the amount with the current rates.
+     */
+    private void update() {
+        if (table == null || fromBox.getValue() == null || toBox.getValue() == null) {
+            return;
+        }
+        int from = table.indexOf(fromBox.getValue());
+        int to = table.indexOf(toBox.getValue());
+        rateLabel.setText("1 " + fromBox.getValue() + " = " + table.crossRate(from, to).toPlainString() + " " + toBox.getValue());
+
+        String text = amountField.getText().trim();
+        if (text.isEmpty()) {
+            resultLabel.setText("");
+            return;
+        }
+        try {
+            BigDecimal amount = new BigDecimal(text);
+            if (!isInRange(amount)) {
+                resultLabel.setText("Amounts are limited to " + MAX_DIGITS + " digits between 1e-" + MAX_EXPONENT
+                        + " and 1e" + MAX_EXPONENT);
+                return;
+            }
+            resultLabel.setText(convert(amount, from, to) + " " + toBox.getValue());
+        } catch (NumberFormatException e) {
+            resultLabel.setText("'" + text + "' is not an amount");
+        }
+    }
+
+    /**
+     * Returns the converted amount, in scientific notation if it is very large or very small, otherwise rounded to
+     * the currency's fraction digits.
+     */
+    private String convert(BigDecimal amount, int from, int to) {
+        BigDecimal estimate = amount.multiply(table.crossRate(from, to), SCIENTIFIC_CONTEXT);
+        BigDecimal magnitude = estimate.abs();
+        if (magnitude.compareTo(SCIENTIFIC_ABOVE) >= 0
+                || (magnitude.signum() != 0 && magnitude.compareTo(SCIENTIFIC_BELOW) < 0)) {
+            return estimate.toString();
+        }
+        return table.convert(amount, from, to).toPlainString();
+    }
+
+    /**
+     * Returns true if the amount has at most MAX_DIGITS digits, and its leading and last digits are within
+     * 10^-MAX_EXPONENT and 10^MAX_EXPONENT. Checked from the unscaled value's precision and the scale, so an amount
+     * such as 1e10000000 is rejected without being expanded.
+     */
+    private static boolean isInRange(BigDecimal amount) {
+        long leadingExponent = (long) amount.precision() - amount.scale() - 1;
+        long lastExponent = -(long) amount.scale();
+        return amount.precision() <= MAX_DIGITS && Math.abs(leadingExponent) <= MAX_EXPONENT
+                && Math.abs(lastExponent) <= MAX_EXPONENT;
+    }
+
+    private void swap() {
+        String from = fromBox.getValue();
+        fromBox.setValue(toBox.getValue());
+        toBox.setValue(from);
+    }
+}
@@ -0,0 +1,140 @@
+package app.currency;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.List;
+
+/**
+ * RateTable holds a set of exchange rates, each given as the units of a currency per unit of a common base currency.
+ * Currencies are numbered densely in the order they were read, and a three-letter code maps to its number through a
+ * direct-address array of all 26^3 possible codes, so looking a currency up needs no hashing or string comparison.
+ *
+ * Conversions are done in BigDecimal with a single rounding, to the minor unit of the target currency
+ * (e.g., cents, or whole yen), using banker's rounding. Tables are immutable and safe to share between threads.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public final class RateTable {
+
+    /**
+     * Number of possible three-letter codes.
+     */
+    private static final int CODE_SLOTS = 26 * 26 * 26;
+
+    /**
+     * Decimal places used for currencies unknown to the JDK, or without a minor unit (e.g., gold, XAU).
+     */
+    private static final int DEFAULT_FRACTION_DIGITS = 2;
+
+    /**
+     * Precision of the cross rates shown next to a conversion.
+     */
+    private static final MathContext CROSS_RATE_CONTEXT = new MathContext(10, RoundingMode.HALF_EVEN);
+
+    private final List<String> codes;
+    private final BigDecimal[] rates;
+    private final int[] fractionDigits;
+
+    /**
+     * Index + 1 of each currency, by packed code; 0 for codes not in the table.
+     */
+    private final short[] indexByCode = new short[CODE_SLOTS];
+
+    /**
+     * Creates a table. The codes must be distinct, valid codes and the rates positive; see {@link RatesFile}.
+     *
+     * @param codes The currency codes
+     * @param rates The units of each currency per unit of the base currency
+     */
+    RateTable(List<String> codes, List<BigDecimal> rates) {
+        this.codes = List.copyOf(codes);
+        this.rates = rates.toArray(new BigDecimal[0]);
+        this.fractionDigits = new int[this.rates.length];
+        for (int i = 0; i < this.rates.length; i++) {
+            indexByCode[packCode(codes.get(i))] = (short) (i + 1);
+            fractionDigits[i] = fractionDigits(codes.get(i));
+        }
+    }
+
+    /**
+     * Packs a three-letter upper-case code into a number below 26^3.
+     *
+     * @param code The code
+     * @return The packed code, or -1 if the code is not three letters A to Z
+     */
+    public static int packCode(CharSequence code) {
+        if (code.length() != 3) {
+            return -1;
+        }
+        int packed = 0;
+        for (int i = 0; i < 3; i++) {
+            char c = code.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                return -1;
+            }
+            packed = packed * 26 + (c - 'A');
+        }
+        return packed;
+    }
+
+    /**
+     * Returns the number of currencies.
+     */
+    public int size() {
+        return rates.length;
+    }
+
+    /**
+     * Returns the currency codes, in index order.
+     */
+    public List<String> codes() {
+        return codes;
+    }
+
+    /**
+     * Returns the index of a currency.
+     *
+     * @param code The currency code, e.g., "EUR"
+     * @return The index, or -1 if the currency is not in the table
+     */
+    public int indexOf(CharSequence code) {
+        int packed = packCode(code);
+        return packed < 0 ? -1 : indexByCode[packed] - 1;
+    }
+
+    /**
+     * Converts an amount between two currencies, rounded to the minor unit of the target currency.
+     *
+     * @param amount The amount
+     * @param from The index of the currency of the amount
+     * @param to The index of the currency to convert to
+     * @return The converted amount
+     */
+    public BigDecimal convert(BigDecimal amount, int from, int to) {
+        return amount.multiply(rates[to]).divide(rates[from], fractionDigits[to], RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * Returns the units of one currency per unit of another, to 10 significant digits.
+     *
+     * @param from The index of the currency converted from
+     * @param to The index of the currency converted to
+     * @return The cross rate
+     */
+    public BigDecimal crossRate(int from, int to) {
+        return rates[to].divide(rates[from], CROSS_RATE_CONTEXT);
+    }
+
+    private static int fractionDigits(String code) {
+        try {
+            int digits = Currency.getInstance(code).getDefaultFractionDigits();
+            return digits < 0 ? DEFAULT_FRACTION_DIGITS : digits;
+        } catch (IllegalArgumentException e) {
+            return DEFAULT_FRACTION_DIGITS;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package app.currency;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RatesFile reads exchange rates from a local file, memory-mapped and parsed straight from its bytes. Two forms are
+ * accepted:
+ * <ul>
+ *   <li>CSV: one currency per line, its code and its rate separated by a comma, semicolon or spaces
+ *       (e.g., "EUR,0.9215"). Rates are plain decimals. Blank lines, lines starting with '#' and a header line
+ *       are skipped.</li>
+ *   <li>Binary: the bytes "RATE", a big-endian int count, then per currency 3 ASCII code bytes, a scale byte and a
+ *       big-endian long unscaled value, so the rate is unscaled * 10^-scale.</li>
+ * </ul>
+ * Rates are the units of each currency per unit of one base currency, which therefore has the rate 1.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public final class RatesFile {
+
+    /**
+     * System property for the rates file (default: ~/.calculator/rates.csv).
+     */
+    public static final String RATES_FILE_PROPERTY = "calculator.ratesFile";
+
+    private static final byte[] BINARY_MAGIC = { 'R', 'A', 'T', 'E' };
+    private static final int BINARY_RECORD_SIZE = 12;
+
+    /**
+     * Largest number of digits accumulated in a long before falling back to parsing the rate as text.
+     */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private RatesFile() {
+    }
+
+    /**
+     * Returns the rates file named by {@link #RATES_FILE_PROPERTY}, or the default file in the user's home.
+     */
+    public static Path defaultFile() {
+        String configured = System.getProperty(RATES_FILE_PROPERTY);
+        if (configured != null && !configured.isBlank()) {
+            return Path.of(configured);
+        }
+        return Path.of(System.getProperty("user.home"), ".calculator", "rates.csv");
+    }
+
+    /**
+     * Reads a rates file.
+     *
+     * @param file The file, in CSV or binary form
+     * @return The rates
+     * @throws IOException if the file cannot be read, is not a valid rates file, or was truncated while it was read
+     */
+    public static RateTable load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Rates file is too large: " + size + " bytes");
+            }
+            ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            try {
+                return isBinary(bytes) ? parseBinary(bytes) : parseCsv(bytes);
+            } catch (InternalError e) {
+                // Reading a mapped page that a truncation removed faults, which the JVM reports as an InternalError
+                throw new IOException("Rates file changed while it was being read", e);
+            }
+        }
+    }
+
+    private static boolean isBinary(ByteBuffer bytes) {
+        if (bytes.limit() < BINARY_MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < BINARY_MAGIC.length; i++) {
+            if (bytes.get(i) != BINARY_MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static RateTable parseBinary(ByteBuffer bytes) throws IOException {
+        if (bytes.limit() < BINARY_MAGIC.length + 4) {
+            throw new IOException("Binary rates file is truncated");
+        }
+        int count = bytes.getInt(BINARY_MAGIC.length);
+        int start = BINARY_MAGIC.length + 4;
+        if (count < 0 || (long) count * BINARY_RECORD_SIZE != bytes.limit() - start) {
+            throw new IOException("Binary rates file should hold " + count + " rates in " + (bytes.limit() - start) + " bytes");
+        }
+        Rates rates = new Rates(count);
+        char[] code = new char[3];
+        for (int i = 0; i < count; i++) {
+            int record = start + i * BINARY_RECORD_SIZE;
+            for (int c = 0; c < 3; c++) {
+                code[c] = (char) (bytes.get(record + c) & 0xFF);
+            }
+            BigDecimal rate = BigDecimal.valueOf(bytes.getLong(record + 4), bytes.get(record + 3));
+            rates.add(new String(code), rate, "record " + (i + 1));
+        }
+        return rates.toTable();
+    }
+
+    private static RateTable parseCsv(ByteBuffer bytes) throws IOException {
+        Rates rates = new Rates(200);
+        int limit = bytes.limit();
+        int position = 0;
+        int line = 0;
+        boolean headerAllowed = true;
+        while (position < limit) {
+            line++;
+            int end = position;
+            while (end < limit && bytes.get(end) != '\n') {
+                end++;
+            }
+            int next = end + 1;
+            if (end > position && bytes.get(end - 1) == '\r') {
+                end--;
+            }
+            position = skipSpaces(bytes, position, end);
+            if (position == end || bytes.get(position) == '#') {
+                position = next;
+                continue;
+            }
+
+            int codeEnd = position;
+            while (codeEnd < end && !isSeparator(bytes.get(codeEnd))) {
+                codeEnd++;
+            }
+            String code = codeEnd - position == 3 ? ascii(bytes, position, codeEnd) : null;
+            if (code == null || RateTable.packCode(code) < 0) {
+                if (headerAllowed) {
+                    headerAllowed = false;
+                    position = next;
+                    continue;
+                }
+                throw new IOException("Invalid currency code '" + ascii(bytes, position, codeEnd) + "' on line " + line);
+            }
+            headerAllowed = false;
+
+            int rateStart = codeEnd;
+            while (rateStart < end && isSeparator(bytes.get(rateStart))) {
+                rateStart++;
+            }
+            int rateEnd = rateStart;
+            while (rateEnd < end && !isSeparator(bytes.get(rateEnd))) {
+                rateEnd++;
+            }
+            BigDecimal rate = parseRate(bytes, rateStart, rateEnd);
+            if (rate == null) {
+                throw new IOException("Invalid rate '" + ascii(bytes, rateStart, rateEnd) + "' for " + code + " on line " + line);
+            }
+            rates.add(code, rate, "line " + line);
+            position = next;
+        }
+        return rates.toTable();
+    }
+
+    /**
+     * Parses a plain decimal (digits with at most one '.') from bytes, without creating a String unless it has
+     * more digits than fit in a long.
+     *
+     * @return The rate, or null if the bytes are not a plain decimal
+     */
+    private static BigDecimal parseRate(ByteBuffer bytes, int start, int end) {
+        long unscaled = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean fraction = false;
+        for (int i = start; i < end; i++) {
+            byte b = bytes.get(i);
+            if (b == '.' && !fraction) {
+                fraction = true;
+            } else if (b >= '0' && b <= '9') {
+                if (++digits > MAX_LONG_DIGITS) {
+                    return parseRateText(ascii(bytes, start, end));
+                }
+                unscaled = unscaled * 10 + (b - '0');
+                scale += fraction ? 1 : 0;
+            } else {
+                return null;
+            }
+        }
+        return digits == 0 ? null : BigDecimal.valueOf(unscaled, scale);
+    }
+
+    private static BigDecimal parseRateText(String text) {
+        try {
+            return new BigDecimal(text);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static int skipSpaces(ByteBuffer bytes, int position, int end) {
+        while (position < end && (bytes.get(position) == ' ' || bytes.get(position) == '\t')) {
+            position++;
+        }
+        return position;
+    }
+
+    private static boolean isSeparator(byte b) {
+        return b == ',' || b == ';' || b == ' ' || b == '\t';
+    }
+
+    private static String ascii(ByteBuffer bytes, int start, int end) {
+        byte[] text = new byte[end - start];
+        bytes.get(start, text);
+        return new String(text, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * The rates read so far, checked as they are added.
+     */
+    private static final class Rates {
+
+        private final List<String> codes;
+        private final List<BigDecimal> rates;
+        private final boolean[] seen = new boolean[26 * 26 * 26];
+
+        Rates(int capacity) {
+            codes = new ArrayList<>(capacity);
+            rates = new ArrayList<>(capacity);
+        }
+
+        void add(String code, BigDecimal rate, String where) throws IOException {
+            int packed = RateTable.packCode(code);
+            if (packed < 0) {
+                throw new IOException("Invalid currency code '" + code + "' in " + where);
+            }
+            if (seen[packed]) {
+                throw new IOException("Duplicate currency " + code + " in " + where);
+            }
+            if (rate.signum() <= 0) {
+                throw new IOException("The rate for " + code + " must be positive, in " + where);
+            }
+            seen[packed] = true;
+            codes.add(code);
+            rates.add(rate);
+        }
+
+        RateTable toTable() throws IOException {
+            if (codes.isEmpty()) {
+                throw new IOException("The rates file has no rates");
+            }
+            return new RateTable(codes, rates);
+        }
+    }
+}
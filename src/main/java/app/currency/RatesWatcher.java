@@ -0,0 +1,148 @@
+package app.currency;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import app.log.Log;
+
+/**
+ * RatesWatcher loads a rates file on a background thread and loads it again whenever it is created, replaced or
+ * changed, as reported by a WatchService on its directory. A copy usually produces several events in a row, so the
+ * file is only reloaded once its directory has been quiet for {@link #SETTLE_MILLIS}. Results are passed to the
+ * listeners on the watcher thread.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class RatesWatcher implements Closeable {
+
+    /**
+     * Time without further events after which a change is taken to be complete.
+     */
+    private static final long SETTLE_MILLIS = 200;
+
+    private final Path file;
+    private final Consumer<RateTable> onLoad;
+    private final Consumer<String> onError;
+    private WatchService watchService;
+    private boolean closed;
+
+    /**
+     * Creates a watcher; {@link #start()} starts it.
+     *
+     * @param file The rates file
+     * @param onLoad Receives the rates after every successful load
+     * @param onError Receives the message when the file cannot be loaded
+     */
+    public RatesWatcher(Path file, Consumer<RateTable> onLoad, Consumer<String> onError) {
+        this.file = file.toAbsolutePath();
+        this.onLoad = onLoad;
+        this.onError = onError;
+    }
+
+    /**
+     * Returns the watched file.
+     */
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * Starts the watcher thread, which loads the file and then waits for changes.
+     */
+    public void start() {
+        Thread thread = new Thread(this::run, "calculator-rates-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops watching.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        closed = true;
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private void run() {
+        // Watch before the first load, so a change during the load is not missed
+        WatchService service = null;
+        try {
+            Files.createDirectories(file.getParent());
+            service = FileSystems.getDefault().newWatchService();
+            file.getParent().register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            synchronized (this) {
+                if (closed) {
+                    service.close();
+                    return;
+                }
+                watchService = service;
+            }
+        } catch (IOException e) {
+            Log.warn("Cannot watch rates file %s: %s", file, e.getMessage());
+        }
+        load();
+        if (service == null) {
+            return;
+        }
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean changed = concernsFile(key);
+                // Let a copy or save in progress finish before reading
+                while ((key = service.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= concernsFile(key);
+                }
+                if (changed) {
+                    load();
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // Closed by close()
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns true if the key's events include the rates file (or were lost to an overflow), and resets the key.
+     */
+    private boolean concernsFile(WatchKey key) {
+        boolean concerns = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            concerns |= event.kind() == StandardWatchEventKinds.OVERFLOW || file.getFileName().equals(event.context());
+        }
+        key.reset();
+        return concerns;
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            onError.accept("No rates file at " + file);
+            return;
+        }
+        try {
+            RateTable table = RatesFile.load(file);
+            Log.info("Loaded %d exchange rates from %s", table.size(), file);
+            onLoad.accept(table);
+        } catch (IOException | RuntimeException e) {
+            // Keep watching: the next change to the file is loaded again
+            Log.warn("Cannot load rates file %s: %s", file, e.getMessage());
+            onError.accept(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package app.eval;
+
+/**
+ * ArithmeticParser evaluates plain arithmetic expressions directly from characters, without building
+ * tokens, strings or an expression tree. It supports decimal and exponent number literals, the binary
+ * operators +, -, *, / and % (remainder, as in JavaScript), unary plus/minus and parentheses, using
+ * the usual operator precedence. It also understands the subset of JavaScript's Math object that the
+ * calculator generates ({@code Math.pow(a, b)}, {@code Math.sqrt(a)}, {@code Math.PI}, ...), so it can
+ * evaluate the calculator's expressions without a JavaScript engine.
+ *
+ * <p>Because it reads from any {@link CharSequence} range it can evaluate text that never becomes a
+ * String, such as a view over a memory-mapped file. An instance keeps parsing state in fields and is
+ * reused between calls, so it is NOT thread-safe.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class ArithmeticParser {
+
+    /**
+     * Exact powers of ten representable as doubles, used by the fast number parsing path.
+     */
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Largest mantissa that a double represents exactly (2^53).
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    /**
+     * Names of the supported functions. The index in this array selects the function in {@link #applyFunction}.
+     */
+    private static final String[] FUNCTION_NAMES = {
+        "Math.sqrt", "Math.cbrt", "Math.abs", "Math.exp", "Math.log", "Math.log10",
+        "Math.sin", "Math.cos", "Math.tan", "Math.floor", "Math.ceil", "Math.pow"
+    };
+
+    /**
+     * Index of the only two-argument function in {@link #FUNCTION_NAMES}.
+     */
+    private static final int POW_FUNCTION = 11;
+
+    /**
+     * Deepest nesting of parentheses, function calls and signs accepted. Each level takes a few stack frames, so
+     * without a limit a long line such as "((((...1" overflows the stack instead of failing to evaluate.
+     */
+    static final int MAX_NESTING = 256;
+
+    /**
+     * Characters of the expression currently being evaluated.
+     */
+    private CharSequence input;
+
+    /**
+     * Index of the next character to read.
+     */
+    private int pos;
+
+    /**
+     * Index one past the last character of the expression.
+     */
+    private int end;
+
+    /**
+     * Nesting depth of the operand being parsed.
+     */
+    private int depth;
+
+    /**
+     * Evaluates a whole expression.
+     *
+     * @param expression The expression to evaluate (e.g., "5 + 3 * (2 - 1)")
+     * @return The numeric result
+     * @throws EvaluationException if the expression is not valid arithmetic
+     */
+    public double evaluate(CharSequence expression) throws EvaluationException {
+        return evaluate(expression, 0, expression.length());
+    }
+
+    /**
+     * Evaluates the expression held in characters [start, end) of the given sequence.
+     *
+     * @param source The characters to read from
+     * @param start Index of the first character of the expression
+     * @param end Index one past the last character of the expression
+     * @return The numeric result
+     * @throws EvaluationException if the expression is not valid arithmetic
+     */
+    public double evaluate(CharSequence source, int start, int end) throws EvaluationException {
+        this.input = source;
+        this.pos = start;
+        this.end = end;
+        this.depth = 0;
+        try {
+            double result = parseExpression();
+            skipWhitespace();
+            if (pos < end) {
+                throw error("Unexpected character '" + input.charAt(pos) + "'");
+            }
+            return result;
+        } finally {
+            // Do not keep large inputs (e.g., mapped files) reachable between calls
+            this.input = null;
+        }
+    }
+
+    /**
+     * Parses additions and subtractions: term (('+' | '-') term)*
+     */
+    private double parseExpression() throws EvaluationException {
+        double value = parseTerm();
+        while (true) {
+            char c = peek();
+            if (c == '+') {
+                pos++;
+                value += parseTerm();
+            } else if (c == '-') {
+                pos++;
+                value -= parseTerm();
+            } else {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Parses multiplications, divisions and remainders: unary (('*' | '/' | '%') unary)*
+     */
+    private double parseTerm() throws EvaluationException {
+        double value = parseUnary();
+        while (true) {
+            char c = peek();
+            if (c == '*') {
+                pos++;
+                value *= parseUnary();
+            } else if (c == '/') {
+                pos++;
+                value /= parseUnary();
+            } else if (c == '%') {
+                pos++;
+                value %= parseUnary();
+            } else {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Parses a signed operand: ('+' | '-') unary | primary
+     */
+    private double parseUnary() throws EvaluationException {
+        // Every nested operand passes through here; the depth is reset by evaluate() after an error
+        if (++depth > MAX_NESTING) {
+            throw error("Expression is nested too deeply");
+        }
+        char c = peek();
+        double value;
+        if (c == '-') {
+            pos++;
+            value = -parseUnary();
+        } else if (c == '+') {
+            pos++;
+            value = parseUnary();
+        } else {
+            value = parsePrimary();
+        }
+        depth--;
+        return value;
+    }
+
+    /**
+     * Parses a number literal or a parenthesized expression.
+     */
+    private double parsePrimary() throws EvaluationException {
+        char c = peek();
+        if (c == '(') {
+            pos++;
+            double value = parseExpression();
+            if (peek() != ')') {
+                throw error("Missing closing parenthesis");
+            }
+            pos++;
+            return value;
+        }
+        if ((c >= '0' && c <= '9') || c == '.') {
+            return parseNumber();
+        }
+        if (isIdentifierStart(c)) {
+            return parseIdentifier();
+        }
+        throw pos < end ? error("Unexpected character '" + c + "'") : error("Unexpected end of expression");
+    }
+
+    /**
+     * Parses a number literal at the current position.
+     * Literals with at most 15 significant digits and a small exponent are converted exactly from a long
+     * mantissa and a power of ten (no allocation); anything else falls back to Double.parseDouble.
+     */
+    private double parseNumber() throws EvaluationException {
+        int start = pos;
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean seenDigit = false;
+
+        while (pos < end && isDigit(input.charAt(pos))) {
+            seenDigit = true;
+            if (digits < 18) {
+                mantissa = mantissa * 10 + (input.charAt(pos) - '0');
+                if (mantissa != 0) {
+                    digits++;
+                }
+            } else {
+                exponent++;
+                digits++;
+            }
+            pos++;
+        }
+        if (pos < end && input.charAt(pos) == '.') {
+            pos++;
+            while (pos < end && isDigit(input.charAt(pos))) {
+                seenDigit = true;
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (input.charAt(pos) - '0');
+                    exponent--;
+                    if (mantissa != 0) {
+                        digits++;
+                    }
+                } else {
+                    digits++;
+                }
+                pos++;
+            }
+        }
+        if (!seenDigit) {
+            throw error("Invalid number");
+        }
+        if (pos < end && (input.charAt(pos) == 'e' || input.charAt(pos) == 'E')) {
+            pos++;
+            boolean negative = false;
+            if (pos < end && (input.charAt(pos) == '+' || input.charAt(pos) == '-')) {
+                negative = input.charAt(pos) == '-';
+                pos++;
+            }
+            if (pos >= end || !isDigit(input.charAt(pos))) {
+                throw error("Invalid exponent");
+            }
+            int explicitExponent = 0;
+            while (pos < end && isDigit(input.charAt(pos))) {
+                if (explicitExponent < 100_000) {
+                    explicitExponent = explicitExponent * 10 + (input.charAt(pos) - '0');
+                }
+                pos++;
+            }
+            exponent += negative ? -explicitExponent : explicitExponent;
+        }
+
+        // Fast path: both the mantissa and the power of ten are exact doubles, so one operation rounds correctly
+        if (digits <= 15 && mantissa < MAX_EXACT_MANTISSA && exponent >= -22 && exponent <= 22) {
+            return exponent >= 0 ? mantissa * POWERS_OF_TEN[exponent] : mantissa / POWERS_OF_TEN[-exponent];
+        }
+        if (mantissa == 0) {
+            return 0.0;
+        }
+        return Double.parseDouble(input.subSequence(start, pos).toString());
+    }
+
+    /**
+     * Parses a constant (Math.PI, Math.E) or a function call such as Math.pow(2, 3).
+     * Names are matched in place against the known names, so no String is created.
+     */
+    private double parseIdentifier() throws EvaluationException {
+        int start = pos;
+        while (pos < end && (isIdentifierStart(input.charAt(pos)) || isDigit(input.charAt(pos))
+                || input.charAt(pos) == '.')) {
+            pos++;
+        }
+        int length = pos - start;
+
+        if (nameEquals(start, length, "Math.PI")) {
+            return Math.PI;
+        }
+        if (nameEquals(start, length, "Math.E")) {
+            return Math.E;
+        }
+        for (int function = 0; function < FUNCTION_NAMES.length; function++) {
+            if (nameEquals(start, length, FUNCTION_NAMES[function])) {
+                return parseCall(function);
+            }
+        }
+        throw error("Unknown name '" + input.subSequence(start, pos) + "'");
+    }
+
+    /**
+     * Parses the parenthesized arguments of a function call and applies the function.
+     */
+    private double parseCall(int function) throws EvaluationException {
+        if (peek() != '(') {
+            throw error("Expected '(' after function name");
+        }
+        pos++;
+        double first = parseExpression();
+        double second = 0;
+        if (function == POW_FUNCTION) {
+            if (peek() != ',') {
+                throw error("Expected ',' between function arguments");
+            }
+            pos++;
+            second = parseExpression();
+        }
+        if (peek() != ')') {
+            throw error("Missing closing parenthesis");
+        }
+        pos++;
+        return applyFunction(function, first, second);
+    }
+
+    private static double applyFunction(int function, double a, double b) {
+        return switch (function) {
+            case 0 -> Math.sqrt(a);
+            case 1 -> Math.cbrt(a);
+            case 2 -> Math.abs(a);
+            case 3 -> Math.exp(a);
+            case 4 -> Math.log(a);
+            case 5 -> Math.log10(a);
+            case 6 -> Math.sin(a);
+            case 7 -> Math.cos(a);
+            case 8 -> Math.tan(a);
+            case 9 -> Math.floor(a);
+            case 10 -> Math.ceil(a);
+            case POW_FUNCTION -> Math.pow(a, b);
+            default -> throw new IllegalArgumentException("Unknown function index: " + function);
+        };
+    }
+
+    private boolean nameEquals(int start, int length, String name) {
+        if (length != name.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (input.charAt(start + i) != name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+    }
+
+    /**
+     * Skips whitespace and returns the next character without consuming it, or 0 at the end of input.
+     */
+    private char peek() {
+        skipWhitespace();
+        return pos < end ? input.charAt(pos) : 0;
+    }
+
+    private void skipWhitespace() {
+        while (pos < end && Character.isWhitespace(input.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private EvaluationException error(String message) {
+        return new EvaluationException(message + " at position " + pos);
+    }
+}
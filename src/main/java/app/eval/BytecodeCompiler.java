@@ -0,0 +1,324 @@
+package app.eval;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * BytecodeCompiler compiles an Expr tree into JVM bytecode: a hidden class implementing CompiledExpression whose
+ * evaluate method is the whole expression as straight-line code (constants in the constant pool, variables read
+ * with daload, functions as invokestatic calls to java.lang.Math). The JIT then compiles and inlines it like
+ * hand-written Java, instead of calling through one lambda per tree node.
+ *
+ * Classes are defined with {@link MethodHandles.Lookup#defineHiddenClass}, so they are not visible by name and are
+ * unloaded once the compiled expression is no longer referenced. The class file is written directly (no bytecode
+ * library is needed for straight-line code: there are no branches, so no stack map frames).
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+final class BytecodeCompiler {
+
+    /**
+     * Largest code size of a method in bytes, a limit of the class file format.
+     */
+    private static final int MAX_CODE_LENGTH = 65_535;
+
+    private static final int CLASS_FILE_VERSION = 61; // Java 17
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String MATH = "java/lang/Math";
+    private static final String COMPILER = "app/eval/BytecodeCompiler";
+
+    // Opcodes used by the generated code
+    private static final int ICONST_0 = 0x03;
+    private static final int DCONST_0 = 0x0e;
+    private static final int DCONST_1 = 0x0f;
+    private static final int BIPUSH = 0x10;
+    private static final int SIPUSH = 0x11;
+    private static final int LDC2_W = 0x14;
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int DALOAD = 0x31;
+    private static final int DADD = 0x63;
+    private static final int DSUB = 0x67;
+    private static final int DMUL = 0x6b;
+    private static final int DDIV = 0x6f;
+    private static final int DREM = 0x73;
+    private static final int DNEG = 0x77;
+    private static final int DRETURN = 0xaf;
+    private static final int RETURN = 0xb1;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private BytecodeCompiler() {
+    }
+
+    /**
+     * Compiles an expression tree into a new hidden class and returns an instance of it.
+     *
+     * @param expr The expression tree, with variables resolved to slots
+     * @return The compiled expression
+     * @throws IllegalArgumentException if the expression is too large for one method
+     */
+    static CompiledExpression compile(Expr expr) {
+        byte[] classFile = new ClassFileWriter().write(ExpressionCompiler.fold(expr));
+        try {
+            MethodHandles.Lookup hidden = LOOKUP.defineHiddenClass(classFile, true);
+            return (CompiledExpression) hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class)).invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not define compiled expression class: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Math.round as a double, called by generated code (Math.round itself returns a long).
+     */
+    static double round(double value) {
+        return Math.round(value);
+    }
+
+    /**
+     * Writes the class file of one compiled expression.
+     */
+    private static final class ClassFileWriter {
+
+        private final ByteArrayOutputStream constants = new ByteArrayOutputStream();
+        private final Map<String, Integer> constantIndexes = new HashMap<>();
+        private int constantCount = 1;
+
+        private final ByteArrayOutputStream code = new ByteArrayOutputStream();
+        private int stack;
+        private int maxStack;
+
+        byte[] write(Expr expr) {
+            emit(expr);
+            code.write(DRETURN);
+            if (code.size() > MAX_CODE_LENGTH) {
+                throw new IllegalArgumentException("Expression is too large to compile: " + code.size() + " bytes of code");
+            }
+
+            int thisClass = classConstant("app/eval/CompiledExpression$Bytecode");
+            int superClass = classConstant(OBJECT);
+            int interfaceClass = classConstant("app/eval/CompiledExpression");
+            int objectInit = methodConstant(OBJECT, "<init>", "()V");
+            int initName = utf8("<init>");
+            int initType = utf8("()V");
+            int evaluateName = utf8("evaluate");
+            int evaluateType = utf8("([D)D");
+            int codeName = utf8("Code");
+            if (constantCount > 0xffff) {
+                throw new IllegalArgumentException("Expression has too many constants to compile");
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(64 + constants.size() + code.size());
+            writeInt(out, 0xcafebabe);
+            writeShort(out, 0);
+            writeShort(out, CLASS_FILE_VERSION);
+            writeShort(out, constantCount);
+            out.writeBytes(constants.toByteArray());
+            writeShort(out, 0x0001 | 0x0010 | 0x0020); // public final super
+            writeShort(out, thisClass);
+            writeShort(out, superClass);
+            writeShort(out, 1);
+            writeShort(out, interfaceClass);
+            writeShort(out, 0); // fields
+            writeShort(out, 2); // methods
+
+            // public <init>() { super(); }
+            byte[] initCode = { (byte) ALOAD_0, (byte) INVOKESPECIAL, (byte) (objectInit >> 8), (byte) objectInit, (byte) RETURN };
+            writeMethod(out, initName, initType, codeName, 1, 1, initCode);
+
+            // public double evaluate(double[] variables) { return <expr>; }
+            writeMethod(out, evaluateName, evaluateType, codeName, maxStack, 2, code.toByteArray());
+
+            writeShort(out, 0); // attributes
+            return out.toByteArray();
+        }
+
+        /**
+         * Emits code that pushes the value of the expression.
+         */
+        private void emit(Expr expr) {
+            if (expr instanceof Expr.Constant constant) {
+                emitConstant(constant.value());
+            } else if (expr instanceof Expr.Variable variable) {
+                code.write(ALOAD_1);
+                push(1);
+                emitInt(variable.slot());
+                code.write(DALOAD);
+                pop(2);
+                push(2);
+            } else if (expr instanceof Expr.Negate negate) {
+                emit(negate.operand());
+                code.write(DNEG);
+            } else if (expr instanceof Expr.Binary binary) {
+                emit(binary.left());
+                emit(binary.right());
+                emitOperator(binary.operator());
+                pop(2);
+            } else if (expr instanceof Expr.Parameter parameter) {
+                throw new IllegalArgumentException("Parameter '" + parameter.name() + "' is not bound to an argument");
+            } else {
+                Expr.Call call = (Expr.Call) expr;
+                for (Expr argument : call.arguments()) {
+                    emit(argument);
+                }
+                emitCall(call.function());
+                pop(2 * (call.arguments().size() - 1));
+            }
+        }
+
+        private void emitConstant(double value) {
+            if (Double.doubleToRawLongBits(value) == 0L) {
+                code.write(DCONST_0);
+            } else if (value == 1.0) {
+                code.write(DCONST_1);
+            } else {
+                writeInstruction(LDC2_W, doubleConstant(value));
+            }
+            push(2);
+        }
+
+        private void emitInt(int value) {
+            if (value <= 5) {
+                code.write(ICONST_0 + value);
+            } else if (value <= Byte.MAX_VALUE) {
+                code.write(BIPUSH);
+                code.write(value);
+            } else if (value > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("Variable slot is too large to compile: " + value);
+            } else {
+                writeInstruction(SIPUSH, value);
+            }
+            push(1);
+        }
+
+        private void emitOperator(Expr.Operator operator) {
+            switch (operator) {
+                case ADD -> code.write(DADD);
+                case SUBTRACT -> code.write(DSUB);
+                case MULTIPLY -> code.write(DMUL);
+                case DIVIDE -> code.write(DDIV);
+                case REMAINDER -> code.write(DREM);
+                case POWER -> writeInstruction(INVOKESTATIC, methodConstant(MATH, "pow", "(DD)D"));
+            }
+        }
+
+        private void emitCall(MathFunction function) {
+            String descriptor = function.arity() == 1 ? "(D)D" : "(DD)D";
+            int method = switch (function) {
+                case LN -> methodConstant(MATH, "log", descriptor);
+                case ROUND -> methodConstant(COMPILER, "round", descriptor);
+                default -> methodConstant(MATH, function.functionName(), descriptor);
+            };
+            writeInstruction(INVOKESTATIC, method);
+        }
+
+        private void push(int slots) {
+            stack += slots;
+            maxStack = Math.max(maxStack, stack);
+        }
+
+        private void pop(int slots) {
+            stack -= slots;
+        }
+
+        private void writeInstruction(int opcode, int operand) {
+            code.write(opcode);
+            code.write(operand >> 8);
+            code.write(operand);
+        }
+
+        // Constant pool entries are shared by key, so each name or value is stored once
+
+        private int utf8(String value) {
+            return constant("U" + value, () -> {
+                constants.write(1);
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeShort(constants, bytes.length);
+                constants.writeBytes(bytes);
+            }, 1);
+        }
+
+        private int classConstant(String internalName) {
+            int name = utf8(internalName);
+            return constant("C" + internalName, () -> {
+                constants.write(7);
+                writeShort(constants, name);
+            }, 1);
+        }
+
+        private int methodConstant(String owner, String name, String descriptor) {
+            int ownerClass = classConstant(owner);
+            int methodName = utf8(name);
+            int methodType = utf8(descriptor);
+            int nameAndType = constant("N" + name + descriptor, () -> {
+                constants.write(12);
+                writeShort(constants, methodName);
+                writeShort(constants, methodType);
+            }, 1);
+            return constant("M" + owner + "." + name + descriptor, () -> {
+                constants.write(10);
+                writeShort(constants, ownerClass);
+                writeShort(constants, nameAndType);
+            }, 1);
+        }
+
+        private int doubleConstant(double value) {
+            long bits = Double.doubleToRawLongBits(value);
+            return constant("D" + bits, () -> {
+                constants.write(6);
+                writeInt(constants, (int) (bits >>> 32));
+                writeInt(constants, (int) bits);
+            }, 2);
+        }
+
+        /**
+         * Returns the index of a constant, writing it first if it is new. Doubles take two entries.
+         */
+        private int constant(String key, Runnable writer, int entries) {
+            Integer index = constantIndexes.get(key);
+            if (index != null) {
+                return index;
+            }
+            writer.run();
+            int newIndex = constantCount;
+            constantCount += entries;
+            constantIndexes.put(key, newIndex);
+            return newIndex;
+        }
+
+        private static void writeMethod(ByteArrayOutputStream out, int name, int descriptor, int codeName,
+                                        int maxStack, int maxLocals, byte[] code) {
+            writeShort(out, 0x0001); // public
+            writeShort(out, name);
+            writeShort(out, descriptor);
+            writeShort(out, 1); // attributes: Code
+            writeShort(out, codeName);
+            writeInt(out, 12 + code.length);
+            writeShort(out, maxStack);
+            writeShort(out, maxLocals);
+            writeInt(out, code.length);
+            out.writeBytes(code);
+            writeShort(out, 0); // exception table
+            writeShort(out, 0); // attributes
+        }
+
+        private static void writeShort(ByteArrayOutputStream out, int value) {
+            out.write(value >> 8);
+            out.write(value);
+        }
+
+        private static void writeInt(ByteArrayOutputStream out, int value) {
+            writeShort(out, value >>> 16);
+            writeShort(out, value & 0xffff);
+        }
+    }
+}
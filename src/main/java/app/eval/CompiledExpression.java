@@ -0,0 +1,22 @@
+package app.eval;
+
+/**
+ * CompiledExpression is an expression that was parsed and compiled once and can then be evaluated many times,
+ * e.g., for every sample point of a graph. Implementations are stateless and safe to call from multiple threads,
+ * as long as each thread passes its own variables array.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+@FunctionalInterface
+public interface CompiledExpression {
+
+    /**
+     * Evaluates the expression.
+     *
+     * @param variables The variable values, indexed by the slots assigned when the expression was parsed
+     * @return The result
+     */
+    double evaluate(double[] variables);
+}
@@ -0,0 +1,68 @@
+package app.eval;
+
+import java.util.ServiceLoader;
+
+import app.log.Log;
+
+/**
+ * Evaluators selects the expression evaluator used by the calculator.
+ * Providers are discovered once with ServiceLoader. The provider named by the {@code calculator.evaluator}
+ * system property is used if present; otherwise the available provider with the highest priority wins.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public final class Evaluators {
+
+    /**
+     * System property for selecting an evaluator by provider name (e.g., -Dcalculator.evaluator=java).
+     */
+    public static final String EVALUATOR_PROPERTY = "calculator.evaluator";
+
+    private Evaluators() {
+    }
+
+    /**
+     * Creates a new evaluator from the selected provider.
+     *
+     * @return A new evaluator, confined to the calling thread
+     * @throws EvaluationException if the selected evaluator cannot be created
+     */
+    public static ExpressionEvaluator create() throws EvaluationException {
+        return Holder.PROVIDER.create();
+    }
+
+    /**
+     * Returns the provider that {@link #create()} uses.
+     *
+     * @return The selected provider
+     */
+    public static EvaluatorProvider provider() {
+        return Holder.PROVIDER;
+    }
+
+    /**
+     * Looks up the provider lazily and only once, on first use.
+     */
+    private static final class Holder {
+        private static final EvaluatorProvider PROVIDER = selectProvider();
+    }
+
+    private static EvaluatorProvider selectProvider() {
+        String requested = System.getProperty(EVALUATOR_PROPERTY);
+        EvaluatorProvider best = new JavaEvaluatorProvider();
+        for (EvaluatorProvider provider : ServiceLoader.load(EvaluatorProvider.class)) {
+            if (provider.name().equals(requested)) {
+                return provider;
+            }
+            if (provider.priority() > best.priority()) {
+                best = provider;
+            }
+        }
+        if (requested != null) {
+            Log.warn("Evaluator '%s' not found, using %s", requested, best.name());
+        }
+        return best;
+    }
+}
@@ -0,0 +1,106 @@
+package app.eval;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Expr is the syntax tree of an expression parsed by ExpressionCompiler.
+ * Variables are resolved to slots in the variables array at parse time, so evaluating a compiled tree
+ * never looks anything up by name.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public sealed interface Expr {
+
+    /**
+     * A number literal or named constant.
+     */
+    record Constant(double value) implements Expr {
+    }
+
+    /**
+     * A variable, read from its slot in the variables array.
+     */
+    record Variable(String name, int slot) implements Expr {
+    }
+
+    /**
+     * A parameter of a user-defined function. Only appears in function bodies, which are inlined with the
+     * arguments in place of the parameters (see {@link #substitute}), so compiled expressions never contain one.
+     */
+    record Parameter(String name, int index) implements Expr {
+    }
+
+    /**
+     * Unary minus.
+     */
+    record Negate(Expr operand) implements Expr {
+    }
+
+    /**
+     * A binary operation.
+     */
+    record Binary(Operator operator, Expr left, Expr right) implements Expr {
+    }
+
+    /**
+     * A call of a built-in function.
+     */
+    record Call(MathFunction function, List<Expr> arguments) implements Expr {
+    }
+
+    /**
+     * Returns the expression with every parameter replaced by the argument at its index.
+     *
+     * @param expr The function body
+     * @param arguments The arguments of the call
+     * @return The inlined expression
+     */
+    static Expr substitute(Expr expr, List<Expr> arguments) {
+        if (expr instanceof Parameter parameter) {
+            return arguments.get(parameter.index());
+        }
+        if (expr instanceof Negate negate) {
+            return new Negate(substitute(negate.operand(), arguments));
+        }
+        if (expr instanceof Binary binary) {
+            return new Binary(binary.operator(), substitute(binary.left(), arguments), substitute(binary.right(), arguments));
+        }
+        if (expr instanceof Call call) {
+            List<Expr> substituted = new ArrayList<>(call.arguments().size());
+            for (Expr argument : call.arguments()) {
+                substituted.add(substitute(argument, arguments));
+            }
+            return new Call(call.function(), List.copyOf(substituted));
+        }
+        return expr;
+    }
+
+    /**
+     * Binary operators, with JavaScript semantics (% is the remainder).
+     */
+    enum Operator {
+        ADD,
+        SUBTRACT,
+        MULTIPLY,
+        DIVIDE,
+        REMAINDER,
+        POWER;
+
+        /**
+         * Applies the operator.
+         */
+        public double apply(double left, double right) {
+            return switch (this) {
+                case ADD -> left + right;
+                case SUBTRACT -> left - right;
+                case MULTIPLY -> left * right;
+                case DIVIDE -> left / right;
+                case REMAINDER -> left % right;
+                case POWER -> Math.pow(left, right);
+            };
+        }
+    }
+}
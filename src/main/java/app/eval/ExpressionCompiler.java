@@ -0,0 +1,448 @@
+package app.eval;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * ExpressionCompiler parses a formula such as {@code sin(x) * x^2} once into an Expr tree and compiles the tree
+ * into a CompiledExpression, so it can be evaluated millions of times without parsing (e.g., to plot a function).
+ *
+ * The syntax is that of the calculator plus what is convenient for formulas: + - * / % with the usual precedence,
+ * ^ (or **) for powers (right-associative, binding tighter than unary minus, so -x^2 is -(x^2)), parentheses, the
+ * functions in MathFunction with or without a "Math." prefix, the constants pi and e, and the variables and user-defined functions given to parse().
+ *
+ * The compiled form is a tree of small lambdas, one per node, with constant subtrees folded at compile time.
+ * Formulas compiled with {@link #compile(String, String...)} start out on that tree and switch to bytecode
+ * (see BytecodeCompiler) once they have been evaluated often enough. Parsing state is kept in fields, so an instance is NOT thread-safe; the compiled expressions are.
+ *
+ * Parsing, folding, compiling and evaluating recurse, so a formula is rejected with an EvaluationException rather
+ * than overflowing the stack when its nesting (parentheses, signs, powers, function arguments) or the depth of its
+ * tree (e.g., a sum of thousands of terms) exceeds {@link ArithmeticParser#MAX_NESTING}.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class ExpressionCompiler {
+
+    private String input;
+    private int pos;
+    private SymbolResolver resolver;
+
+    /**
+     * Nesting depth of the operand being parsed.
+     */
+    private int nesting;
+
+    /**
+     * Parses and compiles a formula. The result is interpreted at first and compiled to bytecode after the
+     * number of calls set by the calculator.compileThreshold system property (2000 by default).
+     *
+     * @param source The formula (e.g., "sin(x) * x^2")
+     * @param variables The variable names; variable i is read from slot i of the variables array
+     * @return The compiled expression
+     * @throws EvaluationException if the formula is not valid
+     */
+    public static CompiledExpression compile(String source, String... variables) throws EvaluationException {
+        ExpressionCompiler compiler = new ExpressionCompiler();
+        Expr expr = fold(compiler.parse(source, List.of(variables)));
+        return new TieredExpression(expr, compiler.compile(expr));
+    }
+
+    /**
+     * Compiles a syntax tree straight to bytecode, skipping the interpreted tier.
+     *
+     * @param expr The syntax tree
+     * @return The compiled expression
+     * @throws IllegalArgumentException if the expression is too large to compile to one method
+     */
+    public static CompiledExpression compileToBytecode(Expr expr) {
+        return BytecodeCompiler.compile(expr);
+    }
+
+    /**
+     * Parses a formula into a syntax tree.
+     *
+     * @param source The formula
+     * @param variableNames The variable names; variable i is assigned slot i
+     * @return The syntax tree
+     * @throws EvaluationException if the formula is not valid
+     */
+    public Expr parse(String source, List<String> variableNames) throws EvaluationException {
+        return parse(source, name -> {
+            int slot = variableNames.indexOf(name);
+            return slot >= 0 ? new Expr.Variable(name, slot) : null;
+        });
+    }
+
+    /**
+     * Parses a formula into a syntax tree, resolving variables and user-defined functions with the given resolver.
+     *
+     * @param source The formula
+     * @param symbols Resolves the names that are not built in; variables take precedence over built-in names
+     * @return The syntax tree
+     * @throws EvaluationException if the formula is not valid
+     */
+    public Expr parse(String source, SymbolResolver symbols) throws EvaluationException {
+        this.input = source;
+        this.pos = 0;
+        this.resolver = symbols;
+        this.nesting = 0;
+        try {
+            Expr expr = parseExpression();
+            skipWhitespace();
+            if (pos < input.length()) {
+                throw error("Unexpected character '" + input.charAt(pos) + "'");
+            }
+            if (depth(expr) > ArithmeticParser.MAX_NESTING) {
+                throw new EvaluationException("Expression is too long: more than " + ArithmeticParser.MAX_NESTING
+                        + " operations deep");
+            }
+            return expr;
+        } finally {
+            this.input = null;
+            this.resolver = null;
+        }
+    }
+
+    /**
+     * Compiles a syntax tree into an expression that can be evaluated without interpreting the tree.
+     *
+     * @param expr The syntax tree
+     * @return The compiled expression
+     */
+    public CompiledExpression compile(Expr expr) {
+        Expr folded = fold(expr);
+        if (folded instanceof Expr.Constant constant) {
+            double value = constant.value();
+            return variables -> value;
+        }
+        if (folded instanceof Expr.Variable variable) {
+            int slot = variable.slot();
+            return variables -> variables[slot];
+        }
+        if (folded instanceof Expr.Negate negate) {
+            CompiledExpression operand = compile(negate.operand());
+            return variables -> -operand.evaluate(variables);
+        }
+        if (folded instanceof Expr.Binary binary) {
+            return compileBinary(binary.operator(), compile(binary.left()), compile(binary.right()));
+        }
+        if (folded instanceof Expr.Parameter parameter) {
+            throw new IllegalArgumentException("Parameter '" + parameter.name() + "' is not bound to an argument");
+        }
+        Expr.Call call = (Expr.Call) folded;
+        MathFunction function = call.function();
+        CompiledExpression first = compile(call.arguments().get(0));
+        if (function.arity() == 1) {
+            return variables -> function.apply(first.evaluate(variables));
+        }
+        CompiledExpression second = compile(call.arguments().get(1));
+        return variables -> function.apply(first.evaluate(variables), second.evaluate(variables));
+    }
+
+    /**
+     * Returns a lambda specialized for the operator, so evaluation does not switch on it.
+     */
+    private static CompiledExpression compileBinary(Expr.Operator operator, CompiledExpression left, CompiledExpression right) {
+        return switch (operator) {
+            case ADD -> variables -> left.evaluate(variables) + right.evaluate(variables);
+            case SUBTRACT -> variables -> left.evaluate(variables) - right.evaluate(variables);
+            case MULTIPLY -> variables -> left.evaluate(variables) * right.evaluate(variables);
+            case DIVIDE -> variables -> left.evaluate(variables) / right.evaluate(variables);
+            case REMAINDER -> variables -> left.evaluate(variables) % right.evaluate(variables);
+            case POWER -> variables -> Math.pow(left.evaluate(variables), right.evaluate(variables));
+        };
+    }
+
+    /**
+     * Replaces every subtree without variables by its value.
+     */
+    static Expr fold(Expr expr) {
+        if (expr instanceof Expr.Negate negate) {
+            Expr operand = fold(negate.operand());
+            return operand instanceof Expr.Constant constant ? new Expr.Constant(-constant.value()) : new Expr.Negate(operand);
+        }
+        if (expr instanceof Expr.Binary binary) {
+            Expr left = fold(binary.left());
+            Expr right = fold(binary.right());
+            if (left instanceof Expr.Constant l && right instanceof Expr.Constant r) {
+                return new Expr.Constant(binary.operator().apply(l.value(), r.value()));
+            }
+            return new Expr.Binary(binary.operator(), left, right);
+        }
+        if (expr instanceof Expr.Call call) {
+            List<Expr> arguments = new ArrayList<>(call.arguments().size());
+            boolean constant = true;
+            for (Expr argument : call.arguments()) {
+                Expr folded = fold(argument);
+                constant &= folded instanceof Expr.Constant;
+                arguments.add(folded);
+            }
+            if (constant) {
+                double first = ((Expr.Constant) arguments.get(0)).value();
+                return new Expr.Constant(call.function().arity() == 1 ? call.function().apply(first)
+                        : call.function().apply(first, ((Expr.Constant) arguments.get(1)).value()));
+            }
+            return new Expr.Call(call.function(), List.copyOf(arguments));
+        }
+        return expr;
+    }
+
+    /**
+     * Returns the depth of a tree in operations from the root to the deepest leaf, walking it with an explicit stack
+     * so a tree of any depth can be measured.
+     */
+    static int depth(Expr expr) {
+        int max = 0;
+        Deque<Expr> nodes = new ArrayDeque<>();
+        Deque<Integer> depths = new ArrayDeque<>();
+        nodes.push(expr);
+        depths.push(0);
+        while (!nodes.isEmpty()) {
+            Expr node = nodes.pop();
+            int depth = depths.pop();
+            max = Math.max(max, depth);
+            if (node instanceof Expr.Negate negate) {
+                nodes.push(negate.operand());
+                depths.push(depth + 1);
+            } else if (node instanceof Expr.Binary binary) {
+                nodes.push(binary.left());
+                depths.push(depth + 1);
+                nodes.push(binary.right());
+                depths.push(depth + 1);
+            } else if (node instanceof Expr.Call call) {
+                for (Expr argument : call.arguments()) {
+                    nodes.push(argument);
+                    depths.push(depth + 1);
+                }
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Parses additions and subtractions: term (('+' | '-') term)*
+     */
+    private Expr parseExpression() throws EvaluationException {
+        Expr expr = parseTerm();
+        while (true) {
+            char c = peek();
+            if (c == '+') {
+                pos++;
+                expr = new Expr.Binary(Expr.Operator.ADD, expr, parseTerm());
+            } else if (c == '-') {
+                pos++;
+                expr = new Expr.Binary(Expr.Operator.SUBTRACT, expr, parseTerm());
+            } else {
+                return expr;
+            }
+        }
+    }
+
+    /**
+     * Parses multiplications, divisions and remainders: unary (('*' | '/' | '%') unary)*
+     */
+    private Expr parseTerm() throws EvaluationException {
+        Expr expr = parseUnary();
+        while (true) {
+            char c = peek();
+            if (c == '*' && !lookingAt("**")) {
+                pos++;
+                expr = new Expr.Binary(Expr.Operator.MULTIPLY, expr, parseUnary());
+            } else if (c == '/') {
+                pos++;
+                expr = new Expr.Binary(Expr.Operator.DIVIDE, expr, parseUnary());
+            } else if (c == '%') {
+                pos++;
+                expr = new Expr.Binary(Expr.Operator.REMAINDER, expr, parseUnary());
+            } else {
+                return expr;
+            }
+        }
+    }
+
+    /**
+     * Parses a signed operand: ('+' | '-') unary | power
+     */
+    private Expr parseUnary() throws EvaluationException {
+        // Every nested operand passes through here; the nesting is reset by parse() after an error
+        if (++nesting > ArithmeticParser.MAX_NESTING) {
+            throw error("Expression is nested too deeply");
+        }
+        char c = peek();
+        Expr expr;
+        if (c == '-') {
+            pos++;
+            expr = new Expr.Negate(parseUnary());
+        } else if (c == '+') {
+            pos++;
+            expr = parseUnary();
+        } else {
+            expr = parsePower();
+        }
+        nesting--;
+        return expr;
+    }
+
+    /**
+     * Parses powers: primary (('^' | '**') unary)?, which makes ^ right-associative.
+     */
+    private Expr parsePower() throws EvaluationException {
+        Expr base = parsePrimary();
+        if (peek() == '^') {
+            pos++;
+            return new Expr.Binary(Expr.Operator.POWER, base, parseUnary());
+        }
+        if (lookingAt("**")) {
+            pos += 2;
+            return new Expr.Binary(Expr.Operator.POWER, base, parseUnary());
+        }
+        return base;
+    }
+
+    /**
+     * Parses a number, a parenthesized expression, a name or a function call.
+     */
+    private Expr parsePrimary() throws EvaluationException {
+        char c = peek();
+        if (c == '(') {
+            pos++;
+            Expr expr = parseExpression();
+            expect(')', "Missing closing parenthesis");
+            return expr;
+        }
+        if ((c >= '0' && c <= '9') || c == '.') {
+            return parseNumber();
+        }
+        if (Character.isLetter(c) || c == '_') {
+            return parseName();
+        }
+        throw pos < input.length() ? error("Unexpected character '" + c + "'") : error("Unexpected end of expression");
+    }
+
+    private Expr parseNumber() throws EvaluationException {
+        int start = pos;
+        while (pos < input.length() && (Character.isDigit(input.charAt(pos)) || input.charAt(pos) == '.')) {
+            pos++;
+        }
+        if (pos < input.length() && (input.charAt(pos) == 'e' || input.charAt(pos) == 'E')) {
+            int exponentStart = pos++;
+            if (pos < input.length() && (input.charAt(pos) == '+' || input.charAt(pos) == '-')) {
+                pos++;
+            }
+            if (pos < input.length() && Character.isDigit(input.charAt(pos))) {
+                while (pos < input.length() && Character.isDigit(input.charAt(pos))) {
+                    pos++;
+                }
+            } else {
+                // Not an exponent: leave the 'e' to be reported as unexpected
+                pos = exponentStart;
+            }
+        }
+        try {
+            return new Expr.Constant(Double.parseDouble(input.substring(start, pos)));
+        } catch (NumberFormatException e) {
+            pos = start;
+            throw error("Invalid number");
+        }
+    }
+
+    private Expr parseName() throws EvaluationException {
+        int start = pos;
+        while (pos < input.length() && (Character.isLetterOrDigit(input.charAt(pos))
+                || input.charAt(pos) == '_' || input.charAt(pos) == '.')) {
+            pos++;
+        }
+        String name = input.substring(start, pos);
+
+        Expr variable = resolver.variable(name);
+        if (variable != null) {
+            return variable;
+        }
+        switch (name) {
+            case "pi", "PI", "Math.PI" -> {
+                return new Expr.Constant(Math.PI);
+            }
+            case "e", "Math.E" -> {
+                return new Expr.Constant(Math.E);
+            }
+            default -> {
+            }
+        }
+        MathFunction function = MathFunction.byName(name);
+        if (function != null) {
+            return parseCall(function);
+        }
+        int arity = resolver.arity(name);
+        if (arity >= 0) {
+            return parseUserCall(name, arity);
+        }
+        pos = start;
+        throw error("Unknown name '" + name + "'");
+    }
+
+    private Expr parseCall(MathFunction function) throws EvaluationException {
+        expect('(', "Expected '(' after " + function.functionName());
+        List<Expr> arguments = new ArrayList<>(function.arity());
+        arguments.add(parseExpression());
+        for (int i = 1; i < function.arity(); i++) {
+            expect(',', function.functionName() + " takes " + function.arity() + " arguments");
+            arguments.add(parseExpression());
+        }
+        expect(')', "Missing closing parenthesis");
+        return new Expr.Call(function, List.copyOf(arguments));
+    }
+
+    /**
+     * Parses the arguments of a user-defined function and inlines the call.
+     */
+    private Expr parseUserCall(String name, int arity) throws EvaluationException {
+        expect('(', "Expected '(' after " + name);
+        List<Expr> arguments = new ArrayList<>(arity);
+        if (peek() != ')') {
+            arguments.add(parseExpression());
+            while (peek() == ',') {
+                pos++;
+                arguments.add(parseExpression());
+            }
+        }
+        expect(')', "Missing closing parenthesis");
+        if (arguments.size() != arity) {
+            throw error(name + " takes " + arity + (arity == 1 ? " argument" : " arguments"));
+        }
+        return resolver.call(name, List.copyOf(arguments));
+    }
+
+    private void expect(char c, String message) throws EvaluationException {
+        if (peek() != c) {
+            throw error(message);
+        }
+        pos++;
+    }
+
+    private boolean lookingAt(String text) {
+        skipWhitespace();
+        return input.startsWith(text, pos);
+    }
+
+    /**
+     * Skips whitespace and returns the next character, or 0 at the end of the input.
+     */
+    private char peek() {
+        skipWhitespace();
+        return pos < input.length() ? input.charAt(pos) : 0;
+    }
+
+    private void skipWhitespace() {
+        while (pos < input.length() && Character.isWhitespace(input.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private EvaluationException error(String message) {
+        return new EvaluationException(message + " at position " + pos);
+    }
+}
@@ -0,0 +1,138 @@
+package app.eval;
+
+/**
+ * ExpressionNormalizer turns an expression typed as on the calculator's keys into the expression the calculator
+ * evaluates when = is pressed, so tools outside the GUI get the same results:
+ * a number followed by % (and not by an operand, which makes % the remainder) is a percentage, replaced by its
+ * decimal value formatted for the display as the percent key does; a trailing operator is dropped; open parentheses
+ * are closed; and double signs such as "--" are simplified.
+ * Instances are NOT thread-safe because the formatter is not; use one per thread.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class ExpressionNormalizer {
+
+    private final ResultFormatter formatter;
+    private final StringBuilder builder = new StringBuilder();
+
+    /**
+     * Creates a normalizer that formats percentages with the given formatter.
+     *
+     * @param formatter The formatter, confined to the same thread as this normalizer
+     */
+    public ExpressionNormalizer(ResultFormatter formatter) {
+        this.formatter = formatter;
+    }
+
+    /**
+     * Simplifies double signs that the evaluator would reject: "--" becomes "+", and "+-" and "-+" become "-".
+     *
+     * @param expression The expression
+     * @return The simplified expression
+     */
+    public static String normalizeSigns(String expression) {
+        // Replace double negatives with a plus
+        String normalized = expression.replaceAll("--", "+");
+
+        // Replace combinations like "+-" or "-+" with a single minus
+        normalized = normalized.replaceAll("\\+-", "-");
+        normalized = normalized.replaceAll("-\\+", "-");
+        return normalized;
+    }
+
+    /**
+     * Returns the expression that pressing = evaluates for a typed expression.
+     *
+     * @param typed The expression as typed, e.g., "200 * 15%" or "(1 + 2"
+     * @return The expression to evaluate, e.g., "200 * 0.15" or "(1 + 2)"
+     */
+    public String normalize(String typed) {
+        builder.setLength(0);
+        int open = 0;
+        int length = typed.length();
+        for (int i = 0; i < length; i++) {
+            char c = typed.charAt(i);
+            if (isNumberStart(typed, i)) {
+                int end = numberEnd(typed, i);
+                if (end < length && typed.charAt(end) == '%' && !operandFollows(typed, end + 1)) {
+                    double percent = Double.parseDouble(typed.substring(i, end));
+                    builder.append(formatter.format(percent / 100.0));
+                    i = end;
+                } else {
+                    builder.append(typed, i, end);
+                    i = end - 1;
+                }
+                continue;
+            }
+            if (c == '(') {
+                open++;
+            } else if (c == ')') {
+                open--;
+            }
+            builder.append(c);
+        }
+
+        // Drop a trailing operator, as = does
+        int last = builder.length() - 1;
+        while (last >= 0 && Character.isWhitespace(builder.charAt(last))) {
+            last--;
+        }
+        if (last >= 0 && "+-*/".indexOf(builder.charAt(last)) >= 0) {
+            builder.setLength(last);
+        }
+        for (; open > 0; open--) {
+            builder.append(')');
+        }
+        return normalizeSigns(builder.toString());
+    }
+
+    /**
+     * Returns true if a number starts at the index: a digit, or a point followed by a digit, that is not part of a
+     * name such as log10.
+     */
+    private static boolean isNumberStart(String text, int index) {
+        char c = text.charAt(index);
+        boolean digit = c >= '0' && c <= '9'
+                || c == '.' && index + 1 < text.length() && Character.isDigit(text.charAt(index + 1));
+        return digit && (index == 0 || !Character.isLetterOrDigit(text.charAt(index - 1)) && text.charAt(index - 1) != '.');
+    }
+
+    /**
+     * Returns the end of the number starting at the index, including a fraction and an exponent such as E-7.
+     */
+    private static int numberEnd(String text, int index) {
+        int end = index;
+        while (end < text.length() && (Character.isDigit(text.charAt(end)) || text.charAt(end) == '.')) {
+            end++;
+        }
+        if (end < text.length() && (text.charAt(end) == 'E' || text.charAt(end) == 'e')) {
+            int exponent = end + 1;
+            if (exponent < text.length() && (text.charAt(exponent) == '-' || text.charAt(exponent) == '+')) {
+                exponent++;
+            }
+            if (exponent < text.length() && Character.isDigit(text.charAt(exponent))) {
+                end = exponent;
+                while (end < text.length() && Character.isDigit(text.charAt(end))) {
+                    end++;
+                }
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Returns true if an operand starts at the index, after any spaces, which makes a preceding % the remainder.
+     */
+    private static boolean operandFollows(String text, int index) {
+        while (index < text.length() && Character.isWhitespace(text.charAt(index))) {
+            index++;
+        }
+        if (index >= text.length()) {
+            return false;
+        }
+        char c = text.charAt(index);
+        return Character.isLetterOrDigit(c) || c == '.' || c == '(';
+    }
+}
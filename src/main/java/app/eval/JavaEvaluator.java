@@ -0,0 +1,29 @@
+package app.eval;
+
+/**
+ * JavaEvaluator is the default, lightweight evaluator. It evaluates the calculator's expressions
+ * (arithmetic plus the Math functions the calculator generates) in plain Java with {@link ArithmeticParser},
+ * so no JavaScript engine has to be shipped or class-loaded.
+ * Like the parser it wraps, an instance is NOT thread-safe.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class JavaEvaluator implements ExpressionEvaluator {
+
+    /**
+     * Parser reused for every evaluation.
+     */
+    private final ArithmeticParser parser = new ArithmeticParser();
+
+    @Override
+    public double evaluate(String expression) throws EvaluationException {
+        return parser.evaluate(expression);
+    }
+
+    @Override
+    public String name() {
+        return "java";
+    }
+}
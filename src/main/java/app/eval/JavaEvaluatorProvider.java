@@ -0,0 +1,27 @@
+package app.eval;
+
+/**
+ * Provides the built-in {@link JavaEvaluator}. It has the lowest priority, so it is used whenever no
+ * other evaluator artifact is on the class path.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class JavaEvaluatorProvider implements EvaluatorProvider {
+
+    @Override
+    public String name() {
+        return "java";
+    }
+
+    @Override
+    public int priority() {
+        return 0;
+    }
+
+    @Override
+    public ExpressionEvaluator create() {
+        return new JavaEvaluator();
+    }
+}
@@ -0,0 +1,98 @@
+package app.eval;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * MathFunction lists the functions that compiled expressions can call, by the name used in expressions.
+ * Every function takes one or two arguments and is implemented by java.lang.Math.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public enum MathFunction {
+    SQRT("sqrt", Math::sqrt),
+    CBRT("cbrt", Math::cbrt),
+    ABS("abs", Math::abs),
+    EXP("exp", Math::exp),
+    LN("ln", Math::log),
+    LOG("log", Math::log),
+    LOG10("log10", Math::log10),
+    SIN("sin", Math::sin),
+    COS("cos", Math::cos),
+    TAN("tan", Math::tan),
+    ASIN("asin", Math::asin),
+    ACOS("acos", Math::acos),
+    ATAN("atan", Math::atan),
+    SINH("sinh", Math::sinh),
+    COSH("cosh", Math::cosh),
+    TANH("tanh", Math::tanh),
+    FLOOR("floor", Math::floor),
+    CEIL("ceil", Math::ceil),
+    ROUND("round", value -> (double) Math.round(value)),
+    POW("pow", Math::pow),
+    ATAN2("atan2", Math::atan2),
+    MIN("min", Math::min),
+    MAX("max", Math::max);
+
+    private final String functionName;
+    private final DoubleUnaryOperator unary;
+    private final DoubleBinaryOperator binary;
+
+    MathFunction(String functionName, DoubleUnaryOperator unary) {
+        this.functionName = functionName;
+        this.unary = unary;
+        this.binary = null;
+    }
+
+    MathFunction(String functionName, DoubleBinaryOperator binary) {
+        this.functionName = functionName;
+        this.unary = null;
+        this.binary = binary;
+    }
+
+    /**
+     * Returns the name used to call the function in an expression (e.g., "sqrt").
+     */
+    public String functionName() {
+        return functionName;
+    }
+
+    /**
+     * Returns the number of arguments, 1 or 2.
+     */
+    public int arity() {
+        return unary != null ? 1 : 2;
+    }
+
+    /**
+     * Applies a one-argument function.
+     */
+    public double apply(double argument) {
+        return unary.applyAsDouble(argument);
+    }
+
+    /**
+     * Applies a two-argument function.
+     */
+    public double apply(double first, double second) {
+        return binary.applyAsDouble(first, second);
+    }
+
+    /**
+     * Finds a function by the name used in expressions. A JavaScript-style "Math." prefix is accepted.
+     *
+     * @param name The name (e.g., "sin" or "Math.sin")
+     * @return The function, or null if there is no function with that name
+     */
+    public static MathFunction byName(String name) {
+        String plain = name.startsWith("Math.") ? name.substring("Math.".length()) : name;
+        for (MathFunction function : values()) {
+            if (function.functionName.equals(plain)) {
+                return function;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,775 @@
+package app.eval;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+/**
+ * RationalParser evaluates the calculator's arithmetic exactly, keeping every number as a reduced fraction
+ * numerator/denominator instead of a double, so 1/3*3 is exactly 1 and 0.1+0.2 is exactly 3/10. It reads the same
+ * expressions as {@link ArithmeticParser} (decimal and exponent literals, + - * / %, unary minus, parentheses) plus
+ * the Math functions whose results stay rational: Math.pow with an integer exponent, Math.abs, Math.floor and
+ * Math.ceil. Any other function (e.g., Math.sqrt) fails with an EvaluationException, so the caller can fall back to
+ * the floating-point evaluator.
+ *
+ * <p>Values are held on two primitive stacks of longs, one for numerators and one for denominators, and combined
+ * with overflow-checked arithmetic (Math.multiplyExact, Math.addExact), reducing with a binary GCD. Only an
+ * operation that overflows a long moves its operands to BigInteger; results that fit in a long again move back.
+ * Evaluating and formatting small fractions therefore allocates nothing. An instance keeps its stacks and parsing
+ * state in fields and is reused between calls, so it is NOT thread-safe.
+ *
+ * <p>Every value on the stack is kept normalized: the denominator is positive, the fraction is in lowest terms,
+ * and neither part is Long.MIN_VALUE (whose negation overflows), so negation never overflows.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class RationalParser {
+
+    /**
+     * Powers of ten that fit in a long, for number literals.
+     */
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+        10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+        1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    /**
+     * Largest absolute integer exponent accepted by Math.pow, so a result cannot take unbounded memory.
+     */
+    private static final int MAX_EXPONENT = 10_000;
+
+    /**
+     * Names of the supported functions. The index in this array selects the function in {@link #applyFunction}.
+     */
+    private static final String[] FUNCTION_NAMES = { "Math.abs", "Math.floor", "Math.ceil", "Math.pow" };
+
+    private static final int ABS_FUNCTION = 0;
+    private static final int FLOOR_FUNCTION = 1;
+    private static final int CEIL_FUNCTION = 2;
+    private static final int POW_FUNCTION = 3;
+
+    private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+
+    /**
+     * Value stacks. A slot whose bigNumerators entry is non-null holds a BigInteger fraction instead of the longs.
+     */
+    private long[] numerators = new long[16];
+    private long[] denominators = new long[16];
+    private BigInteger[] bigNumerators = new BigInteger[16];
+    private BigInteger[] bigDenominators = new BigInteger[16];
+
+    /**
+     * Index of the top of the value stacks.
+     */
+    private int top;
+
+    /**
+     * Characters of the expression currently being evaluated.
+     */
+    private CharSequence input;
+
+    /**
+     * Index of the next character to read.
+     */
+    private int pos;
+
+    /**
+     * Index one past the last character of the expression.
+     */
+    private int end;
+
+    /**
+     * Evaluates a whole expression. The result is then available from {@link #appendFraction},
+     * {@link #appendDecimal}, {@link #doubleValue()}, {@link #isInteger()} and {@link #isZero()}.
+     *
+     * @param expression The expression to evaluate (e.g., "1/3*3")
+     * @throws EvaluationException if the expression is not valid arithmetic, divides by zero, or uses a function
+     *         whose result is not rational
+     */
+    public void evaluate(CharSequence expression) throws EvaluationException {
+        this.input = expression;
+        this.pos = 0;
+        this.end = expression.length();
+        this.top = -1;
+        try {
+            parseExpression();
+            skipWhitespace();
+            if (pos < end) {
+                throw error("Unexpected character '" + input.charAt(pos) + "'");
+            }
+        } catch (EvaluationException e) {
+            top = -1;
+            throw e;
+        } finally {
+            this.input = null;
+            // Release the BigIntegers of intermediate results
+            Arrays.fill(bigNumerators, 1, bigNumerators.length, null);
+            Arrays.fill(bigDenominators, 1, bigDenominators.length, null);
+        }
+    }
+
+    /**
+     * Returns true if the last result is a whole number.
+     */
+    public boolean isInteger() {
+        requireResult();
+        return isBig(0) ? bigDenominators[0].equals(BigInteger.ONE) : denominators[0] == 1;
+    }
+
+    /**
+     * Returns true if the last result is zero.
+     */
+    public boolean isZero() {
+        requireResult();
+        return isBig(0) ? bigNumerators[0].signum() == 0 : numerators[0] == 0;
+    }
+
+    /**
+     * Returns the last result rounded to the nearest double.
+     */
+    public double doubleValue() {
+        requireResult();
+        if (isBig(0)) {
+            return new BigDecimal(bigNumerators[0]).divide(new BigDecimal(bigDenominators[0]), MathContext.DECIMAL64).doubleValue();
+        }
+        return (double) numerators[0] / denominators[0];
+    }
+
+    /**
+     * Appends the last result as "numerator/denominator", or just the numerator for a whole number (e.g., "-7/3").
+     *
+     * @param out The builder to append to
+     */
+    public void appendFraction(StringBuilder out) {
+        requireResult();
+        if (isBig(0)) {
+            out.append(bigNumerators[0]);
+            if (!bigDenominators[0].equals(BigInteger.ONE)) {
+                out.append('/').append(bigDenominators[0]);
+            }
+        } else {
+            out.append(numerators[0]);
+            if (denominators[0] != 1) {
+                out.append('/').append(denominators[0]);
+            }
+        }
+    }
+
+    /**
+     * Appends the last result as a decimal rounded half-even to at most the given number of fraction digits,
+     * without trailing zeros (e.g., 1/8 as "0.125", 2/3 as "0.6666666667" with 10 digits).
+     *
+     * @param out The builder to append to
+     * @param fractionDigits The maximum number of digits after the decimal point, at most 18
+     */
+    public void appendDecimal(StringBuilder out, int fractionDigits) {
+        requireResult();
+        long numerator = numerators[0];
+        long denominator = denominators[0];
+        if (isBig(0) || denominator > Long.MAX_VALUE / 10 || fractionDigits > 18) {
+            BigInteger n = isBig(0) ? bigNumerators[0] : BigInteger.valueOf(numerator);
+            BigInteger d = isBig(0) ? bigDenominators[0] : BigInteger.valueOf(denominator);
+            BigDecimal value = new BigDecimal(n).divide(new BigDecimal(d), fractionDigits, RoundingMode.HALF_EVEN);
+            out.append(value.signum() == 0 ? "0" : value.stripTrailingZeros().toPlainString());
+            return;
+        }
+
+        // Long division of the magnitude, one digit at a time; r * 10 cannot overflow as r < denominator
+        long magnitude = Math.abs(numerator);
+        long whole = magnitude / denominator;
+        long remainder = magnitude % denominator;
+        long fraction = 0;
+        for (int i = 0; i < fractionDigits; i++) {
+            remainder *= 10;
+            fraction = fraction * 10 + remainder / denominator;
+            remainder %= denominator;
+        }
+        long twiceRemainder = 2 * remainder;
+        if (twiceRemainder > denominator || (twiceRemainder == denominator && (fraction & 1) == 1)) {
+            fraction++;
+            if (fraction == POWERS_OF_TEN[fractionDigits]) {
+                fraction = 0;
+                whole++;
+            }
+        }
+        int digits = fractionDigits;
+        while (digits > 0 && fraction % 10 == 0) {
+            fraction /= 10;
+            digits--;
+        }
+
+        if (numerator < 0 && (whole != 0 || fraction != 0)) {
+            out.append('-');
+        }
+        out.append(whole);
+        if (digits > 0) {
+            out.append('.');
+            for (int i = digits - 1; i > 0 && fraction < POWERS_OF_TEN[i]; i--) {
+                out.append('0');
+            }
+            out.append(fraction);
+        }
+    }
+
+    /**
+     * Returns the greatest common divisor of |a| and |b| by the binary (Stein's) algorithm, which uses only shifts
+     * and subtraction. Neither argument may be Long.MIN_VALUE.
+     *
+     * @return The GCD, or the other argument's magnitude if one of them is zero
+     */
+    static long gcd(long a, long b) {
+        a = Math.abs(a);
+        b = Math.abs(b);
+        if (a == 0) {
+            return b;
+        }
+        if (b == 0) {
+            return a;
+        }
+        int shift = Long.numberOfTrailingZeros(a | b);
+        a >>= Long.numberOfTrailingZeros(a);
+        do {
+            b >>= Long.numberOfTrailingZeros(b);
+            if (a > b) {
+                long t = b;
+                b = a;
+                a = t;
+            }
+            b -= a;
+        } while (b != 0);
+        return a << shift;
+    }
+
+    /**
+     * Parses additions and subtractions: term (('+' | '-') term)*
+     */
+    private void parseExpression() throws EvaluationException {
+        parseTerm();
+        while (true) {
+            char c = peek();
+            if (c == '+') {
+                pos++;
+                parseTerm();
+                add(top - 1, false);
+            } else if (c == '-') {
+                pos++;
+                parseTerm();
+                add(top - 1, true);
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Parses multiplications, divisions and remainders: unary (('*' | '/' | '%') unary)*
+     */
+    private void parseTerm() throws EvaluationException {
+        parseUnary();
+        while (true) {
+            char c = peek();
+            if (c == '*') {
+                pos++;
+                parseUnary();
+                multiply(top - 1);
+            } else if (c == '/') {
+                pos++;
+                parseUnary();
+                divide(top - 1);
+            } else if (c == '%') {
+                pos++;
+                parseUnary();
+                remainder(top - 1);
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Parses a signed operand: ('+' | '-') unary | primary
+     */
+    private void parseUnary() throws EvaluationException {
+        char c = peek();
+        if (c == '-') {
+            pos++;
+            parseUnary();
+            negate(top);
+        } else if (c == '+') {
+            pos++;
+            parseUnary();
+        } else {
+            parsePrimary();
+        }
+    }
+
+    /**
+     * Parses a number literal, a function call or a parenthesized expression.
+     */
+    private void parsePrimary() throws EvaluationException {
+        char c = peek();
+        if (c == '(') {
+            pos++;
+            parseExpression();
+            if (peek() != ')') {
+                throw error("Missing closing parenthesis");
+            }
+            pos++;
+        } else if ((c >= '0' && c <= '9') || c == '.') {
+            parseNumber();
+        } else if (isIdentifierStart(c)) {
+            parseIdentifier();
+        } else {
+            throw pos < end ? error("Unexpected character '" + c + "'") : error("Unexpected end of expression");
+        }
+    }
+
+    /**
+     * Parses a number literal exactly: digits d with k decimals and exponent e are d * 10^(e - k). Literals with up
+     * to 18 digits and a small exponent are built from longs; anything else goes through BigDecimal.
+     */
+    private void parseNumber() throws EvaluationException {
+        int start = pos;
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean seenDigit = false;
+
+        while (pos < end && isDigit(input.charAt(pos))) {
+            seenDigit = true;
+            mantissa = mantissa * 10 + (input.charAt(pos) - '0');
+            if (mantissa != 0) {
+                digits++;
+            }
+            pos++;
+        }
+        if (pos < end && input.charAt(pos) == '.') {
+            pos++;
+            while (pos < end && isDigit(input.charAt(pos))) {
+                seenDigit = true;
+                mantissa = mantissa * 10 + (input.charAt(pos) - '0');
+                if (mantissa != 0) {
+                    digits++;
+                }
+                scale++;
+                pos++;
+            }
+        }
+        if (!seenDigit) {
+            throw error("Invalid number");
+        }
+        int exponent = 0;
+        if (pos < end && (input.charAt(pos) == 'e' || input.charAt(pos) == 'E')) {
+            pos++;
+            boolean negative = false;
+            if (pos < end && (input.charAt(pos) == '+' || input.charAt(pos) == '-')) {
+                negative = input.charAt(pos) == '-';
+                pos++;
+            }
+            if (pos >= end || !isDigit(input.charAt(pos))) {
+                throw error("Invalid exponent");
+            }
+            while (pos < end && isDigit(input.charAt(pos))) {
+                if (exponent < 100_000) {
+                    exponent = exponent * 10 + (input.charAt(pos) - '0');
+                }
+                pos++;
+            }
+            exponent = negative ? -exponent : exponent;
+        }
+
+        int power = exponent - scale;
+        if (digits <= 18 && power <= 0 && power >= -18) {
+            push(mantissa, POWERS_OF_TEN[-power]);
+            return;
+        }
+        if (digits <= 18 && power > 0 && power <= 18 && mantissa <= Long.MAX_VALUE / POWERS_OF_TEN[power]) {
+            push(mantissa * POWERS_OF_TEN[power], 1);
+            return;
+        }
+        if (Math.abs(power) > MAX_EXPONENT) {
+            throw error("Number too large for exact arithmetic");
+        }
+        BigDecimal value = new BigDecimal(input.subSequence(start, pos).toString());
+        BigInteger unscaled = value.unscaledValue();
+        if (value.scale() <= 0) {
+            pushBig(unscaled.multiply(BigInteger.TEN.pow(-value.scale())), BigInteger.ONE);
+        } else {
+            pushBig(unscaled, BigInteger.TEN.pow(value.scale()));
+        }
+    }
+
+    /**
+     * Parses a function call such as Math.pow(2, 3), matching the name in place so no String is created.
+     */
+    private void parseIdentifier() throws EvaluationException {
+        int start = pos;
+        while (pos < end && (isIdentifierStart(input.charAt(pos)) || isDigit(input.charAt(pos))
+                || input.charAt(pos) == '.')) {
+            pos++;
+        }
+        int length = pos - start;
+        for (int function = 0; function < FUNCTION_NAMES.length; function++) {
+            if (nameEquals(start, length, FUNCTION_NAMES[function])) {
+                parseCall(function);
+                return;
+            }
+        }
+        throw error("'" + input.subSequence(start, pos) + "' has no exact rational result");
+    }
+
+    /**
+     * Parses the parenthesized arguments of a function call and applies the function.
+     */
+    private void parseCall(int function) throws EvaluationException {
+        if (peek() != '(') {
+            throw error("Expected '(' after function name");
+        }
+        pos++;
+        parseExpression();
+        if (function == POW_FUNCTION) {
+            if (peek() != ',') {
+                throw error("Expected ',' between function arguments");
+            }
+            pos++;
+            parseExpression();
+        }
+        if (peek() != ')') {
+            throw error("Missing closing parenthesis");
+        }
+        pos++;
+        applyFunction(function);
+    }
+
+    private void applyFunction(int function) throws EvaluationException {
+        switch (function) {
+            case ABS_FUNCTION -> {
+                if (sign(top) < 0) {
+                    negate(top);
+                }
+            }
+            case FLOOR_FUNCTION -> round(top, RoundingMode.FLOOR);
+            case CEIL_FUNCTION -> round(top, RoundingMode.CEILING);
+            case POW_FUNCTION -> power(top - 1);
+            default -> throw new IllegalArgumentException("Unknown function index: " + function);
+        }
+    }
+
+    // ---- Arithmetic on stack slots: binary operations combine slots i and i + 1 into i and pop i + 1 ----
+
+    private void add(int i, boolean subtract) {
+        if (!isBig(i) && !isBig(i + 1)) {
+            try {
+                long an = numerators[i];
+                long ad = denominators[i];
+                long bn = subtract ? -numerators[i + 1] : numerators[i + 1];
+                long bd = denominators[i + 1];
+                // a/b + c/d = (a * (d/g) + c * (b/g)) / (b/g * d), with g = gcd(b, d)
+                long g = gcd(ad, bd);
+                long n = Math.addExact(Math.multiplyExact(an, bd / g), Math.multiplyExact(bn, ad / g));
+                long d = Math.multiplyExact(ad / g, bd);
+                set(i, n, d);
+                top--;
+                return;
+            } catch (ArithmeticException overflow) {
+                // Fall through to BigInteger
+            }
+        }
+        BigInteger bn = bigNumerator(i + 1);
+        BigInteger bd = bigDenominator(i + 1);
+        BigInteger n = bigNumerator(i).multiply(bd).add((subtract ? bn.negate() : bn).multiply(bigDenominator(i)));
+        setBig(i, n, bigDenominator(i).multiply(bd));
+        top--;
+    }
+
+    private void multiply(int i) {
+        if (!isBig(i) && !isBig(i + 1)) {
+            try {
+                long an = numerators[i];
+                long ad = denominators[i];
+                long bn = numerators[i + 1];
+                long bd = denominators[i + 1];
+                // Cancel across before multiplying, so the product is already in lowest terms
+                long g1 = gcd(an, bd);
+                long g2 = gcd(bn, ad);
+                long n = Math.multiplyExact(an / g1, bn / g2);
+                long d = Math.multiplyExact(ad / g2, bd / g1);
+                set(i, n, d);
+                top--;
+                return;
+            } catch (ArithmeticException overflow) {
+                // Fall through to BigInteger
+            }
+        }
+        setBig(i, bigNumerator(i).multiply(bigNumerator(i + 1)), bigDenominator(i).multiply(bigDenominator(i + 1)));
+        top--;
+    }
+
+    private void divide(int i) throws EvaluationException {
+        if (sign(i + 1) == 0) {
+            throw error("Division by zero");
+        }
+        invert(i + 1);
+        multiply(i);
+    }
+
+    /**
+     * a % b with the sign of a, as in JavaScript: for a = X / (ad * bd) and b = Y / (ad * bd), it is (X % Y) / (ad * bd).
+     */
+    private void remainder(int i) throws EvaluationException {
+        if (sign(i + 1) == 0) {
+            throw error("Division by zero");
+        }
+        if (!isBig(i) && !isBig(i + 1)) {
+            try {
+                long x = Math.multiplyExact(numerators[i], denominators[i + 1]);
+                long y = Math.multiplyExact(numerators[i + 1], denominators[i]);
+                set(i, x % y, Math.multiplyExact(denominators[i], denominators[i + 1]));
+                top--;
+                return;
+            } catch (ArithmeticException overflow) {
+                // Fall through to BigInteger
+            }
+        }
+        BigInteger x = bigNumerator(i).multiply(bigDenominator(i + 1));
+        BigInteger y = bigNumerator(i + 1).multiply(bigDenominator(i));
+        setBig(i, x.remainder(y), bigDenominator(i).multiply(bigDenominator(i + 1)));
+        top--;
+    }
+
+    /**
+     * Raises slot i to the integer power in slot i + 1, by repeated squaring.
+     */
+    private void power(int i) throws EvaluationException {
+        boolean integerExponent = isBig(i + 1) ? bigDenominators[i + 1].equals(BigInteger.ONE) : denominators[i + 1] == 1;
+        if (!integerExponent) {
+            throw error("A fractional power has no exact rational result");
+        }
+        boolean trivialBase = !isBig(i) && denominators[i] == 1 && Math.abs(numerators[i]) <= 1;
+        if (isBig(i + 1) || Math.abs(numerators[i + 1]) > MAX_EXPONENT) {
+            if (!trivialBase) {
+                throw error("Exponent too large for exact arithmetic");
+            }
+            // 0, 1 and -1 to a huge power: only the parity of the exponent matters
+            BigInteger exponent = bigNumerator(i + 1);
+            if (numerators[i] == 0 && exponent.signum() < 0) {
+                throw error("Division by zero");
+            }
+            set(i, numerators[i] == -1 && exponent.testBit(0) ? -1 : numerators[i], 1);
+            top--;
+            return;
+        }
+        int exponent = (int) numerators[i + 1];
+        top--;
+        if (exponent < 0) {
+            if (sign(i) == 0) {
+                throw error("Division by zero");
+            }
+            invert(i);
+            exponent = -exponent;
+        }
+        if (!isBig(i)) {
+            try {
+                long n = numerators[i];
+                long d = denominators[i];
+                // A reduced fraction raised to a power stays reduced
+                long resultN = 1;
+                long resultD = 1;
+                for (int e = exponent; e > 0; e >>= 1) {
+                    if ((e & 1) == 1) {
+                        resultN = Math.multiplyExact(resultN, n);
+                        resultD = Math.multiplyExact(resultD, d);
+                    }
+                    if (e > 1) {
+                        n = Math.multiplyExact(n, n);
+                        d = Math.multiplyExact(d, d);
+                    }
+                }
+                set(i, resultN, resultD);
+                return;
+            } catch (ArithmeticException overflow) {
+                // Fall through to BigInteger
+            }
+        }
+        setBig(i, bigNumerator(i).pow(exponent), bigDenominator(i).pow(exponent));
+    }
+
+    private void negate(int i) {
+        if (isBig(i)) {
+            setBig(i, bigNumerators[i].negate(), bigDenominators[i]);
+        } else {
+            numerators[i] = -numerators[i];
+        }
+    }
+
+    /**
+     * Replaces the nonzero value in slot i by its reciprocal, keeping the denominator positive.
+     */
+    private void invert(int i) {
+        if (isBig(i)) {
+            setBig(i, bigDenominators[i], bigNumerators[i]);
+        } else {
+            long n = numerators[i];
+            long d = denominators[i];
+            numerators[i] = n < 0 ? -d : d;
+            denominators[i] = Math.abs(n);
+        }
+    }
+
+    /**
+     * Rounds slot i to an integer, towards negative infinity (FLOOR) or positive infinity (CEILING).
+     */
+    private void round(int i, RoundingMode mode) {
+        if (isBig(i)) {
+            BigInteger[] quotient = bigNumerators[i].divideAndRemainder(bigDenominators[i]);
+            BigInteger result = quotient[0];
+            if (quotient[1].signum() < 0 && mode == RoundingMode.FLOOR) {
+                result = result.subtract(BigInteger.ONE);
+            } else if (quotient[1].signum() > 0 && mode == RoundingMode.CEILING) {
+                result = result.add(BigInteger.ONE);
+            }
+            setBig(i, result, BigInteger.ONE);
+        } else {
+            long n = numerators[i];
+            long d = denominators[i];
+            set(i, mode == RoundingMode.FLOOR ? Math.floorDiv(n, d) : -Math.floorDiv(-n, d), 1);
+        }
+    }
+
+    // ---- Stack slots ----
+
+    private void push(long numerator, long denominator) {
+        ensureCapacity();
+        top++;
+        set(top, numerator, denominator);
+    }
+
+    private void pushBig(BigInteger numerator, BigInteger denominator) {
+        ensureCapacity();
+        top++;
+        setBig(top, numerator, denominator);
+    }
+
+    private void ensureCapacity() {
+        if (top + 1 == numerators.length) {
+            int capacity = numerators.length * 2;
+            numerators = Arrays.copyOf(numerators, capacity);
+            denominators = Arrays.copyOf(denominators, capacity);
+            bigNumerators = Arrays.copyOf(bigNumerators, capacity);
+            bigDenominators = Arrays.copyOf(bigDenominators, capacity);
+        }
+    }
+
+    /**
+     * Stores a fraction with a nonzero denominator in slot i, normalized.
+     */
+    private void set(int i, long numerator, long denominator) {
+        if (numerator == Long.MIN_VALUE || denominator == Long.MIN_VALUE) {
+            setBig(i, BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+            return;
+        }
+        long g = gcd(numerator, denominator);
+        if (denominator < 0) {
+            g = -g;
+        }
+        numerators[i] = numerator / g;
+        denominators[i] = denominator / g;
+        bigNumerators[i] = null;
+        bigDenominators[i] = null;
+    }
+
+    /**
+     * Stores a fraction with a nonzero denominator in slot i, normalized, as longs again if it fits.
+     */
+    private void setBig(int i, BigInteger numerator, BigInteger denominator) {
+        BigInteger g = numerator.gcd(denominator);
+        if (denominator.signum() < 0) {
+            g = g.negate();
+        }
+        numerator = numerator.divide(g);
+        denominator = denominator.divide(g);
+        if (fitsInLong(numerator) && fitsInLong(denominator)) {
+            numerators[i] = numerator.longValue();
+            denominators[i] = denominator.longValue();
+            bigNumerators[i] = null;
+            bigDenominators[i] = null;
+        } else {
+            bigNumerators[i] = numerator;
+            bigDenominators[i] = denominator;
+        }
+    }
+
+    /**
+     * Returns true if the value is a long other than Long.MIN_VALUE.
+     */
+    private static boolean fitsInLong(BigInteger value) {
+        return value.bitLength() < 64 && !value.equals(LONG_MIN);
+    }
+
+    private boolean isBig(int i) {
+        return bigNumerators[i] != null;
+    }
+
+    private int sign(int i) {
+        return isBig(i) ? bigNumerators[i].signum() : Long.signum(numerators[i]);
+    }
+
+    private BigInteger bigNumerator(int i) {
+        return isBig(i) ? bigNumerators[i] : BigInteger.valueOf(numerators[i]);
+    }
+
+    private BigInteger bigDenominator(int i) {
+        return isBig(i) ? bigDenominators[i] : BigInteger.valueOf(denominators[i]);
+    }
+
+    private void requireResult() {
+        if (top != 0) {
+            throw new IllegalStateException("No result: the last evaluation failed or none has run");
+        }
+    }
+
+    // ---- Characters ----
+
+    private boolean nameEquals(int start, int length, String name) {
+        if (length != name.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (input.charAt(start + i) != name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+    }
+
+    /**
+     * Skips whitespace and returns the next character without consuming it, or 0 at the end of input.
+     */
+    private char peek() {
+        skipWhitespace();
+        return pos < end ? input.charAt(pos) : 0;
+    }
+
+    private void skipWhitespace() {
+        while (pos < end && Character.isWhitespace(input.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private EvaluationException error(String message) {
+        return new EvaluationException(message + " at position " + pos);
+    }
+}
@@ -0,0 +1,60 @@
+package app.eval;
+
+import java.text.DecimalFormat;
+
+/**
+ * ResultFormatter converts numeric results into the text shown on the calculator display.
+ * Instances are NOT thread-safe because DecimalFormat is not; use one formatter per thread.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class ResultFormatter {
+
+    /**
+     * DecimalFormat for formatting numbers in decimal notation.
+     */
+    private final DecimalFormat decimalFormat = new DecimalFormat("#.##########");
+
+    /**
+     * DecimalFormat for scientific notation with 6 decimal places.
+     */
+    private final DecimalFormat scientificFormat = new DecimalFormat("0.######E0");
+
+    // TODO: Test edge cases for formatting numbers
+    /**
+     * Formats a double value, converting it to an integer if it's sufficiently close to an integer.
+     * This handles cases like sqrt(2)^2 where the result should be exactly 2 but might be 2.0000000000001
+     * due to floating-point precision issues.
+     *
+     * @param value The double value to format
+     * @return A string representation, either as an integer or a formatted double
+     */
+    public String format(double value) {
+        // Check if the value is very close to an integer
+        double roundedValue = Math.round(value);
+        if (Math.abs(value - roundedValue) < 1E-10) {
+            return String.format("%d", (long)roundedValue);
+        }
+
+        // Handle scientific notation for very large or small numbers
+        if (Math.abs(value) < 0.0000001 || Math.abs(value) > 10000000) {
+            return scientificFormat.format(value);
+        }
+
+        // Use decimal formatter for regular numbers
+        return decimalFormat.format(value);
+    }
+
+    /**
+     * Formats a value using only the plain decimal pattern (no integer or scientific handling).
+     * Used when a value is shown with a suffix, such as a percentage.
+     *
+     * @param value The double value to format
+     * @return The value formatted with up to 10 decimal places
+     */
+    public String formatDecimal(double value) {
+        return decimalFormat.format(value);
+    }
+}
@@ -0,0 +1,46 @@
+package app.eval;
+
+import java.util.List;
+
+/**
+ * SymbolResolver tells ExpressionCompiler what the names in a formula stand for, beyond the built-in constants and
+ * functions. Names are resolved once, while parsing: a variable becomes a slot in the variables array and a call of
+ * a user-defined function is replaced by the function's body, so evaluation never looks up a name.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public interface SymbolResolver {
+
+    /**
+     * Returns the expression that a variable name stands for.
+     *
+     * @param name The name
+     * @return The expression (usually an Expr.Variable), or null if the name is not a variable
+     */
+    Expr variable(String name);
+
+    /**
+     * Returns the number of parameters of a user-defined function.
+     *
+     * @param name The function name
+     * @return The number of parameters, or -1 if there is no such function
+     */
+    default int arity(String name) {
+        return -1;
+    }
+
+    /**
+     * Returns the expression for a call of a user-defined function: its body with the arguments in place of the
+     * parameters.
+     *
+     * @param name The function name
+     * @param arguments The arguments, as many as {@link #arity(String)} returned
+     * @return The expression for the call
+     * @throws EvaluationException if the function cannot be called (e.g., its definition has an error)
+     */
+    default Expr call(String name, List<Expr> arguments) throws EvaluationException {
+        throw new EvaluationException("Unknown function '" + name + "'");
+    }
+}
@@ -0,0 +1,78 @@
+package app.eval;
+
+import app.log.Log;
+
+/**
+ * TieredExpression starts out evaluating the interpreted form of an expression (the closure tree built by
+ * ExpressionCompiler) and switches to bytecode once it has been called often enough to pay for compiling it,
+ * like the JVM's own tiers. One-off expressions never pay for class generation; expressions evaluated
+ * thousands of times (graphs, batches, solvers) end up running as JIT-compiled straight-line code.
+ *
+ * The call counter is not synchronized: a few lost increments only delay tiering up slightly. Compiling
+ * happens once, on the thread that reaches the threshold; other threads keep interpreting until the
+ * compiled form is published.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+final class TieredExpression implements CompiledExpression {
+
+    /**
+     * System property for the number of interpreted calls before an expression is compiled to bytecode
+     * (0 compiles immediately, a negative value never compiles).
+     */
+    static final String THRESHOLD_PROPERTY = "calculator.compileThreshold";
+
+    private static final int THRESHOLD = Integer.getInteger(THRESHOLD_PROPERTY, 2_000);
+
+    private final Expr expr;
+
+    /**
+     * The current tier: the interpreted form, replaced by the compiled form when it is ready.
+     */
+    private volatile CompiledExpression current;
+
+    private int calls;
+
+    private boolean compiling;
+
+    TieredExpression(Expr expr, CompiledExpression interpreted) {
+        this.expr = expr;
+        this.current = interpreted;
+        if (THRESHOLD == 0) {
+            tierUp();
+        }
+    }
+
+    @Override
+    public double evaluate(double[] variables) {
+        CompiledExpression tier = current;
+        if (++calls == THRESHOLD) {
+            tierUp();
+        }
+        return tier.evaluate(variables);
+    }
+
+    /**
+     * Returns true once the expression runs as bytecode.
+     */
+    boolean isCompiled() {
+        return current.getClass().isHidden();
+    }
+
+    private void tierUp() {
+        synchronized (this) {
+            if (compiling) {
+                return;
+            }
+            compiling = true;
+        }
+        try {
+            current = BytecodeCompiler.compile(expr);
+        } catch (RuntimeException e) {
+            // Keep interpreting (e.g., an expression too large for one method)
+            Log.debug("Expression stays interpreted: %s", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package app.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import app.eval.CompiledExpression;
+
+/**
+ * FunctionSampler samples a compiled function y = f(x) for plotting, in parallel and adaptively.
+ *
+ * The x axis is divided into tiles of TILE_PIXELS pixels at a power-of-two zoom level, so tiles stay valid while the
+ * graph is panned and can be cached. Each tile starts with one sample every INITIAL_STEP_PIXELS pixels; an interval
+ * is bisected (down to a quarter pixel) while its midpoint deviates from the straight line between its ends by more
+ * than half a pixel, so steep and curved regions get many samples and straight ones very few. Tiles, and ranges
+ * within a tile, are sampled as fork/join tasks on the common pool.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class FunctionSampler {
+
+    /**
+     * Width of a tile in pixels.
+     */
+    public static final int TILE_PIXELS = 256;
+
+    /**
+     * Distance between the initial samples in pixels.
+     */
+    private static final int INITIAL_STEP_PIXELS = 4;
+
+    /**
+     * Number of bisections of an initial interval, down to 4 / 2^4 = a quarter pixel.
+     */
+    private static final int MAX_DEPTH = 4;
+
+    /**
+     * Largest allowed deviation of the curve from the drawn line, in pixels.
+     */
+    private static final double TOLERANCE_PIXELS = 0.5;
+
+    /**
+     * A jump of more than this many pixels within a quarter pixel is drawn as a discontinuity, not as a vertical line.
+     */
+    private static final double BREAK_PIXELS = 64;
+
+    /**
+     * Number of initial intervals below which a range of a tile is sampled directly instead of being split further.
+     */
+    private static final int LEAF_INTERVALS = 16;
+
+    private final CompiledExpression function;
+
+    /**
+     * Creates a sampler for a function of one variable (slot 0).
+     *
+     * @param function The function to sample
+     */
+    public FunctionSampler(CompiledExpression function) {
+        this.function = function;
+    }
+
+    /**
+     * Returns the zoom level for a scale: the largest level whose pixel size is at most the given size.
+     *
+     * @param unitsPerPixel Graph units per screen pixel
+     * @return The level
+     */
+    public static int level(double unitsPerPixel) {
+        return Math.getExponent(unitsPerPixel);
+    }
+
+    /**
+     * Returns the width of a tile in graph units at the given level.
+     */
+    public static double tileWidth(int level) {
+        return Math.scalb((double) TILE_PIXELS, level);
+    }
+
+    /**
+     * Samples tiles in parallel.
+     *
+     * @param keys The tiles to sample
+     * @return The sampled tiles, in the order of the keys
+     */
+    public List<GraphTile> sample(List<GraphTile.Key> keys) {
+        List<SampleRange> tasks = new ArrayList<>(keys.size());
+        int intervals = TILE_PIXELS / INITIAL_STEP_PIXELS;
+        for (GraphTile.Key key : keys) {
+            tasks.add(new SampleRange(key, 0, intervals));
+        }
+        ForkJoinPool.commonPool().invoke(new RecursiveTask<Void>() {
+            @Override
+            protected Void compute() {
+                ForkJoinTask.invokeAll(tasks);
+                return null;
+            }
+        });
+
+        List<GraphTile> tiles = new ArrayList<>(keys.size());
+        for (SampleRange task : tasks) {
+            tiles.add(task.join().toTile());
+        }
+        return tiles;
+    }
+
+    /**
+     * Samples the initial intervals [from, to) of a tile, splitting the range in half for parallelism.
+     */
+    private final class SampleRange extends RecursiveTask<Points> {
+
+        private final GraphTile.Key key;
+        private final int from;
+        private final int to;
+
+        SampleRange(GraphTile.Key key, int from, int to) {
+            this.key = key;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Points compute() {
+            if (to - from <= LEAF_INTERVALS) {
+                return sampleDirectly();
+            }
+            int middle = (from + to) >>> 1;
+            SampleRange left = new SampleRange(key, from, middle);
+            left.fork();
+            Points right = new SampleRange(key, middle, to).compute();
+            Points points = left.join();
+            // The first point of the right range is the last point of the left range
+            points.appendFrom(right, 1);
+            return points;
+        }
+
+        private Points sampleDirectly() {
+            double pixel = Math.scalb(1.0, key.level());
+            double step = INITIAL_STEP_PIXELS * pixel;
+            double tileStart = key.index() * tileWidth(key.level());
+            double[] variables = new double[1];
+
+            Points points = new Points((to - from) * 2 + 1);
+            double a = tileStart + from * step;
+            double fa = evaluate(a, variables);
+            points.add(a, fa);
+            for (int i = from; i < to; i++) {
+                double b = tileStart + (i + 1) * step;
+                double fb = evaluate(b, variables);
+                refine(a, fa, b, fb, 0, pixel, variables, points);
+                a = b;
+                fa = fb;
+            }
+            return points;
+        }
+
+        /**
+         * Adds the points after a up to and including b, bisecting [a, b] while the curve is not close enough to a line.
+         */
+        private void refine(double a, double fa, double b, double fb, int depth, double pixel, double[] variables, Points points) {
+            if (depth < MAX_DEPTH) {
+                double m = (a + b) / 2;
+                double fm = evaluate(m, variables);
+                if (needsRefinement(fa, fm, fb, pixel)) {
+                    refine(a, fa, m, fm, depth + 1, pixel, variables, points);
+                    refine(m, fm, b, fb, depth + 1, pixel, variables, points);
+                    return;
+                }
+            } else if (Math.abs(fb - fa) > BREAK_PIXELS * pixel) {
+                points.add((a + b) / 2, Double.NaN);
+            }
+            points.add(b, fb);
+        }
+    }
+
+    private double evaluate(double x, double[] variables) {
+        variables[0] = x;
+        return function.evaluate(variables);
+    }
+
+    private static boolean needsRefinement(double fa, double fm, double fb, double pixel) {
+        boolean finiteA = Double.isFinite(fa);
+        boolean finiteM = Double.isFinite(fm);
+        boolean finiteB = Double.isFinite(fb);
+        if (finiteA != finiteM || finiteM != finiteB) {
+            // Locate the edge of the function's domain
+            return true;
+        }
+        return finiteA && Math.abs(fm - (fa + fb) / 2) > TOLERANCE_PIXELS * pixel;
+    }
+
+    /**
+     * Growable arrays of sample points.
+     */
+    private static final class Points {
+        double[] xs;
+        double[] ys;
+        int size;
+
+        Points(int capacity) {
+            xs = new double[capacity];
+            ys = new double[capacity];
+        }
+
+        void add(double x, double y) {
+            if (size == xs.length) {
+                grow(size + 1);
+            }
+            xs[size] = x;
+            ys[size] = y;
+            size++;
+        }
+
+        void appendFrom(Points other, int start) {
+            int count = other.size - start;
+            if (size + count > xs.length) {
+                grow(size + count);
+            }
+            System.arraycopy(other.xs, start, xs, size, count);
+            System.arraycopy(other.ys, start, ys, size, count);
+            size += count;
+        }
+
+        GraphTile toTile() {
+            return new GraphTile(Arrays.copyOf(xs, size), Arrays.copyOf(ys, size));
+        }
+
+        private void grow(int minimum) {
+            int capacity = Math.max(minimum, xs.length * 2);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+        }
+    }
+}
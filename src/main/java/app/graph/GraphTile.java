@@ -0,0 +1,28 @@
+package app.graph;
+
+/**
+ * GraphTile holds the sample points of a function over one tile of the x axis, in increasing x order.
+ * A NaN y value marks a break in the curve (a discontinuity, or a point outside the function's domain).
+ *
+ * @param xs The x coordinates
+ * @param ys The y coordinates
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public record GraphTile(double[] xs, double[] ys) {
+
+    /**
+     * Key of a tile: the zoom level (each pixel is 2^level units wide) and the index of the tile along the x axis.
+     */
+    public record Key(int level, long index) {
+    }
+
+    /**
+     * Returns the number of points.
+     */
+    public int size() {
+        return xs.length;
+    }
+}
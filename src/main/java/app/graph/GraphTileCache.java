@@ -0,0 +1,35 @@
+package app.graph;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * GraphTileCache keeps the most recently used tiles of one function, so panning back and forth or zooming
+ * out and in again does not sample the same tiles twice. Only used on the JavaFX Application Thread.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+class GraphTileCache {
+
+    /**
+     * Maximum number of cached tiles (a few MB for typical functions).
+     */
+    private static final int MAX_TILES = 512;
+
+    private final Map<GraphTile.Key, GraphTile> tiles = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<GraphTile.Key, GraphTile> eldest) {
+            return size() > MAX_TILES;
+        }
+    };
+
+    GraphTile get(GraphTile.Key key) {
+        return tiles.get(key);
+    }
+
+    void put(GraphTile.Key key, GraphTile tile) {
+        tiles.put(key, tile);
+    }
+}
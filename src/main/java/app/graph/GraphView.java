@@ -0,0 +1,381 @@
+package app.graph;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import app.eval.CompiledExpression;
+import app.log.Log;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+
+/**
+ * GraphView plots a function y = f(x) on a Canvas. Drag to pan, scroll to zoom around the cursor.
+ *
+ * The curve is drawn from cached tiles (see {@link FunctionSampler}). Tiles that are not cached yet are sampled
+ * on the fork/join pool while the view keeps drawing what it has, including coarser tiles of the same region, so
+ * panning and zooming never wait for the sampler. Redraws are coalesced into at most one per animation frame.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class GraphView extends Region {
+
+    /**
+     * Graph units per pixel when a function is first shown (about -6..6 across a 600 px window).
+     */
+    private static final double INITIAL_UNITS_PER_PIXEL = 1.0 / 50;
+
+    /**
+     * Zoom limits in graph units per pixel.
+     */
+    private static final double MIN_UNITS_PER_PIXEL = 1e-12;
+    private static final double MAX_UNITS_PER_PIXEL = 1e12;
+
+    /**
+     * Number of coarser zoom levels searched for a stand-in while a tile is being sampled.
+     */
+    private static final int FALLBACK_LEVELS = 3;
+
+    /**
+     * Minimum spacing of grid lines in pixels.
+     */
+    private static final double MIN_GRID_PIXELS = 60;
+
+    /**
+     * Screen coordinates are clamped to this distance outside the canvas, so huge values still draw steep lines.
+     */
+    private static final double CLAMP_PIXELS = 10_000;
+
+    private static final Color GRID_COLOR = Color.rgb(128, 128, 128, 0.2);
+    private static final Color AXIS_COLOR = Color.rgb(128, 128, 128, 0.8);
+    private static final Color LABEL_COLOR = Color.rgb(128, 128, 128);
+    private static final Color CURVE_COLOR = Color.rgb(225, 131, 217);
+
+    private final Canvas canvas = new Canvas();
+
+    /**
+     * Graph coordinates shown at the center of the view.
+     */
+    private double centerX = 0;
+    private double centerY = 0;
+
+    /**
+     * Graph units per pixel, the same on both axes.
+     */
+    private double unitsPerPixel = INITIAL_UNITS_PER_PIXEL;
+
+    private FunctionSampler sampler;
+    private GraphTileCache cache;
+
+    /**
+     * Tiles being sampled for the current function.
+     */
+    private final Set<GraphTile.Key> pending = new HashSet<>();
+
+    /**
+     * Incremented whenever the function changes, so samples of an old function are discarded when they arrive.
+     */
+    private long generation = 0;
+
+    private double dragX;
+    private double dragY;
+
+    private boolean redrawRequested = false;
+
+    /**
+     * Draws at most once per animation frame, then stops until the next redraw request.
+     */
+    private final AnimationTimer redrawTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            stop();
+            redrawRequested = false;
+            draw();
+        }
+    };
+
+    /**
+     * Creates an empty graph view.
+     */
+    public GraphView() {
+        getStyleClass().add("graph-view");
+        getChildren().add(canvas);
+
+        setOnMousePressed(this::handleMousePressed);
+        setOnMouseDragged(this::handleMouseDragged);
+        setOnScroll(this::handleScroll);
+    }
+
+    /**
+     * Plots a function of x (slot 0), replacing the current one. Pass null to clear the graph.
+     *
+     * @param function The compiled function
+     */
+    public void setFunction(CompiledExpression function) {
+        generation++;
+        pending.clear();
+        sampler = function != null ? new FunctionSampler(function) : null;
+        cache = function != null ? new GraphTileCache() : null;
+        requestRedraw();
+    }
+
+    /**
+     * Returns the view to the origin at the initial zoom.
+     */
+    public void resetView() {
+        centerX = 0;
+        centerY = 0;
+        unitsPerPixel = INITIAL_UNITS_PER_PIXEL;
+        requestRedraw();
+    }
+
+    @Override
+    protected void layoutChildren() {
+        double width = snapSizeX(getWidth());
+        double height = snapSizeY(getHeight());
+        if (canvas.getWidth() != width || canvas.getHeight() != height) {
+            canvas.setWidth(width);
+            canvas.setHeight(height);
+            requestRedraw();
+        }
+    }
+
+    @Override
+    protected double computePrefWidth(double height) {
+        return 600;
+    }
+
+    @Override
+    protected double computePrefHeight(double width) {
+        return 400;
+    }
+
+    private void handleMousePressed(MouseEvent event) {
+        dragX = event.getX();
+        dragY = event.getY();
+    }
+
+    private void handleMouseDragged(MouseEvent event) {
+        centerX -= (event.getX() - dragX) * unitsPerPixel;
+        centerY += (event.getY() - dragY) * unitsPerPixel;
+        dragX = event.getX();
+        dragY = event.getY();
+        requestRedraw();
+    }
+
+    /**
+     * Zooms in or out, keeping the graph point under the cursor in place.
+     */
+    private void handleScroll(ScrollEvent event) {
+        if (event.getDeltaY() == 0) {
+            return;
+        }
+        double factor = Math.pow(1.1, -event.getDeltaY() / 40);
+        double newUnitsPerPixel = Math.max(MIN_UNITS_PER_PIXEL, Math.min(MAX_UNITS_PER_PIXEL, unitsPerPixel * factor));
+        double cursorX = toGraphX(event.getX());
+        double cursorY = toGraphY(event.getY());
+        unitsPerPixel = newUnitsPerPixel;
+        centerX = cursorX - (event.getX() - canvas.getWidth() / 2) * unitsPerPixel;
+        centerY = cursorY + (event.getY() - canvas.getHeight() / 2) * unitsPerPixel;
+        requestRedraw();
+        event.consume();
+    }
+
+    private void requestRedraw() {
+        if (!redrawRequested) {
+            redrawRequested = true;
+            redrawTimer.start();
+        }
+    }
+
+    private void draw() {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        drawGrid(gc);
+        if (sampler != null) {
+            drawCurve(gc);
+        }
+    }
+
+    private void drawGrid(GraphicsContext gc) {
+        double width = canvas.getWidth();
+        double height = canvas.getHeight();
+        double step = gridStep(MIN_GRID_PIXELS * unitsPerPixel);
+
+        gc.setLineWidth(1);
+        gc.setStroke(GRID_COLOR);
+        gc.setFill(LABEL_COLOR);
+        double originX = clamp(toScreenX(0), 2, width - 40);
+        double originY = clamp(toScreenY(0), 14, height - 4);
+
+        // Lines are counted by index: far from the origin, adding a tiny step to x may not change it
+        for (long i = (long) Math.ceil(toGraphX(0) / step), end = (long) Math.floor(toGraphX(width) / step); i <= end; i++) {
+            double x = i * step;
+            double sx = Math.floor(toScreenX(x)) + 0.5;
+            gc.strokeLine(sx, 0, sx, height);
+            if (Math.abs(x) > step / 2) {
+                gc.fillText(formatTick(x, step), sx + 3, originY - 3);
+            }
+        }
+        for (long i = (long) Math.ceil(toGraphY(height) / step), end = (long) Math.floor(toGraphY(0) / step); i <= end; i++) {
+            double y = i * step;
+            double sy = Math.floor(toScreenY(y)) + 0.5;
+            gc.strokeLine(0, sy, width, sy);
+            if (Math.abs(y) > step / 2) {
+                gc.fillText(formatTick(y, step), originX + 3, sy - 3);
+            }
+        }
+
+        gc.setStroke(AXIS_COLOR);
+        double axisX = Math.floor(toScreenX(0)) + 0.5;
+        double axisY = Math.floor(toScreenY(0)) + 0.5;
+        gc.strokeLine(axisX, 0, axisX, height);
+        gc.strokeLine(0, axisY, width, axisY);
+    }
+
+    /**
+     * Returns the smallest step of the form 1, 2 or 5 times a power of ten that is at least the given size.
+     */
+    static double gridStep(double minimum) {
+        double power = Math.pow(10, Math.floor(Math.log10(minimum)));
+        for (double multiple : new double[] { 1, 2, 5, 10 }) {
+            if (multiple * power >= minimum) {
+                return multiple * power;
+            }
+        }
+        return 10 * power;
+    }
+
+    private static String formatTick(double value, double step) {
+        if (step >= 1e-4 && step < 1e6) {
+            int decimals = Math.max(0, (int) -Math.floor(Math.log10(step)));
+            return String.format("%." + decimals + "f", value);
+        }
+        return String.format("%.1e", value);
+    }
+
+    /**
+     * Draws the curve from the cached tiles covering the visible x range and starts sampling the missing ones.
+     */
+    private void drawCurve(GraphicsContext gc) {
+        int level = FunctionSampler.level(unitsPerPixel);
+        double tileWidth = FunctionSampler.tileWidth(level);
+        long first = (long) Math.floor(toGraphX(0) / tileWidth);
+        long last = (long) Math.floor(toGraphX(canvas.getWidth()) / tileWidth);
+
+        List<GraphTile.Key> missing = new ArrayList<>();
+        gc.setStroke(CURVE_COLOR);
+        gc.setLineWidth(2);
+        gc.beginPath();
+        for (long index = first; index <= last; index++) {
+            GraphTile.Key key = new GraphTile.Key(level, index);
+            GraphTile tile = cache.get(key);
+            if (tile == null) {
+                if (pending.add(key)) {
+                    missing.add(key);
+                }
+                tile = coarserTile(level, index * tileWidth);
+            }
+            if (tile != null) {
+                tracePath(gc, tile);
+            }
+        }
+        gc.stroke();
+
+        if (!missing.isEmpty()) {
+            sampleAsync(missing);
+        }
+    }
+
+    /**
+     * Returns a cached tile of a coarser level containing the given x, or null if there is none.
+     */
+    private GraphTile coarserTile(int level, double x) {
+        for (int coarser = level + 1; coarser <= level + FALLBACK_LEVELS; coarser++) {
+            GraphTile tile = cache.get(new GraphTile.Key(coarser, (long) Math.floor(x / FunctionSampler.tileWidth(coarser))));
+            if (tile != null) {
+                return tile;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds the points of a tile to the current path, lifting the pen at breaks and points that are not finite.
+     */
+    private void tracePath(GraphicsContext gc, GraphTile tile) {
+        double[] xs = tile.xs();
+        double[] ys = tile.ys();
+        boolean penDown = false;
+        double minY = -CLAMP_PIXELS;
+        double maxY = canvas.getHeight() + CLAMP_PIXELS;
+        for (int i = 0; i < xs.length; i++) {
+            if (!Double.isFinite(ys[i])) {
+                penDown = false;
+                continue;
+            }
+            double sx = toScreenX(xs[i]);
+            double sy = clamp(toScreenY(ys[i]), minY, maxY);
+            if (penDown) {
+                gc.lineTo(sx, sy);
+            } else {
+                gc.moveTo(sx, sy);
+                penDown = true;
+            }
+        }
+    }
+
+    /**
+     * Samples tiles on the fork/join pool and redraws when they are cached.
+     */
+    private void sampleAsync(List<GraphTile.Key> keys) {
+        FunctionSampler currentSampler = sampler;
+        long currentGeneration = generation;
+        CompletableFuture.supplyAsync(() -> currentSampler.sample(keys))
+                .whenComplete((tiles, error) -> Platform.runLater(() -> {
+                    if (currentGeneration != generation) {
+                        return;
+                    }
+                    pending.removeAll(keys);
+                    if (error != null) {
+                        Log.warn("Graph sampling failed: %s", error.getMessage());
+                        return;
+                    }
+                    for (int i = 0; i < keys.size(); i++) {
+                        cache.put(keys.get(i), tiles.get(i));
+                    }
+                    requestRedraw();
+                }));
+    }
+
+    private double toScreenX(double x) {
+        return (x - centerX) / unitsPerPixel + canvas.getWidth() / 2;
+    }
+
+    private double toScreenY(double y) {
+        return canvas.getHeight() / 2 - (y - centerY) / unitsPerPixel;
+    }
+
+    private double toGraphX(double screenX) {
+        return centerX + (screenX - canvas.getWidth() / 2) * unitsPerPixel;
+    }
+
+    private double toGraphY(double screenY) {
+        return centerY - (screenY - canvas.getHeight() / 2) * unitsPerPixel;
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
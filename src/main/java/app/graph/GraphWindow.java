@@ -0,0 +1,119 @@
+package app.graph;
+
+import java.util.List;
+
+import app.eval.EvaluationException;
+import app.eval.ExpressionCompiler;
+
+import javafx.css.PseudoClass;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+
+/**
+ * GraphWindow is the graphing mode: a function entry field above a {@link GraphView}.
+ * The function is compiled once when it is entered; the view then evaluates the compiled form directly.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class GraphWindow {
+
+    private static final PseudoClass LIGHT_THEME = PseudoClass.getPseudoClass("light");
+
+    private final Stage stage = new Stage();
+    private final TextField functionField = new TextField();
+    private final Label errorLabel = new Label();
+    private final GraphView graphView = new GraphView();
+
+    /**
+     * Creates the graphing window.
+     *
+     * @param owner The calculator window
+     * @param stylesheets The calculator stylesheets
+     */
+    public GraphWindow(Window owner, List<String> stylesheets) {
+        Label prompt = new Label("y =");
+        prompt.getStyleClass().add("graph-prompt");
+        functionField.setPromptText("e.g., sin(x) / x");
+        functionField.getStyleClass().add("graph-function-field");
+        functionField.setOnAction(event -> plot());
+        HBox.setHgrow(functionField, Priority.ALWAYS);
+
+        Button resetButton = new Button("Reset View");
+        resetButton.getStyleClass().add("graph-button");
+        resetButton.setOnAction(event -> graphView.resetView());
+
+        HBox entry = new HBox(8, prompt, functionField, resetButton);
+        entry.setAlignment(Pos.CENTER_LEFT);
+        entry.getStyleClass().add("graph-entry");
+
+        errorLabel.getStyleClass().add("graph-error");
+        errorLabel.setManaged(false);
+        errorLabel.setVisible(false);
+
+        BorderPane layout = new BorderPane(graphView, entry, null, errorLabel, null);
+        layout.getStyleClass().add("graph-root");
+
+        Scene scene = new Scene(layout, 640, 480);
+        scene.getStylesheets().addAll(stylesheets);
+        stage.setScene(scene);
+        stage.setTitle("Graph");
+        stage.initOwner(owner);
+        stage.setMinWidth(320);
+        stage.setMinHeight(240);
+    }
+
+    /**
+     * Shows the window and focuses the function field.
+     */
+    public void show() {
+        stage.show();
+        stage.toFront();
+        functionField.requestFocus();
+    }
+
+    /**
+     * Switches the window to the light or dark theme, following the calculator.
+     *
+     * @param lightTheme True for the light theme
+     */
+    public void setLightTheme(boolean lightTheme) {
+        stage.getScene().getRoot().pseudoClassStateChanged(LIGHT_THEME, lightTheme);
+    }
+
+    /**
+     * Compiles the entered function and plots it, or shows why it cannot be compiled.
+     */
+    private void plot() {
+        String source = functionField.getText().trim();
+        if (source.startsWith("y=") || source.startsWith("y =")) {
+            source = source.substring(source.indexOf('=') + 1);
+        }
+        if (source.isBlank()) {
+            graphView.setFunction(null);
+            showError(null);
+            return;
+        }
+        try {
+            graphView.setFunction(ExpressionCompiler.compile(source, "x"));
+            showError(null);
+        } catch (EvaluationException e) {
+            showError(e.getMessage());
+        }
+    }
+
+    private void showError(String message) {
+        errorLabel.setText(message);
+        errorLabel.setManaged(message != null);
+        errorLabel.setVisible(message != null);
+    }
+}
@@ -0,0 +1,388 @@
+package app.history;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * HistoryIndex finds history entries ("expression = result") by text and by the value of their result, fast enough
+ * to filter 100,000 entries on every keystroke.
+ *
+ * Entries are numbered in the order they are added, and every sequence of one, two or three characters (n-gram) of
+ * an entry's lower-cased text has a posting list of the entries containing it, in increasing order. A text of one
+ * or two characters is answered by its posting list alone. A longer text intersects the posting lists of its
+ * trigrams, shortest first, and checks only the remaining candidates for the whole text. Adding an entry appends to
+ * the posting lists of its n-grams, so the index is kept up to date incrementally and never rebuilt while entries are
+ * added.
+ *
+ * Results are also kept as a column of doubles (NaN where the result is not a number), which numeric range queries
+ * scan sequentially. Queries combine text with ranges written as {@code >x}, {@code >=x}, {@code <x}, {@code <=x} or
+ * {@code x..y}; e.g., "sqrt >= 2" finds square roots with results of at least 2. Matches are returned newest first,
+ * the order of the history list. Not thread-safe.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class HistoryIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int INITIAL_POSTINGS = 4;
+
+    /**
+     * The entries, their lower-cased text and their numeric results, by entry number.
+     */
+    private String[] entries = new String[INITIAL_CAPACITY];
+    private String[] lowerCase = new String[INITIAL_CAPACITY];
+    private double[] results = new double[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Open-addressing table from n-gram (one to three packed chars, plus 1 so 0 marks an empty slot) to posting
+     * list.
+     */
+    private long[] gramKeys = new long[INITIAL_CAPACITY];
+    private int[][] postings = new int[INITIAL_CAPACITY][];
+    private int[] postingSizes = new int[INITIAL_CAPACITY];
+    private int gramCount;
+
+    /**
+     * Adds an entry as the newest one.
+     *
+     * @param entry The history entry
+     */
+    public void add(String entry) {
+        if (size == entries.length) {
+            int capacity = size * 2;
+            entries = Arrays.copyOf(entries, capacity);
+            lowerCase = Arrays.copyOf(lowerCase, capacity);
+            results = Arrays.copyOf(results, capacity);
+        }
+        int id = size++;
+        String text = entry.toLowerCase(Locale.ROOT);
+        entries[id] = entry;
+        lowerCase[id] = text;
+        results[id] = parseResult(entry);
+        for (int i = 0; i < text.length(); i++) {
+            for (int length = 1; length <= 3 && i + length <= text.length(); length++) {
+                addPosting(gram(text, i, length), id);
+            }
+        }
+    }
+
+    /**
+     * Removes the newest entries, such as an entry taken back by undo. Each entry's n-grams end their posting lists,
+     * so this costs only the size of the removed entries.
+     *
+     * @param count The number of entries to remove
+     */
+    public void removeNewest(int count) {
+        for (int removed = 0; removed < count && size > 0; removed++) {
+            int id = --size;
+            String text = lowerCase[id];
+            for (int i = 0; i < text.length(); i++) {
+                for (int length = 1; length <= 3 && i + length <= text.length(); length++) {
+                    int slot = find(gram(text, i, length));
+                    if (postingSizes[slot] > 0 && postings[slot][postingSizes[slot] - 1] == id) {
+                        postingSizes[slot]--;
+                    }
+                }
+            }
+            entries[id] = null;
+            lowerCase[id] = null;
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        Arrays.fill(entries, 0, size, null);
+        Arrays.fill(lowerCase, 0, size, null);
+        size = 0;
+        Arrays.fill(gramKeys, 0);
+        Arrays.fill(postings, null);
+        Arrays.fill(postingSizes, 0);
+        gramCount = 0;
+    }
+
+    /**
+     * Returns the number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the entries matching a query.
+     *
+     * @param query Text to find, and/or ranges of results (e.g., "sin", "> 100", "ln 1..2")
+     * @return The matching entries, newest first; all entries for a blank query
+     */
+    public List<String> search(String query) {
+        Query parsed = Query.parse(query.toLowerCase(Locale.ROOT));
+        List<String> matches = new ArrayList<>();
+        String text = parsed.text();
+        if (text.isEmpty()) {
+            // Only a range: one pass over the results column, newest first
+            for (int id = size - 1; id >= 0; id--) {
+                if (parsed.acceptsResult(results[id])) {
+                    matches.add(entries[id]);
+                }
+            }
+            return matches;
+        }
+        if (text.length() < 3) {
+            // The posting list of a one or two-character text is exactly the entries containing it
+            int slot = find(gram(text, 0, text.length()));
+            for (int i = slot < 0 ? -1 : postingSizes[slot] - 1; i >= 0; i--) {
+                int id = postings[slot][i];
+                if (parsed.acceptsResult(results[id])) {
+                    matches.add(entries[id]);
+                }
+            }
+            return matches;
+        }
+        int[] candidates = candidates(text);
+        for (int i = candidates.length - 1; i >= 0; i--) {
+            int id = candidates[i];
+            if (parsed.acceptsResult(results[id]) && lowerCase[id].contains(text)) {
+                matches.add(entries[id]);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the entries containing every trigram of the text, in increasing order.
+     */
+    private int[] candidates(String text) {
+        int count = text.length() - 2;
+        int[] lists = new int[count];
+        for (int i = 0; i < count; i++) {
+            int slot = find(gram(text, i, 3));
+            if (slot < 0) {
+                return new int[0];
+            }
+            lists[i] = slot;
+        }
+        // Intersect the shortest lists first, so the candidates shrink as fast as possible
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = lists[i];
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(postingSizes[a], postingSizes[b]));
+
+        int[] candidates = Arrays.copyOf(postings[order[0]], postingSizes[order[0]]);
+        int candidateCount = candidates.length;
+        for (int i = 1; i < count && candidateCount > 0; i++) {
+            if (order[i].intValue() == order[i - 1].intValue()) {
+                continue;
+            }
+            candidateCount = intersect(candidates, candidateCount, postings[order[i]], postingSizes[order[i]]);
+        }
+        return Arrays.copyOf(candidates, candidateCount);
+    }
+
+    /**
+     * Keeps the candidates that are also in the posting list, in place. Both are sorted; the posting list is
+     * searched by galloping, since it is usually much longer than the candidates.
+     *
+     * @return The number of candidates kept
+     */
+    private static int intersect(int[] candidates, int candidateCount, int[] list, int listSize) {
+        int kept = 0;
+        int low = 0;
+        for (int i = 0; i < candidateCount && low < listSize; i++) {
+            int id = candidates[i];
+            int step = 1;
+            int high = low;
+            while (high < listSize && list[high] < id) {
+                low = high + 1;
+                high += step;
+                step <<= 1;
+            }
+            int found = Arrays.binarySearch(list, low, Math.min(high + 1, listSize), id);
+            if (found >= 0) {
+                candidates[kept++] = id;
+                low = found + 1;
+            } else {
+                low = -found - 1;
+            }
+        }
+        return kept;
+    }
+
+    private void addPosting(long key, int id) {
+        if (2 * (gramCount + 1) > gramKeys.length) {
+            growTable();
+        }
+        int slot = find(key);
+        if (slot < 0) {
+            slot = -slot - 1;
+            gramKeys[slot] = key + 1;
+            postings[slot] = new int[INITIAL_POSTINGS];
+            gramCount++;
+        }
+        int[] list = postings[slot];
+        int length = postingSizes[slot];
+        if (length > 0 && list[length - 1] == id) {
+            return; // the n-gram occurs more than once in the entry
+        }
+        if (length == list.length) {
+            list = postings[slot] = Arrays.copyOf(list, length * 2);
+        }
+        list[length] = id;
+        postingSizes[slot] = length + 1;
+    }
+
+    /**
+     * Returns the slot of an n-gram, or -(insertion slot) - 1 if it is not in the table.
+     */
+    private int find(long key) {
+        int mask = gramKeys.length - 1;
+        int slot = (int) (mix(key) & mask);
+        while (true) {
+            long stored = gramKeys[slot];
+            if (stored == 0) {
+                return -slot - 1;
+            }
+            if (stored == key + 1) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void growTable() {
+        long[] oldKeys = gramKeys;
+        int[][] oldPostings = postings;
+        int[] oldSizes = postingSizes;
+        gramKeys = new long[oldKeys.length * 2];
+        postings = new int[oldKeys.length * 2][];
+        postingSizes = new int[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = -find(oldKeys[i] - 1) - 1;
+                gramKeys[slot] = oldKeys[i];
+                postings[slot] = oldPostings[i];
+                postingSizes[slot] = oldSizes[i];
+            }
+        }
+    }
+
+    /**
+     * Packs one to three chars and their count into a key.
+     */
+    private static long gram(String text, int start, int length) {
+        long key = length;
+        for (int i = start; i < start + length; i++) {
+            key = (key << 16) | text.charAt(i);
+        }
+        return key;
+    }
+
+    private static long mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 29);
+    }
+
+    /**
+     * Returns the numeric result of an entry: the number after its last " = " or " ≈ ", which may be a fraction;
+     * NaN if there is none.
+     */
+    static double parseResult(String entry) {
+        int equals = Math.max(entry.lastIndexOf(" = "), entry.lastIndexOf(" ≈ "));
+        return equals < 0 ? Double.NaN : parseNumber(entry.substring(equals + 3).trim());
+    }
+
+    /**
+     * Parses a number or a fraction "n/d".
+     *
+     * @return The value, or NaN if the text is not a number
+     */
+    static double parseNumber(String text) {
+        try {
+            int slash = text.indexOf('/');
+            if (slash > 0) {
+                return Double.parseDouble(text.substring(0, slash)) / Double.parseDouble(text.substring(slash + 1));
+            }
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * A parsed query: the text to find, and the range of results to accept.
+     *
+     * @param text The text, lower-cased, with the range tokens removed; may be empty
+     * @param min The lowest result accepted
+     * @param minInclusive True if min itself is accepted
+     * @param max The highest result accepted
+     * @param maxInclusive True if max itself is accepted
+     */
+    record Query(String text, double min, boolean minInclusive, double max, boolean maxInclusive) {
+
+        /**
+         * Splits a query into range tokens and text. A comparison operator may be separated from its number by
+         * a space; tokens that are not ranges are joined back into the text, separated by single spaces.
+         */
+        static Query parse(String query) {
+            double min = Double.NEGATIVE_INFINITY;
+            double max = Double.POSITIVE_INFINITY;
+            boolean minInclusive = true;
+            boolean maxInclusive = true;
+            StringBuilder text = new StringBuilder();
+            String[] tokens = query.trim().split("\\s+");
+            for (int i = 0; i < tokens.length; i++) {
+                String token = tokens[i];
+                String operator = token.startsWith(">=") || token.startsWith("<=") ? token.substring(0, 2)
+                        : token.startsWith(">") || token.startsWith("<") ? token.substring(0, 1) : null;
+                int dots = token.indexOf("..");
+                if (operator != null) {
+                    String number = token.substring(operator.length());
+                    if (number.isEmpty() && i + 1 < tokens.length && !Double.isNaN(parseNumber(tokens[i + 1]))) {
+                        number = tokens[++i];
+                    }
+                    double bound = parseNumber(number);
+                    if (!Double.isNaN(bound)) {
+                        if (operator.charAt(0) == '>') {
+                            min = bound;
+                            minInclusive = operator.length() == 2;
+                        } else {
+                            max = bound;
+                            maxInclusive = operator.length() == 2;
+                        }
+                        continue;
+                    }
+                } else if (dots > 0) {
+                    double low = parseNumber(token.substring(0, dots));
+                    double high = parseNumber(token.substring(dots + 2));
+                    if (!Double.isNaN(low) && !Double.isNaN(high)) {
+                        min = Math.min(low, high);
+                        max = Math.max(low, high);
+                        minInclusive = true;
+                        maxInclusive = true;
+                        continue;
+                    }
+                }
+                if (!token.isEmpty()) {
+                    text.append(text.length() == 0 ? "" : " ").append(token);
+                }
+            }
+            return new Query(text.toString(), min, minInclusive, max, maxInclusive);
+        }
+
+        /**
+         * Returns true if there is no range, or the result is in it.
+         */
+        boolean acceptsResult(double result) {
+            if (min == Double.NEGATIVE_INFINITY && max == Double.POSITIVE_INFINITY) {
+                return true;
+            }
+            return (minInclusive ? result >= min : result > min) && (maxInclusive ? result <= max : result < max);
+        }
+    }
+}
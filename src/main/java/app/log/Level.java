@@ -0,0 +1,16 @@
+package app.log;
+
+/**
+ * Level defines the severities of log messages, from least to most severe.
+ * Messages below the configured level are discarded before anything is recorded.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public enum Level {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR
+}
@@ -0,0 +1,237 @@
+package app.log;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.IllegalFormatException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Log is the application's asynchronous logger.
+ * Logging a message only checks the level and the rate limit and copies the format string and arguments into a
+ * preallocated ring; formatting and console I/O happen on a background writer thread. If the ring is full the message
+ * is dropped (and the drop reported later) rather than waiting, so the JavaFX Application Thread never blocks on I/O.
+ *
+ * Messages use String.format syntax, e.g. {@code Log.debug("Partial expression error: %s", e.getMessage())}.
+ * Each format string is rate limited separately, so a message that repeats on every keystroke cannot flood the console.
+ *
+ * Configured with system properties:
+ * calculator.log.level (DEBUG, INFO, WARN or ERROR; default INFO) and
+ * calculator.log.rateLimit (messages per second per format string; default 10).
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public final class Log {
+
+    public static final String LEVEL_PROPERTY = "calculator.log.level";
+    public static final String RATE_LIMIT_PROPERTY = "calculator.log.rateLimit";
+
+    private static final int RING_CAPACITY = 1024;
+
+    /**
+     * Upper bound on the number of rate-limited format strings, in case a caller passes a message built at runtime as the format.
+     */
+    private static final int MAX_RATE_LIMITERS = 1024;
+
+    /**
+     * How long the writer thread sleeps when the ring is empty. Producers never wake it, as that would cost them a system call.
+     */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private static final Level threshold = parseLevel(System.getProperty(LEVEL_PROPERTY));
+    private static final int rateLimit = Integer.getInteger(RATE_LIMIT_PROPERTY, 10);
+    private static final Map<String, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
+    private static final LogRing ring = new LogRing(RING_CAPACITY);
+    private static final Thread writer = startWriter();
+
+    private static volatile boolean running = true;
+
+    private Log() {
+    }
+
+    /**
+     * Returns whether messages of the given level are logged.
+     * Callers can check this before building expensive arguments.
+     *
+     * @param level The level to check
+     * @return True if the level is at or above the configured level
+     */
+    public static boolean isEnabled(Level level) {
+        return level.compareTo(threshold) >= 0;
+    }
+
+    public static void debug(String message) {
+        log(Level.DEBUG, message, null, null, null);
+    }
+
+    public static void debug(String format, Object arg) {
+        log(Level.DEBUG, format, arg, null, null);
+    }
+
+    public static void debug(String format, Object arg1, Object arg2) {
+        log(Level.DEBUG, format, arg1, arg2, null);
+    }
+
+    public static void info(String message) {
+        log(Level.INFO, message, null, null, null);
+    }
+
+    public static void info(String format, Object arg) {
+        log(Level.INFO, format, arg, null, null);
+    }
+
+    public static void info(String format, Object arg1, Object arg2) {
+        log(Level.INFO, format, arg1, arg2, null);
+    }
+
+    public static void warn(String message) {
+        log(Level.WARN, message, null, null, null);
+    }
+
+    public static void warn(String format, Object arg) {
+        log(Level.WARN, format, arg, null, null);
+    }
+
+    public static void warn(String format, Object arg1, Object arg2) {
+        log(Level.WARN, format, arg1, arg2, null);
+    }
+
+    public static void error(String message) {
+        log(Level.ERROR, message, null, null, null);
+    }
+
+    public static void error(String format, Object arg) {
+        log(Level.ERROR, format, arg, null, null);
+    }
+
+    public static void error(String format, Object arg1, Object arg2) {
+        log(Level.ERROR, format, arg1, arg2, null);
+    }
+
+    /**
+     * Logs an error with the stack trace of the exception that caused it.
+     *
+     * @param message The message
+     * @param thrown The exception
+     */
+    public static void error(String message, Throwable thrown) {
+        log(Level.ERROR, message, null, null, thrown);
+    }
+
+    /**
+     * Records a message for the writer thread. Never blocks.
+     */
+    private static void log(Level level, String format, Object arg1, Object arg2, Throwable thrown) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (rateLimiters.size() > MAX_RATE_LIMITERS) {
+            rateLimiters.clear();
+        }
+        int suppressed = rateLimiters.computeIfAbsent(format, key -> new RateLimiter(rateLimit)).tryAcquire(now);
+        if (suppressed >= 0) {
+            ring.offer(now, level, format, arg1, arg2, thrown, suppressed);
+        }
+    }
+
+    /**
+     * Writes all messages logged so far and stops the writer thread. Called on JVM shutdown.
+     */
+    private static void shutdown() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Thread startWriter() {
+        Thread thread = new Thread(Log::writeLoop, "calculator-log-writer");
+        thread.setDaemon(true);
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(Log::shutdown, "calculator-log-shutdown"));
+        return thread;
+    }
+
+    /**
+     * Writer thread: drains the ring, formats the messages and writes them to standard error.
+     */
+    private static void writeLoop() {
+        PrintStream out = System.err;
+        StringBuilder line = new StringBuilder(256);
+        while (true) {
+            boolean wrote = false;
+            LogRing.Entry entry;
+            while ((entry = ring.peek()) != null) {
+                format(entry, line);
+                out.append(line);
+                if (entry.thrown != null) {
+                    entry.thrown.printStackTrace(out);
+                }
+                ring.release(entry);
+                wrote = true;
+            }
+
+            long dropped = ring.takeDropped();
+            if (dropped > 0) {
+                out.println(TIME_FORMAT.format(Instant.now()) + " WARN  [calculator-log-writer] "
+                        + dropped + " log messages dropped because the log buffer was full");
+                wrote = true;
+            }
+            if (wrote) {
+                out.flush();
+            } else if (!running) {
+                return;
+            } else {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private static void format(LogRing.Entry entry, StringBuilder line) {
+        line.setLength(0);
+        TIME_FORMAT.formatTo(Instant.ofEpochMilli(entry.timeMillis), line);
+        line.append(' ').append(entry.level.name());
+        for (int i = entry.level.name().length(); i < 5; i++) {
+            line.append(' ');
+        }
+        line.append(" [").append(entry.threadName).append("] ");
+
+        if (entry.arg1 == null && entry.arg2 == null) {
+            line.append(entry.format);
+        } else {
+            try {
+                line.append(String.format(entry.format, entry.arg1, entry.arg2));
+            } catch (IllegalFormatException e) {
+                line.append(entry.format).append(" ").append(entry.arg1).append(" ").append(entry.arg2);
+            }
+        }
+        if (entry.suppressed > 0) {
+            line.append(" (").append(entry.suppressed).append(" similar messages suppressed)");
+        }
+        line.append(System.lineSeparator());
+    }
+
+    private static Level parseLevel(String value) {
+        if (value != null) {
+            try {
+                return Level.valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                System.err.println("Unknown log level '" + value + "', using INFO");
+            }
+        }
+        return Level.INFO;
+    }
+}
@@ -0,0 +1,119 @@
+package app.log;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LogRing is a bounded multi-producer, single-consumer ring of preallocated log entries.
+ * Producers claim a slot with a compare-and-set on the head sequence, fill it and publish it by writing the slot's
+ * sequence number; the single writer thread consumes slots in order. When the ring is full the message is dropped and
+ * counted instead of waiting, so logging never blocks the caller (in particular the JavaFX Application Thread).
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+final class LogRing {
+
+    /**
+     * A reusable log entry. Fields are written by one producer and read by the consumer after the
+     * volatile sequence write that publishes them.
+     */
+    static final class Entry {
+        volatile long sequence = -1;
+        long timeMillis;
+        Level level;
+        String threadName;
+        String format;
+        Object arg1;
+        Object arg2;
+        Throwable thrown;
+        int suppressed;
+
+        void clear() {
+            threadName = null;
+            format = null;
+            arg1 = null;
+            arg2 = null;
+            thrown = null;
+        }
+    }
+
+    private final Entry[] entries;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Next sequence to consume. Only written by the consumer.
+     */
+    private volatile long tail;
+
+    /**
+     * Creates a ring with the given capacity.
+     *
+     * @param capacity The number of entries, a power of two
+     */
+    LogRing(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        entries = new Entry[capacity];
+        for (int i = 0; i < capacity; i++) {
+            entries[i] = new Entry();
+        }
+        mask = capacity - 1;
+    }
+
+    /**
+     * Adds a message to the ring without blocking.
+     *
+     * @return False if the ring was full and the message was dropped
+     */
+    boolean offer(long timeMillis, Level level, String format, Object arg1, Object arg2, Throwable thrown, int suppressed) {
+        long sequence;
+        do {
+            sequence = head.get();
+            if (sequence - tail >= entries.length) {
+                dropped.increment();
+                return false;
+            }
+        } while (!head.compareAndSet(sequence, sequence + 1));
+
+        Entry entry = entries[(int) sequence & mask];
+        entry.timeMillis = timeMillis;
+        entry.level = level;
+        entry.threadName = Thread.currentThread().getName();
+        entry.format = format;
+        entry.arg1 = arg1;
+        entry.arg2 = arg2;
+        entry.thrown = thrown;
+        entry.suppressed = suppressed;
+        entry.sequence = sequence;
+        return true;
+    }
+
+    /**
+     * Returns the next published entry, or null if the next slot has not been published yet.
+     * Must only be called by the consumer, which must call release() when done with the entry.
+     */
+    Entry peek() {
+        Entry entry = entries[(int) tail & mask];
+        return entry.sequence == tail ? entry : null;
+    }
+
+    /**
+     * Clears the entry returned by peek() and makes its slot available to producers again.
+     */
+    void release(Entry entry) {
+        entry.clear();
+        tail = tail + 1;
+    }
+
+    /**
+     * Returns and resets the number of messages dropped because the ring was full.
+     */
+    long takeDropped() {
+        return dropped.sumThenReset();
+    }
+}
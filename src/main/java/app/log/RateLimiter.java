@@ -0,0 +1,45 @@
+package app.log;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RateLimiter allows a fixed number of messages per one-second window for one message template,
+ * and counts the messages it suppressed so the next allowed message can report them.
+ * Lock-free, as it is called from the thread that logs.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+final class RateLimiter {
+
+    private static final long WINDOW_MILLIS = 1_000;
+
+    private final int limit;
+    private final AtomicLong windowStart = new AtomicLong();
+    private final AtomicInteger count = new AtomicInteger();
+    private final AtomicInteger suppressed = new AtomicInteger();
+
+    RateLimiter(int limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Checks whether a message may be logged now.
+     *
+     * @param nowMillis The current time in milliseconds
+     * @return -1 if the message is suppressed, otherwise the number of messages suppressed since the last allowed one
+     */
+    int tryAcquire(long nowMillis) {
+        long start = windowStart.get();
+        if (nowMillis - start >= WINDOW_MILLIS && windowStart.compareAndSet(start, nowMillis)) {
+            count.set(0);
+        }
+        if (count.incrementAndGet() > limit) {
+            suppressed.incrementAndGet();
+            return -1;
+        }
+        return suppressed.getAndSet(0);
+    }
+}
@@ -0,0 +1,248 @@
+package app.matrix;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * LUDecomposition factors a square matrix as P * A = L * U with partial pivoting, in place in one flat row-major
+ * array: U is on and above the diagonal, the multipliers of L (whose diagonal is 1) below it.
+ *
+ * Eliminating column k subtracts a multiple of pivot row k from every row below it. Each row update is a contiguous
+ * loop, and the rows are independent of each other, so when the remaining submatrix is large the rows are updated
+ * as fork/join tasks.
+ *
+ * A pivot counts as zero, and the matrix as singular, when it is no larger than n * machine epsilon times the largest
+ * entry of its own row or column in the original matrix (whichever is smaller): below that, the pivot is
+ * indistinguishable from rounding error in the elimination of that row, and an inverse computed from it would be
+ * noise rather than an error. Because the cutoff follows each row's and column's own scale, a well-conditioned matrix
+ * with entries of very different magnitudes, such as diag(1e20, 1), is not mistaken for a singular one.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+final class LUDecomposition {
+
+    /**
+     * Number of multiply-adds in one elimination step above which its rows are updated in parallel.
+     */
+    private static final long PARALLEL_THRESHOLD = 64L * 1024;
+
+    /**
+     * Number of rows below which a task updates its rows directly instead of splitting further.
+     */
+    private static final int LEAF_ROWS = 32;
+
+    private final int n;
+    private final double[] lu;
+    private final int[] pivots;
+    private final int sign;
+    private final boolean singular;
+
+    private LUDecomposition(int n, double[] lu, int[] pivots, int sign, boolean singular) {
+        this.n = n;
+        this.lu = lu;
+        this.pivots = pivots;
+        this.sign = sign;
+        this.singular = singular;
+    }
+
+    /**
+     * Factors a square matrix; the matrix itself is not modified.
+     */
+    static LUDecomposition of(Matrix matrix) {
+        int n = matrix.rows();
+        double[] lu = matrix.toArray();
+        int[] pivots = new int[n];
+        for (int i = 0; i < n; i++) {
+            pivots[i] = i;
+        }
+        int sign = 1;
+        boolean singular = false;
+        double[] rowScales = rowScales(lu, n);
+        double[] columnScales = columnScales(lu, n);
+
+        for (int k = 0; k < n; k++) {
+            int pivot = pivotRow(lu, n, k);
+            if (pivot != k) {
+                swapRows(lu, n, pivot, k);
+                int swapped = pivots[pivot];
+                pivots[pivot] = pivots[k];
+                pivots[k] = swapped;
+                double scale = rowScales[pivot];
+                rowScales[pivot] = rowScales[k];
+                rowScales[k] = scale;
+                sign = -sign;
+            }
+            double diagonal = lu[k * n + k];
+            if (Math.abs(diagonal) <= n * Math.ulp(1.0) * Math.min(rowScales[k], columnScales[k])) {
+                singular = true;
+                continue;
+            }
+            if ((long) (n - k - 1) * (n - k - 1) < PARALLEL_THRESHOLD) {
+                eliminate(lu, n, k, k + 1, n);
+            } else {
+                ForkJoinPool.commonPool().invoke(new Eliminate(lu, n, k, k + 1, n));
+            }
+        }
+        return new LUDecomposition(n, lu, pivots, sign, singular);
+    }
+
+    /**
+     * Returns the determinant: the product of the diagonal of U, negated for an odd number of row swaps, or 0 if the
+     * matrix is singular.
+     */
+    double determinant() {
+        if (singular) {
+            return 0;
+        }
+        double determinant = sign;
+        for (int i = 0; i < n; i++) {
+            determinant *= lu[i * n + i];
+        }
+        return determinant;
+    }
+
+    boolean isSingular() {
+        return singular;
+    }
+
+    /**
+     * Solves A * x = b for every column of b by forward and back substitution. The columns are processed together,
+     * row by row, so every inner loop runs along a contiguous row of x.
+     *
+     * @throws ArithmeticException if the matrix is singular
+     */
+    Matrix solve(Matrix b) {
+        if (singular) {
+            throw new ArithmeticException("The matrix is singular");
+        }
+        int p = b.cols();
+        double[] source = b.data();
+        double[] x = new double[n * p];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(source, pivots[i] * p, x, i * p, p);
+        }
+        // Forward substitution with L (unit diagonal)
+        for (int i = 0; i < n; i++) {
+            for (int k = 0; k < i; k++) {
+                subtractScaledRow(x, i * p, x, k * p, lu[i * n + k], p);
+            }
+        }
+        // Back substitution with U
+        for (int i = n - 1; i >= 0; i--) {
+            for (int k = i + 1; k < n; k++) {
+                subtractScaledRow(x, i * p, x, k * p, lu[i * n + k], p);
+            }
+            double diagonal = lu[i * n + i];
+            for (int j = 0; j < p; j++) {
+                x[i * p + j] /= diagonal;
+            }
+        }
+        return new Matrix(n, p, x);
+    }
+
+    /**
+     * Returns the row at or below k with the largest absolute value in column k.
+     */
+    private static int pivotRow(double[] lu, int n, int k) {
+        int pivot = k;
+        double largest = Math.abs(lu[k * n + k]);
+        for (int i = k + 1; i < n; i++) {
+            double candidate = Math.abs(lu[i * n + k]);
+            if (candidate > largest) {
+                largest = candidate;
+                pivot = i;
+            }
+        }
+        return pivot;
+    }
+
+    /**
+     * Returns the largest absolute value of every row.
+     */
+    private static double[] rowScales(double[] values, int n) {
+        double[] scales = new double[n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                scales[i] = Math.max(scales[i], Math.abs(values[i * n + j]));
+            }
+        }
+        return scales;
+    }
+
+    /**
+     * Returns the largest absolute value of every column.
+     */
+    private static double[] columnScales(double[] values, int n) {
+        double[] scales = new double[n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                scales[j] = Math.max(scales[j], Math.abs(values[i * n + j]));
+            }
+        }
+        return scales;
+    }
+
+    private static void swapRows(double[] lu, int n, int a, int b) {
+        double[] row = new double[n];
+        System.arraycopy(lu, a * n, row, 0, n);
+        System.arraycopy(lu, b * n, lu, a * n, n);
+        System.arraycopy(row, 0, lu, b * n, n);
+    }
+
+    /**
+     * Eliminates column k from rows [rowFrom, rowTo), storing each row's multiplier in its column k.
+     */
+    private static void eliminate(double[] lu, int n, int k, int rowFrom, int rowTo) {
+        int pivotRow = k * n;
+        double diagonal = lu[pivotRow + k];
+        for (int i = rowFrom; i < rowTo; i++) {
+            int row = i * n;
+            double factor = lu[row + k] / diagonal;
+            lu[row + k] = factor;
+            // Applied even for a zero factor, so an infinite or NaN entry of the pivot row propagates
+            subtractScaledRow(lu, row + k + 1, lu, pivotRow + k + 1, factor, n - k - 1);
+        }
+    }
+
+    /**
+     * target[targetFrom + j] -= factor * source[sourceFrom + j] for j in [0, length).
+     */
+    private static void subtractScaledRow(double[] target, int targetFrom, double[] source, int sourceFrom,
+                                          double factor, int length) {
+        for (int j = 0; j < length; j++) {
+            target[targetFrom + j] -= factor * source[sourceFrom + j];
+        }
+    }
+
+    /**
+     * Task that eliminates column k from a range of rows, splitting the range in half for parallelism.
+     */
+    private static final class Eliminate extends RecursiveAction {
+
+        private final double[] lu;
+        private final int n;
+        private final int k;
+        private final int rowFrom;
+        private final int rowTo;
+
+        Eliminate(double[] lu, int n, int k, int rowFrom, int rowTo) {
+            this.lu = lu;
+            this.n = n;
+            this.k = k;
+            this.rowFrom = rowFrom;
+            this.rowTo = rowTo;
+        }
+
+        @Override
+        protected void compute() {
+            if (rowTo - rowFrom <= LEAF_ROWS) {
+                eliminate(lu, n, k, rowFrom, rowTo);
+                return;
+            }
+            int middle = (rowFrom + rowTo) >>> 1;
+            invokeAll(new Eliminate(lu, n, k, rowFrom, middle), new Eliminate(lu, n, k, middle, rowTo));
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package app.matrix;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import app.eval.EvaluationException;
+
+/**
+ * Matrix is a dense matrix of doubles stored as one flat row-major array: element (i, j) is data[i * cols + j].
+ * There are no per-element or per-row objects, so a 1000 x 1000 matrix is a single 8 MB array and the kernels
+ * walk memory sequentially. Operations return new matrices; the receiver is never modified.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public final class Matrix {
+
+    /**
+     * Block size of the blocked transpose, so a block of the source and of the target both stay in the L1 cache.
+     */
+    private static final int TRANSPOSE_BLOCK = 32;
+
+    private final int rows;
+    private final int cols;
+    private final double[] data;
+
+    /**
+     * Wraps a row-major array without copying it.
+     */
+    Matrix(int rows, int cols, double[] data) {
+        if (rows < 1 || cols < 1 || data.length != rows * cols) {
+            throw new IllegalArgumentException("Invalid matrix size " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.data = data;
+    }
+
+    /**
+     * Creates a matrix from row-major values.
+     *
+     * @param rows The number of rows
+     * @param cols The number of columns
+     * @param values The rows * cols values, row by row
+     * @return The matrix
+     */
+    public static Matrix of(int rows, int cols, double... values) {
+        return new Matrix(rows, cols, values.clone());
+    }
+
+    /**
+     * Returns the n x n identity matrix.
+     */
+    public static Matrix identity(int n) {
+        double[] data = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            data[i * n + i] = 1;
+        }
+        return new Matrix(n, n, data);
+    }
+
+    /**
+     * Returns a matrix of uniformly distributed values in [-1, 1).
+     *
+     * @param rows The number of rows
+     * @param cols The number of columns
+     * @param seed The random seed
+     * @return The matrix
+     */
+    public static Matrix random(int rows, int cols, long seed) {
+        Random random = new Random(seed);
+        double[] data = new double[rows * cols];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = 2 * random.nextDouble() - 1;
+        }
+        return new Matrix(rows, cols, data);
+    }
+
+    /**
+     * Parses a matrix written row by row: rows separated by ';' or line breaks, values by ',' or spaces
+     * (e.g., "1 2; 3 4"). A single row is a row vector.
+     *
+     * @param text The matrix text
+     * @return The matrix
+     * @throws EvaluationException if the text is not a rectangular matrix of numbers
+     */
+    public static Matrix parse(String text) throws EvaluationException {
+        List<double[]> parsedRows = new ArrayList<>();
+        for (String row : text.trim().split("\\s*[;\\n]\\s*")) {
+            if (row.isBlank()) {
+                continue;
+            }
+            String[] cells = row.trim().split("[\\s,]+");
+            double[] values = new double[cells.length];
+            for (int j = 0; j < cells.length; j++) {
+                try {
+                    values[j] = Double.parseDouble(cells[j]);
+                } catch (NumberFormatException e) {
+                    throw new EvaluationException("Invalid number '" + cells[j] + "' in row " + (parsedRows.size() + 1));
+                }
+            }
+            if (!parsedRows.isEmpty() && values.length != parsedRows.get(0).length) {
+                throw new EvaluationException("Row " + (parsedRows.size() + 1) + " has " + values.length
+                        + " values, expected " + parsedRows.get(0).length);
+            }
+            parsedRows.add(values);
+        }
+        if (parsedRows.isEmpty()) {
+            throw new EvaluationException("The matrix is empty");
+        }
+        int cols = parsedRows.get(0).length;
+        double[] data = new double[parsedRows.size() * cols];
+        for (int i = 0; i < parsedRows.size(); i++) {
+            System.arraycopy(parsedRows.get(i), 0, data, i * cols, cols);
+        }
+        return new Matrix(parsedRows.size(), cols, data);
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    /**
+     * Returns element (i, j).
+     */
+    public double get(int i, int j) {
+        return data[i * cols + j];
+    }
+
+    /**
+     * Returns a copy of the row-major values.
+     */
+    public double[] toArray() {
+        return data.clone();
+    }
+
+    /**
+     * Returns the row-major values without copying, for the kernels in this package.
+     */
+    double[] data() {
+        return data;
+    }
+
+    public boolean isSquare() {
+        return rows == cols;
+    }
+
+    /**
+     * Returns this + other.
+     */
+    public Matrix plus(Matrix other) {
+        requireSameSize(other, "add");
+        double[] result = new double[data.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = data[i] + other.data[i];
+        }
+        return new Matrix(rows, cols, result);
+    }
+
+    /**
+     * Returns this - other.
+     */
+    public Matrix minus(Matrix other) {
+        requireSameSize(other, "subtract");
+        double[] result = new double[data.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = data[i] - other.data[i];
+        }
+        return new Matrix(rows, cols, result);
+    }
+
+    /**
+     * Returns this * factor.
+     */
+    public Matrix scale(double factor) {
+        double[] result = new double[data.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = data[i] * factor;
+        }
+        return new Matrix(rows, cols, result);
+    }
+
+    /**
+     * Returns the matrix product this * other, computed by {@link MatrixMultiply}.
+     */
+    public Matrix times(Matrix other) {
+        if (cols != other.rows) {
+            throw new IllegalArgumentException("Cannot multiply " + size() + " by " + other.size());
+        }
+        return new Matrix(rows, other.cols, MatrixMultiply.multiply(data, other.data, rows, cols, other.cols));
+    }
+
+    /**
+     * Returns the transpose, copied in square blocks so both matrices are read and written cache line by cache line.
+     */
+    public Matrix transpose() {
+        double[] result = new double[data.length];
+        for (int ii = 0; ii < rows; ii += TRANSPOSE_BLOCK) {
+            int iEnd = Math.min(ii + TRANSPOSE_BLOCK, rows);
+            for (int jj = 0; jj < cols; jj += TRANSPOSE_BLOCK) {
+                int jEnd = Math.min(jj + TRANSPOSE_BLOCK, cols);
+                for (int i = ii; i < iEnd; i++) {
+                    for (int j = jj; j < jEnd; j++) {
+                        result[j * rows + i] = data[i * cols + j];
+                    }
+                }
+            }
+        }
+        return new Matrix(cols, rows, result);
+    }
+
+    /**
+     * Returns the determinant, from the LU decomposition.
+     */
+    public double determinant() {
+        requireSquare("the determinant");
+        return LUDecomposition.of(this).determinant();
+    }
+
+    /**
+     * Returns the inverse.
+     *
+     * @throws ArithmeticException if the matrix is singular
+     */
+    public Matrix inverse() {
+        requireSquare("the inverse");
+        return LUDecomposition.of(this).solve(identity(rows));
+    }
+
+    /**
+     * Solves this * x = b for x.
+     *
+     * @param b The right-hand side, with one column per system to solve
+     * @return x
+     * @throws ArithmeticException if the matrix is singular
+     */
+    public Matrix solve(Matrix b) {
+        requireSquare("solving");
+        if (b.rows != rows) {
+            throw new IllegalArgumentException("Cannot solve " + size() + " with right-hand side " + b.size());
+        }
+        return LUDecomposition.of(this).solve(b);
+    }
+
+    /**
+     * Returns the size as "rows x cols".
+     */
+    public String size() {
+        return rows + "x" + cols;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Matrix matrix && rows == matrix.rows && cols == matrix.cols && Arrays.equals(data, matrix.data);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * rows + cols) + Arrays.hashCode(data);
+    }
+
+    @Override
+    public String toString() {
+        return "Matrix " + size();
+    }
+
+    private void requireSameSize(Matrix other, String operation) {
+        if (rows != other.rows || cols != other.cols) {
+            throw new IllegalArgumentException("Cannot " + operation + " " + size() + " and " + other.size());
+        }
+    }
+
+    private void requireSquare(String operation) {
+        if (!isSquare()) {
+            throw new IllegalArgumentException("A square matrix is needed for " + operation + ", not " + size());
+        }
+    }
+}
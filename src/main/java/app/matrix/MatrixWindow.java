@@ -0,0 +1,320 @@
+package app.matrix;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BinaryOperator;
+
+import app.eval.EvaluationException;
+import app.eval.ResultFormatter;
+
+import javafx.application.Platform;
+import javafx.css.PseudoClass;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextArea;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+
+/**
+ * MatrixWindow is the matrix mode: type matrices A and B row by row (e.g., "1 2; 3 4") or generate random ones of a
+ * given size, then add, subtract, multiply, transpose, invert, take the determinant or solve A * x = B. The
+ * computation runs on a background thread, so a 1000 x 1000 product does not block the window.
+ *
+ * Matrices too large to edit as text are kept as values: the operand area shows a placeholder, and the matrix is used
+ * for as long as that placeholder is left unchanged. Large results are shown as their top-left corner.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class MatrixWindow {
+
+    /**
+     * Largest number of elements written out as editable text.
+     */
+    private static final int MAX_TEXT_ELEMENTS = 400;
+
+    /**
+     * Number of rows and columns shown of a larger result.
+     */
+    private static final int PREVIEW_SIZE = 8;
+
+    /**
+     * Largest size accepted for random matrices (an 8 MB array per 1000 x 1000).
+     */
+    private static final int MAX_RANDOM_SIZE = 2000;
+
+    private static final PseudoClass LIGHT_THEME = PseudoClass.getPseudoClass("light");
+
+    private final Stage stage = new Stage();
+    private final Operand a = new Operand("1 2; 3 4");
+    private final Operand b = new Operand("5; 6");
+    private final TextField sizeField = new TextField("100");
+    private final TextArea resultArea = new TextArea();
+    private final Label statusLabel = new Label();
+    private final ResultFormatter formatter = new ResultFormatter();
+    private Matrix result;
+    private long seed = System.nanoTime();
+
+    /**
+     * Creates the matrix window.
+     *
+     * @param owner The calculator window
+     * @param stylesheets The calculator stylesheets
+     */
+    public MatrixWindow(Window owner, List<String> stylesheets) {
+        HBox operands = new HBox(8, operandBox("A", a), operandBox("B", b));
+        VBox.setVgrow(operands, Priority.ALWAYS);
+
+        sizeField.getStyleClass().add("matrix-field");
+        sizeField.setPrefColumnCount(5);
+        HBox randomRow = new HBox(8, label("Size"), sizeField,
+                button("Random A", () -> randomize(a)), button("Random B", () -> randomize(b)));
+        randomRow.setAlignment(Pos.CENTER_LEFT);
+
+        FlowPane operations = new FlowPane(6, 6,
+                button("A + B", () -> compute(true, Matrix::plus)),
+                button("A − B", () -> compute(true, Matrix::minus)),
+                button("A × B", () -> compute(true, Matrix::times)),
+                button("Aᵀ", () -> compute(false, (x, y) -> x.transpose())),
+                button("det(A)", this::determinant),
+                button("A⁻¹", () -> compute(false, (x, y) -> x.inverse())),
+                button("Solve A·x = B", () -> compute(true, Matrix::solve)),
+                button("Use as A", this::useResultAsA));
+
+        resultArea.setEditable(false);
+        resultArea.getStyleClass().add("matrix-result");
+        resultArea.setPrefRowCount(PREVIEW_SIZE + 2);
+        statusLabel.getStyleClass().add("matrix-status");
+
+        VBox layout = new VBox(8, operands, randomRow, operations, resultArea, statusLabel);
+        layout.getStyleClass().add("matrix-root");
+
+        Scene scene = new Scene(layout, 560, 560);
+        scene.getStylesheets().addAll(stylesheets);
+        stage.setScene(scene);
+        stage.setTitle("Matrix Mode");
+        stage.initOwner(owner);
+        stage.setMinWidth(420);
+        stage.setMinHeight(400);
+    }
+
+    /**
+     * Shows the window.
+     */
+    public void show() {
+        stage.show();
+        stage.toFront();
+        a.area.requestFocus();
+    }
+
+    /**
+     * Switches the window to the light or dark theme, following the calculator.
+     *
+     * @param lightTheme True for the light theme
+     */
+    public void setLightTheme(boolean lightTheme) {
+        stage.getScene().getRoot().pseudoClassStateChanged(LIGHT_THEME, lightTheme);
+    }
+
+    /**
+     * Parses the operands and applies an operation to them on a background thread. B is only parsed when the
+     * operation uses it.
+     */
+    private void compute(boolean usesB, BinaryOperator<Matrix> operation) {
+        Matrix x;
+        Matrix y = null;
+        try {
+            x = a.matrix("A");
+            if (usesB) {
+                y = b.matrix("B");
+            }
+        } catch (EvaluationException e) {
+            statusLabel.setText(e.getMessage());
+            return;
+        }
+        Matrix second = y;
+        statusLabel.setText("Computing...");
+        long start = System.nanoTime();
+        CompletableFuture.supplyAsync(() -> operation.apply(x, second)).whenComplete((matrix, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                statusLabel.setText(message(error));
+                return;
+            }
+            result = matrix;
+            resultArea.setText(format(matrix));
+            statusLabel.setText(String.format("%s result in %.2f ms", matrix.size(), elapsed(start)));
+        }));
+    }
+
+    private void determinant() {
+        Matrix x;
+        try {
+            x = a.matrix("A");
+        } catch (EvaluationException e) {
+            statusLabel.setText(e.getMessage());
+            return;
+        }
+        statusLabel.setText("Computing...");
+        long start = System.nanoTime();
+        CompletableFuture.supplyAsync(x::determinant).whenComplete((value, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                statusLabel.setText(message(error));
+                return;
+            }
+            result = null;
+            resultArea.setText("det(A) = " + formatter.format(value));
+            statusLabel.setText(String.format("Determinant of %s in %.2f ms", x.size(), elapsed(start)));
+        }));
+    }
+
+    private void randomize(Operand operand) {
+        int size;
+        try {
+            size = Integer.parseInt(sizeField.getText().trim());
+        } catch (NumberFormatException e) {
+            size = 0;
+        }
+        if (size < 1 || size > MAX_RANDOM_SIZE) {
+            statusLabel.setText("The size must be between 1 and " + MAX_RANDOM_SIZE);
+            return;
+        }
+        operand.set(Matrix.random(size, size, seed++), "random");
+        statusLabel.setText("Random " + size + "x" + size + " matrix");
+    }
+
+    private void useResultAsA() {
+        if (result == null) {
+            statusLabel.setText("There is no matrix result to use");
+            return;
+        }
+        a.set(result, "result");
+    }
+
+    /**
+     * Formats a matrix as aligned rows, or its top-left corner when it is larger than PREVIEW_SIZE.
+     */
+    private String format(Matrix matrix) {
+        int rows = Math.min(matrix.rows(), PREVIEW_SIZE);
+        int cols = Math.min(matrix.cols(), PREVIEW_SIZE);
+        String[] cells = new String[rows * cols];
+        int width = 0;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                String cell = formatter.format(matrix.get(i, j));
+                cells[i * cols + j] = cell;
+                width = Math.max(width, cell.length());
+            }
+        }
+        StringBuilder text = new StringBuilder();
+        if (rows < matrix.rows() || cols < matrix.cols()) {
+            text.append(matrix.size()).append(", top-left ").append(rows).append('x').append(cols).append(":\n");
+        }
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                String cell = cells[i * cols + j];
+                text.append(" ".repeat(width - cell.length() + (j == 0 ? 0 : 2))).append(cell);
+            }
+            text.append(cols < matrix.cols() ? "  …\n" : "\n");
+        }
+        if (rows < matrix.rows()) {
+            text.append("⋮\n");
+        }
+        return text.toString();
+    }
+
+    /**
+     * Writes a matrix as text that {@link Matrix#parse} reads back.
+     */
+    private static String toText(Matrix matrix) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < matrix.rows(); i++) {
+            for (int j = 0; j < matrix.cols(); j++) {
+                text.append(j == 0 ? "" : " ").append(matrix.get(i, j));
+            }
+            text.append(i + 1 < matrix.rows() ? "\n" : "");
+        }
+        return text.toString();
+    }
+
+    private static String message(Throwable error) {
+        Throwable cause = error.getCause() != null ? error.getCause() : error;
+        return cause.getMessage();
+    }
+
+    private static double elapsed(long start) {
+        return (System.nanoTime() - start) / 1_000_000.0;
+    }
+
+    private VBox operandBox(String name, Operand operand) {
+        operand.area.getStyleClass().add("matrix-field");
+        operand.area.setPrefRowCount(6);
+        VBox.setVgrow(operand.area, Priority.ALWAYS);
+        VBox box = new VBox(4, label(name), operand.area);
+        HBox.setHgrow(box, Priority.ALWAYS);
+        return box;
+    }
+
+    private static Label label(String text) {
+        Label label = new Label(text);
+        label.getStyleClass().add("matrix-label");
+        return label;
+    }
+
+    private static Button button(String text, Runnable action) {
+        Button button = new Button(text);
+        button.getStyleClass().add("matrix-button");
+        button.setOnAction(event -> action.run());
+        return button;
+    }
+
+    /**
+     * An operand text area, holding the matrix behind a placeholder when it is too large to show as text.
+     */
+    private static final class Operand {
+
+        private final TextArea area;
+        private Matrix stored;
+        private String storedText;
+
+        Operand(String text) {
+            area = new TextArea(text);
+        }
+
+        void set(Matrix matrix, String description) {
+            if (matrix.rows() * matrix.cols() <= MAX_TEXT_ELEMENTS) {
+                stored = null;
+                storedText = null;
+                area.setText(toText(matrix));
+            } else {
+                stored = matrix;
+                storedText = "[" + description + " " + matrix.size() + " matrix]";
+                area.setText(storedText);
+            }
+        }
+
+        /**
+         * Returns the stored matrix while its placeholder is unchanged, and the parsed text otherwise.
+         *
+         * @param name The operand name, for error messages
+         */
+        Matrix matrix(String name) throws EvaluationException {
+            String text = area.getText();
+            if (stored != null && text.equals(storedText)) {
+                return stored;
+            }
+            try {
+                return Matrix.parse(text);
+            } catch (EvaluationException e) {
+                throw new EvaluationException(name + ": " + e.getMessage());
+            }
+        }
+    }
+}
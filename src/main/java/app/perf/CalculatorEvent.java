@@ -0,0 +1,37 @@
+package app.perf;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base class of the Java Flight Recorder events emitted along the calculator's input pipeline:
+ * key dispatch, expression building, normalization, evaluation, number formatting and display update.
+ * Every stage records the length of the expression it worked on and the evaluator in use, so latency can be
+ * broken down per stage and per evaluator (see {@link LatencyReport}).
+ *
+ * <p>Events are disabled by default and cost only a cheap enabled check when no recording is running.
+ * Enable them with the settings in {@code src/main/jfr/calculator.jfc} ({@code ./gradlew run -Pjfr}).
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+@Category({"Calculator", "Pipeline"})
+@StackTrace(false)
+@Enabled(false)
+public abstract class CalculatorEvent extends Event {
+
+    /**
+     * Prefix shared by the names of all calculator events.
+     */
+    public static final String NAME_PREFIX = "app.calculator.";
+
+    @Label("Expression Length")
+    public int expressionLength;
+
+    @Label("Evaluator")
+    public String evaluator;
+}
@@ -0,0 +1,311 @@
+package app.perf;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.ThreadMXBean;
+
+/**
+ * CalculatorMetrics keeps the always-on performance counters of the calculator: evaluation count and latency,
+ * allocation rate, GC pauses and JavaFX pulse (CSS + layout) duration.
+ * Recording is lock-free and allocation-free (a LongAdder and a LatencyHistogram increment), so it stays on in
+ * normal use; rates are derived from the counters only when sample() is called by the diagnostics view or an export.
+ * The counters can be exported in the Prometheus text exposition format, e.g. for the node_exporter textfile collector.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class CalculatorMetrics implements AutoCloseable {
+
+    /**
+     * System property that overrides the file written by export().
+     */
+    public static final String METRICS_FILE_PROPERTY = "calculator.metricsFile";
+
+    /**
+     * Upper bounds (in nanoseconds) of the buckets in the exported Prometheus histograms.
+     */
+    private static final long[] EXPORT_BUCKETS = {
+            1_000, 2_500, 5_000, 10_000, 25_000, 50_000, 100_000, 250_000, 500_000,
+            1_000_000, 2_500_000, 5_000_000, 10_000_000, 25_000_000, 50_000_000, 100_000_000,
+            250_000_000, 500_000_000, 1_000_000_000
+    };
+
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder evaluationErrors = new LongAdder();
+    private final LatencyHistogram evaluationLatency = new LatencyHistogram();
+    private final LatencyHistogram pulseDuration = new LatencyHistogram();
+    private final LatencyHistogram gcPauses = new LatencyHistogram();
+
+    private final ThreadMXBean threadBean;
+    private final List<NotificationEmitter> gcEmitters = new ArrayList<>();
+    private final NotificationListener gcListener = this::handleGcNotification;
+
+    // Rates derived by sample(), guarded by this
+    private long lastSampleNanos;
+    private long lastEvaluationCount;
+    private long lastAllocatedBytes;
+    private double evaluationsPerSecond;
+    private double allocationBytesPerSecond;
+
+    /**
+     * Creates the metrics and starts listening for GC notifications.
+     */
+    public CalculatorMetrics() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        threadBean = bean instanceof ThreadMXBean sunBean && sunBean.isThreadAllocatedMemorySupported() ? sunBean : null;
+        if (threadBean != null && !threadBean.isThreadAllocatedMemoryEnabled()) {
+            threadBean.setThreadAllocatedMemoryEnabled(true);
+        }
+
+        for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (gcBean instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(gcListener, null, null);
+                gcEmitters.add(emitter);
+            }
+        }
+
+        lastSampleNanos = System.nanoTime();
+        lastAllocatedBytes = allocatedBytes();
+    }
+
+    /**
+     * Records a successful evaluation.
+     *
+     * @param nanos How long the evaluation took
+     */
+    public void recordEvaluation(long nanos) {
+        evaluations.increment();
+        evaluationLatency.record(nanos);
+    }
+
+    /**
+     * Records an evaluation that failed with an error.
+     *
+     * @param nanos How long the evaluation took before failing
+     */
+    public void recordEvaluationError(long nanos) {
+        evaluationErrors.increment();
+        evaluationLatency.record(nanos);
+    }
+
+    /**
+     * Records the CSS and layout time of one JavaFX pulse.
+     *
+     * @param nanos Time between the pre-layout and post-layout pulse listeners
+     */
+    public void recordPulse(long nanos) {
+        pulseDuration.record(nanos);
+    }
+
+    /**
+     * Returns the number of successful evaluations.
+     */
+    public long evaluationCount() {
+        return evaluations.sum();
+    }
+
+    /**
+     * Returns the number of failed evaluations.
+     */
+    public long evaluationErrorCount() {
+        return evaluationErrors.sum();
+    }
+
+    /**
+     * Returns the latency histogram of all evaluations, successful or not.
+     */
+    public LatencyHistogram evaluationLatency() {
+        return evaluationLatency;
+    }
+
+    /**
+     * Returns the histogram of JavaFX pulse CSS and layout times.
+     */
+    public LatencyHistogram pulseDuration() {
+        return pulseDuration;
+    }
+
+    /**
+     * Returns the histogram of GC pauses (the JVM reports them with millisecond resolution).
+     */
+    public LatencyHistogram gcPauses() {
+        return gcPauses;
+    }
+
+    /**
+     * Updates the evaluation and allocation rates from the counters since the previous sample.
+     * Called about once a second by the diagnostics view, and before every export.
+     */
+    public synchronized void sample() {
+        long now = System.nanoTime();
+        double seconds = (now - lastSampleNanos) / 1e9;
+        if (seconds <= 0) {
+            return;
+        }
+        long count = evaluations.sum() + evaluationErrors.sum();
+        long allocated = allocatedBytes();
+
+        evaluationsPerSecond = (count - lastEvaluationCount) / seconds;
+        // Bytes allocated by threads that have ended since the last sample drop out of the sum, so never report below 0
+        allocationBytesPerSecond = Math.max(0, allocated - lastAllocatedBytes) / seconds;
+
+        lastSampleNanos = now;
+        lastEvaluationCount = count;
+        lastAllocatedBytes = allocated;
+    }
+
+    /**
+     * Returns the evaluation rate (successful or not) at the last sample.
+     */
+    public synchronized double evaluationsPerSecond() {
+        return evaluationsPerSecond;
+    }
+
+    /**
+     * Returns the allocation rate of the whole process at the last sample.
+     *
+     * @return Bytes per second, or 0 if the JVM does not support per-thread allocation counters
+     */
+    public synchronized double allocationBytesPerSecond() {
+        return allocationBytesPerSecond;
+    }
+
+    /**
+     * Returns the file that export() writes: the calculator.metricsFile system property,
+     * or calculator-metrics.prom in the .calculator directory of the user's home directory.
+     *
+     * @return The export path
+     */
+    public static Path defaultExportFile() {
+        String configured = System.getProperty(METRICS_FILE_PROPERTY);
+        if (configured != null && !configured.isBlank()) {
+            return Path.of(configured);
+        }
+        return Path.of(System.getProperty("user.home"), ".calculator", "calculator-metrics.prom");
+    }
+
+    /**
+     * Samples the rates and writes all metrics to a file in the Prometheus text format.
+     * The file is written next to the target and then moved over it, so a scraper never reads a partial file.
+     *
+     * @param file The file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void export(Path file) throws IOException {
+        sample();
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            writePrometheus(writer);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Writes all metrics in the Prometheus text exposition format (version 0.0.4).
+     *
+     * @param out Where to write the metrics
+     * @throws IOException if writing fails
+     */
+    public void writePrometheus(Appendable out) throws IOException {
+        writeMetric(out, "calculator_evaluations_total", "counter", "Expressions evaluated successfully.", evaluations.sum());
+        writeMetric(out, "calculator_evaluation_errors_total", "counter", "Expressions that failed to evaluate.", evaluationErrors.sum());
+        writeMetric(out, "calculator_evaluations_per_second", "gauge", "Evaluation rate at the last sample.", evaluationsPerSecond());
+        writeHistogram(out, "calculator_evaluation_duration_seconds", "Time spent in the expression evaluator.", evaluationLatency);
+        writeMetric(out, "calculator_allocation_bytes_per_second", "gauge", "Heap allocation rate of the process at the last sample.", allocationBytesPerSecond());
+        writeHistogram(out, "calculator_gc_pause_seconds", "Garbage collection pauses.", gcPauses);
+        writeHistogram(out, "calculator_fx_pulse_layout_seconds", "CSS and layout time of JavaFX pulses.", pulseDuration);
+    }
+
+    /**
+     * Stops listening for GC notifications.
+     */
+    @Override
+    public void close() {
+        for (NotificationEmitter emitter : gcEmitters) {
+            try {
+                emitter.removeNotificationListener(gcListener);
+            } catch (javax.management.ListenerNotFoundException e) {
+                // Already removed
+            }
+        }
+        gcEmitters.clear();
+    }
+
+    private void handleGcNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        // Collectors that report concurrent cycles separately (G1 Concurrent GC, ZGC Cycles) are not pauses
+        String name = info.getGcName();
+        if (name.contains("Concurrent") || name.contains("Cycles")) {
+            return;
+        }
+        gcPauses.record(info.getGcInfo().getDuration() * 1_000_000L);
+    }
+
+    private long allocatedBytes() {
+        if (threadBean == null) {
+            return 0;
+        }
+        long total = 0;
+        for (long bytes : threadBean.getThreadAllocatedBytes(threadBean.getAllThreadIds())) {
+            // -1 for threads that ended after the ids were taken
+            if (bytes > 0) {
+                total += bytes;
+            }
+        }
+        return total;
+    }
+
+    private static void writeMetric(Appendable out, String name, String type, String help, double value) throws IOException {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        out.append(name).append(' ').append(formatValue(value)).append('\n');
+    }
+
+    private static void writeHistogram(Appendable out, String name, String help, LatencyHistogram histogram) throws IOException {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" histogram\n");
+        // Count first so that the +Inf bucket is never below a finite bucket while other threads keep recording
+        long count = histogram.count();
+        for (long bound : EXPORT_BUCKETS) {
+            out.append(name).append("_bucket{le=\"").append(formatValue(bound / 1e9)).append("\"} ")
+                    .append(Long.toString(Math.min(count, histogram.countAtMost(bound)))).append('\n');
+        }
+        out.append(name).append("_bucket{le=\"+Inf\"} ").append(Long.toString(count)).append('\n');
+        out.append(name).append("_sum ").append(formatValue(histogram.totalNanos() / 1e9)).append('\n');
+        out.append(name).append("_count ").append(Long.toString(count)).append('\n');
+    }
+
+    private static String formatValue(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return String.format(Locale.ROOT, "%.9g", value).replaceFirst("\\.?0+(e|$)", "$1");
+    }
+}
@@ -0,0 +1,18 @@
+package app.perf;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Time from setting the main display text until the next pulse has laid it out.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+@Name(CalculatorEvent.NAME_PREFIX + "DisplayUpdate")
+@Label("Display Update")
+@Description("Time from setting the main display text until the next pulse has laid it out")
+public class DisplayUpdateEvent extends CalculatorEvent {
+}
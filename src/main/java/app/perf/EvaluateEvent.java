@@ -0,0 +1,18 @@
+package app.perf;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evaluation of an expression by the expression evaluator.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+@Name(CalculatorEvent.NAME_PREFIX + "Evaluate")
+@Label("Evaluate Expression")
+@Description("Evaluation of an expression by the expression evaluator")
+public class EvaluateEvent extends CalculatorEvent {
+}
@@ -0,0 +1,18 @@
+package app.perf;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Update of the display and evaluator expressions for an input.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+@Name(CalculatorEvent.NAME_PREFIX + "ExpressionBuild")
+@Label("Expression Build")
+@Description("Update of the display and evaluator expressions for an input")
+public class ExpressionBuildEvent extends CalculatorEvent {
+}
@@ -0,0 +1,18 @@
+package app.perf;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Formatting of a result for the display.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+@Name(CalculatorEvent.NAME_PREFIX + "Format")
+@Label("Format Number")
+@Description("Formatting of a result for the display")
+public class FormatEvent extends CalculatorEvent {
+}
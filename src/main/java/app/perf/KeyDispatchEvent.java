@@ -0,0 +1,21 @@
+package app.perf;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Dispatch of a button click or key press to its calculator action.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+@Name(CalculatorEvent.NAME_PREFIX + "KeyDispatch")
+@Label("Key Dispatch")
+@Description("Dispatch of a button click or key press to its calculator action")
+public class KeyDispatchEvent extends CalculatorEvent {
+
+    @Label("Action")
+    public String action;
+}
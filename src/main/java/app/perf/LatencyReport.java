@@ -0,0 +1,77 @@
+package app.perf;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Prints p50/p99 latency per pipeline stage from a Java Flight Recorder recording of the calculator.
+ * Stages are reported per evaluator, so recordings made with different evaluators can be compared.
+ *
+ * <p>Usage: {@code LatencyReport <recording.jfr>} or {@code ./gradlew jfrReport -Precording=build/jfr/calculator.jfr}
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class LatencyReport {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: LatencyReport <recording.jfr>");
+            System.exit(1);
+        }
+
+        // Durations in nanoseconds, grouped by "stage [evaluator]" in sorted order
+        Map<String, List<Long>> durations = new TreeMap<>();
+        Map<String, Long> expressionLengths = new TreeMap<>();
+
+        try (RecordingFile recording = new RecordingFile(Path.of(args[0]))) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent event = recording.readEvent();
+                String name = event.getEventType().getName();
+                if (!name.startsWith(CalculatorEvent.NAME_PREFIX)) {
+                    continue;
+                }
+                String stage = name.substring(CalculatorEvent.NAME_PREFIX.length())
+                        + " [" + event.getString("evaluator") + "]";
+                durations.computeIfAbsent(stage, key -> new ArrayList<>()).add(event.getDuration().toNanos());
+                expressionLengths.merge(stage, (long) event.getInt("expressionLength"), Long::sum);
+            }
+        }
+
+        if (durations.isEmpty()) {
+            System.out.println("No calculator events found. Was the recording made with src/main/jfr/calculator.jfc?");
+            return;
+        }
+
+        System.out.printf("%-32s %8s %10s %10s %10s %9s%n", "Stage [evaluator]", "Count", "p50 (us)", "p99 (us)", "Max (us)", "Avg len");
+        for (Map.Entry<String, List<Long>> entry : durations.entrySet()) {
+            List<Long> values = entry.getValue();
+            values.sort(null);
+            System.out.printf("%-32s %8d %10.1f %10.1f %10.1f %9.1f%n",
+                    entry.getKey(), values.size(),
+                    micros(percentile(values, 0.50)), micros(percentile(values, 0.99)),
+                    micros(values.get(values.size() - 1)),
+                    (double) expressionLengths.get(entry.getKey()) / values.size());
+        }
+    }
+
+    /**
+     * Returns the value at the given percentile of a sorted list (nearest-rank method).
+     */
+    private static long percentile(List<Long> sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile * sorted.size());
+        return sorted.get(Math.max(0, rank - 1));
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1_000.0;
+    }
+}
@@ -0,0 +1,18 @@
+package app.perf;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Normalization of an expression before evaluation.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+@Name(CalculatorEvent.NAME_PREFIX + "Normalize")
+@Label("Normalize Expression")
+@Description("Normalization of an expression before evaluation")
+public class NormalizeEvent extends CalculatorEvent {
+}
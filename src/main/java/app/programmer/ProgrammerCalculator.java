@@ -0,0 +1,271 @@
+package app.programmer;
+
+/**
+ * ProgrammerCalculator is the state of programmer mode: integer entry in radix 2, 8, 10 or 16, and two's-complement
+ * arithmetic and bitwise operations on words of 8, 16, 32 or 64 bits. Every value is a primitive long, sign-extended
+ * from the word size after each operation, so results wrap around exactly as they would in a word of that size.
+ *
+ * Operations are applied left to right as they are entered (like the standard calculator's running result):
+ * entering an operator applies the pending one to the accumulator and the entered value.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class ProgrammerCalculator {
+
+    /**
+     * The binary operations, with the symbol shown in the expression display.
+     */
+    public enum Operator {
+        ADD("+"),
+        SUBTRACT("-"),
+        MULTIPLY("×"),
+        DIVIDE("÷"),
+        REMAINDER("mod"),
+        AND("AND"),
+        OR("OR"),
+        XOR("XOR"),
+        SHIFT_LEFT("<<"),
+        SHIFT_RIGHT(">>");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public String symbol() {
+            return symbol;
+        }
+    }
+
+    private WordSize wordSize = WordSize.QWORD;
+    private int radix = 10;
+
+    /**
+     * The value on the display, sign-extended from the word size.
+     */
+    private long value;
+
+    /**
+     * The left operand of the pending operation.
+     */
+    private long accumulator;
+
+    /**
+     * The operation waiting for its right operand, or null.
+     */
+    private Operator pending;
+
+    /**
+     * True while digits are being entered into value; false after an operation, so the next digit starts a new value.
+     */
+    private boolean entering;
+
+    /**
+     * True once the right operand of the pending operation has been given, by entering digits or by editing the
+     * value (NOT, negate, CE); false right after an operator, when entering another one only replaces it.
+     */
+    private boolean operandEntered;
+
+    /**
+     * The digits entered so far as an unsigned bit pattern (decimal entry is kept to the word's positive range).
+     */
+    private long entry;
+
+    public long value() {
+        return value;
+    }
+
+    public long accumulator() {
+        return accumulator;
+    }
+
+    public Operator pending() {
+        return pending;
+    }
+
+    public WordSize wordSize() {
+        return wordSize;
+    }
+
+    public int radix() {
+        return radix;
+    }
+
+    /**
+     * Changes the word size, truncating the current values to the new size.
+     */
+    public void setWordSize(WordSize wordSize) {
+        this.wordSize = wordSize;
+        value = wordSize.normalize(value);
+        accumulator = wordSize.normalize(accumulator);
+        entering = false;
+    }
+
+    /**
+     * Changes the radix of digit entry. The value is kept; the next digit starts a new value.
+     *
+     * @param radix 2, 8, 10 or 16
+     */
+    public void setRadix(int radix) {
+        if (radix != 2 && radix != 8 && radix != 10 && radix != 16) {
+            throw new IllegalArgumentException("Unsupported radix " + radix);
+        }
+        this.radix = radix;
+        entering = false;
+    }
+
+    /**
+     * Returns true if a digit can be entered in the current radix.
+     */
+    public boolean isDigitAllowed(int digit) {
+        return digit >= 0 && digit < radix;
+    }
+
+    /**
+     * Appends a digit to the value being entered.
+     *
+     * @param digit The digit, 0 to 15
+     * @return False if the digit is not valid in the radix or the value would not fit in the word
+     */
+    public boolean appendDigit(int digit) {
+        if (!isDigitAllowed(digit)) {
+            return false;
+        }
+        long current = entering ? entry : 0;
+        long next;
+        if (radix == 10) {
+            // Decimal entry is signed: the largest entry is the word's largest positive value
+            if (current > (wordSize.maxSigned() - digit) / 10) {
+                return false;
+            }
+            next = current * 10 + digit;
+        } else {
+            // Other radixes enter the bit pattern: every bit of the word can be set
+            int bitsPerDigit = Long.numberOfTrailingZeros(radix);
+            if (Long.compareUnsigned(current, wordSize.mask() >>> bitsPerDigit) > 0) {
+                return false;
+            }
+            next = (current << bitsPerDigit) | digit;
+        }
+        entry = next;
+        entering = true;
+        operandEntered = true;
+        value = wordSize.normalize(next);
+        return true;
+    }
+
+    /**
+     * Removes the last entered digit.
+     */
+    public void backspace() {
+        if (!entering) {
+            return;
+        }
+        entry = radix == 10 ? entry / 10 : entry >>> Long.numberOfTrailingZeros(radix);
+        value = wordSize.normalize(entry);
+    }
+
+    /**
+     * Applies the pending operation, if any, and makes the given one pending.
+     *
+     * @throws ArithmeticException on division by zero; the calculator is then cleared
+     */
+    public void operator(Operator operator) {
+        if (pending != null && operandEntered) {
+            accumulator = applyPending();
+        } else if (pending == null) {
+            accumulator = value;
+        }
+        value = accumulator;
+        pending = operator;
+        entering = false;
+        operandEntered = false;
+    }
+
+    /**
+     * Applies the pending operation and shows its result.
+     *
+     * @throws ArithmeticException on division by zero; the calculator is then cleared
+     */
+    public void equals() {
+        if (pending != null) {
+            value = applyPending();
+            accumulator = value;
+            pending = null;
+        }
+        entering = false;
+        operandEntered = false;
+    }
+
+    /**
+     * Replaces the value by its bitwise complement.
+     */
+    public void not() {
+        value = wordSize.normalize(~value);
+        entering = false;
+        operandEntered = true;
+    }
+
+    /**
+     * Replaces the value by its two's-complement negation.
+     */
+    public void negate() {
+        value = wordSize.normalize(-value);
+        entering = false;
+        operandEntered = true;
+    }
+
+    /**
+     * Clears the value being entered.
+     */
+    public void clearEntry() {
+        value = 0;
+        entering = false;
+        operandEntered = true;
+    }
+
+    /**
+     * Clears the value and the pending operation.
+     */
+    public void clear() {
+        value = 0;
+        accumulator = 0;
+        pending = null;
+        entering = false;
+        operandEntered = false;
+    }
+
+    private long applyPending() {
+        long a = accumulator;
+        long b = value;
+        long result = switch (pending) {
+            case ADD -> a + b;
+            case SUBTRACT -> a - b;
+            case MULTIPLY -> a * b;
+            case DIVIDE -> {
+                requireNonZero(b);
+                yield a / b;
+            }
+            case REMAINDER -> {
+                requireNonZero(b);
+                yield a % b;
+            }
+            case AND -> a & b;
+            case OR -> a | b;
+            case XOR -> a ^ b;
+            case SHIFT_LEFT -> b < 0 || b >= wordSize.bits() ? 0 : a << b;
+            case SHIFT_RIGHT -> a >> (b < 0 || b >= wordSize.bits() ? 63 : b);
+        };
+        return wordSize.normalize(result);
+    }
+
+    private void requireNonZero(long divisor) {
+        if (divisor == 0) {
+            clear();
+            throw new ArithmeticException("Cannot divide by zero");
+        }
+    }
+}
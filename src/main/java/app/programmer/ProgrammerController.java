@@ -0,0 +1,347 @@
+package app.programmer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.css.PseudoClass;
+import javafx.event.ActionEvent;
+import javafx.fxml.FXML;
+import javafx.scene.Node;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+
+/**
+ * ProgrammerController handles the programmer mode layout (ProgrammerCalculatorLayout.fxml): hex, decimal, octal and
+ * binary entry and display, with bitwise and integer operations on 8 to 64-bit words.
+ *
+ * After every key press all four radix views are updated. Each view formats the value into its own reusable char
+ * buffer with {@link RadixFormatter} and compares it with the text it shows, so a String is only created for a view
+ * whose text actually changed, for its setText call.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class ProgrammerController {
+
+    private static final PseudoClass SELECTED = PseudoClass.getPseudoClass("selected");
+
+    @FXML private VBox root;
+    @FXML private Label expressionDisplay;
+    @FXML private Label radixLabel;
+    @FXML private Label mainDisplay;
+    @FXML private Button wordSizeButton;
+    @FXML private HBox hexRow;
+    @FXML private HBox decRow;
+    @FXML private HBox octRow;
+    @FXML private HBox binRow;
+    @FXML private Label hexValue;
+    @FXML private Label decValue;
+    @FXML private Label octValue;
+    @FXML private Label binValue;
+
+    private final ProgrammerCalculator calculator = new ProgrammerCalculator();
+
+    /**
+     * The four radix views, and the main display in the entry radix.
+     */
+    private final List<RadixView> radixViews = new ArrayList<>(4);
+    private RadixView mainView;
+
+    /**
+     * The expression display: the pending left operand in the entry radix and the operator.
+     */
+    private final char[] formatBuffer = new char[RadixFormatter.BUFFER_SIZE];
+    private final char[] expressionChars = new char[RadixFormatter.BUFFER_SIZE + 8];
+    private BufferedLabel expressionView;
+
+    /**
+     * The hex digit buttons, enabled according to the entry radix.
+     */
+    private final List<Button> digitButtons = new ArrayList<>(16);
+
+    /**
+     * Initializes the views, the key handler and the displays.
+     */
+    @FXML
+    public void initialize() {
+        radixViews.add(new RadixView(hexValue, 16));
+        radixViews.add(new RadixView(decValue, 10));
+        radixViews.add(new RadixView(octValue, 8));
+        radixViews.add(new RadixView(binValue, 2));
+        mainView = new RadixView(mainDisplay, calculator.radix());
+        expressionView = new BufferedLabel(expressionDisplay, expressionChars.length);
+        for (Node node : root.lookupAll(".programmer-digit")) {
+            digitButtons.add((Button) node);
+        }
+        root.setOnKeyPressed(this::handleKeyPress);
+        updateRadix();
+        refresh();
+    }
+
+    /**
+     * Focuses the layout, so it receives key presses.
+     */
+    public void requestFocus() {
+        root.requestFocus();
+    }
+
+    @FXML
+    private void handleDigit(ActionEvent event) {
+        enterDigit(Character.digit(((Button) event.getSource()).getText().charAt(0), 16));
+    }
+
+    @FXML
+    private void handleOperator(ActionEvent event) {
+        applyOperator(ProgrammerCalculator.Operator.valueOf((String) ((Node) event.getSource()).getUserData()));
+    }
+
+    @FXML
+    private void handleEquals() {
+        try {
+            calculator.equals();
+            refresh();
+        } catch (ArithmeticException e) {
+            showError(e.getMessage());
+        }
+    }
+
+    @FXML
+    private void handleNot() {
+        calculator.not();
+        refresh();
+    }
+
+    @FXML
+    private void handleNegate() {
+        calculator.negate();
+        refresh();
+    }
+
+    @FXML
+    private void handleBackspace() {
+        calculator.backspace();
+        refresh();
+    }
+
+    @FXML
+    private void handleClearEntry() {
+        calculator.clearEntry();
+        refresh();
+    }
+
+    @FXML
+    private void handleClear() {
+        calculator.clear();
+        refresh();
+    }
+
+    /**
+     * Switches to the next smaller word size (QWORD, DWORD, WORD, BYTE, then QWORD again), truncating the value.
+     */
+    @FXML
+    private void handleWordSize() {
+        calculator.setWordSize(calculator.wordSize().next());
+        wordSizeButton.setText(calculator.wordSize().name());
+        refresh();
+    }
+
+    /**
+     * Makes the clicked radix row the entry radix.
+     */
+    @FXML
+    private void handleRadix(MouseEvent event) {
+        calculator.setRadix(Integer.parseInt((String) ((Node) event.getSource()).getUserData()));
+        updateRadix();
+        refresh();
+    }
+
+    private void handleKeyPress(KeyEvent event) {
+        String text = event.getText();
+        if (text.length() == 1) {
+            char c = text.charAt(0);
+            int digit = Character.digit(c, 16);
+            if (digit >= 0) {
+                enterDigit(digit);
+                event.consume();
+                return;
+            }
+            ProgrammerCalculator.Operator operator = switch (c) {
+                case '+' -> ProgrammerCalculator.Operator.ADD;
+                case '-' -> ProgrammerCalculator.Operator.SUBTRACT;
+                case '*' -> ProgrammerCalculator.Operator.MULTIPLY;
+                case '/' -> ProgrammerCalculator.Operator.DIVIDE;
+                case '%' -> ProgrammerCalculator.Operator.REMAINDER;
+                case '&' -> ProgrammerCalculator.Operator.AND;
+                case '|' -> ProgrammerCalculator.Operator.OR;
+                case '^' -> ProgrammerCalculator.Operator.XOR;
+                case '<' -> ProgrammerCalculator.Operator.SHIFT_LEFT;
+                case '>' -> ProgrammerCalculator.Operator.SHIFT_RIGHT;
+                default -> null;
+            };
+            if (operator != null) {
+                applyOperator(operator);
+                event.consume();
+                return;
+            }
+            if (c == '~') {
+                handleNot();
+                event.consume();
+                return;
+            }
+            if (c == '=') {
+                handleEquals();
+                event.consume();
+                return;
+            }
+        }
+        switch (event.getCode()) {
+            case ENTER -> handleEquals();
+            case BACK_SPACE -> handleBackspace();
+            case DELETE -> handleClearEntry();
+            case ESCAPE -> handleClear();
+            default -> {
+                return;
+            }
+        }
+        event.consume();
+    }
+
+    private void enterDigit(int digit) {
+        if (calculator.appendDigit(digit)) {
+            refresh();
+        }
+    }
+
+    private void applyOperator(ProgrammerCalculator.Operator operator) {
+        try {
+            calculator.operator(operator);
+            refresh();
+        } catch (ArithmeticException e) {
+            showError(e.getMessage());
+        }
+    }
+
+    /**
+     * Marks the selected radix row, labels the main display and enables the digits valid in the entry radix.
+     */
+    private void updateRadix() {
+        int radix = calculator.radix();
+        hexRow.pseudoClassStateChanged(SELECTED, radix == 16);
+        decRow.pseudoClassStateChanged(SELECTED, radix == 10);
+        octRow.pseudoClassStateChanged(SELECTED, radix == 8);
+        binRow.pseudoClassStateChanged(SELECTED, radix == 2);
+        radixLabel.setText(switch (radix) {
+            case 16 -> "HEX";
+            case 8 -> "OCT";
+            case 2 -> "BIN";
+            default -> "DEC";
+        });
+        for (Button button : digitButtons) {
+            button.setDisable(!calculator.isDigitAllowed(Character.digit(button.getText().charAt(0), 16)));
+        }
+        mainView.setRadix(radix);
+    }
+
+    /**
+     * Updates every view from the calculator state.
+     */
+    private void refresh() {
+        long value = calculator.value();
+        WordSize wordSize = calculator.wordSize();
+        for (int i = 0; i < radixViews.size(); i++) {
+            radixViews.get(i).show(value, wordSize);
+        }
+        mainView.show(value, wordSize);
+
+        ProgrammerCalculator.Operator pending = calculator.pending();
+        if (pending == null) {
+            expressionView.show(expressionChars, 0, 0);
+            return;
+        }
+        int start = RadixFormatter.format(calculator.accumulator(), wordSize, calculator.radix(), formatBuffer);
+        int length = formatBuffer.length - start;
+        System.arraycopy(formatBuffer, start, expressionChars, 0, length);
+        expressionChars[length++] = ' ';
+        String symbol = pending.symbol();
+        symbol.getChars(0, symbol.length(), expressionChars, length);
+        expressionView.show(expressionChars, 0, length + symbol.length());
+    }
+
+    private void showError(String message) {
+        mainView.invalidate();
+        mainDisplay.setText(message);
+        for (int i = 0; i < radixViews.size(); i++) {
+            radixViews.get(i).show(0, calculator.wordSize());
+        }
+        expressionView.show(expressionChars, 0, 0);
+    }
+
+    /**
+     * A label whose text is set from a char range, only when it differs from the text already shown.
+     */
+    private static class BufferedLabel {
+
+        private final Label label;
+        private final char[] shown;
+        private int shownLength = -1;
+
+        BufferedLabel(Label label, int capacity) {
+            this.label = label;
+            this.shown = new char[capacity];
+        }
+
+        void show(char[] text, int start, int end) {
+            int length = end - start;
+            if (length == shownLength && equalsShown(text, start, length)) {
+                return;
+            }
+            System.arraycopy(text, start, shown, 0, length);
+            shownLength = length;
+            label.setText(new String(text, start, length));
+        }
+
+        /**
+         * Forgets the shown text, so the next call of show sets the label even if the text is the same.
+         */
+        void invalidate() {
+            shownLength = -1;
+        }
+
+        private boolean equalsShown(char[] text, int start, int length) {
+            for (int i = 0; i < length; i++) {
+                if (shown[i] != text[start + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A label showing the value in one radix, formatted into its own buffer.
+     */
+    private static final class RadixView extends BufferedLabel {
+
+        private final char[] buffer = new char[RadixFormatter.BUFFER_SIZE];
+        private int radix;
+
+        RadixView(Label label, int radix) {
+            super(label, RadixFormatter.BUFFER_SIZE);
+            this.radix = radix;
+        }
+
+        void setRadix(int radix) {
+            this.radix = radix;
+            invalidate();
+        }
+
+        void show(long value, WordSize wordSize) {
+            show(buffer, RadixFormatter.format(value, wordSize, radix, buffer), buffer.length);
+        }
+    }
+}
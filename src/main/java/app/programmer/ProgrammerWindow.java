@@ -0,0 +1,66 @@
+package app.programmer;
+
+import java.io.IOException;
+import java.util.List;
+
+import javafx.css.PseudoClass;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+
+/**
+ * ProgrammerWindow shows programmer mode, loaded from its own layout (ProgrammerCalculatorLayout.fxml), in a window of
+ * the calculator's size next to it.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class ProgrammerWindow {
+
+    private static final PseudoClass LIGHT_THEME = PseudoClass.getPseudoClass("light");
+
+    private final Stage stage = new Stage();
+    private final ProgrammerController controller;
+
+    /**
+     * Creates the programmer window.
+     *
+     * @param owner The calculator window
+     * @param stylesheets The calculator stylesheets
+     * @throws IOException if the layout cannot be loaded
+     */
+    public ProgrammerWindow(Window owner, List<String> stylesheets) throws IOException {
+        FXMLLoader loader = new FXMLLoader(ProgrammerWindow.class.getResource("/app/ProgrammerCalculatorLayout.fxml"));
+        Parent root = loader.load();
+        controller = loader.getController();
+
+        Scene scene = new Scene(root, 400, 600);
+        scene.getStylesheets().addAll(stylesheets);
+        stage.setScene(scene);
+        stage.setTitle("Programmer");
+        stage.initOwner(owner);
+        stage.setMinWidth(320);
+        stage.setMinHeight(520);
+    }
+
+    /**
+     * Shows the window and focuses it for key presses.
+     */
+    public void show() {
+        stage.show();
+        stage.toFront();
+        controller.requestFocus();
+    }
+
+    /**
+     * Switches the window to the light or dark theme, following the calculator.
+     *
+     * @param lightTheme True for the light theme
+     */
+    public void setLightTheme(boolean lightTheme) {
+        stage.getScene().getRoot().pseudoClassStateChanged(LIGHT_THEME, lightTheme);
+    }
+}
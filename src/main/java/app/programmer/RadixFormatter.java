@@ -0,0 +1,119 @@
+package app.programmer;
+
+/**
+ * RadixFormatter writes integers in hexadecimal, decimal, octal or binary into a caller's char buffer, right-aligned
+ * at its end, using lookup tables: one table of hex digits, one of the two-digit decimal pairs "00" to "99", and one
+ * of the four-bit binary pattern of every nibble. Nothing is allocated, so the caller can reuse one buffer per view
+ * and only create the String it finally displays.
+ *
+ * Hexadecimal, octal and binary show the word's bit pattern (two's complement for negative values); decimal shows
+ * its signed value. Binary digits are grouped by four.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+final class RadixFormatter {
+
+    /**
+     * Buffer size that fits any value: 64 binary digits plus 15 group separators, or a sign and 19 decimal digits.
+     */
+    static final int BUFFER_SIZE = 80;
+
+    private static final char[] DIGITS = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * The two-digit decimal strings "00" to "99", two chars each, so decimal conversion divides once per two digits.
+     */
+    private static final char[] DIGIT_PAIRS = new char[200];
+
+    /**
+     * The four binary digits of each nibble 0 to 15, four chars each.
+     */
+    private static final char[] NIBBLE_BITS = new char[64];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_PAIRS[2 * i] = (char) ('0' + i / 10);
+            DIGIT_PAIRS[2 * i + 1] = (char) ('0' + i % 10);
+        }
+        for (int nibble = 0; nibble < 16; nibble++) {
+            for (int bit = 0; bit < 4; bit++) {
+                NIBBLE_BITS[4 * nibble + bit] = ((nibble >> (3 - bit)) & 1) == 1 ? '1' : '0';
+            }
+        }
+    }
+
+    private RadixFormatter() {
+    }
+
+    /**
+     * Writes a value into the end of a buffer.
+     *
+     * @param value The value, sign-extended from the word size
+     * @param size The word size
+     * @param radix 2, 8, 10 or 16
+     * @param buffer The buffer, of at least BUFFER_SIZE chars
+     * @return The index of the first char written; the text runs to the end of the buffer
+     */
+    static int format(long value, WordSize size, int radix, char[] buffer) {
+        long bits = value & size.mask();
+        return switch (radix) {
+            case 16 -> formatPowerOfTwo(bits, 4, buffer);
+            case 8 -> formatPowerOfTwo(bits, 3, buffer);
+            case 2 -> formatBinary(bits, buffer);
+            case 10 -> formatDecimal(value, buffer);
+            default -> throw new IllegalArgumentException("Unsupported radix " + radix);
+        };
+    }
+
+    private static int formatPowerOfTwo(long bits, int bitsPerDigit, char[] buffer) {
+        int pos = buffer.length;
+        int digitMask = (1 << bitsPerDigit) - 1;
+        do {
+            buffer[--pos] = DIGITS[(int) bits & digitMask];
+            bits >>>= bitsPerDigit;
+        } while (bits != 0);
+        return pos;
+    }
+
+    private static int formatBinary(long bits, char[] buffer) {
+        int pos = buffer.length;
+        while (true) {
+            pos -= 4;
+            System.arraycopy(NIBBLE_BITS, 4 * ((int) bits & 15), buffer, pos, 4);
+            bits >>>= 4;
+            if (bits == 0) {
+                return pos;
+            }
+            buffer[--pos] = ' ';
+        }
+    }
+
+    private static int formatDecimal(long value, char[] buffer) {
+        int pos = buffer.length;
+        long magnitude = Math.abs(value);
+        if (magnitude < 0) {
+            // Long.MIN_VALUE has no positive counterpart: take its last two digits as an unsigned number first
+            int pair = (int) Long.remainderUnsigned(magnitude, 100);
+            magnitude = Long.divideUnsigned(magnitude, 100);
+            buffer[--pos] = DIGIT_PAIRS[2 * pair + 1];
+            buffer[--pos] = DIGIT_PAIRS[2 * pair];
+        }
+        while (magnitude >= 100) {
+            int pair = (int) (magnitude % 100);
+            magnitude /= 100;
+            buffer[--pos] = DIGIT_PAIRS[2 * pair + 1];
+            buffer[--pos] = DIGIT_PAIRS[2 * pair];
+        }
+        int last = (int) magnitude;
+        buffer[--pos] = DIGIT_PAIRS[2 * last + 1];
+        if (last >= 10) {
+            buffer[--pos] = DIGIT_PAIRS[2 * last];
+        }
+        if (value < 0) {
+            buffer[--pos] = '-';
+        }
+        return pos;
+    }
+}
@@ -0,0 +1,56 @@
+package app.programmer;
+
+/**
+ * WordSize is the width of the integers in programmer mode. Values are kept in a long, sign-extended from the word
+ * size, so the long always holds the signed value of the word and arithmetic wraps around at the word boundary.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public enum WordSize {
+
+    BYTE(8),
+    WORD(16),
+    DWORD(32),
+    QWORD(64);
+
+    private final int bits;
+
+    WordSize(int bits) {
+        this.bits = bits;
+    }
+
+    public int bits() {
+        return bits;
+    }
+
+    /**
+     * Returns the mask of the bits in a word (e.g., 0xFF for BYTE).
+     */
+    public long mask() {
+        return bits == 64 ? -1L : (1L << bits) - 1;
+    }
+
+    /**
+     * Returns the largest signed value of a word (e.g., 127 for BYTE).
+     */
+    public long maxSigned() {
+        return mask() >>> 1;
+    }
+
+    /**
+     * Truncates a value to this word size and sign-extends it, so the long holds the word's signed value.
+     */
+    public long normalize(long value) {
+        int shift = 64 - bits;
+        return (value << shift) >> shift;
+    }
+
+    /**
+     * Returns the next smaller word size, wrapping from BYTE back to QWORD.
+     */
+    public WordSize next() {
+        return values()[(ordinal() + values().length - 1) % values().length];
+    }
+}
@@ -0,0 +1,326 @@
+package app.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.sun.net.httpserver.Filter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import app.log.Log;
+import app.perf.LatencyHistogram;
+
+/**
+ * EvaluationServer serves the calculator's evaluation over HTTP on the loopback interface, so other local tools get
+ * exactly the results the calculator shows: expressions are normalized as pressing = does (percentages, trailing
+ * operators, open parentheses) and formatted by the same ResultFormatter as the display.
+ *
+ * Endpoints:
+ * POST /evaluate with one expression per line returns one result per line, in the same order, with "Error" for an
+ * expression that cannot be evaluated; a batch amortizes the request overhead over all of its expressions.
+ * GET /evaluate?expression=... returns the result of one expression. GET /stats returns request counts and
+ * latency percentiles measured inside the server.
+ *
+ * Only local programs may use the server: requests from a web page (with an Origin header) and requests addressed
+ * to a host name other than localhost or a loopback address (a DNS rebinding attempt) are rejected with 403, and
+ * expressions are evaluated by the built-in Java evaluator, never by a script engine. See {@link EvaluatorPool}.
+ *
+ * Each request runs on its own virtual thread when the runtime has them (Java 21 or later), otherwise on a fixed pool
+ * of platform threads. Either way it borrows one evaluator from an {@link EvaluatorPool} for its whole batch, so the
+ * number of evaluators stays fixed and each is used by one thread at a time.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class EvaluationServer implements AutoCloseable {
+
+    /**
+     * Largest request body accepted, to bound the memory of one batch.
+     */
+    private static final int MAX_BODY_BYTES = 16 * 1024 * 1024;
+
+    /**
+     * Platform threads per evaluator when there are no virtual threads: enough for requests to be read and written
+     * while others hold the evaluators.
+     */
+    private static final int THREADS_PER_EVALUATOR = 4;
+
+    static {
+        // The JDK server writes a response's headers and body separately; without TCP_NODELAY the body waits for the
+        // client's delayed ACK (about 40 ms) whenever a connection has one request in flight
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    private final EvaluatorPool pool;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder expressions = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * Creates a server on a loopback port. The server does not accept requests until {@link #start()}.
+     *
+     * @param port The port, or 0 for any free port
+     * @param evaluators The number of pooled evaluators, usually the number of cores
+     * @throws IOException if the port cannot be bound
+     */
+    public EvaluationServer(int port, int evaluators) throws IOException {
+        this.pool = new EvaluatorPool(evaluators);
+        ExecutorService virtual = newVirtualThreadPerTaskExecutor();
+        this.virtualThreads = virtual != null;
+        this.executor = virtual != null ? virtual : newPlatformExecutor(evaluators * THREADS_PER_EVALUATOR);
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException e) {
+            executor.shutdown();
+            pool.close();
+            throw e;
+        }
+        server.setExecutor(executor);
+        server.createContext("/evaluate", this::handleEvaluate).getFilters().add(new LocalOnlyFilter());
+        server.createContext("/stats", this::handleStats).getFilters().add(new LocalOnlyFilter());
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Returns the port the server is bound to.
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the number of pooled evaluators.
+     */
+    public int evaluators() {
+        return pool.size();
+    }
+
+    /**
+     * Returns true if requests run on virtual threads, false if on a pool of platform threads.
+     */
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Stops the server, waiting up to a second for requests in progress, and closes the evaluators.
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        pool.close();
+    }
+
+    private void handleEvaluate(HttpExchange exchange) throws IOException {
+        long start = System.nanoTime();
+        try (exchange) {
+            String body;
+            if ("POST".equals(exchange.getRequestMethod())) {
+                byte[] bytes;
+                try (InputStream in = exchange.getRequestBody()) {
+                    bytes = in.readNBytes(MAX_BODY_BYTES + 1);
+                }
+                if (bytes.length > MAX_BODY_BYTES) {
+                    send(exchange, 413, "Request body is larger than " + MAX_BODY_BYTES + " bytes\n");
+                    return;
+                }
+                body = new String(bytes, StandardCharsets.UTF_8);
+            } else if ("GET".equals(exchange.getRequestMethod())) {
+                body = queryParameter(exchange.getRequestURI().getRawQuery(), "expression");
+                if (body == null) {
+                    send(exchange, 400, "Missing expression parameter\n");
+                    return;
+                }
+            } else {
+                exchange.getResponseHeaders().set("Allow", "GET, POST");
+                send(exchange, 405, "Use GET or POST\n");
+                return;
+            }
+
+            String results;
+            try {
+                results = evaluateLines(body);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                send(exchange, 503, "Server is stopping\n");
+                return;
+            }
+            send(exchange, 200, results);
+        } catch (IOException e) {
+            Log.warn("Evaluation request failed: %s", e.getMessage());
+        } finally {
+            latency.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Evaluates every line of a batch on one borrowed worker.
+     */
+    private String evaluateLines(String body) throws InterruptedException {
+        StringBuilder results = new StringBuilder(Math.max(16, body.length() / 2));
+        int count = 0;
+        EvaluatorPool.Worker worker = pool.borrow();
+        try {
+            int lineStart = 0;
+            while (lineStart < body.length()) {
+                int lineEnd = body.indexOf('\n', lineStart);
+                if (lineEnd < 0) {
+                    lineEnd = body.length();
+                }
+                int end = lineEnd > lineStart && body.charAt(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+                results.append(worker.evaluate(body.substring(lineStart, end))).append('\n');
+                count++;
+                lineStart = lineEnd + 1;
+            }
+        } finally {
+            pool.release(worker);
+        }
+        requests.increment();
+        expressions.add(count);
+        return results.toString();
+    }
+
+    private void handleStats(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String stats = String.format(
+                    "requests %d%nexpressions %d%np50_ms %.3f%np99_ms %.3f%np999_ms %.3f%nmax_ms %.3f%n",
+                    requests.sum(), expressions.sum(), latency.percentile(50) / 1e6, latency.percentile(99) / 1e6,
+                    latency.percentile(99.9) / 1e6, latency.maxNanos() / 1e6);
+            send(exchange, 200, stats);
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Returns the decoded value of a query parameter, or null if it is not present.
+     */
+    private static String queryParameter(String rawQuery, String name) {
+        if (rawQuery == null) {
+            return null;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String key = equals < 0 ? pair : pair.substring(0, equals);
+            if (key.equals(name)) {
+                return equals < 0 ? "" : URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns true if a Host header names this machine: localhost or a loopback address, with or without a port.
+     * A missing Host header (HTTP/1.0) is accepted.
+     */
+    static boolean isLoopbackHost(String host) {
+        if (host == null) {
+            return true;
+        }
+        String name;
+        if (host.startsWith("[")) {
+            int close = host.indexOf(']');
+            name = close < 0 ? host : host.substring(1, close);
+        } else {
+            int colon = host.indexOf(':');
+            name = colon < 0 ? host : host.substring(0, colon);
+        }
+        if (name.equalsIgnoreCase("localhost")) {
+            return true;
+        }
+        // Only address literals are resolved, so no name lookup is made for a request
+        if (!name.matches("[0-9.]+") && !(host.startsWith("[") && name.matches("[0-9a-fA-F:.]+"))) {
+            return false;
+        }
+        try {
+            return InetAddress.getByName(name).isLoopbackAddress();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Rejects requests that a web page could have sent: any request with an Origin header (browsers add it to
+     * cross-origin requests, including those that need no preflight), and any request addressed to a host name other
+     * than localhost or a loopback address.
+     */
+    private static final class LocalOnlyFilter extends Filter {
+
+        @Override
+        public void doFilter(HttpExchange exchange, Chain chain) throws IOException {
+            if (exchange.getRequestHeaders().containsKey("Origin")) {
+                try (exchange) {
+                    send(exchange, 403, "Requests from web pages are not accepted\n");
+                }
+            } else if (!isLoopbackHost(exchange.getRequestHeaders().getFirst("Host"))) {
+                try (exchange) {
+                    send(exchange, 403, "Only requests to localhost are accepted\n");
+                }
+            } else {
+                chain.doFilter(exchange);
+            }
+        }
+
+        @Override
+        public String description() {
+            return "Rejects requests from web pages and to other host names";
+        }
+    }
+
+    /**
+     * Returns Executors.newVirtualThreadPerTaskExecutor() when running on Java 21 or later, or null. Looked up
+     * reflectively because the calculator is compiled for Java 17.
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static ExecutorService newPlatformExecutor(int threads) {
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "calculator-server-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,40 @@
+package app.server;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Command line entry point for serving the calculator's evaluation over HTTP on the loopback interface, without the
+ * GUI. See {@link EvaluationServer} for the endpoints.
+ *
+ * <p>Usage: {@code EvaluationServerApp [port] [evaluators]}, by default port 8765 and one evaluator per core.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class EvaluationServerApp {
+
+    /**
+     * Port used when none is given.
+     */
+    public static final int DEFAULT_PORT = 8765;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int evaluators = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        EvaluationServer server = new EvaluationServer(port, evaluators);
+        CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            stopped.countDown();
+        }, "calculator-server-shutdown"));
+        server.start();
+
+        System.out.println("Serving http://localhost:" + server.port() + "/evaluate with " + server.evaluators()
+                + " evaluators on " + (server.usesVirtualThreads() ? "virtual threads" : "platform threads")
+                + " (Ctrl+C to stop)");
+        stopped.await();
+    }
+}
@@ -0,0 +1,113 @@
+package app.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import app.batch.BatchEvaluator;
+import app.eval.EvaluationException;
+import app.eval.ExpressionEvaluator;
+import app.eval.ExpressionNormalizer;
+import app.eval.JavaEvaluator;
+import app.eval.ResultFormatter;
+
+/**
+ * EvaluatorPool holds a fixed number of evaluators, each with its own formatter and normalizer, that requests
+ * borrow for the duration of one batch. A borrowed worker belongs to the borrowing thread alone until it is
+ * released, so the thread-confined evaluators are never used concurrently, and the number of evaluators stays fixed
+ * however many requests are waiting.
+ *
+ * The evaluators are always the built-in {@link JavaEvaluator}, whatever evaluator the calculator is configured
+ * with: it only understands arithmetic and the calculator's functions, so a request cannot run script code.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+final class EvaluatorPool implements AutoCloseable {
+
+    /**
+     * Evaluation state lent to one thread at a time.
+     */
+    static final class Worker {
+
+        private final ExpressionEvaluator evaluator;
+        private final ResultFormatter formatter = new ResultFormatter();
+        private final ExpressionNormalizer normalizer = new ExpressionNormalizer(formatter);
+
+        private Worker(ExpressionEvaluator evaluator) {
+            this.evaluator = evaluator;
+        }
+
+        /**
+         * Evaluates an expression typed as on the calculator and formats the result as the display shows it.
+         *
+         * @param typed The expression
+         * @return The formatted result, or {@link BatchEvaluator#ERROR_RESULT} if it cannot be evaluated
+         */
+        String evaluate(String typed) {
+            try {
+                return formatter.format(evaluator.evaluate(normalizer.normalize(typed)));
+            } catch (EvaluationException | NumberFormatException e) {
+                return BatchEvaluator.ERROR_RESULT;
+            }
+        }
+    }
+
+    private final BlockingQueue<Worker> idle;
+    private final List<Worker> workers = new ArrayList<>();
+
+    /**
+     * Creates the pool and all of its evaluators.
+     *
+     * @param size The number of evaluators
+     */
+    EvaluatorPool(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1: " + size);
+        }
+        idle = new ArrayBlockingQueue<>(size);
+        for (int i = 0; i < size; i++) {
+            Worker worker = new Worker(new JavaEvaluator());
+            workers.add(worker);
+            idle.add(worker);
+        }
+    }
+
+    /**
+     * Takes an idle worker, waiting until one is released if all are in use.
+     *
+     * @return The worker, to be released by the same thread
+     * @throws InterruptedException if interrupted while waiting
+     */
+    Worker borrow() throws InterruptedException {
+        return idle.take();
+    }
+
+    /**
+     * Returns a worker to the pool.
+     *
+     * @param worker A worker taken with {@link #borrow()}
+     */
+    void release(Worker worker) {
+        idle.add(worker);
+    }
+
+    /**
+     * Returns the number of evaluators.
+     */
+    int size() {
+        return workers.size();
+    }
+
+    /**
+     * Closes every evaluator. Workers must not be borrowed afterwards.
+     */
+    @Override
+    public void close() {
+        for (Worker worker : workers) {
+            worker.evaluator.close();
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package app.server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.LongAdder;
+
+import app.perf.LatencyHistogram;
+
+/**
+ * LoadTestClient drives an EvaluationServer from many connections at once and reports throughput and latency
+ * percentiles. Each client keeps one connection open and pipelines requests on it: it writes several POST requests
+ * of a batch of expressions back to back, then reads their responses in order. A request's latency runs from
+ * writing it until its response has been read, so it includes the time spent queued behind the requests before it.
+ * Every batch contains expressions with known results, and the run fails (exit code 1) if any result differs.
+ *
+ * <p>Usage: {@code LoadTestClient [port|local] [clients] [seconds] [batch] [pipeline]}, by default a server started
+ * in the same process (local), 64 clients, 10 seconds, 16 expressions per request and 4 requests in flight.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class LoadTestClient {
+
+    /**
+     * Seconds at the start of the run that are not measured, while the JIT compiles the server.
+     */
+    private static final int WARMUP_SECONDS = 3;
+
+    /**
+     * Expressions with the results the calculator shows for them, mixed into every batch.
+     */
+    private static final String[][] CHECKED = {
+        {"200 * 15%", "30"},
+        {"1 / 3", "0.3333333333"},
+        {"(2 + 3", "5"},
+        {"10 - -5", "15"},
+        {"7 % 3", "1"},
+        {"12 *", "12"},
+        {"0.1 + 0.2", "0.3"},
+        {"1 / 0.0000001", "10000000"},
+        {"2 ** 3", "Error"},
+    };
+
+    public static void main(String[] args) throws Exception {
+        String target = args.length > 0 ? args[0] : "local";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        int batch = args.length > 3 ? Integer.parseInt(args[3]) : 16;
+        int pipeline = args.length > 4 ? Integer.parseInt(args[4]) : 4;
+
+        EvaluationServer localServer = null;
+        int port;
+        if (target.equals("local")) {
+            localServer = startLocalServer();
+            port = localServer.port();
+            System.out.printf("Local server: %d evaluators on %s%n", localServer.evaluators(),
+                    localServer.usesVirtualThreads() ? "virtual threads" : "platform threads");
+        } else {
+            port = Integer.parseInt(target);
+        }
+
+        try {
+            Result result = run(port, clients, seconds, batch, pipeline);
+            System.out.printf("%d clients, %d expressions per request, %d requests in flight per connection, %d s"
+                    + " (after %d s warmup)%n", clients, batch, pipeline, seconds, WARMUP_SECONDS);
+            result.print(seconds);
+            if (result.mismatches > 0 || result.failures > 0) {
+                System.exit(1);
+            }
+        } finally {
+            if (localServer != null) {
+                localServer.close();
+            }
+        }
+    }
+
+    private static EvaluationServer startLocalServer() throws IOException {
+        EvaluationServer server = new EvaluationServer(0, Runtime.getRuntime().availableProcessors());
+        server.start();
+        return server;
+    }
+
+    /**
+     * Runs the clients for the warmup and the measured seconds and returns what was measured.
+     */
+    private static Result run(int port, int clients, int seconds, int batch, int pipeline) throws InterruptedException {
+        Result result = new Result();
+        long start = System.nanoTime();
+        long measureFrom = start + WARMUP_SECONDS * 1_000_000_000L;
+        long deadline = measureFrom + seconds * 1_000_000_000L;
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            Client client = new Client(port, batch, pipeline, new Random(i), result, measureFrom, deadline);
+            Thread thread = new Thread(client, "load-client-" + i);
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return result;
+    }
+
+    /**
+     * Counters and latencies of the measured part of a run, shared by all clients.
+     */
+    private static final class Result {
+
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder expressions = new LongAdder();
+        volatile int mismatches;
+        volatile int failures;
+        volatile String firstProblem;
+
+        synchronized void problem(String message, boolean mismatch) {
+            if (mismatch) {
+                mismatches++;
+            } else {
+                failures++;
+            }
+            if (firstProblem == null) {
+                firstProblem = message;
+            }
+        }
+
+        void print(int seconds) {
+            long requests = latency.count();
+            System.out.printf("Throughput: %.0f requests/s, %.0f expressions/s%n", requests / (double) seconds,
+                    expressions.sum() / (double) seconds);
+            System.out.printf("Latency: p50 %.3f ms, p90 %.3f ms, p99 %.3f ms, p99.9 %.3f ms, max %.3f ms%n",
+                    millis(latency.percentile(50)), millis(latency.percentile(90)), millis(latency.percentile(99)),
+                    millis(latency.percentile(99.9)), millis(latency.maxNanos()));
+            System.out.printf("Mismatched results: %d, failed requests: %d%n", mismatches, failures);
+            if (firstProblem != null) {
+                System.out.println("First problem: " + firstProblem);
+            }
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+
+    /**
+     * One connection, writing pipelined requests and checking their responses.
+     */
+    private static final class Client implements Runnable {
+
+        private final int port;
+        private final int batch;
+        private final int pipeline;
+        private final Random random;
+        private final Result result;
+        private final long measureFrom;
+        private final long deadline;
+
+        Client(int port, int batch, int pipeline, Random random, Result result, long measureFrom, long deadline) {
+            this.port = port;
+            this.batch = batch;
+            this.pipeline = pipeline;
+            this.random = random;
+            this.result = result;
+            this.measureFrom = measureFrom;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void run() {
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+                socket.setTcpNoDelay(true);
+                OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+                InputStream in = new BufferedInputStream(socket.getInputStream());
+                String[][] expected = new String[pipeline][];
+                long[] sentAt = new long[pipeline];
+                while (System.nanoTime() < deadline) {
+                    for (int i = 0; i < pipeline; i++) {
+                        expected[i] = writeRequest(out);
+                        out.flush();
+                        sentAt[i] = System.nanoTime();
+                    }
+                    for (int i = 0; i < pipeline; i++) {
+                        String body = readResponse(in);
+                        long now = System.nanoTime();
+                        if (sentAt[i] >= measureFrom && now <= deadline) {
+                            result.latency.record(now - sentAt[i]);
+                            result.expressions.add(batch);
+                        }
+                        check(body, expected[i]);
+                    }
+                }
+            } catch (IOException e) {
+                result.problem("Connection failed: " + e.getMessage(), false);
+            }
+        }
+
+        /**
+         * Writes one request and returns the expected results of its checked expressions (null for the others).
+         */
+        private String[] writeRequest(OutputStream out) throws IOException {
+            String[] expected = new String[batch];
+            StringBuilder body = new StringBuilder(batch * 16);
+            for (int i = 0; i < batch; i++) {
+                if (i % 4 == 0) {
+                    String[] checked = CHECKED[random.nextInt(CHECKED.length)];
+                    body.append(checked[0]);
+                    expected[i] = checked[1];
+                } else {
+                    body.append(random.nextInt(1000)).append(" * (").append(random.nextInt(100)).append(" + ")
+                            .append(random.nextInt(100) / 10.0).append(") / ").append(random.nextInt(99) + 1)
+                            .append(random.nextBoolean() ? "%" : "");
+                }
+                body.append('\n');
+            }
+            byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+            String head = "POST /evaluate HTTP/1.1\r\nHost: localhost\r\nContent-Type: text/plain; charset=utf-8\r\n"
+                    + "Content-Length: " + bytes.length + "\r\n\r\n";
+            out.write(head.getBytes(StandardCharsets.US_ASCII));
+            out.write(bytes);
+            return expected;
+        }
+
+        private void check(String body, String[] expected) {
+            String[] lines = body.split("\n", -1);
+            if (lines.length != expected.length + 1) {
+                result.problem("Expected " + expected.length + " results, got " + (lines.length - 1), true);
+                return;
+            }
+            for (int i = 0; i < expected.length; i++) {
+                if (expected[i] != null && !expected[i].equals(lines[i])) {
+                    result.problem("Expected \"" + expected[i] + "\", got \"" + lines[i] + "\"", true);
+                }
+            }
+        }
+
+        /**
+         * Reads one HTTP response with a Content-Length and returns its body.
+         */
+        private static String readResponse(InputStream in) throws IOException {
+            String status = readLine(in);
+            if (!status.startsWith("HTTP/1.1 200")) {
+                throw new IOException("Unexpected response: " + status);
+            }
+            int length = -1;
+            for (String header = readLine(in); !header.isEmpty(); header = readLine(in)) {
+                if (header.regionMatches(true, 0, "Content-Length:", 0, 15)) {
+                    length = Integer.parseInt(header.substring(15).trim());
+                }
+            }
+            if (length < 0) {
+                throw new IOException("Response without Content-Length");
+            }
+            return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+        }
+
+        private static String readLine(InputStream in) throws IOException {
+            StringBuilder line = new StringBuilder();
+            for (int c = in.read(); c != '\n'; c = in.read()) {
+                if (c < 0) {
+                    throw new EOFException("Connection closed by the server");
+                }
+                if (c != '\r') {
+                    line.append((char) c);
+                }
+            }
+            return line.toString();
+        }
+    }
+}
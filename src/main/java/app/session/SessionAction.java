@@ -0,0 +1,44 @@
+package app.session;
+
+/**
+ * SessionAction is one entry of a recorded calculator session.
+ * Clicks and key presses are the inputs that JavaFXController dispatches; results are checkpoints of the main display
+ * recorded after each completed calculation (and once at the end), which a replay must reproduce exactly.
+ *
+ * @param offsetNanos Time since the start of the session
+ * @param type The kind of entry
+ * @param name The button fx:id (CLICK) or KeyCode name (KEY); null for results
+ * @param text The key text (KEY) or main display text (RESULT, FINAL); null for clicks
+ * @param shift Whether shift was held (KEY only)
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public record SessionAction(long offsetNanos, Type type, String name, String text, boolean shift) {
+
+    /**
+     * Kinds of session entries, with the tag byte used in the binary log.
+     */
+    public enum Type {
+        CLICK(1),
+        KEY(2),
+        RESULT(3),
+        FINAL(4);
+
+        final int tag;
+
+        Type(int tag) {
+            this.tag = tag;
+        }
+
+        static Type fromTag(int tag) {
+            for (Type type : values()) {
+                if (type.tag == tag) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Unknown session entry type " + tag);
+        }
+    }
+}
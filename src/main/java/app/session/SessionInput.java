@@ -0,0 +1,26 @@
+package app.session;
+
+/**
+ * SessionInput is the pending input of the calculator: the expression being entered and the state of the displays,
+ * as saved in the session journal and restored on the next start.
+ *
+ * @param expression The expression as displayed
+ * @param jsExpression The expression as evaluated
+ * @param currentInput The number being entered
+ * @param mainDisplay The main display text
+ * @param expressionDisplay The expression display text
+ * @param resultShown Whether the main display shows a result rather than input
+ * @param startNewInput Whether the next digit starts a new number
+ * @param hasJustPerformedOperation Whether the last action completed a calculation
+ * @param pendingUnaryOperation The unary operation waiting for its operand, or null
+ * @param unclosedParenthesesCount The number of open parentheses
+ * @param percentFormatActive Whether the main display is formatted as a percentage
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public record SessionInput(String expression, String jsExpression, String currentInput, String mainDisplay,
+        String expressionDisplay, boolean resultShown, boolean startNewInput, boolean hasJustPerformedOperation,
+        String pendingUnaryOperation, int unclosedParenthesesCount, boolean percentFormatActive) {
+}
@@ -0,0 +1,312 @@
+package app.session;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import app.log.Log;
+
+/**
+ * SessionJournal keeps the calculator's history, memory and pending input in a local journal file, so they survive
+ * the application being closed or killed. Each change is appended as a small record (a new history entry, the
+ * memory entries, the latest input) on one background thread, in the order the changes were made, so the FX thread
+ * never waits for the disk. Input changes are coalesced: a burst of key presses is written as one record.
+ *
+ * A record cut short by a crash is dropped when the journal is read, and the journal is truncated after its last
+ * complete record before appending again. When the journal has grown to twice its compacted size, it is rewritten
+ * as one snapshot of the current state into a temporary file that is moved over it atomically, so the journal is
+ * always either the old or the new file, never a mix. See {@link SessionJournalWriter} for the format.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class SessionJournal implements AutoCloseable {
+
+    /**
+     * System property for the journal file (default: ~/.calculator/session.journal), or "none" to disable it.
+     */
+    public static final String SESSION_FILE_PROPERTY = "calculator.sessionFile";
+
+    /**
+     * Size below which the journal is never compacted.
+     */
+    private static final long MIN_COMPACT_SIZE = 256 * 1024;
+
+    /**
+     * Number of history entries per record when compacting, which bounds the size of the buffer.
+     */
+    private static final int COMPACT_BATCH = 1024;
+
+    private final Path file;
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "calculator-session-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The latest input not yet written, or null if a write of the input is not pending.
+     */
+    private final AtomicReference<SessionInput> pendingInput = new AtomicReference<>();
+
+    // State of the journal, only accessed on the writer thread
+    private final SessionJournalWriter records = new SessionJournalWriter();
+    private final List<String> history = new ArrayList<>();
+    private List<String> memory = List.of();
+    private SessionInput input;
+    private FileChannel channel;
+    private boolean opened;
+    private boolean needsCompaction;
+    private long compactedSize;
+
+    /**
+     * Creates a journal for the given file.
+     *
+     * @param file The journal file
+     */
+    public SessionJournal(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Creates a journal for the file named by {@link #SESSION_FILE_PROPERTY}, or the default file in the user's home.
+     *
+     * @return The journal, or null if the property is "none"
+     */
+    public static SessionJournal fromSystemProperty() {
+        String configured = System.getProperty(SESSION_FILE_PROPERTY);
+        if (configured == null || configured.isBlank()) {
+            return new SessionJournal(Path.of(System.getProperty("user.home"), ".calculator", "session.journal"));
+        }
+        return configured.equals("none") ? null : new SessionJournal(Path.of(configured));
+    }
+
+    /**
+     * Reads the journal on the writer thread. Changes recorded afterwards are applied on top of the loaded state.
+     *
+     * @return The state saved by the last session, completed on the writer thread
+     */
+    public CompletableFuture<SessionSnapshot> load() {
+        return CompletableFuture.supplyAsync(() -> {
+            open();
+            List<String> newestFirst = new ArrayList<>(history);
+            Collections.reverse(newestFirst);
+            return new SessionSnapshot(newestFirst, memory, input);
+        }, writer);
+    }
+
+    /**
+     * Records entries added to the top of the history.
+     *
+     * @param entries The new entries, newest first
+     */
+    public void historyAdded(List<? extends String> entries) {
+        List<String> oldestFirst = new ArrayList<>(entries);
+        Collections.reverse(oldestFirst);
+        submit(() -> {
+            history.addAll(oldestFirst);
+            records.historyAdded(oldestFirst);
+        });
+    }
+
+    /**
+     * Records the newest history entries being removed.
+     *
+     * @param count The number of entries removed
+     */
+    public void historyRemoved(int count) {
+        submit(() -> {
+            int removed = Math.min(count, history.size());
+            history.subList(history.size() - removed, history.size()).clear();
+            records.historyRemoved(removed);
+        });
+    }
+
+    /**
+     * Records the memory entries after a change.
+     *
+     * @param entries All memory entries, newest first
+     */
+    public void memoryChanged(List<String> entries) {
+        List<String> snapshot = List.copyOf(entries);
+        submit(() -> {
+            memory = snapshot;
+            records.memory(snapshot);
+        });
+    }
+
+    /**
+     * Records the pending input. If earlier input is still waiting to be written, only the latest is written.
+     *
+     * @param latest The input
+     */
+    public void inputChanged(SessionInput latest) {
+        if (pendingInput.getAndSet(latest) == null) {
+            submit(() -> {
+                SessionInput pending = pendingInput.getAndSet(null);
+                // Null if a replace() made it obsolete
+                if (pending != null) {
+                    input = pending;
+                    records.input(pending);
+                }
+            });
+        }
+    }
+
+    /**
+     * Replaces the whole saved state, e.g., after merging the loaded state into the current one, and compacts the
+     * journal to it.
+     *
+     * @param snapshot The state to save
+     */
+    public void replace(SessionSnapshot snapshot) {
+        List<String> oldestFirst = new ArrayList<>(snapshot.history());
+        Collections.reverse(oldestFirst);
+        List<String> memorySnapshot = List.copyOf(snapshot.memory());
+        pendingInput.set(null);
+        writer.execute(() -> {
+            open();
+            history.clear();
+            history.addAll(oldestFirst);
+            memory = memorySnapshot;
+            input = snapshot.input();
+            needsCompaction = true;
+            flush();
+        });
+    }
+
+    /**
+     * Writes the pending changes and closes the journal file, waiting up to two seconds.
+     */
+    @Override
+    public void close() {
+        writer.execute(() -> {
+            try {
+                if (channel != null) {
+                    channel.close();
+                }
+            } catch (IOException e) {
+                Log.warn("Could not close the session journal: %s", e.getMessage());
+            }
+        });
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(2, TimeUnit.SECONDS)) {
+                Log.warn("Session journal writes did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Applies a change to the state on the writer thread and appends the records it encoded.
+     */
+    private void submit(Runnable change) {
+        writer.execute(() -> {
+            open();
+            change.run();
+            flush();
+        });
+    }
+
+    /**
+     * Reads the journal into the state, the first time it is needed.
+     */
+    private void open() {
+        if (opened) {
+            return;
+        }
+        opened = true;
+        try {
+            SessionJournalReader.Contents contents = SessionJournalReader.read(file);
+            history.addAll(contents.history());
+            memory = contents.memory();
+            input = contents.input();
+            channel = FileChannel.open(file, StandardOpenOption.WRITE);
+            if (channel.size() > contents.validLength()) {
+                Log.warn("Dropping %s bytes of an incomplete session journal record", channel.size() - contents.validLength());
+                channel.truncate(contents.validLength());
+            }
+            channel.position(contents.validLength());
+            compactedSize = contents.validLength();
+        } catch (NoSuchFileException e) {
+            // Created by the first change
+            needsCompaction = true;
+        } catch (IOException e) {
+            Log.warn("Could not read the session journal, starting a new one: %s", e.getMessage());
+            needsCompaction = true;
+        }
+    }
+
+    /**
+     * Appends the encoded records, or rewrites the journal if it has grown too large or an append failed.
+     */
+    private void flush() {
+        try {
+            if (!needsCompaction && channel != null) {
+                records.writeTo(channel);
+                needsCompaction = channel.size() > Math.max(MIN_COMPACT_SIZE, 2 * compactedSize);
+            }
+            if (needsCompaction) {
+                records.reset();
+                compact();
+                needsCompaction = false;
+            }
+        } catch (IOException e) {
+            // The journal may now end with a partial record; the next change rewrites it from the state
+            records.reset();
+            needsCompaction = true;
+            Log.warn("Could not write the session journal: %s", e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the state into a temporary file, forces it to disk and moves it over the journal.
+     */
+    private void compact() throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = directory.resolve(file.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            records.header();
+            for (int from = 0; from < history.size(); from += COMPACT_BATCH) {
+                records.historyAdded(history.subList(from, Math.min(from + COMPACT_BATCH, history.size())));
+                records.writeTo(out);
+            }
+            records.memory(memory);
+            if (input != null) {
+                records.input(input);
+            }
+            records.writeTo(out);
+            out.force(true);
+        } catch (IOException e) {
+            records.reset();
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(file, StandardOpenOption.WRITE);
+        compactedSize = channel.size();
+        channel.position(compactedSize);
+    }
+}
@@ -0,0 +1,164 @@
+package app.session;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * SessionJournalReader replays a session journal written by SessionJournalWriter into the state it describes.
+ * Reading stops at the first record that is incomplete or fails its CRC check, i.e., the record a crash cut short.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+final class SessionJournalReader {
+
+    /**
+     * The state replayed from a journal.
+     *
+     * @param history The history entries, oldest first
+     * @param memory The memory entries, newest first
+     * @param input The pending input, or null
+     * @param validLength The length of the journal up to the end of its last complete record
+     */
+    record Contents(List<String> history, List<String> memory, SessionInput input, long validLength) {
+    }
+
+    private final byte[] data;
+    private int position;
+    private int limit;
+
+    private SessionJournalReader(byte[] data) {
+        this.data = data;
+    }
+
+    /**
+     * Reads a journal file.
+     *
+     * @param file The journal
+     * @return The replayed state
+     * @throws IOException if the file cannot be read or is not a session journal
+     */
+    static Contents read(Path file) throws IOException {
+        return new SessionJournalReader(Files.readAllBytes(file)).readAll();
+    }
+
+    private Contents readAll() throws IOException {
+        int headerLength = SessionJournalWriter.MAGIC.length + 1;
+        if (data.length < headerLength
+                || !Arrays.equals(data, 0, SessionJournalWriter.MAGIC.length, SessionJournalWriter.MAGIC, 0, SessionJournalWriter.MAGIC.length)) {
+            throw new IOException("Not a calculator session journal");
+        }
+        int version = data[SessionJournalWriter.MAGIC.length];
+        if (version != SessionJournalWriter.VERSION) {
+            throw new IOException("Unsupported session journal version " + version);
+        }
+
+        List<String> history = new ArrayList<>();
+        List<String> memory = List.of();
+        SessionInput input = null;
+        CRC32 crc = new CRC32();
+        int end = headerLength;
+        while (end < data.length) {
+            // Frame the record, stopping at a torn one
+            position = end;
+            limit = data.length;
+            int tag = data[position++] & 0xFF;
+            long length = readVarLong();
+            if (length < 0 || length > data.length - position - 4) {
+                break;
+            }
+            int payloadStart = position;
+            int payloadEnd = payloadStart + (int) length;
+            crc.reset();
+            crc.update(data, end, payloadEnd - end);
+            int checksum = (data[payloadEnd] & 0xFF) << 24 | (data[payloadEnd + 1] & 0xFF) << 16
+                    | (data[payloadEnd + 2] & 0xFF) << 8 | (data[payloadEnd + 3] & 0xFF);
+            if (checksum != (int) crc.getValue()) {
+                break;
+            }
+
+            limit = payloadEnd;
+            switch (tag) {
+                case SessionJournalWriter.HISTORY_ADD -> {
+                    long count = readVarLong();
+                    for (long i = 0; i < count; i++) {
+                        history.add(readString());
+                    }
+                }
+                case SessionJournalWriter.HISTORY_REMOVE -> {
+                    long count = Math.max(0, Math.min(readVarLong(), history.size()));
+                    history.subList(history.size() - (int) count, history.size()).clear();
+                }
+                case SessionJournalWriter.MEMORY -> {
+                    int count = (int) Math.max(0, readVarLong());
+                    List<String> entries = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        entries.add(readString());
+                    }
+                    memory = entries;
+                }
+                case SessionJournalWriter.INPUT -> {
+                    String expression = readString();
+                    String jsExpression = readString();
+                    String currentInput = readString();
+                    String mainDisplay = readString();
+                    String expressionDisplay = readString();
+                    String pendingUnaryOperation = readString();
+                    int parentheses = (int) readVarLong();
+                    int flags = readByte();
+                    input = new SessionInput(expression, jsExpression, currentInput, mainDisplay, expressionDisplay,
+                            (flags & 1) != 0, (flags & 2) != 0, (flags & 4) != 0, pendingUnaryOperation, parentheses,
+                            (flags & 8) != 0);
+                }
+                default -> throw new IOException("Unknown session journal record " + tag + " at byte " + end);
+            }
+            end = payloadEnd + 4;
+        }
+        return new Contents(history, memory, input, end);
+    }
+
+    private String readString() throws IOException {
+        long length = readVarLong() - 1;
+        if (length < 0) {
+            return null;
+        }
+        if (length > limit - position) {
+            throw new IOException("Malformed string at byte " + position);
+        }
+        String value = new String(data, position, (int) length, StandardCharsets.UTF_8);
+        position += (int) length;
+        return value;
+    }
+
+    private int readByte() throws IOException {
+        if (position >= limit) {
+            throw new IOException("Truncated record at byte " + position);
+        }
+        return data[position++] & 0xFF;
+    }
+
+    /**
+     * Reads an unsigned varint, or returns -1 if the data ends inside it or it is malformed.
+     */
+    private long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 63; shift += 7) {
+            if (position >= limit) {
+                return -1;
+            }
+            int b = data[position++] & 0xFF;
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,174 @@
+package app.session;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * SessionJournalWriter encodes session journal records into a buffer, which is then appended to the journal file.
+ *
+ * Format: the magic bytes "CSJN", a version byte, then one record per change: a type tag byte, the payload length as
+ * an unsigned varint, the payload, and the CRC-32 of the tag, length and payload (4 bytes, big-endian). A record cut
+ * short by a crash fails its length or CRC check, and the journal ends with the last complete record.
+ * Strings are a varint of the UTF-8 length plus one (0 for null) followed by the bytes.
+ * Payloads: HISTORY_ADD a varint count and the new entries oldest first; HISTORY_REMOVE the varint number of newest
+ * entries removed; MEMORY a varint count and all memory entries newest first; INPUT the expression, evaluated
+ * expression, current input, main display, expression display and pending unary operation strings, the varint number
+ * of open parentheses and a flags byte (bit 0 = result shown, 1 = start new input, 2 = just performed an operation,
+ * 3 = percent format).
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+class SessionJournalWriter {
+
+    static final byte[] MAGIC = {'C', 'S', 'J', 'N'};
+    static final int VERSION = 1;
+
+    static final int HISTORY_ADD = 1;
+    static final int HISTORY_REMOVE = 2;
+    static final int MEMORY = 3;
+    static final int INPUT = 4;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+    private final ByteArrayOutputStream payload = new ByteArrayOutputStream(256);
+    private final ByteArrayOutputStream recordHeader = new ByteArrayOutputStream(8);
+    private final CRC32 crc = new CRC32();
+
+    /**
+     * Writes the journal header, which starts a new journal file.
+     */
+    void header() {
+        out.writeBytes(MAGIC);
+        out.write(VERSION);
+    }
+
+    /**
+     * Writes a record of entries added to the history.
+     *
+     * @param entries The new entries, oldest first
+     */
+    void historyAdded(List<String> entries) {
+        writeVarLong(payload, entries.size());
+        for (String entry : entries) {
+            writeString(entry);
+        }
+        endRecord(HISTORY_ADD);
+    }
+
+    /**
+     * Writes a record of the newest history entries being removed.
+     *
+     * @param count The number of entries removed
+     */
+    void historyRemoved(int count) {
+        writeVarLong(payload, count);
+        endRecord(HISTORY_REMOVE);
+    }
+
+    /**
+     * Writes a record of the memory entries.
+     *
+     * @param memory All memory entries, newest first
+     */
+    void memory(List<String> memory) {
+        writeVarLong(payload, memory.size());
+        for (String entry : memory) {
+            writeString(entry);
+        }
+        endRecord(MEMORY);
+    }
+
+    /**
+     * Writes a record of the pending input.
+     *
+     * @param input The input
+     */
+    void input(SessionInput input) {
+        writeString(input.expression());
+        writeString(input.jsExpression());
+        writeString(input.currentInput());
+        writeString(input.mainDisplay());
+        writeString(input.expressionDisplay());
+        writeString(input.pendingUnaryOperation());
+        writeVarLong(payload, Math.max(0, input.unclosedParenthesesCount()));
+        payload.write((input.resultShown() ? 1 : 0) | (input.startNewInput() ? 2 : 0)
+                | (input.hasJustPerformedOperation() ? 4 : 0) | (input.percentFormatActive() ? 8 : 0));
+        endRecord(INPUT);
+    }
+
+    /**
+     * Returns the number of buffered bytes.
+     */
+    int size() {
+        return out.size();
+    }
+
+    /**
+     * Writes the buffered records to a channel and empties the buffer.
+     *
+     * @param channel The channel to write to
+     * @throws IOException if writing fails
+     */
+    void writeTo(WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+        out.reset();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Discards the buffered records.
+     */
+    void reset() {
+        out.reset();
+        payload.reset();
+    }
+
+    /**
+     * Frames the payload written so far as a record.
+     */
+    private void endRecord(int tag) {
+        byte[] body = payload.toByteArray();
+        payload.reset();
+        recordHeader.reset();
+        recordHeader.write(tag);
+        writeVarLong(recordHeader, body.length);
+        byte[] head = recordHeader.toByteArray();
+
+        crc.reset();
+        crc.update(head);
+        crc.update(body);
+        int checksum = (int) crc.getValue();
+        out.writeBytes(head);
+        out.writeBytes(body);
+        out.write(checksum >>> 24);
+        out.write(checksum >>> 16);
+        out.write(checksum >>> 8);
+        out.write(checksum);
+    }
+
+    private void writeString(String value) {
+        if (value == null) {
+            payload.write(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(payload, bytes.length + 1L);
+        payload.writeBytes(bytes);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream target, long value) {
+        while ((value & ~0x7FL) != 0) {
+            target.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        target.write((int) value);
+    }
+}
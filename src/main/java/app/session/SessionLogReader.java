@@ -0,0 +1,117 @@
+package app.session;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * SessionLogReader decodes a binary session log written by SessionLogWriter.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public final class SessionLogReader {
+
+    private final byte[] data;
+    private int position;
+    private final List<String> strings = new ArrayList<>();
+
+    private SessionLogReader(byte[] data) {
+        this.data = data;
+    }
+
+    /**
+     * Reads all actions of a session log file.
+     *
+     * @param file The session log
+     * @return The actions in recorded order
+     * @throws IOException if the file cannot be read or is not a valid session log
+     */
+    public static List<SessionAction> read(Path file) throws IOException {
+        return new SessionLogReader(Files.readAllBytes(file)).readAll();
+    }
+
+    private List<SessionAction> readAll() throws IOException {
+        if (data.length < SessionLogWriter.MAGIC.length + 1
+                || !Arrays.equals(data, 0, SessionLogWriter.MAGIC.length, SessionLogWriter.MAGIC, 0, SessionLogWriter.MAGIC.length)) {
+            throw new IOException("Not a calculator session log");
+        }
+        position = SessionLogWriter.MAGIC.length;
+        int version = data[position++];
+        if (version != SessionLogWriter.VERSION) {
+            throw new IOException("Unsupported session log version " + version);
+        }
+
+        List<SessionAction> actions = new ArrayList<>();
+        long offsetMicros = 0;
+        while (position < data.length) {
+            SessionAction.Type type;
+            try {
+                type = SessionAction.Type.fromTag(data[position++]);
+            } catch (IllegalArgumentException e) {
+                throw new IOException(e.getMessage() + " at byte " + (position - 1), e);
+            }
+            offsetMicros += readVarLong();
+            long offsetNanos = offsetMicros * 1_000;
+
+            actions.add(switch (type) {
+                case CLICK -> new SessionAction(offsetNanos, type, readInterned(), null, false);
+                case KEY -> {
+                    String code = readInterned();
+                    String text = readInterned();
+                    yield new SessionAction(offsetNanos, type, code, text, (readByte() & 1) != 0);
+                }
+                case RESULT, FINAL -> new SessionAction(offsetNanos, type, null, readString(), false);
+            });
+        }
+        return actions;
+    }
+
+    private String readInterned() throws IOException {
+        long index = readVarLong();
+        if (index < strings.size()) {
+            return strings.get((int) index);
+        }
+        if (index != strings.size()) {
+            throw new IOException("Invalid string reference " + index + " at byte " + position);
+        }
+        String value = readString();
+        strings.add(value);
+        return value;
+    }
+
+    private String readString() throws IOException {
+        int length = (int) readVarLong();
+        if (length < 0 || position + length > data.length) {
+            throw new EOFException("Truncated session log");
+        }
+        String value = new String(data, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    private int readByte() throws IOException {
+        if (position >= data.length) {
+            throw new EOFException("Truncated session log");
+        }
+        return data[position++] & 0xFF;
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint at byte " + position);
+    }
+}
@@ -0,0 +1,103 @@
+package app.session;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SessionLogWriter encodes session actions into the compact binary session log format, in memory.
+ *
+ * Format: the magic bytes "CSLG", a version byte, then one record per action:
+ * a type tag byte, the time since the previous record in microseconds as an unsigned varint, and the payload.
+ * Button ids, key names and key texts are interned in a string table: a varint index, followed by the string
+ * (varint length + UTF-8 bytes) only the first time it appears. A typical keystroke therefore takes 3-5 bytes.
+ * Payloads: CLICK id; KEY code, text, flags (bit 0 = shift); RESULT and FINAL display text (not interned).
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class SessionLogWriter {
+
+    static final byte[] MAGIC = {'C', 'S', 'L', 'G'};
+    static final int VERSION = 1;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+    private final Map<String, Integer> strings = new HashMap<>();
+    private long lastOffsetMicros;
+
+    /**
+     * Creates a writer and writes the log header.
+     */
+    public SessionLogWriter() {
+        out.writeBytes(MAGIC);
+        out.write(VERSION);
+    }
+
+    /**
+     * Appends one action to the log.
+     *
+     * @param action The action; offsets must not decrease
+     */
+    public void write(SessionAction action) {
+        long offsetMicros = action.offsetNanos() / 1_000;
+        out.write(action.type().tag);
+        writeVarLong(Math.max(0, offsetMicros - lastOffsetMicros));
+        lastOffsetMicros = Math.max(lastOffsetMicros, offsetMicros);
+
+        switch (action.type()) {
+            case CLICK -> writeInterned(action.name());
+            case KEY -> {
+                writeInterned(action.name());
+                writeInterned(action.text());
+                out.write(action.shift() ? 1 : 0);
+            }
+            case RESULT, FINAL -> writeString(action.text());
+        }
+    }
+
+    /**
+     * Returns the number of bytes written so far.
+     */
+    public int size() {
+        return out.size();
+    }
+
+    /**
+     * Copies the encoded log to a stream.
+     *
+     * @param target The stream to write to
+     * @throws IOException if writing fails
+     */
+    public void writeTo(OutputStream target) throws IOException {
+        out.writeTo(target);
+    }
+
+    private void writeInterned(String value) {
+        Integer index = strings.get(value);
+        if (index != null) {
+            writeVarLong(index);
+            return;
+        }
+        writeVarLong(strings.size());
+        strings.put(value, strings.size());
+        writeString(value);
+    }
+
+    private void writeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    private void writeVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
@@ -0,0 +1,211 @@
+package app.session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import app.log.Log;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * SessionPersistence connects the calculator to its {@link SessionJournal}: it saves every change of the history,
+ * memory and pending input, and merges the last session into the calculator once the window has shown its first
+ * frame, so a long history never delays startup. The controller only forwards input changes; the history and memory
+ * lists are observed directly. Used on the JavaFX Application Thread.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class SessionPersistence implements AutoCloseable {
+
+    /**
+     * The calculator state that is not held in the history and memory lists.
+     */
+    public interface Host {
+
+        /**
+         * Returns the pending input as the displays show it.
+         */
+        SessionInput captureInput();
+
+        /**
+         * Replaces the pending input with a saved one.
+         *
+         * @param input The input saved by the last session
+         */
+        void restoreInput(SessionInput input);
+
+        /**
+         * Returns true if the pending input is saved, i.e., in the standard mode, which the next session starts in.
+         */
+        boolean isInputSaved();
+
+        /**
+         * Returns true if the user has changed anything since startup.
+         */
+        boolean hasUndoSteps();
+
+        /**
+         * Called once the last session has been merged in, e.g., to start the undo history from the merged state.
+         */
+        void sessionRestored();
+    }
+
+    private final SessionJournal journal;
+    private final ObservableList<String> history;
+    private final ObservableList<String> memory;
+    private final Host host;
+
+    /**
+     * The input last saved to the journal, so an action that did not change the input saves nothing.
+     */
+    private SessionInput journaledInput;
+
+    /**
+     * Whether the last session has been merged in. Changes are only saved to the journal from then on, and changes
+     * made before are saved together with the merged state.
+     */
+    private boolean restored;
+
+    /**
+     * Creates the persistence of a calculator's session.
+     *
+     * @param journal The journal to save to and restore from
+     * @param history The history entries, newest first
+     * @param memory The memory entries, newest first
+     * @param host The rest of the calculator state
+     */
+    public SessionPersistence(SessionJournal journal, ObservableList<String> history, ObservableList<String> memory,
+            Host host) {
+        this.journal = journal;
+        this.history = history;
+        this.memory = memory;
+        this.host = host;
+    }
+
+    /**
+     * Creates the persistence for the journal named by {@link SessionJournal#SESSION_FILE_PROPERTY}.
+     *
+     * @param history The history entries, newest first
+     * @param memory The memory entries, newest first
+     * @param host The rest of the calculator state
+     * @return The persistence, or null if the journal is disabled
+     */
+    public static SessionPersistence fromSystemProperty(ObservableList<String> history, ObservableList<String> memory,
+            Host host) {
+        SessionJournal journal = SessionJournal.fromSystemProperty();
+        return journal == null ? null : new SessionPersistence(journal, history, memory, host);
+    }
+
+    /**
+     * Starts saving changes and loads the last session in the background, merging it in after the first frame.
+     */
+    public void start() {
+        history.addListener(this::historyChanged);
+        memory.addListener((InvalidationListener) obs -> {
+            if (restored) {
+                journal.memoryChanged(memory);
+            }
+        });
+        CompletableFuture<SessionSnapshot> loaded = journal.load();
+        new AnimationTimer() {
+            private int frames = 0;
+
+            @Override
+            public void handle(long now) {
+                if (++frames < 2) {
+                    return;
+                }
+                stop();
+                loaded.whenComplete((snapshot, error) -> Platform.runLater(() -> restore(snapshot, error)));
+            }
+        }.start();
+    }
+
+    /**
+     * Saves the pending input if it changed. Call after every action that may change it.
+     */
+    public void inputChanged() {
+        if (!restored || !host.isInputSaved()) {
+            return;
+        }
+        SessionInput input = host.captureInput();
+        if (!input.equals(journaledInput)) {
+            journaledInput = input;
+            journal.inputChanged(input);
+        }
+    }
+
+    /**
+     * Saves the pending input and closes the journal.
+     */
+    @Override
+    public void close() {
+        inputChanged();
+        journal.close();
+    }
+
+    /**
+     * Merges the state saved by the last session into the calculator. Its history and memory entries go below any
+     * added since startup, and its input is only restored if nothing has been entered yet.
+     */
+    private void restore(SessionSnapshot snapshot, Throwable error) {
+        if (error != null) {
+            Log.warn("Could not restore the last session: %s", error.getMessage());
+            snapshot = new SessionSnapshot(List.of(), List.of(), null);
+        }
+        boolean changedSinceStartup = !history.isEmpty() || !memory.isEmpty() || host.hasUndoSteps();
+        if (!snapshot.history().isEmpty()) {
+            List<String> merged = new ArrayList<>(history.size() + snapshot.history().size());
+            merged.addAll(history);
+            merged.addAll(snapshot.history());
+            history.setAll(merged);
+        }
+        if (!snapshot.memory().isEmpty()) {
+            List<String> merged = new ArrayList<>(memory);
+            merged.addAll(snapshot.memory());
+            memory.setAll(merged);
+        }
+        if (snapshot.input() != null && !host.hasUndoSteps() && host.isInputSaved()) {
+            host.restoreInput(snapshot.input());
+        }
+        restored = true;
+        if (changedSinceStartup) {
+            // The journal does not have the changes made before the merge
+            journaledInput = host.captureInput();
+            journal.replace(new SessionSnapshot(List.copyOf(history), List.copyOf(memory), journaledInput));
+        }
+        host.sessionRestored();
+        inputChanged();
+        Log.info("Restored %s history and %s memory entries from the last session", snapshot.history().size(),
+                snapshot.memory().size());
+    }
+
+    /**
+     * Saves a change of the history. Entries are added and removed at the top of the history, so other changes save
+     * the whole state.
+     */
+    private void historyChanged(ListChangeListener.Change<? extends String> change) {
+        if (!restored) {
+            return;
+        }
+        while (change.next()) {
+            if (change.getFrom() != 0 || change.wasPermutated() || change.wasUpdated()) {
+                journal.replace(new SessionSnapshot(List.copyOf(history), List.copyOf(memory), host.captureInput()));
+                return;
+            }
+            if (change.wasRemoved()) {
+                journal.historyRemoved(change.getRemovedSize());
+            }
+            if (change.wasAdded()) {
+                journal.historyAdded(change.getAddedSubList());
+            }
+        }
+    }
+}
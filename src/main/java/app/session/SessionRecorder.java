@@ -0,0 +1,128 @@
+package app.session;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import app.log.Log;
+
+/**
+ * SessionRecorder captures the actions dispatched by the calculator into a binary session log, which the
+ * replaySession task can feed back into the UI as a benchmark. Enabled with -Dcalculator.recordSession=path.
+ * Actions are encoded into memory on the JavaFX Application Thread (a few bytes each, no I/O) and the file is
+ * written when the application stops.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class SessionRecorder implements AutoCloseable {
+
+    /**
+     * System property with the file to record the session to.
+     */
+    public static final String RECORD_PROPERTY = "calculator.recordSession";
+
+    private final Path file;
+    private final SessionLogWriter writer = new SessionLogWriter();
+    private final long startNanos = System.nanoTime();
+    private boolean closed;
+
+    /**
+     * Creates a recorder that writes the session to the given file when closed.
+     *
+     * @param file The session log file
+     */
+    public SessionRecorder(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Creates a recorder for the file in the calculator.recordSession system property.
+     *
+     * @return The recorder, or null if the property is not set
+     */
+    public static SessionRecorder fromSystemProperty() {
+        String path = System.getProperty(RECORD_PROPERTY);
+        return path == null || path.isBlank() ? null : new SessionRecorder(Path.of(path));
+    }
+
+    /**
+     * Records a button click dispatched by handleLeftClick.
+     *
+     * @param buttonId The fx:id of the button
+     */
+    public void recordClick(String buttonId) {
+        if (closed) {
+            return;
+        }
+        writer.write(new SessionAction(elapsed(), SessionAction.Type.CLICK, buttonId, null, false));
+    }
+
+    /**
+     * Records a key press dispatched by handleKeyPress.
+     *
+     * @param keyCode The KeyCode name
+     * @param text The key text
+     * @param shift Whether shift was held
+     */
+    public void recordKey(String keyCode, String text, boolean shift) {
+        if (closed) {
+            return;
+        }
+        writer.write(new SessionAction(elapsed(), SessionAction.Type.KEY, keyCode, text, shift));
+    }
+
+    /**
+     * Records the main display after a completed calculation, as a checkpoint for the replay.
+     *
+     * @param display The main display text
+     */
+    public void recordResult(String display) {
+        if (closed) {
+            return;
+        }
+        writer.write(new SessionAction(elapsed(), SessionAction.Type.RESULT, null, display, false));
+    }
+
+    /**
+     * Records the final main display and writes the session log file.
+     *
+     * @param display The main display text when the session ends
+     */
+    public void finish(String display) {
+        if (closed) {
+            return;
+        }
+        writer.write(new SessionAction(elapsed(), SessionAction.Type.FINAL, null, display, false));
+        close();
+    }
+
+    /**
+     * Writes the session log file. Further actions are not recorded.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (OutputStream out = Files.newOutputStream(file)) {
+                writer.writeTo(out);
+            }
+            Log.info("Session recorded to %s (%s bytes)", file, writer.size());
+        } catch (IOException e) {
+            Log.error("Error writing session log: %s", e.getMessage());
+        }
+    }
+
+    private long elapsed() {
+        return System.nanoTime() - startNanos;
+    }
+}
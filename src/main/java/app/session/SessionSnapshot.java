@@ -0,0 +1,17 @@
+package app.session;
+
+import java.util.List;
+
+/**
+ * SessionSnapshot is the calculator state kept by the session journal.
+ *
+ * @param history The history entries, newest first
+ * @param memory The memory entries, newest first
+ * @param input The pending input, or null if none was saved
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public record SessionSnapshot(List<String> history, List<String> memory, SessionInput input) {
+}
@@ -0,0 +1,305 @@
+package app.solve;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import app.eval.Expr;
+import app.eval.MathFunction;
+
+/**
+ * DualProgram evaluates an expression together with its derivative with respect to one variable, using forward-mode
+ * automatic differentiation: every intermediate result is a dual number (value, derivative), and every operation
+ * applies the chain rule to both parts. The derivative is exact to rounding, without symbolic differentiation or
+ * finite differences.
+ *
+ * The expression tree is compiled once into a flat postfix program (opcodes plus constants). Evaluating it runs the
+ * program over two preallocated stacks, one for values and one for derivatives, so a Newton step allocates nothing.
+ * A program is immutable; each thread evaluates it through its own {@link Evaluator}.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public final class DualProgram {
+
+    // Opcodes; CALL opcodes are followed by the MathFunction ordinal, CONSTANT and VARIABLE by an operand
+    private static final int CONSTANT = 0;
+    private static final int VARIABLE = 1;
+    private static final int NEGATE = 2;
+    private static final int ADD = 3;
+    private static final int SUBTRACT = 4;
+    private static final int MULTIPLY = 5;
+    private static final int DIVIDE = 6;
+    private static final int REMAINDER = 7;
+    private static final int POWER = 8;
+    private static final int CALL = 9;
+
+    private static final MathFunction[] FUNCTIONS = MathFunction.values();
+
+    private static final double LN_10 = Math.log(10);
+
+    private final int[] code;
+    private final double[] constants;
+    private final int maxStack;
+    private final int variableCount;
+
+    private DualProgram(int[] code, double[] constants, int maxStack, int variableCount) {
+        this.code = code;
+        this.constants = constants;
+        this.maxStack = maxStack;
+        this.variableCount = variableCount;
+    }
+
+    /**
+     * Compiles an expression tree into a program.
+     *
+     * @param expr The expression, with variables resolved to slots
+     * @return The program
+     * @throws IllegalArgumentException if the expression contains an unbound function parameter
+     */
+    public static DualProgram compile(Expr expr) {
+        Builder builder = new Builder();
+        builder.emit(expr);
+        return new DualProgram(builder.code.stream().mapToInt(Integer::intValue).toArray(),
+                builder.constants.stream().mapToDouble(Double::doubleValue).toArray(),
+                Math.max(1, builder.maxStack), builder.maxSlot + 1);
+    }
+
+    /**
+     * Creates an evaluator with its own stacks and variables, for use by one thread.
+     */
+    public Evaluator newEvaluator() {
+        return new Evaluator();
+    }
+
+    /**
+     * Evaluates the program. Not thread-safe: each thread needs its own evaluator.
+     */
+    public final class Evaluator {
+
+        private final double[] values = new double[maxStack];
+        private final double[] derivatives = new double[maxStack];
+        private final double[] variables = new double[Math.max(1, variableCount)];
+        private double derivative;
+
+        private Evaluator() {
+        }
+
+        /**
+         * Returns the variables array; set the values of the other variables here before evaluating.
+         */
+        public double[] variables() {
+            return variables;
+        }
+
+        /**
+         * Evaluates the expression and its derivative with respect to the variable in the given slot.
+         *
+         * @param slot The slot of the variable to differentiate by
+         * @param x The value of that variable
+         * @return The value; the derivative is then available from {@link #derivative()}
+         */
+        public double evaluate(int slot, double x) {
+            variables[slot] = x;
+            int top = -1;
+            int[] program = code;
+            for (int pc = 0; pc < program.length; pc++) {
+                int opcode = program[pc];
+                if (opcode == CONSTANT) {
+                    top++;
+                    values[top] = constants[program[++pc]];
+                    derivatives[top] = 0;
+                } else if (opcode == VARIABLE) {
+                    int variable = program[++pc];
+                    top++;
+                    values[top] = variables[variable];
+                    derivatives[top] = variable == slot ? 1 : 0;
+                } else if (opcode == NEGATE) {
+                    values[top] = -values[top];
+                    derivatives[top] = -derivatives[top];
+                } else if (opcode == CALL) {
+                    MathFunction function = FUNCTIONS[program[++pc]];
+                    if (function.arity() == 1) {
+                        applyUnary(function, top);
+                    } else {
+                        top--;
+                        applyBinary(function, top);
+                    }
+                } else {
+                    top--;
+                    applyOperator(opcode, top);
+                }
+            }
+            derivative = derivatives[0];
+            return values[0];
+        }
+
+        /**
+         * Returns the derivative computed by the last call of {@link #evaluate(int, double)}.
+         */
+        public double derivative() {
+            return derivative;
+        }
+
+        /**
+         * Combines the dual numbers at top and top + 1 into top.
+         */
+        private void applyOperator(int opcode, int top) {
+            double a = values[top];
+            double da = derivatives[top];
+            double b = values[top + 1];
+            double db = derivatives[top + 1];
+            switch (opcode) {
+                case ADD -> {
+                    values[top] = a + b;
+                    derivatives[top] = da + db;
+                }
+                case SUBTRACT -> {
+                    values[top] = a - b;
+                    derivatives[top] = da - db;
+                }
+                case MULTIPLY -> {
+                    values[top] = a * b;
+                    derivatives[top] = a * db + b * da;
+                }
+                case DIVIDE -> {
+                    values[top] = a / b;
+                    derivatives[top] = (da * b - a * db) / (b * b);
+                }
+                case REMAINDER -> {
+                    // a % b = a - b * trunc(a / b), where trunc is piecewise constant
+                    double quotient = a / b;
+                    values[top] = a % b;
+                    derivatives[top] = da - db * (quotient < 0 ? Math.ceil(quotient) : Math.floor(quotient));
+                }
+                case POWER -> power(top, a, da, b, db);
+                default -> throw new IllegalStateException("Unknown opcode " + opcode);
+            }
+        }
+
+        private void power(int top, double a, double da, double b, double db) {
+            double value = Math.pow(a, b);
+            values[top] = value;
+            if (db == 0) {
+                // Constant exponent: also defined for a <= 0
+                derivatives[top] = b == 0 ? 0 : b * Math.pow(a, b - 1) * da;
+            } else {
+                derivatives[top] = value * (db * Math.log(a) + (da == 0 ? 0 : b * da / a));
+            }
+        }
+
+        private void applyUnary(MathFunction function, int top) {
+            double a = values[top];
+            double da = derivatives[top];
+            double value = function.apply(a);
+            values[top] = value;
+            // A constant argument has a zero derivative, even where the function's derivative is infinite
+            derivatives[top] = da == 0 ? 0 : da * unaryDerivative(function, a, value);
+        }
+
+        private void applyBinary(MathFunction function, int top) {
+            double a = values[top];
+            double da = derivatives[top];
+            double b = values[top + 1];
+            double db = derivatives[top + 1];
+            switch (function) {
+                case POW -> power(top, a, da, b, db);
+                case ATAN2 -> {
+                    values[top] = Math.atan2(a, b);
+                    derivatives[top] = (b * da - a * db) / (a * a + b * b);
+                }
+                case MIN -> {
+                    values[top] = Math.min(a, b);
+                    derivatives[top] = a <= b ? da : db;
+                }
+                case MAX -> {
+                    values[top] = Math.max(a, b);
+                    derivatives[top] = a >= b ? da : db;
+                }
+                default -> throw new IllegalStateException("Not a two-argument function: " + function);
+            }
+        }
+    }
+
+    /**
+     * Returns the derivative of a one-argument function at a, given its value there.
+     */
+    private static double unaryDerivative(MathFunction function, double a, double value) {
+        return switch (function) {
+            case SQRT -> 0.5 / value;
+            case CBRT -> 1 / (3 * value * value);
+            case ABS -> Math.signum(a);
+            case EXP -> value;
+            case LN, LOG -> 1 / a;
+            case LOG10 -> 1 / (a * LN_10);
+            case SIN -> Math.cos(a);
+            case COS -> -Math.sin(a);
+            case TAN -> 1 + value * value;
+            case ASIN -> 1 / Math.sqrt(1 - a * a);
+            case ACOS -> -1 / Math.sqrt(1 - a * a);
+            case ATAN -> 1 / (1 + a * a);
+            case SINH -> Math.cosh(a);
+            case COSH -> Math.sinh(a);
+            case TANH -> 1 - value * value;
+            default -> 0; // floor, ceil, round: piecewise constant
+        };
+    }
+
+    /**
+     * Flattens an expression tree into postfix code, tracking the stack depth.
+     */
+    private static final class Builder {
+
+        private final List<Integer> code = new ArrayList<>();
+        private final List<Double> constants = new ArrayList<>();
+        private int stack;
+        private int maxStack;
+        private int maxSlot = -1;
+
+        void emit(Expr expr) {
+            if (expr instanceof Expr.Constant constant) {
+                int index = constants.indexOf(constant.value());
+                if (index < 0) {
+                    index = constants.size();
+                    constants.add(constant.value());
+                }
+                code.addAll(Arrays.asList(CONSTANT, index));
+                push();
+            } else if (expr instanceof Expr.Variable variable) {
+                code.addAll(Arrays.asList(VARIABLE, variable.slot()));
+                maxSlot = Math.max(maxSlot, variable.slot());
+                push();
+            } else if (expr instanceof Expr.Negate negate) {
+                emit(negate.operand());
+                code.add(NEGATE);
+            } else if (expr instanceof Expr.Binary binary) {
+                emit(binary.left());
+                emit(binary.right());
+                code.add(switch (binary.operator()) {
+                    case ADD -> ADD;
+                    case SUBTRACT -> SUBTRACT;
+                    case MULTIPLY -> MULTIPLY;
+                    case DIVIDE -> DIVIDE;
+                    case REMAINDER -> REMAINDER;
+                    case POWER -> POWER;
+                });
+                stack--;
+            } else if (expr instanceof Expr.Parameter parameter) {
+                throw new IllegalArgumentException("Parameter '" + parameter.name() + "' is not bound to an argument");
+            } else {
+                Expr.Call call = (Expr.Call) expr;
+                for (Expr argument : call.arguments()) {
+                    emit(argument);
+                }
+                code.addAll(Arrays.asList(CALL, call.function().ordinal()));
+                stack -= call.arguments().size() - 1;
+            }
+        }
+
+        private void push() {
+            stack++;
+            maxStack = Math.max(maxStack, stack);
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package app.solve;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Solver finds x such that f(x) = target, where f is a DualProgram of one variable.
+ *
+ * Every step evaluates f and its exact derivative together (forward-mode automatic differentiation), so the solver
+ * can take Newton steps, which converge quadratically near a simple root. Within a bracket [lo, hi] where f - target
+ * changes sign, a Newton step that would leave the bracket or that does not shrink it fast enough is replaced by a
+ * bisection step, so the search always converges. {@link #findRoots} scans a range in subintervals on the fork/join
+ * pool and solves every subinterval with a sign change (or a touching root, where the derivative changes sign) in
+ * parallel.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class Solver {
+
+    /**
+     * Relative tolerance on x.
+     */
+    private static final double TOLERANCE = 1e-14;
+
+    private static final int MAX_ITERATIONS = 100;
+
+    /**
+     * Number of doublings of the search step when looking for a bracket around a starting guess.
+     */
+    private static final int MAX_EXPANSIONS = 60;
+
+    /**
+     * Number of subintervals below which a range is scanned directly instead of being split further.
+     */
+    private static final int LEAF_SUBINTERVALS = 64;
+
+    /**
+     * A solution, or the best attempt when the solver did not converge.
+     *
+     * @param x The root
+     * @param residual f(x) - target
+     * @param iterations The number of evaluations of f
+     * @param converged True if x is a root to within the tolerance
+     */
+    public record Result(double x, double residual, int iterations, boolean converged) {
+    }
+
+    private final DualProgram program;
+    private final int slot;
+    private final double target;
+
+    /**
+     * Creates a solver for f(x) = target.
+     *
+     * @param program The function f
+     * @param slot The slot of x in the program's variables
+     * @param target The value f(x) should equal
+     */
+    public Solver(DualProgram program, int slot, double target) {
+        this.program = program;
+        this.slot = slot;
+        this.target = target;
+    }
+
+    /**
+     * Solves from a starting guess with Newton steps. If Newton's method does not converge, searches outwards from
+     * the guess for a sign change and solves within that bracket.
+     *
+     * @param guess The starting point
+     * @return The solution closest to what the search found
+     */
+    public Result solveNear(double guess) {
+        Stepper stepper = new Stepper();
+        Result newton = stepper.newton(guess);
+        if (newton.converged()) {
+            return newton;
+        }
+        double fGuess = stepper.f(guess);
+        double step = 0.01 * Math.max(1, Math.abs(guess));
+        for (int i = 0; i < MAX_EXPANSIONS && Double.isFinite(step); i++, step *= 2) {
+            for (double x : new double[] { guess - step, guess + step }) {
+                double fx = stepper.f(x);
+                if (fx == 0 && stepper.isIsolatedZero(x)) {
+                    return new Result(x, 0, stepper.evaluations, true);
+                }
+                if (Double.isFinite(fGuess) && Double.isFinite(fx) && fx != 0 && Math.signum(fx) == -Math.signum(fGuess)) {
+                    Result bracketed = stepper.bracketed(Math.min(x, guess), Math.max(x, guess));
+                    return withIterations(bracketed, stepper.evaluations);
+                }
+            }
+        }
+        return withIterations(newton, stepper.evaluations);
+    }
+
+    /**
+     * Solves within a bracket where f - target changes sign.
+     *
+     * @param lo The lower end of the bracket
+     * @param hi The upper end of the bracket
+     * @return The solution, or a result that did not converge if f - target does not change sign
+     */
+    public Result solveBracketed(double lo, double hi) {
+        Stepper stepper = new Stepper();
+        return withIterations(stepper.bracketed(lo, hi), stepper.evaluations);
+    }
+
+    /**
+     * Finds all roots in a range, scanning the given number of subintervals in parallel.
+     * Poles where f changes sign (e.g., tan(x) at pi/2) are not reported.
+     *
+     * @param lo The lower end of the range
+     * @param hi The upper end of the range
+     * @param subintervals The number of subintervals; roots closer together than one subinterval may be missed
+     * @return The roots in increasing order
+     */
+    public List<Result> findRoots(double lo, double hi, int subintervals) {
+        List<Result> found = ForkJoinPool.commonPool().invoke(new ScanRange(lo, (hi - lo) / subintervals, 0, subintervals));
+        found.sort(Comparator.comparingDouble(Result::x));
+
+        List<Result> roots = new ArrayList<>(found.size());
+        for (Result root : found) {
+            Result last = roots.isEmpty() ? null : roots.get(roots.size() - 1);
+            if (last == null || Math.abs(root.x() - last.x()) > 1e-9 * Math.max(1, Math.abs(root.x()))) {
+                roots.add(root);
+            }
+        }
+        return roots;
+    }
+
+    private static Result withIterations(Result result, int iterations) {
+        return new Result(result.x(), result.residual(), iterations, result.converged());
+    }
+
+    private static double tolerance(double x) {
+        return TOLERANCE * Math.max(1, Math.abs(x));
+    }
+
+    /**
+     * The solving steps, evaluating f through one thread's evaluator.
+     */
+    private final class Stepper {
+
+        private final DualProgram.Evaluator evaluator = program.newEvaluator();
+        private int evaluations;
+
+        /**
+         * Returns f(x) - target; the derivative is then in {@link #df()}.
+         */
+        double f(double x) {
+            evaluations++;
+            return evaluator.evaluate(slot, x) - target;
+        }
+
+        double df() {
+            return evaluator.derivative();
+        }
+
+        Result newton(double guess) {
+            double x = guess;
+            for (int i = 0; i < MAX_ITERATIONS; i++) {
+                double fx = f(x);
+                double dfx = df();
+                if (fx == 0) {
+                    // A converged step has already returned below, so confirm the zero around x
+                    return new Result(x, 0, evaluations, isIsolatedZero(x));
+                }
+                double dx = fx / dfx;
+                if (!Double.isFinite(dx) || !Double.isFinite(x - dx)) {
+                    return new Result(x, fx, evaluations, false);
+                }
+                x -= dx;
+                if (Math.abs(dx) <= tolerance(x)) {
+                    double residual = f(x);
+                    return new Result(x, residual, evaluations, Double.isFinite(residual));
+                }
+            }
+            return new Result(x, f(x), evaluations, false);
+        }
+
+        /**
+         * Returns true if an exact zero of f - target at x is a root: f is nonzero just below and just above x, so it
+         * changes sign there or touches zero (as x^2 does at 0). A zero with zeros around it is an underflow, e.g.,
+         * exp(x) far below 0, and not a root.
+         */
+        boolean isIsolatedZero(double x) {
+            double h = tolerance(x);
+            double below = f(x - h);
+            double above = f(x + h);
+            return below != 0 && above != 0 && !Double.isNaN(below) && !Double.isNaN(above);
+        }
+
+        /**
+         * Newton's method safeguarded by bisection; the bracket [low, high] always keeps f(low) < 0 < f(high) or
+         * the reverse, and shrinks every step.
+         */
+        Result bracketed(double lo, double hi) {
+            double fLo = f(lo);
+            if (fLo == 0) {
+                return new Result(lo, 0, evaluations, isIsolatedZero(lo));
+            }
+            double fHi = f(hi);
+            if (fHi == 0) {
+                return new Result(hi, 0, evaluations, isIsolatedZero(hi));
+            }
+            if (Math.signum(fLo) == Math.signum(fHi) || Double.isNaN(fLo) || Double.isNaN(fHi)) {
+                return new Result(Double.NaN, Double.NaN, evaluations, false);
+            }
+            // Orient the bracket so f(negative) < 0 < f(positive)
+            double negative = fLo < 0 ? lo : hi;
+            double positive = fLo < 0 ? hi : lo;
+
+            double x = 0.5 * (lo + hi);
+            double previousStep = Math.abs(hi - lo);
+            double step = previousStep;
+            double fx = f(x);
+            double dfx = df();
+            for (int i = 0; i < MAX_ITERATIONS; i++) {
+                boolean newtonLeavesBracket = ((x - positive) * dfx - fx) * ((x - negative) * dfx - fx) > 0;
+                boolean newtonTooSlow = Math.abs(2 * fx) > Math.abs(previousStep * dfx);
+                if (newtonLeavesBracket || newtonTooSlow || !Double.isFinite(dfx)) {
+                    previousStep = step;
+                    step = 0.5 * (positive - negative);
+                    x = negative + step;
+                } else {
+                    previousStep = step;
+                    step = fx / dfx;
+                    x -= step;
+                }
+                if (Math.abs(step) <= tolerance(x) || Math.abs(positive - negative) <= tolerance(x)) {
+                    return new Result(x, f(x), evaluations, true);
+                }
+                fx = f(x);
+                dfx = df();
+                if (fx == 0) {
+                    return new Result(x, 0, evaluations, true);
+                } else if (fx < 0) {
+                    negative = x;
+                } else {
+                    positive = x;
+                }
+            }
+            return new Result(x, fx, evaluations, false);
+        }
+    }
+
+    /**
+     * Scans subintervals [from, to) of a range for roots, splitting the range in half for parallelism.
+     */
+    private final class ScanRange extends RecursiveTask<List<Result>> {
+
+        private final double lo;
+        private final double width;
+        private final int from;
+        private final int to;
+
+        ScanRange(double lo, double width, int from, int to) {
+            this.lo = lo;
+            this.width = width;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<Result> compute() {
+            if (to - from <= LEAF_SUBINTERVALS) {
+                return scanDirectly();
+            }
+            int middle = (from + to) >>> 1;
+            ScanRange left = new ScanRange(lo, width, from, middle);
+            left.fork();
+            List<Result> right = new ScanRange(lo, width, middle, to).compute();
+            List<Result> roots = left.join();
+            roots.addAll(right);
+            return roots;
+        }
+
+        private List<Result> scanDirectly() {
+            List<Result> roots = new ArrayList<>();
+            Stepper stepper = new Stepper();
+            double a = lo + from * width;
+            double fa = stepper.f(a);
+            double dfa = stepper.df();
+            for (int i = from; i < to; i++) {
+                double b = lo + (i + 1) * width;
+                double fb = stepper.f(b);
+                double dfb = stepper.df();
+                Result root = solveSubinterval(a, fa, dfa, b, fb, dfb);
+                if (root != null) {
+                    roots.add(root);
+                }
+                a = b;
+                fa = fb;
+                dfa = dfb;
+            }
+            return roots;
+        }
+
+        /**
+         * Returns the root in [a, b], or null if there is none.
+         */
+        private Result solveSubinterval(double a, double fa, double dfa, double b, double fb, double dfb) {
+            if (fa == 0) {
+                Stepper stepper = new Stepper();
+                return stepper.isIsolatedZero(a) ? new Result(a, 0, stepper.evaluations + 1, true) : null;
+            }
+            if (!Double.isFinite(fa) || !Double.isFinite(fb)) {
+                return null;
+            }
+            if (Math.signum(fa) != Math.signum(fb)) {
+                Result root = solveBracketed(a, b);
+                // At a pole the "root" has a far larger residual than the ends of the subinterval
+                boolean pole = Math.abs(root.residual()) > Math.min(Math.abs(fa), Math.abs(fb));
+                return root.converged() && !pole ? root : null;
+            }
+            if (Math.signum(dfa) != Math.signum(dfb)) {
+                // f has an extremum in [a, b], which may touch zero without a sign change (e.g., x^2)
+                Result root = solveNear(Math.abs(fa) < Math.abs(fb) ? a : b);
+                boolean inside = root.x() >= a && root.x() <= b;
+                return root.converged() && inside && Math.abs(root.residual()) <= 1e-10 * Math.max(1, Math.abs(target)) ? root : null;
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package app.solve;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import app.eval.EvaluationException;
+import app.eval.Expr;
+import app.eval.ExpressionCompiler;
+import app.eval.ResultFormatter;
+
+import javafx.application.Platform;
+import javafx.css.PseudoClass;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+
+/**
+ * SolverWindow is the solve mode: enter an equation in x (e.g., "cos(x) = x", or just "x^3 - 2*x - 5" for a root)
+ * and a range, and it lists every solution in the range. If there is none, it tries Newton's method from the
+ * middle of the range and shows the solution found outside it, if any.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class SolverWindow {
+
+    /**
+     * Number of subintervals scanned for sign changes.
+     */
+    private static final int SUBINTERVALS = 1024;
+
+    private static final PseudoClass LIGHT_THEME = PseudoClass.getPseudoClass("light");
+
+    private final Stage stage = new Stage();
+    private final TextField equationField = new TextField();
+    private final TextField fromField = new TextField("-10");
+    private final TextField toField = new TextField("10");
+    private final ListView<String> solutionList = new ListView<>();
+    private final Label statusLabel = new Label();
+    private final ResultFormatter formatter = new ResultFormatter();
+
+    /**
+     * Creates the solver window.
+     *
+     * @param owner The calculator window
+     * @param stylesheets The calculator stylesheets
+     */
+    public SolverWindow(Window owner, List<String> stylesheets) {
+        equationField.setPromptText("e.g., cos(x) = x");
+        equationField.getStyleClass().add("solver-field");
+        equationField.setOnAction(event -> solve());
+        HBox.setHgrow(equationField, Priority.ALWAYS);
+
+        fromField.getStyleClass().add("solver-field");
+        toField.getStyleClass().add("solver-field");
+        fromField.setPrefColumnCount(6);
+        toField.setPrefColumnCount(6);
+        fromField.setOnAction(event -> solve());
+        toField.setOnAction(event -> solve());
+
+        Button solveButton = new Button("Solve");
+        solveButton.getStyleClass().add("solver-button");
+        solveButton.setOnAction(event -> solve());
+
+        HBox equationRow = new HBox(8, equationField, solveButton);
+        equationRow.setAlignment(Pos.CENTER_LEFT);
+        HBox rangeRow = new HBox(8, label("x from"), fromField, label("to"), toField);
+        rangeRow.setAlignment(Pos.CENTER_LEFT);
+
+        solutionList.getStyleClass().add("solver-list");
+        VBox.setVgrow(solutionList, Priority.ALWAYS);
+        statusLabel.getStyleClass().add("solver-status");
+
+        VBox layout = new VBox(8, equationRow, rangeRow, solutionList, statusLabel);
+        layout.getStyleClass().add("solver-root");
+
+        Scene scene = new Scene(layout, 420, 400);
+        scene.getStylesheets().addAll(stylesheets);
+        stage.setScene(scene);
+        stage.setTitle("Equation Solver");
+        stage.initOwner(owner);
+        stage.setMinWidth(320);
+        stage.setMinHeight(240);
+    }
+
+    /**
+     * Shows the window and focuses the equation field.
+     */
+    public void show() {
+        stage.show();
+        stage.toFront();
+        equationField.requestFocus();
+    }
+
+    /**
+     * Switches the window to the light or dark theme, following the calculator.
+     *
+     * @param lightTheme True for the light theme
+     */
+    public void setLightTheme(boolean lightTheme) {
+        stage.getScene().getRoot().pseudoClassStateChanged(LIGHT_THEME, lightTheme);
+    }
+
+    /**
+     * Compiles the equation and solves it on a background thread.
+     */
+    private void solve() {
+        DualProgram program;
+        double from;
+        double to;
+        try {
+            program = DualProgram.compile(parseEquation(equationField.getText()));
+            from = parseBound(fromField.getText());
+            to = parseBound(toField.getText());
+        } catch (EvaluationException e) {
+            solutionList.getItems().clear();
+            statusLabel.setText(e.getMessage());
+            return;
+        }
+        double lo = Math.min(from, to);
+        double hi = Math.max(from, to);
+
+        statusLabel.setText("Solving...");
+        CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            Solver solver = new Solver(program, 0, 0);
+            List<Solver.Result> roots = new ArrayList<>(solver.findRoots(lo, hi, SUBINTERVALS));
+            boolean outside = false;
+            if (roots.isEmpty()) {
+                Solver.Result near = solver.solveNear(0.5 * (lo + hi));
+                if (near.converged()) {
+                    roots.add(near);
+                    outside = near.x() < lo || near.x() > hi;
+                }
+            }
+            return new Solution(roots, outside, System.nanoTime() - start);
+        }).whenComplete((solution, error) -> Platform.runLater(() -> show(solution, error, lo, hi)));
+    }
+
+    private void show(Solution solution, Throwable error, double lo, double hi) {
+        solutionList.getItems().clear();
+        if (error != null) {
+            statusLabel.setText("Could not solve: " + error.getMessage());
+            return;
+        }
+        for (Solver.Result root : solution.roots()) {
+            solutionList.getItems().add("x = " + formatter.format(root.x()) + "   (" + root.iterations() + " evaluations)");
+        }
+        String time = String.format("%.2f ms", solution.nanos() / 1_000_000.0);
+        if (solution.roots().isEmpty()) {
+            statusLabel.setText("No solution found (" + time + ")");
+        } else if (solution.outside()) {
+            statusLabel.setText("No solution in [" + formatter.format(lo) + ", " + formatter.format(hi) + "]; nearest found outside (" + time + ")");
+        } else {
+            int count = solution.roots().size();
+            statusLabel.setText(count + (count == 1 ? " solution" : " solutions") + " in " + time);
+        }
+    }
+
+    /**
+     * Parses "left = right" as left - right = 0, or an expression without '=' as expression = 0.
+     */
+    private static Expr parseEquation(String equation) throws EvaluationException {
+        int equals = equation.indexOf('=');
+        ExpressionCompiler compiler = new ExpressionCompiler();
+        if (equals < 0) {
+            return compiler.parse(equation, List.of("x"));
+        }
+        if (equation.indexOf('=', equals + 1) >= 0) {
+            throw new EvaluationException("An equation has one '='");
+        }
+        Expr left = compiler.parse(equation.substring(0, equals), List.of("x"));
+        Expr right = compiler.parse(equation.substring(equals + 1), List.of("x"));
+        return new Expr.Binary(Expr.Operator.SUBTRACT, left, right);
+    }
+
+    private static double parseBound(String text) throws EvaluationException {
+        ExpressionCompiler compiler = new ExpressionCompiler();
+        double value = compiler.compile(compiler.parse(text, List.of())).evaluate(new double[0]);
+        if (!Double.isFinite(value)) {
+            throw new EvaluationException("The range must be finite");
+        }
+        return value;
+    }
+
+    private static Label label(String text) {
+        Label label = new Label(text);
+        label.getStyleClass().add("solver-label");
+        return label;
+    }
+
+    private record Solution(List<Solver.Result> roots, boolean outside, long nanos) {
+    }
+}
@@ -0,0 +1,122 @@
+package app.stats;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+
+import app.eval.ArithmeticParser;
+import app.eval.EvaluationException;
+
+/**
+ * DataParser reads a column (or table) of numbers from pasted text or a file straight into DoubleChunks.
+ * Values are separated by whitespace, commas or semicolons; each one is parsed in place with ArithmeticParser,
+ * so no String is created per value and files are read in fixed-size blocks. Tokens that are not numbers
+ * (e.g., a header line) are counted and skipped.
+ * Not thread-safe.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class DataParser {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ArithmeticParser parser = new ArithmeticParser();
+    private long skipped;
+
+    /**
+     * Returns the number of tokens skipped because they were not numbers, since this parser was created.
+     */
+    public long skipped() {
+        return skipped;
+    }
+
+    /**
+     * Parses all values of a text.
+     *
+     * @param text The text to parse
+     * @param target Where to append the values
+     */
+    public void parse(CharSequence text, DoubleChunks target) {
+        parseTokens(text, 0, text.length(), true, target);
+    }
+
+    /**
+     * Parses all values read from a reader, in blocks. The reader is not closed.
+     *
+     * @param reader The reader to parse
+     * @param target Where to append the values
+     * @throws IOException if reading fails
+     */
+    public void parse(Reader reader, DoubleChunks target) throws IOException {
+        char[] buffer = new char[BUFFER_SIZE];
+        CharBuffer view = CharBuffer.wrap(buffer);
+        int length = 0;
+        while (true) {
+            int read = reader.read(buffer, length, buffer.length - length);
+            boolean endOfInput = read < 0;
+            if (!endOfInput) {
+                length += read;
+            }
+
+            int consumed = parseTokens(view, 0, length, endOfInput, target);
+            if (endOfInput) {
+                return;
+            }
+            if (consumed == 0 && length == buffer.length) {
+                // A single token fills the whole buffer: it cannot be a number
+                skipped++;
+                consumed = length;
+            }
+            // Keep the unfinished token at the end of the block for the next read
+            System.arraycopy(buffer, consumed, buffer, 0, length - consumed);
+            length -= consumed;
+        }
+    }
+
+    /**
+     * Parses the tokens in [start, end).
+     *
+     * @param complete True if end is the end of the input; otherwise a token touching end is left unparsed
+     * @return The index after the last parsed token
+     */
+    private int parseTokens(CharSequence text, int start, int end, boolean complete, DoubleChunks target) {
+        int position = skipSeparators(text, start, end);
+        while (position < end) {
+            int tokenEnd = tokenEnd(text, position, end);
+            if (tokenEnd == end && !complete) {
+                break;
+            }
+            parseToken(text, position, tokenEnd, target);
+            position = skipSeparators(text, tokenEnd, end);
+        }
+        return position;
+    }
+
+    private void parseToken(CharSequence text, int start, int end, DoubleChunks target) {
+        try {
+            target.add(parser.evaluate(text, start, end));
+        } catch (EvaluationException e) {
+            skipped++;
+        }
+    }
+
+    private static int skipSeparators(CharSequence text, int position, int end) {
+        while (position < end && isSeparator(text.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static int tokenEnd(CharSequence text, int position, int end) {
+        while (position < end && !isSeparator(text.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ',' || c == ';' || Character.isWhitespace(c);
+    }
+}
@@ -0,0 +1,85 @@
+package app.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DoubleChunks is an append-only sequence of doubles stored in fixed-size primitive arrays.
+ * Growing never copies existing values (unlike a growing double[]) and never boxes them (unlike a List of Double),
+ * and each chunk is a natural unit of work for a parallel reduction.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class DoubleChunks {
+
+    /**
+     * Number of values per chunk (128 KB per chunk).
+     */
+    public static final int CHUNK_SIZE = 16_384;
+
+    private final List<double[]> chunks = new ArrayList<>();
+    private double[] current;
+    private int currentLength = CHUNK_SIZE;
+    private long size;
+
+    /**
+     * Appends a value.
+     *
+     * @param value The value to append
+     */
+    public void add(double value) {
+        if (currentLength == CHUNK_SIZE) {
+            current = new double[CHUNK_SIZE];
+            chunks.add(current);
+            currentLength = 0;
+        }
+        current[currentLength++] = value;
+        size++;
+    }
+
+    /**
+     * Returns the number of values.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of chunks.
+     */
+    public int chunkCount() {
+        return chunks.size();
+    }
+
+    /**
+     * Returns a chunk. Only the first chunkLength(index) values of it are used.
+     *
+     * @param index The chunk index
+     * @return The chunk array (not a copy)
+     */
+    public double[] chunk(int index) {
+        return chunks.get(index);
+    }
+
+    /**
+     * Returns the number of values used in a chunk.
+     *
+     * @param index The chunk index
+     * @return CHUNK_SIZE for every chunk but the last
+     */
+    public int chunkLength(int index) {
+        return index == chunks.size() - 1 ? currentLength : CHUNK_SIZE;
+    }
+
+    /**
+     * Removes all values.
+     */
+    public void clear() {
+        chunks.clear();
+        current = null;
+        currentLength = CHUNK_SIZE;
+        size = 0;
+    }
+}
@@ -0,0 +1,198 @@
+package app.stats;
+
+/**
+ * QuantileSketch estimates quantiles of a stream of values with a fixed relative error, in the style of DDSketch.
+ * Each value is counted in a logarithmic bucket whose bounds are a factor gamma = (1 + a) / (1 - a) apart, so any
+ * quantile is returned within a relative error of a (1% by default) using a few kilobytes regardless of the number
+ * of values. Sketches with the same accuracy merge exactly by adding bucket counts, so parts of a large input can be
+ * sketched in parallel. Infinite values have no bucket; they are counted separately and rank below or above every
+ * finite value. Not thread-safe.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class QuantileSketch {
+
+    /**
+     * Default relative accuracy of the returned quantiles.
+     */
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+
+    private final BucketStore positive = new BucketStore();
+    private final BucketStore negative = new BucketStore();
+    private long zeroCount;
+    private long negativeInfinityCount;
+    private long positiveInfinityCount;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Creates a sketch with the default relative accuracy of 1%.
+     */
+    public QuantileSketch() {
+        this(DEFAULT_RELATIVE_ACCURACY);
+    }
+
+    /**
+     * Creates a sketch with the given relative accuracy.
+     *
+     * @param relativeAccuracy The relative error of the returned quantiles, between 0 and 1 (e.g., 0.01)
+     */
+    public QuantileSketch(double relativeAccuracy) {
+        if (!(relativeAccuracy > 0 && relativeAccuracy < 1)) {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1: " + relativeAccuracy);
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    /**
+     * Adds one value. NaN values are ignored.
+     *
+     * @param value The value to add
+     */
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (value == Double.NEGATIVE_INFINITY) {
+            negativeInfinityCount++;
+        } else if (value == Double.POSITIVE_INFINITY) {
+            positiveInfinityCount++;
+        } else if (Math.abs(value) < Double.MIN_NORMAL) {
+            zeroCount++;
+        } else if (value > 0) {
+            positive.increment(index(value), 1);
+        } else {
+            negative.increment(index(-value), 1);
+        }
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds all values of another sketch with the same accuracy.
+     *
+     * @param other The sketch to merge into this one
+     */
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Cannot merge sketches with different accuracy");
+        }
+        positive.merge(other.positive);
+        negative.merge(other.negative);
+        zeroCount += other.zeroCount;
+        negativeInfinityCount += other.negativeInfinityCount;
+        positiveInfinityCount += other.positiveInfinityCount;
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Returns the estimated quantile.
+     *
+     * @param quantile The quantile between 0 and 1 (e.g., 0.5 for the median)
+     * @return The estimated value, or NaN if the sketch is empty
+     */
+    public double quantile(double quantile) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (quantile <= 0) {
+            return min;
+        }
+        if (quantile >= 1) {
+            return max;
+        }
+        long rank = (long) (quantile * (count - 1));
+
+        // Negative values from the most negative (largest magnitude) up, then zeros, then positive values
+        long seen = negativeInfinityCount;
+        if (seen > rank) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        for (int i = negative.counts.length - 1; i >= 0; i--) {
+            seen += negative.counts[i];
+            if (seen > rank) {
+                return clamp(-value(i + negative.offset));
+            }
+        }
+        seen += zeroCount;
+        if (seen > rank) {
+            return 0;
+        }
+        for (int i = 0; i < positive.counts.length; i++) {
+            seen += positive.counts[i];
+            if (seen > rank) {
+                return clamp(value(i + positive.offset));
+            }
+        }
+        // Only positive infinities are left
+        return max;
+    }
+
+    private int index(double magnitude) {
+        return (int) Math.ceil(Math.log(magnitude) / logGamma);
+    }
+
+    /**
+     * Returns the value that represents a bucket: the point with the same relative error to both bucket bounds.
+     */
+    private double value(int index) {
+        return 2 * Math.pow(gamma, index) / (gamma + 1);
+    }
+
+    private double clamp(double value) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * Bucket counts for a contiguous range of bucket indexes, grown on demand.
+     */
+    private static final class BucketStore {
+        long[] counts = new long[0];
+        int offset;
+
+        void increment(int index, long amount) {
+            if (counts.length == 0) {
+                counts = new long[64];
+                offset = index - counts.length / 2;
+            } else if (index < offset || index >= offset + counts.length) {
+                grow(Math.min(index, offset), Math.max(index, offset + counts.length - 1));
+            }
+            counts[index - offset] += amount;
+        }
+
+        void merge(BucketStore other) {
+            for (int i = 0; i < other.counts.length; i++) {
+                if (other.counts[i] != 0) {
+                    increment(i + other.offset, other.counts[i]);
+                }
+            }
+        }
+
+        private void grow(int minIndex, int maxIndex) {
+            int needed = maxIndex - minIndex + 1;
+            int length = Math.max(needed, counts.length * 2);
+            // Leave room on the side that had to grow, as the next values are likely to extend it further
+            int newOffset = minIndex < offset ? maxIndex - length + 1 : minIndex;
+            long[] grown = new long[length];
+            System.arraycopy(counts, 0, grown, offset - newOffset, counts.length);
+            counts = grown;
+            offset = newOffset;
+        }
+    }
+}
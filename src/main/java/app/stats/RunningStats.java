@@ -0,0 +1,140 @@
+package app.stats;
+
+/**
+ * RunningStats computes count, sum, mean, variance, minimum and maximum in a single pass over a stream of values.
+ * The mean and variance use Welford's algorithm and the sum uses Neumaier's compensated summation, so the results
+ * stay accurate for long columns and for values with a large common offset, where the naive sum of squares fails.
+ * Two instances can be merged (Chan et al.), which lets parts of a large input be reduced in parallel.
+ * Not thread-safe.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class RunningStats {
+
+    private long count;
+    private double mean;
+
+    /**
+     * Sum of squared differences from the current mean.
+     */
+    private double m2;
+
+    /**
+     * Compensated sum: the running sum plus the low-order bits lost from it.
+     */
+    private double sum;
+    private double compensation;
+
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Adds one value.
+     *
+     * @param value The value to add
+     */
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        addToSum(value);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds all values of another instance, as if they had been added to this one.
+     *
+     * @param other The statistics to merge into this instance
+     */
+    public void merge(RunningStats other) {
+        if (other.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            m2 = other.m2;
+            sum = other.sum;
+            compensation = other.compensation;
+            min = other.min;
+            max = other.max;
+            return;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        count = total;
+        addToSum(other.sum);
+        addToSum(other.compensation);
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public double sum() {
+        return sum + compensation;
+    }
+
+    /**
+     * Returns the arithmetic mean, or NaN if no values were added.
+     */
+    public double mean() {
+        return count == 0 ? Double.NaN : mean;
+    }
+
+    /**
+     * Returns the sample variance (divided by n - 1), or NaN for fewer than two values.
+     */
+    public double variance() {
+        return count < 2 ? Double.NaN : m2 / (count - 1);
+    }
+
+    /**
+     * Returns the population variance (divided by n), or NaN if no values were added.
+     */
+    public double populationVariance() {
+        return count == 0 ? Double.NaN : m2 / count;
+    }
+
+    /**
+     * Returns the sample standard deviation, or NaN for fewer than two values.
+     */
+    public double standardDeviation() {
+        return Math.sqrt(variance());
+    }
+
+    /**
+     * Returns the smallest value, or NaN if no values were added.
+     */
+    public double min() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    /**
+     * Returns the largest value, or NaN if no values were added.
+     */
+    public double max() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    /**
+     * Neumaier's variant of Kahan summation, which also stays exact when the added value is larger than the sum.
+     */
+    private void addToSum(double value) {
+        double total = sum + value;
+        if (Math.abs(sum) >= Math.abs(value)) {
+            compensation += (sum - total) + value;
+        } else {
+            compensation += (value - total) + sum;
+        }
+        sum = total;
+    }
+}
@@ -0,0 +1,120 @@
+package app.stats;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * StatisticsSummary holds the streaming aggregates (RunningStats) and the quantile sketch of a data set.
+ * Summaries are mergeable, so values can arrive in any number of batches (pastes, loaded files, typed values)
+ * and large batches are reduced in parallel, chunk by chunk, on the common ForkJoinPool.
+ * Not thread-safe; a summary built on a background thread can be handed over and merged on the FX thread.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class StatisticsSummary {
+
+    /**
+     * Number of values below which a data set is summarized on the calling thread.
+     */
+    private static final long PARALLEL_THRESHOLD = 4L * DoubleChunks.CHUNK_SIZE;
+
+    private final RunningStats stats = new RunningStats();
+    private final QuantileSketch quantiles = new QuantileSketch();
+
+    /**
+     * Summarizes a data set, in parallel when it is large.
+     *
+     * @param data The values to summarize
+     * @return A new summary of all values
+     */
+    public static StatisticsSummary of(DoubleChunks data) {
+        if (data.size() < PARALLEL_THRESHOLD) {
+            return summarize(data, 0, data.chunkCount());
+        }
+        return ForkJoinPool.commonPool().invoke(new SummarizeChunks(data, 0, data.chunkCount()));
+    }
+
+    /**
+     * Adds one value.
+     *
+     * @param value The value to add
+     */
+    public void add(double value) {
+        stats.add(value);
+        quantiles.add(value);
+    }
+
+    /**
+     * Adds all values of another summary.
+     *
+     * @param other The summary to merge into this one
+     */
+    public void merge(StatisticsSummary other) {
+        stats.merge(other.stats);
+        quantiles.merge(other.quantiles);
+    }
+
+    /**
+     * Returns the single-pass aggregates (count, sum, mean, standard deviation, min, max).
+     */
+    public RunningStats stats() {
+        return stats;
+    }
+
+    /**
+     * Returns the estimated quantile, within 1% relative error.
+     *
+     * @param quantile The quantile between 0 and 1 (e.g., 0.5 for the median)
+     * @return The estimated value, or NaN if there are no values
+     */
+    public double quantile(double quantile) {
+        return quantiles.quantile(quantile);
+    }
+
+    /**
+     * Summarizes chunks [from, to) on the calling thread.
+     */
+    private static StatisticsSummary summarize(DoubleChunks data, int from, int to) {
+        StatisticsSummary summary = new StatisticsSummary();
+        for (int c = from; c < to; c++) {
+            double[] chunk = data.chunk(c);
+            int length = data.chunkLength(c);
+            for (int i = 0; i < length; i++) {
+                summary.add(chunk[i]);
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * Summarizes a range of chunks, splitting it in half until a single chunk is left.
+     */
+    private static final class SummarizeChunks extends RecursiveTask<StatisticsSummary> {
+
+        private final DoubleChunks data;
+        private final int from;
+        private final int to;
+
+        SummarizeChunks(DoubleChunks data, int from, int to) {
+            this.data = data;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected StatisticsSummary compute() {
+            if (to - from <= 1) {
+                return summarize(data, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            SummarizeChunks left = new SummarizeChunks(data, from, middle);
+            left.fork();
+            StatisticsSummary right = new SummarizeChunks(data, middle, to).compute();
+            StatisticsSummary summary = left.join();
+            summary.merge(right);
+            return summary;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package app.symbols;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import app.log.Log;
+
+/**
+ * DefinitionStore keeps the worksheet's variable and function definitions in a local text file, one definition per
+ * line in an order that can be entered again. Saves run on one background thread, in the order they were requested,
+ * and replace the file atomically, so the FX thread never waits for the disk and the file is never half-written.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class DefinitionStore {
+
+    /**
+     * System property for the definitions file (default: ~/.calculator/definitions.txt).
+     */
+    public static final String DEFINITIONS_FILE_PROPERTY = "calculator.definitionsFile";
+
+    private final Path file;
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "calculator-definitions-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Creates a store for the given file.
+     *
+     * @param file The definitions file
+     */
+    public DefinitionStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Returns the definitions file named by {@link #DEFINITIONS_FILE_PROPERTY}, or the default file in the user's home.
+     */
+    public static Path defaultFile() {
+        String configured = System.getProperty(DEFINITIONS_FILE_PROPERTY);
+        if (configured != null && !configured.isBlank()) {
+            return Path.of(configured);
+        }
+        return Path.of(System.getProperty("user.home"), ".calculator", "definitions.txt");
+    }
+
+    /**
+     * Reads the saved definitions.
+     *
+     * @return The definitions, or an empty list if none were saved yet
+     * @throws IOException if the file cannot be read
+     */
+    public List<String> load() throws IOException {
+        try {
+            return Files.readAllLines(file, StandardCharsets.UTF_8).stream().filter(line -> !line.isBlank()).toList();
+        } catch (NoSuchFileException e) {
+            return List.of();
+        }
+    }
+
+    /**
+     * Saves the definitions on the background thread.
+     *
+     * @param definitions The definitions, as returned by {@link Worksheet#definitionSources()}
+     */
+    public void saveAsync(List<String> definitions) {
+        List<String> snapshot = List.copyOf(definitions);
+        writer.execute(() -> {
+            try {
+                save(snapshot);
+            } catch (IOException e) {
+                Log.warn("Could not save definitions: %s", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Writes the definitions next to the file and moves them over it.
+     */
+    private void save(List<String> definitions) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try (Writer out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (String definition : definitions) {
+                out.write(definition);
+                out.write(System.lineSeparator());
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
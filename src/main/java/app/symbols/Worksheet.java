@@ -0,0 +1,486 @@
+package app.symbols;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import app.eval.CompiledExpression;
+import app.eval.EvaluationException;
+import app.eval.Expr;
+import app.eval.ExpressionCompiler;
+import app.eval.MathFunction;
+import app.eval.SymbolResolver;
+
+/**
+ * Worksheet holds named variables ({@code rate = 0.07}), user-defined functions ({@code f(x) = x * rate + tax})
+ * and the calculations that use them ({@code f(100)}), each with its cached result.
+ *
+ * Names are resolved when a line is entered: every variable gets a slot in one values array and every call of a
+ * user-defined function is inlined, so evaluating a line never looks up a name. Each line records the names it
+ * depends on. When a definition changes, only the lines that depend on it (directly or through other definitions)
+ * are updated, in dependency order: lines that only read a changed variable are re-evaluated from their compiled
+ * form, and lines that inline a changed function are parsed again. Not thread-safe; used on the FX thread.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class Worksheet {
+
+    /**
+     * A definition: a name, optional parameters in parentheses, '=' (but not '=='), then the body.
+     */
+    private static final Pattern DEFINITION = Pattern.compile("\\s*([A-Za-z_]\\w*)\\s*(?:\\(([^)]*)\\))?\\s*=(?!=)(.*)");
+
+    private static final Pattern NAME = Pattern.compile("[A-Za-z_]\\w*");
+
+    /**
+     * Kind of a worksheet line.
+     */
+    public enum Kind {
+        VARIABLE,
+        FUNCTION,
+        EXPRESSION
+    }
+
+    /**
+     * One line of the worksheet and its cached result.
+     */
+    public static final class Entry {
+
+        private final Kind kind;
+        private final String name;
+        private String source;
+        private List<String> parameters = List.of();
+        private String body;
+        private Expr expr;
+        private CompiledExpression compiled;
+        private Set<String> dependencies = Set.of();
+        private double value = Double.NaN;
+        private String error;
+
+        private Entry(Kind kind, String name) {
+            this.kind = kind;
+            this.name = name;
+        }
+
+        /**
+         * Returns whether the line defines a variable, defines a function or is a calculation.
+         */
+        public Kind kind() {
+            return kind;
+        }
+
+        /**
+         * Returns the defined name, or null for a calculation.
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * Returns the line as entered.
+         */
+        public String source() {
+            return source;
+        }
+
+        /**
+         * Returns the result (NaN for functions and lines with an error).
+         */
+        public double value() {
+            return value;
+        }
+
+        /**
+         * Returns why the line cannot be evaluated, or null if it can.
+         */
+        public String error() {
+            return error;
+        }
+
+        /**
+         * Returns true if the value is more than the body as written (e.g., "total = price * 2" but not "rate = 0.07").
+         */
+        public boolean isComputed() {
+            return kind == Kind.EXPRESSION || (kind == Kind.VARIABLE && !(expr instanceof Expr.Constant));
+        }
+    }
+
+    /**
+     * Slot of every variable in {@link #values}.
+     */
+    private final Map<String, Integer> slots = new HashMap<>();
+
+    /**
+     * Current value of every variable, indexed by slot. Compiled lines read variables from here.
+     */
+    private double[] values = new double[16];
+
+    /**
+     * Variables and functions by name, in the order they were first defined.
+     */
+    private final Map<String, Entry> definitions = new LinkedHashMap<>();
+
+    /**
+     * All lines, in the order they were entered.
+     */
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * The dependency graph: for every name, the lines whose definition refers to it.
+     */
+    private final Map<String, Set<Entry>> dependents = new HashMap<>();
+
+    private final ExpressionCompiler compiler = new ExpressionCompiler();
+
+    /**
+     * Enters a line: a variable definition, a function definition or a calculation.
+     * Redefining a name updates its existing line and everything that depends on it.
+     *
+     * @param line The line (e.g., "rate = 0.07", "f(x) = x * rate", or "f(100)")
+     * @return The entered line followed by the lines that were updated because they depend on it
+     * @throws EvaluationException if the line is not valid; the worksheet is then unchanged
+     */
+    public List<Entry> enter(String line) throws EvaluationException {
+        Matcher definition = DEFINITION.matcher(line);
+        if (!definition.matches()) {
+            Entry entry = new Entry(Kind.EXPRESSION, null);
+            entry.source = line.trim();
+            entry.body = entry.source;
+            Set<String> dependencies = parse(entry);
+            entries.add(entry);
+            setDependencies(entry, dependencies);
+            evaluate(entry);
+            return List.of(entry);
+        }
+
+        String name = definition.group(1);
+        Kind kind = definition.group(2) != null ? Kind.FUNCTION : Kind.VARIABLE;
+        checkDefinableName(name);
+        Entry existing = definitions.get(name);
+        if (existing != null && existing.kind != kind) {
+            throw new EvaluationException("'" + name + "' is already defined as a " + existing.kind.name().toLowerCase());
+        }
+
+        Entry entry = new Entry(kind, name);
+        entry.source = line.trim();
+        entry.parameters = kind == Kind.FUNCTION ? parseParameters(definition.group(2)) : List.of();
+        entry.body = definition.group(3).trim();
+        Set<String> dependencies = parse(entry);
+        if (dependsOn(dependencies, name)) {
+            throw new EvaluationException("Circular definition of '" + name + "'");
+        }
+
+        if (existing == null) {
+            definitions.put(name, entry);
+            entries.add(entry);
+            if (kind == Kind.VARIABLE) {
+                assignSlot(name);
+            }
+        } else {
+            existing.source = entry.source;
+            existing.parameters = entry.parameters;
+            existing.body = entry.body;
+            existing.expr = entry.expr;
+            existing.compiled = entry.compiled;
+            existing.error = null;
+            entry = existing;
+        }
+        setDependencies(entry, dependencies);
+        evaluate(entry);
+
+        List<Entry> changed = new ArrayList<>();
+        changed.add(entry);
+        changed.addAll(propagate(entry));
+        return changed;
+    }
+
+    /**
+     * Enters a saved definition. A definition that no longer evaluates, e.g., because it calls a function that was
+     * saved with another number of parameters, is kept as a line with an error rather than dropped: it is saved
+     * again with the other definitions, and parsed again when a function it uses is redefined.
+     *
+     * @param line A line returned by {@link #definitionSources()}
+     * @return The entered line
+     * @throws EvaluationException if the line is not a valid definition at all
+     */
+    public Entry restore(String line) throws EvaluationException {
+        try {
+            return enter(line).get(0);
+        } catch (EvaluationException e) {
+            Matcher definition = DEFINITION.matcher(line);
+            if (!definition.matches() || definitions.containsKey(definition.group(1))) {
+                throw e;
+            }
+            String name = definition.group(1);
+            Kind kind = definition.group(2) != null ? Kind.FUNCTION : Kind.VARIABLE;
+            checkDefinableName(name);
+            Entry entry = new Entry(kind, name);
+            entry.source = line.trim();
+            entry.parameters = kind == Kind.FUNCTION ? parseParameters(definition.group(2)) : List.of();
+            entry.body = definition.group(3).trim();
+            Set<String> dependencies = referencedNames(entry.body, entry.parameters);
+            if (dependencies.contains(name)) {
+                throw e;
+            }
+            entry.error = e.getMessage();
+            definitions.put(name, entry);
+            entries.add(entry);
+            if (kind == Kind.VARIABLE) {
+                assignSlot(name);
+            }
+            setDependencies(entry, dependencies);
+            evaluate(entry);
+            return entry;
+        }
+    }
+
+    /**
+     * Returns all lines in the order they were entered.
+     */
+    public List<Entry> entries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Returns the source of every variable and function definition, in an order that can be entered again with
+     * {@link #restore(String)}. Definitions with an error are included, and are restored with their error.
+     */
+    public List<String> definitionSources() {
+        List<String> sources = new ArrayList<>(definitions.size());
+        Set<Entry> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Entry entry : definitions.values()) {
+            addInDependencyOrder(entry, visited, sources);
+        }
+        return sources;
+    }
+
+    /**
+     * Returns the value of a variable.
+     *
+     * @param name The variable name
+     * @return The value, or NaN if there is no such variable
+     */
+    public double value(String name) {
+        Integer slot = slots.get(name);
+        return slot != null ? values[slot] : Double.NaN;
+    }
+
+    /**
+     * Parses the body of a line, resolving names against the current definitions, and compiles it.
+     * The entry is not changed if parsing fails.
+     *
+     * @return The worksheet names the line depends on
+     */
+    private Set<String> parse(Entry entry) throws EvaluationException {
+        Set<String> dependencies = new HashSet<>();
+        Expr expr = compiler.parse(entry.body, new Resolver(entry.parameters, dependencies));
+        entry.expr = expr;
+        entry.compiled = entry.kind == Kind.FUNCTION ? null : compiler.compile(expr);
+        return dependencies;
+    }
+
+    private void evaluate(Entry entry) {
+        if (entry.kind == Kind.FUNCTION) {
+            return;
+        }
+        entry.value = entry.error == null ? entry.compiled.evaluate(values) : Double.NaN;
+        if (entry.kind == Kind.VARIABLE) {
+            values[slots.get(entry.name)] = entry.value;
+        }
+    }
+
+    /**
+     * Updates every line that depends on a changed definition, in dependency order.
+     *
+     * @return The updated lines
+     */
+    private List<Entry> propagate(Entry changed) {
+        List<Entry> order = new ArrayList<>();
+        Set<Entry> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        visitDependents(changed.name, visited, order);
+        // Depth-first post-order lists every line after the lines that depend on it
+        Collections.reverse(order);
+
+        Set<String> reparsed = new HashSet<>();
+        if (changed.kind == Kind.FUNCTION) {
+            reparsed.add(changed.name);
+        }
+        for (Entry entry : order) {
+            if (!Collections.disjoint(entry.dependencies, reparsed)) {
+                // The line inlined a function that changed, so it has to be parsed again
+                try {
+                    setDependencies(entry, parse(entry));
+                    entry.error = null;
+                } catch (EvaluationException e) {
+                    entry.error = e.getMessage();
+                }
+                if (entry.kind == Kind.FUNCTION) {
+                    reparsed.add(entry.name);
+                }
+            }
+            evaluate(entry);
+        }
+        return order;
+    }
+
+    private void visitDependents(String name, Set<Entry> visited, List<Entry> order) {
+        for (Entry dependent : dependents.getOrDefault(name, Set.of())) {
+            if (visited.add(dependent)) {
+                if (dependent.kind != Kind.EXPRESSION) {
+                    visitDependents(dependent.name, visited, order);
+                }
+                order.add(dependent);
+            }
+        }
+    }
+
+    /**
+     * Returns true if any of the names is the target or depends on it through other definitions.
+     */
+    private boolean dependsOn(Set<String> names, String target) {
+        Set<String> visited = new HashSet<>();
+        List<String> stack = new ArrayList<>(names);
+        while (!stack.isEmpty()) {
+            String name = stack.remove(stack.size() - 1);
+            if (name.equals(target)) {
+                return true;
+            }
+            Entry definition = definitions.get(name);
+            if (visited.add(name) && definition != null) {
+                stack.addAll(definition.dependencies);
+            }
+        }
+        return false;
+    }
+
+    private void addInDependencyOrder(Entry entry, Set<Entry> visited, List<String> sources) {
+        if (!visited.add(entry)) {
+            return;
+        }
+        for (String dependency : entry.dependencies) {
+            Entry definition = definitions.get(dependency);
+            if (definition != null) {
+                addInDependencyOrder(definition, visited, sources);
+            }
+        }
+        sources.add(entry.source);
+    }
+
+    /**
+     * Returns every name in a body that may refer to a definition, for a line that could not be parsed.
+     */
+    private static Set<String> referencedNames(String body, List<String> parameters) {
+        Set<String> names = new HashSet<>();
+        Matcher name = NAME.matcher(body);
+        while (name.find()) {
+            if (!parameters.contains(name.group())) {
+                names.add(name.group());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Moves an entry from the dependents of its current dependencies to the dependents of the new ones.
+     */
+    private void setDependencies(Entry entry, Set<String> newDependencies) {
+        for (String name : entry.dependencies) {
+            Set<Entry> set = dependents.get(name);
+            if (set != null) {
+                set.remove(entry);
+            }
+        }
+        for (String name : newDependencies) {
+            dependents.computeIfAbsent(name, key -> Collections.newSetFromMap(new IdentityHashMap<>())).add(entry);
+        }
+        entry.dependencies = newDependencies;
+    }
+
+    private void assignSlot(String name) {
+        int slot = slots.size();
+        if (slot == values.length) {
+            values = Arrays.copyOf(values, slot * 2);
+        }
+        slots.put(name, slot);
+    }
+
+    private static List<String> parseParameters(String list) throws EvaluationException {
+        List<String> parameters = new ArrayList<>();
+        if (list.isBlank()) {
+            return parameters;
+        }
+        for (String parameter : list.split(",")) {
+            String name = parameter.trim();
+            if (!NAME.matcher(name).matches()) {
+                throw new EvaluationException("Invalid parameter name '" + name + "'");
+            }
+            if (parameters.contains(name)) {
+                throw new EvaluationException("Duplicate parameter '" + name + "'");
+            }
+            parameters.add(name);
+        }
+        return List.copyOf(parameters);
+    }
+
+    private static void checkDefinableName(String name) throws EvaluationException {
+        if (MathFunction.byName(name) != null || name.equals("pi") || name.equals("PI") || name.equals("e")) {
+            throw new EvaluationException("'" + name + "' is a built-in name");
+        }
+    }
+
+    /**
+     * Resolves the names in one line: parameters of the function being defined, then variables and functions of
+     * the worksheet. Records every worksheet name it resolves as a dependency.
+     */
+    private final class Resolver implements SymbolResolver {
+
+        private final List<String> parameters;
+        private final Set<String> dependencies;
+
+        Resolver(List<String> parameters, Set<String> dependencies) {
+            this.parameters = parameters;
+            this.dependencies = dependencies;
+        }
+
+        @Override
+        public Expr variable(String name) {
+            int index = parameters.indexOf(name);
+            if (index >= 0) {
+                return new Expr.Parameter(name, index);
+            }
+            Integer slot = slots.get(name);
+            if (slot == null) {
+                return null;
+            }
+            dependencies.add(name);
+            return new Expr.Variable(name, slot);
+        }
+
+        @Override
+        public int arity(String name) {
+            Entry definition = definitions.get(name);
+            return definition != null && definition.kind == Kind.FUNCTION ? definition.parameters.size() : -1;
+        }
+
+        @Override
+        public Expr call(String name, List<Expr> arguments) throws EvaluationException {
+            dependencies.add(name);
+            Entry definition = definitions.get(name);
+            if (definition.error != null) {
+                throw new EvaluationException("'" + name + "' has an error: " + definition.error);
+            }
+            return Expr.substitute(definition.expr, arguments);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package app.symbols;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import app.eval.EvaluationException;
+import app.eval.ResultFormatter;
+import app.log.Log;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.css.PseudoClass;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+
+/**
+ * WorksheetWindow shows the {@link Worksheet}: enter "rate = 0.07" to define a variable, "f(x) = x * rate" to
+ * define a function, or any formula using them to calculate it. Every line shows its current result and is
+ * updated when a definition it depends on changes. Definitions are saved with a {@link DefinitionStore} and
+ * loaded in the background when the window is first opened. The input field stays disabled until they are loaded,
+ * since saving before then would replace the saved definitions with only the new ones.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class WorksheetWindow {
+
+    private static final PseudoClass LIGHT_THEME = PseudoClass.getPseudoClass("light");
+    private static final PseudoClass ERROR = PseudoClass.getPseudoClass("error");
+
+    private final Stage stage = new Stage();
+    private final Worksheet worksheet = new Worksheet();
+    private final DefinitionStore store;
+    private final ResultFormatter formatter = new ResultFormatter();
+
+    private final ObservableList<Worksheet.Entry> lines = FXCollections.observableArrayList();
+    private final ListView<Worksheet.Entry> lineList = new ListView<>(lines);
+    private final TextField inputField = new TextField();
+    private final Label errorLabel = new Label();
+
+    /**
+     * False if the saved definitions could not be loaded, so saving would overwrite them.
+     */
+    private boolean saveDefinitions = true;
+
+    /**
+     * Creates the worksheet window and starts loading the saved definitions.
+     *
+     * @param owner The calculator window
+     * @param stylesheets The calculator stylesheets
+     * @param store Where definitions are loaded from and saved to
+     */
+    public WorksheetWindow(Window owner, List<String> stylesheets, DefinitionStore store) {
+        this.store = store;
+
+        lineList.getStyleClass().add("worksheet-list");
+        lineList.setCellFactory(list -> new LineCell());
+        VBox.setVgrow(lineList, Priority.ALWAYS);
+
+        inputField.setPromptText("e.g., rate = 0.07, f(x) = x * (1 + rate), f(100)");
+        inputField.getStyleClass().add("worksheet-input");
+        inputField.setOnAction(event -> enter());
+        inputField.setDisable(true);
+
+        errorLabel.getStyleClass().add("worksheet-error");
+        errorLabel.setManaged(false);
+        errorLabel.setVisible(false);
+
+        VBox layout = new VBox(8, lineList, errorLabel, inputField);
+        layout.getStyleClass().add("worksheet-root");
+
+        Scene scene = new Scene(layout, 420, 480);
+        scene.getStylesheets().addAll(stylesheets);
+        stage.setScene(scene);
+        stage.setTitle("Variables & Functions");
+        stage.initOwner(owner);
+        stage.setMinWidth(300);
+        stage.setMinHeight(240);
+
+        loadDefinitions();
+    }
+
+    /**
+     * Shows the window and focuses the input field.
+     */
+    public void show() {
+        stage.show();
+        stage.toFront();
+        inputField.requestFocus();
+    }
+
+    /**
+     * Switches the window to the light or dark theme, following the calculator.
+     *
+     * @param lightTheme True for the light theme
+     */
+    public void setLightTheme(boolean lightTheme) {
+        stage.getScene().getRoot().pseudoClassStateChanged(LIGHT_THEME, lightTheme);
+    }
+
+    /**
+     * Enters the input line into the worksheet and saves the definitions if it defined something.
+     */
+    private void enter() {
+        String line = inputField.getText();
+        if (line.isBlank()) {
+            return;
+        }
+        try {
+            Worksheet.Entry entry = worksheet.enter(line).get(0);
+            inputField.clear();
+            showError(null);
+            syncLines();
+            lineList.scrollTo(entry);
+            if (entry.kind() != Worksheet.Kind.EXPRESSION && saveDefinitions) {
+                store.saveAsync(worksheet.definitionSources());
+            }
+        } catch (EvaluationException e) {
+            showError(e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the saved definitions on a background thread, enters them on the FX thread and then enables the input.
+     */
+    private void loadDefinitions() {
+        CompletableFuture.supplyAsync(() -> {
+            try {
+                return store.load();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).whenComplete((definitions, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                Log.warn("Could not load definitions: %s", error.getMessage());
+                saveDefinitions = false;
+                showError("Saved definitions could not be loaded; new definitions will not be saved");
+            } else {
+                int errors = 0;
+                for (String definition : definitions) {
+                    try {
+                        // A definition that no longer evaluates is restored with its error, so it is not lost
+                        if (worksheet.restore(definition).error() != null) {
+                            errors++;
+                        }
+                    } catch (EvaluationException e) {
+                        Log.warn("Skipping saved definition '%s': %s", definition, e.getMessage());
+                    }
+                }
+                syncLines();
+                if (errors > 0) {
+                    showError(errors == 1 ? "A saved definition has an error" : errors + " saved definitions have errors");
+                }
+            }
+            inputField.setDisable(false);
+            if (stage.isShowing()) {
+                inputField.requestFocus();
+            }
+        }));
+    }
+
+    /**
+     * Adds new lines to the list and redraws the visible ones, whose values may have changed.
+     */
+    private void syncLines() {
+        List<Worksheet.Entry> entries = worksheet.entries();
+        if (entries.size() > lines.size()) {
+            lines.addAll(entries.subList(lines.size(), entries.size()));
+        }
+        lineList.refresh();
+    }
+
+    private void showError(String message) {
+        errorLabel.setText(message);
+        errorLabel.setManaged(message != null);
+        errorLabel.setVisible(message != null);
+    }
+
+    /**
+     * Shows a line with its current result, or its error.
+     */
+    private final class LineCell extends ListCell<Worksheet.Entry> {
+
+        LineCell() {
+            getStyleClass().add("worksheet-line");
+        }
+
+        @Override
+        protected void updateItem(Worksheet.Entry entry, boolean empty) {
+            super.updateItem(entry, empty);
+            if (empty || entry == null) {
+                setText(null);
+                pseudoClassStateChanged(ERROR, false);
+                return;
+            }
+            pseudoClassStateChanged(ERROR, entry.error() != null);
+            if (entry.error() != null) {
+                setText(entry.source() + "   (" + entry.error() + ")");
+            } else if (entry.isComputed()) {
+                setText(entry.source() + "   = " + formatter.format(entry.value()));
+            } else {
+                setText(entry.source());
+            }
+        }
+    }
+}
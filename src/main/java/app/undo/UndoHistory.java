@@ -0,0 +1,105 @@
+package app.undo;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * UndoHistory is a bounded undo/redo stack of immutable states. Recording a state that differs from the current one
+ * makes it current, pushes the previous one on the undo stack and discards the redo stack; once the undo stack is
+ * full, its oldest state is dropped. States should share structure with each other (see {@link VersionedText} and
+ * {@link VersionedList}), so each step only costs what changed.
+ *
+ * @param <S> The type of the states; equal states are not recorded twice
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public final class UndoHistory<S> {
+
+    private final int capacity;
+    private final Deque<S> undoStack = new ArrayDeque<>();
+    private final Deque<S> redoStack = new ArrayDeque<>();
+    private S current;
+
+    /**
+     * Creates a history.
+     *
+     * @param capacity The largest number of steps that can be undone
+     * @param initial The current state
+     */
+    public UndoHistory(int capacity, S initial) {
+        this.capacity = capacity;
+        this.current = initial;
+    }
+
+    /**
+     * Records the state after a change.
+     *
+     * @param state The new state
+     */
+    public void record(S state) {
+        if (state.equals(current)) {
+            return;
+        }
+        undoStack.push(current);
+        if (undoStack.size() > capacity) {
+            undoStack.removeLast();
+        }
+        redoStack.clear();
+        current = state;
+    }
+
+    /**
+     * Steps back to the previous state.
+     *
+     * @return The state to restore, or null if there is nothing to undo
+     */
+    public S undo() {
+        if (undoStack.isEmpty()) {
+            return null;
+        }
+        redoStack.push(current);
+        current = undoStack.pop();
+        return current;
+    }
+
+    /**
+     * Steps forward to the state before the last undo.
+     *
+     * @return The state to restore, or null if there is nothing to redo
+     */
+    public S redo() {
+        if (redoStack.isEmpty()) {
+            return null;
+        }
+        undoStack.push(current);
+        current = redoStack.pop();
+        return current;
+    }
+
+    /**
+     * Forgets all steps, starting again from a state.
+     *
+     * @param state The current state
+     */
+    public void reset(S state) {
+        undoStack.clear();
+        redoStack.clear();
+        current = state;
+    }
+
+    /**
+     * Returns the number of steps that can be undone.
+     */
+    public int undoDepth() {
+        return undoStack.size();
+    }
+
+    /**
+     * Returns the number of steps that can be redone.
+     */
+    public int redoDepth() {
+        return redoStack.size();
+    }
+}
@@ -0,0 +1,137 @@
+package app.undo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * VersionedList keeps an immutable, structurally shared version of an observable list that grows at the front, like
+ * the history and memory lists, whose newest entry is at index 0. A version is a linked stack of entries, so adding
+ * an entry costs one node and every older version stays valid by sharing the rest of the stack.
+ *
+ * The version is updated by a listener as the list changes: changes at the front push and pop nodes, and any other
+ * change (rare) builds a new stack. Restoring an older version only removes and inserts the entries at the front
+ * that differ from the current one. Must be used on the thread that changes the list.
+ *
+ * @param <T> The type of the entries
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public final class VersionedList<T> {
+
+    /**
+     * An immutable version of the list: its first entry and the version of the rest.
+     *
+     * @param <T> The type of the entries
+     */
+    public static final class Version<T> {
+
+        private final T head;
+        private final Version<T> tail;
+        private final int size;
+
+        private Version(T head, Version<T> tail) {
+            this.head = head;
+            this.tail = tail;
+            this.size = tail == null ? 0 : tail.size + 1;
+        }
+
+        /**
+         * Returns the number of entries.
+         */
+        public int size() {
+            return size;
+        }
+    }
+
+    private final ObservableList<T> list;
+    private final Version<T> empty = new Version<>(null, null);
+    private Version<T> version = empty;
+    private boolean restoring;
+
+    /**
+     * Starts tracking a list, which should be empty.
+     *
+     * @param list The list
+     */
+    public VersionedList(ObservableList<T> list) {
+        this.list = list;
+        list.addListener(this::update);
+    }
+
+    /**
+     * Returns the version of the list's current entries.
+     */
+    public Version<T> capture() {
+        return version;
+    }
+
+    /**
+     * Sets the list to the entries of a version, changing only the entries in front of what the two versions share.
+     *
+     * @param target A version captured from this list
+     */
+    public void restore(Version<T> target) {
+        // Walk both versions to the same size, then together until they share the rest
+        Version<T> current = version;
+        Version<T> other = target;
+        while (current.size > other.size) {
+            current = current.tail;
+        }
+        while (other.size > current.size) {
+            other = other.tail;
+        }
+        while (current != other) {
+            current = current.tail;
+            other = other.tail;
+        }
+        int removed = version.size - current.size;
+        List<T> added = new ArrayList<>(target.size - current.size);
+        for (Version<T> node = target; node != current; node = node.tail) {
+            added.add(node.head);
+        }
+
+        restoring = true;
+        try {
+            if (removed > 0) {
+                list.remove(0, removed);
+            }
+            if (!added.isEmpty()) {
+                list.addAll(0, added);
+            }
+        } finally {
+            restoring = false;
+        }
+        version = target;
+    }
+
+    private void update(ListChangeListener.Change<? extends T> change) {
+        if (restoring) {
+            return;
+        }
+        while (change.next()) {
+            if (change.getFrom() != 0 || change.wasPermutated() || change.wasUpdated()) {
+                rebuild();
+                return;
+            }
+            for (int i = 0; i < change.getRemovedSize(); i++) {
+                version = version.tail;
+            }
+            List<? extends T> added = change.getAddedSubList();
+            for (int i = added.size() - 1; i >= 0; i--) {
+                version = new Version<>(added.get(i), version);
+            }
+        }
+    }
+
+    private void rebuild() {
+        version = empty;
+        for (int i = list.size() - 1; i >= 0; i--) {
+            version = new Version<>(list.get(i), version);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package app.undo;
+
+/**
+ * VersionedText takes immutable snapshots of a changing text, such as a StringBuilder or a label's text, that share
+ * structure with each other. A version is the text of an older version plus the chars appended since, so typing one
+ * more character costs one small node rather than a copy of the whole text, and a deleted suffix costs nothing: the
+ * version becomes an older one.
+ *
+ * The text itself is changed freely by its owner; {@link #capture(CharSequence)} compares it with the last captured
+ * text and only creates a node when it changed. Not thread-safe.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public final class VersionedText {
+
+    /**
+     * An immutable version of the text: the parent's text followed by a chunk.
+     */
+    public static final class Version {
+
+        private static final Version EMPTY = new Version(null, "");
+
+        private final Version parent;
+        private final String chunk;
+        private final int length;
+        private final int depth;
+
+        private Version(Version parent, String chunk) {
+            this.parent = parent;
+            this.chunk = chunk;
+            this.length = (parent == null ? 0 : parent.length) + chunk.length();
+            this.depth = parent == null ? 0 : parent.depth + 1;
+        }
+
+        /**
+         * Returns the length of the text.
+         */
+        public int length() {
+            return length;
+        }
+
+        /**
+         * Appends the text to a builder.
+         */
+        void appendTo(StringBuilder builder) {
+            String[] chunks = new String[depth];
+            Version version = this;
+            for (int i = depth - 1; i >= 0; i--) {
+                chunks[i] = version.chunk;
+                version = version.parent;
+            }
+            for (String part : chunks) {
+                builder.append(part);
+            }
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder(length);
+            appendTo(text);
+            return text.toString();
+        }
+    }
+
+    private Version version = Version.EMPTY;
+
+    /**
+     * The text of the current version, to find what changed without walking the version's chunks.
+     */
+    private String text = "";
+
+    /**
+     * Returns the version of a text: the last version if the text did not change, otherwise a new version sharing
+     * the longest unchanged prefix with it.
+     *
+     * @param current The current text, e.g., a builder or a label's text
+     * @return The version
+     */
+    public Version capture(CharSequence current) {
+        int length = current.length();
+        int common = 0;
+        int limit = Math.min(length, text.length());
+        while (common < limit && current.charAt(common) == text.charAt(common)) {
+            common++;
+        }
+        if (common == length && length == text.length()) {
+            return version;
+        }
+        Version base = version;
+        while (base.length > common) {
+            base = base.parent;
+        }
+        String currentText = current.toString();
+        version = base.length == length ? base : new Version(base, currentText.substring(base.length));
+        text = currentText;
+        return version;
+    }
+
+    /**
+     * Sets a builder to the text of a version.
+     *
+     * @param target A version captured by this object
+     * @param builder The builder to set
+     */
+    public void restore(Version target, StringBuilder builder) {
+        builder.setLength(0);
+        target.appendTo(builder);
+        version = target;
+        text = builder.toString();
+    }
+
+    /**
+     * Returns the text of a version, which becomes the current version.
+     *
+     * @param target A version captured by this object
+     * @return The text
+     */
+    public String restore(Version target) {
+        version = target;
+        text = target.toString();
+        return text;
+    }
+}
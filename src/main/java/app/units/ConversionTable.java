@@ -0,0 +1,77 @@
+package app.units;
+
+/**
+ * ConversionTable holds the conversion between every pair of units of one dimension, precomputed when the dimension
+ * is loaded. Units are numbered densely from 0, and converting from unit i to unit j is
+ * value * factor[i][j] + offset[i][j], read from two flat row-major arrays. A conversion is one multiply and one add,
+ * with no map lookups, no symbol parsing and no round trip through the base unit.
+ *
+ * Converting a value into every unit walks one row of each array, which is contiguous in memory.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public final class ConversionTable {
+
+    private final int size;
+    private final double[] factors;
+    private final double[] offsets;
+
+    /**
+     * Builds the table for a set of units.
+     *
+     * @param units The units, numbered by their position
+     */
+    ConversionTable(Unit[] units) {
+        size = units.length;
+        factors = new double[size * size];
+        offsets = new double[size * size];
+        for (int from = 0; from < size; from++) {
+            for (int to = 0; to < size; to++) {
+                int index = from * size + to;
+                if (from == to) {
+                    factors[index] = 1;
+                    continue;
+                }
+                // value * s_from + o_from = result * s_to + o_to
+                factors[index] = units[from].scale() / units[to].scale();
+                offsets[index] = (units[from].offset() - units[to].offset()) / units[to].scale();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of units.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Converts a value from one unit to another.
+     *
+     * @param value The value
+     * @param from The index of the unit the value is in
+     * @param to The index of the unit to convert to
+     * @return The converted value
+     */
+    public double convert(double value, int from, int to) {
+        int index = from * size + to;
+        return value * factors[index] + offsets[index];
+    }
+
+    /**
+     * Converts a value into every unit.
+     *
+     * @param value The value
+     * @param from The index of the unit the value is in
+     * @param results Receives the value in unit j at index j; at least {@link #size()} long
+     */
+    public void convertAll(double value, int from, double[] results) {
+        int row = from * size;
+        for (int to = 0; to < size; to++) {
+            results[to] = value * factors[row + to] + offsets[row + to];
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package app.units;
+
+import java.util.List;
+
+import app.eval.ResultFormatter;
+
+import javafx.css.PseudoClass;
+import javafx.geometry.HPos;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+
+/**
+ * ConverterWindow is the unit conversion mode: pick a dimension and the unit of the value, and the value is shown in
+ * every other unit of that dimension, updated on every keystroke. Clicking a converted value makes its unit the one
+ * being converted from.
+ *
+ * The value is parsed once per keystroke; the conversions themselves come from the dimension's
+ * {@link ConversionTable}, so each one is a multiply and an add.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public class ConverterWindow {
+
+    private static final PseudoClass LIGHT_THEME = PseudoClass.getPseudoClass("light");
+    private static final PseudoClass SELECTED = PseudoClass.getPseudoClass("selected");
+
+    private final Stage stage = new Stage();
+    private final ComboBox<Dimension> dimensionBox = new ComboBox<>();
+    private final TextField valueField = new TextField("1");
+    private final ComboBox<Unit> unitBox = new ComboBox<>();
+    private final GridPane resultGrid = new GridPane();
+    private final Label statusLabel = new Label();
+    private final ResultFormatter formatter = new ResultFormatter();
+
+    /**
+     * The converted values and the labels showing them, one per unit of the current dimension.
+     */
+    private double[] results = new double[0];
+    private Label[] valueLabels = new Label[0];
+    private Label[] unitLabels = new Label[0];
+
+    /**
+     * Creates the converter window.
+     *
+     * @param owner The calculator window
+     * @param stylesheets The calculator stylesheets
+     */
+    public ConverterWindow(Window owner, List<String> stylesheets) {
+        dimensionBox.getItems().addAll(Dimension.values());
+        dimensionBox.setMaxWidth(Double.MAX_VALUE);
+        dimensionBox.valueProperty().addListener((observable, oldDimension, dimension) -> showDimension(dimension));
+
+        valueField.getStyleClass().add("converter-field");
+        HBox.setHgrow(valueField, Priority.ALWAYS);
+        valueField.textProperty().addListener((observable, oldText, text) -> update());
+        unitBox.valueProperty().addListener((observable, oldUnit, unit) -> update());
+        HBox inputRow = new HBox(8, valueField, unitBox);
+        inputRow.setAlignment(Pos.CENTER_LEFT);
+
+        ColumnConstraints valueColumn = new ColumnConstraints();
+        valueColumn.setHgrow(Priority.ALWAYS);
+        valueColumn.setHalignment(HPos.RIGHT);
+        resultGrid.getColumnConstraints().addAll(valueColumn, new ColumnConstraints());
+        resultGrid.setHgap(10);
+        resultGrid.setVgap(2);
+        resultGrid.getStyleClass().add("converter-results");
+        ScrollPane scrollPane = new ScrollPane(resultGrid);
+        scrollPane.setFitToWidth(true);
+        VBox.setVgrow(scrollPane, Priority.ALWAYS);
+
+        statusLabel.getStyleClass().add("converter-status");
+
+        VBox layout = new VBox(8, dimensionBox, inputRow, scrollPane, statusLabel);
+        layout.getStyleClass().add("converter-root");
+
+        Scene scene = new Scene(layout, 420, 480);
+        scene.getStylesheets().addAll(stylesheets);
+        stage.setScene(scene);
+        stage.setTitle("Unit Converter");
+        stage.initOwner(owner);
+        stage.setMinWidth(320);
+        stage.setMinHeight(320);
+
+        dimensionBox.setValue(Dimension.LENGTH);
+    }
+
+    /**
+     * Shows the window.
+     */
+    public void show() {
+        stage.show();
+        stage.toFront();
+        valueField.requestFocus();
+    }
+
+    /**
+     * Switches the window to the light or dark theme, following the calculator.
+     *
+     * @param lightTheme True for the light theme
+     */
+    public void setLightTheme(boolean lightTheme) {
+        stage.getScene().getRoot().pseudoClassStateChanged(LIGHT_THEME, lightTheme);
+    }
+
+    /**
+     * Builds one result row per unit of the dimension and converts the value into them.
+     */
+    private void showDimension(Dimension dimension) {
+        List<Unit> units = dimension.units();
+        results = new double[units.size()];
+        valueLabels = new Label[units.size()];
+        unitLabels = new Label[units.size()];
+        resultGrid.getChildren().clear();
+        for (int i = 0; i < units.size(); i++) {
+            int index = i;
+            valueLabels[i] = new Label();
+            valueLabels[i].getStyleClass().add("converter-value");
+            unitLabels[i] = new Label(units.get(i).toString());
+            unitLabels[i].getStyleClass().add("converter-unit");
+            valueLabels[i].setOnMouseClicked(event -> convertFrom(index));
+            unitLabels[i].setOnMouseClicked(event -> convertFrom(index));
+            resultGrid.addRow(i, valueLabels[i], unitLabels[i]);
+        }
+        // Setting the unit triggers the update
+        unitBox.getItems().setAll(units);
+        unitBox.setValue(units.get(0));
+    }
+
+    /**
+     * Converts the typed value from the selected unit into every unit of the dimension.
+     */
+    private void update() {
+        int from = unitBox.getSelectionModel().getSelectedIndex();
+        if (from < 0 || from >= valueLabels.length) {
+            return;
+        }
+        for (int i = 0; i < unitLabels.length; i++) {
+            unitLabels[i].pseudoClassStateChanged(SELECTED, i == from);
+        }
+
+        String text = valueField.getText().trim();
+        double value;
+        try {
+            value = Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            statusLabel.setText(text.isEmpty() ? "" : "'" + text + "' is not a number");
+            for (Label label : valueLabels) {
+                label.setText("");
+            }
+            return;
+        }
+        statusLabel.setText("");
+        dimensionBox.getValue().table().convertAll(value, from, results);
+        for (int i = 0; i < valueLabels.length; i++) {
+            valueLabels[i].setText(formatter.format(results[i]));
+        }
+    }
+
+    /**
+     * Makes a unit the one converted from, keeping its converted value. The value is taken over as shown, unless it is
+     * shown in scientific notation (rounded to 7 digits) or does not parse back in the current locale.
+     */
+    private void convertFrom(int index) {
+        String shown = valueLabels[index].getText();
+        if (!shown.isEmpty()) {
+            String text = shown;
+            try {
+                Double.parseDouble(shown);
+            } catch (NumberFormatException e) {
+                text = Double.toString(results[index]);
+            }
+            valueField.setText(shown.contains("E") ? Double.toString(results[index]) : text);
+        }
+        unitBox.getSelectionModel().select(index);
+    }
+}
@@ -0,0 +1,124 @@
+package app.units;
+
+import java.util.List;
+
+/**
+ * Dimension lists the quantities the unit converter knows, each with its units and their conversion table.
+ * The first unit listed with scale 1 is the base unit the others are defined against.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public enum Dimension {
+
+    LENGTH("Length",
+            Unit.of("nanometer", "nm", 1e-9),
+            Unit.of("micrometer", "µm", 1e-6),
+            Unit.of("millimeter", "mm", 1e-3),
+            Unit.of("centimeter", "cm", 1e-2),
+            Unit.of("meter", "m", 1),
+            Unit.of("kilometer", "km", 1e3),
+            Unit.of("inch", "in", 0.0254),
+            Unit.of("foot", "ft", 0.3048),
+            Unit.of("yard", "yd", 0.9144),
+            Unit.of("mile", "mi", 1609.344),
+            Unit.of("nautical mile", "nmi", 1852)),
+
+    MASS("Mass",
+            Unit.of("milligram", "mg", 1e-6),
+            Unit.of("gram", "g", 1e-3),
+            Unit.of("kilogram", "kg", 1),
+            Unit.of("metric ton", "t", 1e3),
+            Unit.of("ounce", "oz", 0.028349523125),
+            Unit.of("pound", "lb", 0.45359237),
+            Unit.of("stone", "st", 6.35029318)),
+
+    TEMPERATURE("Temperature",
+            new Unit("Celsius", "°C", 1, 273.15),
+            new Unit("Fahrenheit", "°F", 5.0 / 9, 273.15 - 32 * 5.0 / 9),
+            Unit.of("kelvin", "K", 1),
+            Unit.of("Rankine", "°R", 5.0 / 9)),
+
+    DATA("Data Size",
+            Unit.of("bit", "b", 0.125),
+            Unit.of("byte", "B", 1),
+            Unit.of("kilobyte", "kB", 1e3),
+            Unit.of("megabyte", "MB", 1e6),
+            Unit.of("gigabyte", "GB", 1e9),
+            Unit.of("terabyte", "TB", 1e12),
+            Unit.of("kibibyte", "KiB", 0x1p10),
+            Unit.of("mebibyte", "MiB", 0x1p20),
+            Unit.of("gibibyte", "GiB", 0x1p30),
+            Unit.of("tebibyte", "TiB", 0x1p40)),
+
+    TIME("Time",
+            Unit.of("nanosecond", "ns", 1e-9),
+            Unit.of("microsecond", "µs", 1e-6),
+            Unit.of("millisecond", "ms", 1e-3),
+            Unit.of("second", "s", 1),
+            Unit.of("minute", "min", 60),
+            Unit.of("hour", "h", 3600),
+            Unit.of("day", "d", 86400),
+            Unit.of("week", "wk", 604800),
+            Unit.of("year", "yr", 31557600)),
+
+    AREA("Area",
+            Unit.of("square millimeter", "mm²", 1e-6),
+            Unit.of("square centimeter", "cm²", 1e-4),
+            Unit.of("square meter", "m²", 1),
+            Unit.of("hectare", "ha", 1e4),
+            Unit.of("square kilometer", "km²", 1e6),
+            Unit.of("square inch", "in²", 0.00064516),
+            Unit.of("square foot", "ft²", 0.09290304),
+            Unit.of("acre", "ac", 4046.8564224),
+            Unit.of("square mile", "mi²", 2589988.110336)),
+
+    VOLUME("Volume",
+            Unit.of("milliliter", "mL", 1e-3),
+            Unit.of("liter", "L", 1),
+            Unit.of("cubic meter", "m³", 1e3),
+            Unit.of("teaspoon", "tsp", 0.00492892159375),
+            Unit.of("tablespoon", "tbsp", 0.01478676478125),
+            Unit.of("fluid ounce", "fl oz", 0.0295735295625),
+            Unit.of("cup", "cup", 0.2365882365),
+            Unit.of("pint", "pt", 0.473176473),
+            Unit.of("quart", "qt", 0.946352946),
+            Unit.of("gallon", "gal", 3.785411784)),
+
+    SPEED("Speed",
+            Unit.of("meter per second", "m/s", 1),
+            Unit.of("kilometer per hour", "km/h", 1 / 3.6),
+            Unit.of("mile per hour", "mph", 0.44704),
+            Unit.of("foot per second", "ft/s", 0.3048),
+            Unit.of("knot", "kn", 1852 / 3600.0));
+
+    private final String label;
+    private final List<Unit> units;
+    private final ConversionTable table;
+
+    Dimension(String label, Unit... units) {
+        this.label = label;
+        this.units = List.of(units);
+        this.table = new ConversionTable(units);
+    }
+
+    /**
+     * Returns the units, in the order of their indices in the conversion table.
+     */
+    public List<Unit> units() {
+        return units;
+    }
+
+    /**
+     * Returns the conversion table between the units.
+     */
+    public ConversionTable table() {
+        return table;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,30 @@
+package app.units;
+
+/**
+ * A unit of measurement, defined by how a value in it converts to its dimension's base unit:
+ * base = value * scale + offset. The offset is zero for every unit except temperatures, where scales do not share a
+ * zero point.
+ *
+ * @param name The unit name, e.g., "kilometer"
+ * @param symbol The unit symbol, e.g., "km"
+ * @param scale The size of the unit in base units
+ * @param offset The base value of the unit's zero point
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public record Unit(String name, String symbol, double scale, double offset) {
+
+    /**
+     * Creates a unit that is a multiple of the base unit.
+     */
+    static Unit of(String name, String symbol, double scale) {
+        return new Unit(name, symbol, scale, 0);
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + symbol + ")";
+    }
+}
@@ -0,0 +1,88 @@
+package app.eval;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests formula compilation: precedence, folding, the interpreted and bytecode tiers, and the limits on nesting and
+ * tree depth.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+class ExpressionCompilerTest {
+
+    @Test
+    void precedenceAndAssociativity() throws EvaluationException {
+        assertEquals(7, evaluate("1 + 2 * 3", 0));
+        assertEquals(-9, evaluate("-x^2", 3));
+        assertEquals(512, evaluate("2^3^2", 0));
+        assertEquals(512, evaluate("2**3**2", 0));
+        assertEquals(1, evaluate("7 % 3", 0));
+        assertEquals(Math.sin(2) * 4, evaluate("sin(x) * x^2", 2));
+        assertEquals(Math.PI + Math.E, evaluate("pi + e", 0));
+        assertEquals(3, evaluate("Math.max(x, 3)", 1));
+    }
+
+    @Test
+    void foldsConstantSubtrees() throws EvaluationException {
+        ExpressionCompiler compiler = new ExpressionCompiler();
+        Expr folded = ExpressionCompiler.fold(compiler.parse("x * (2 + 3) - sqrt(16)", List.of("x")));
+        Expr.Variable x = new Expr.Variable("x", 0);
+        assertEquals(new Expr.Binary(Expr.Operator.SUBTRACT, new Expr.Binary(Expr.Operator.MULTIPLY, x,
+                new Expr.Constant(5)), new Expr.Constant(4)), folded);
+    }
+
+    @Test
+    void bytecodeTierMatchesTree() throws EvaluationException {
+        ExpressionCompiler compiler = new ExpressionCompiler();
+        Expr expr = compiler.parse("sin(x) * x^2 - x / 3 + x % 2 - -x", List.of("x"));
+        CompiledExpression tree = compiler.compile(expr);
+        CompiledExpression bytecode = ExpressionCompiler.compileToBytecode(expr);
+        for (double x = -5; x <= 5; x += 0.25) {
+            assertEquals(tree.evaluate(new double[] {x}), bytecode.evaluate(new double[] {x}));
+        }
+    }
+
+    @Test
+    void invalidFormulasFail() {
+        assertThrows(EvaluationException.class, () -> ExpressionCompiler.compile("1 +", "x"));
+        assertThrows(EvaluationException.class, () -> ExpressionCompiler.compile("(x", "x"));
+        assertThrows(EvaluationException.class, () -> ExpressionCompiler.compile("y", "x"));
+        assertThrows(EvaluationException.class, () -> ExpressionCompiler.compile("max(1)", "x"));
+    }
+
+    @Test
+    void deepNestingFailsInsteadOfOverflowingTheStack() {
+        assertThrows(EvaluationException.class, () -> ExpressionCompiler.compile("(".repeat(20_000) + "x", "x"));
+        assertThrows(EvaluationException.class, () -> ExpressionCompiler.compile("-".repeat(20_000) + "x", "x"));
+        assertThrows(EvaluationException.class, () -> ExpressionCompiler.compile("x" + "^x".repeat(20_000), "x"));
+        assertThrows(EvaluationException.class,
+                () -> ExpressionCompiler.compile("sin(".repeat(20_000) + "x" + ")".repeat(20_000), "x"));
+    }
+
+    @Test
+    void deepTreesFailInsteadOfOverflowingTheStack() throws EvaluationException {
+        int limit = ArithmeticParser.MAX_NESTING;
+        assertEquals(limit + 1, evaluate("x" + "+x".repeat(limit), 1));
+        assertThrows(EvaluationException.class, () -> ExpressionCompiler.compile("x" + "+x".repeat(limit + 1), "x"));
+        assertThrows(EvaluationException.class, () -> ExpressionCompiler.compile("x" + "+x".repeat(50_000), "x"));
+    }
+
+    @Test
+    void measuresTreeDepth() throws EvaluationException {
+        ExpressionCompiler compiler = new ExpressionCompiler();
+        assertEquals(0, ExpressionCompiler.depth(compiler.parse("x", List.of("x"))));
+        assertEquals(2, ExpressionCompiler.depth(compiler.parse("-x + 1", List.of("x"))));
+        assertEquals(3, ExpressionCompiler.depth(compiler.parse("max(1, x * (x - 1))", List.of("x"))));
+    }
+
+    private static double evaluate(String source, double x) throws EvaluationException {
+        return ExpressionCompiler.compile(source, "x").evaluate(new double[] {x});
+    }
+}
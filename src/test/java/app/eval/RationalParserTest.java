@@ -0,0 +1,125 @@
+package app.eval;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests exact rational evaluation: reduced fractions, decimal rounding, overflow of long arithmetic into BigInteger
+ * and back, and the functions and inputs that have no exact result.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+class RationalParserTest {
+
+    private final RationalParser parser = new RationalParser();
+
+    @Test
+    void fractionsAreExactAndReduced() throws EvaluationException {
+        assertEquals("1", fraction("1/3*3"));
+        assertEquals("3/10", fraction("0.1+0.2"));
+        assertEquals("2/3", fraction("2/1/3"));
+        assertEquals("-1/3", fraction("-(1/3)"));
+        assertEquals("1", fraction("1e-30*1e30"));
+        assertEquals("1500", fraction("1.5e3"));
+    }
+
+    @Test
+    void remainderHasTheSignOfTheDividend() throws EvaluationException {
+        assertEquals("1", fraction("7%3"));
+        assertEquals("-1", fraction("-7%3"));
+        assertEquals("3/2", fraction("7.5%2"));
+    }
+
+    @Test
+    void decimalsAreRoundedHalfEvenWithoutTrailingZeros() throws EvaluationException {
+        assertEquals("0.6666666667", decimal("2/3", 10));
+        assertEquals("0.125", decimal("1/8", 10));
+        assertEquals("-0.3333333333", decimal("-1/3", 10));
+        assertEquals("1", decimal("0.99999999999", 10));
+        assertEquals("0", decimal("-0.0000000001", 5));
+        assertEquals("0.12", decimal("0.125", 2));
+        assertEquals("0.38", decimal("0.375", 2));
+    }
+
+    @Test
+    void overflowMovesToBigIntegerAndBack() throws EvaluationException {
+        assertEquals("9223372036854775808", fraction("9223372036854775807+1"));
+        assertEquals("9223372036854775807", fraction("9223372036854775807+1-1"));
+        assertEquals(BigInteger.TWO.pow(64).toString(), fraction("Math.pow(2, 64)"));
+        assertEquals("2", fraction("Math.pow(2, 64)/Math.pow(2, 63)"));
+        assertEquals("1", fraction("1/9223372036854775807*9223372036854775807"));
+        assertEquals("12345678901234567890123456789", fraction("123456789012345678901234567890/10"));
+        assertEquals("1/9223372036854775808", fraction("1/(9223372036854775807+1)"));
+    }
+
+    @Test
+    void longMinValueIsKeptAsBigInteger() throws EvaluationException {
+        assertEquals("-9223372036854775808", fraction("-9223372036854775807-1"));
+        assertEquals("9223372036854775808", fraction("-(-9223372036854775807-1)"));
+        assertEquals("9223372036854775808", fraction("Math.abs(-9223372036854775807-1)"));
+    }
+
+    @Test
+    void rationalFunctions() throws EvaluationException {
+        assertEquals("-4", fraction("Math.floor(-7/2)"));
+        assertEquals("-3", fraction("Math.ceil(-7/2)"));
+        assertEquals("5/3", fraction("Math.abs(-5/3)"));
+        assertEquals("9", fraction("Math.pow(1/3, -2)"));
+        assertEquals("-1", fraction("Math.pow(-1, 100001)"));
+    }
+
+    @Test
+    void inputsWithoutAnExactResultFail() {
+        assertThrows(EvaluationException.class, () -> parser.evaluate("1/0"));
+        assertThrows(EvaluationException.class, () -> parser.evaluate("5%0"));
+        assertThrows(EvaluationException.class, () -> parser.evaluate("Math.pow(0, -1)"));
+        assertThrows(EvaluationException.class, () -> parser.evaluate("Math.pow(2, 0.5)"));
+        assertThrows(EvaluationException.class, () -> parser.evaluate("Math.pow(2, 100000)"));
+        assertThrows(EvaluationException.class, () -> parser.evaluate("Math.sqrt(4)"));
+        assertThrows(EvaluationException.class, () -> parser.evaluate("1e99999"));
+        assertThrows(EvaluationException.class, () -> parser.evaluate("(1+2"));
+        assertThrows(IllegalStateException.class, parser::isZero);
+    }
+
+    @Test
+    void resultQueries() throws EvaluationException {
+        parser.evaluate("6/3");
+        assertTrue(parser.isInteger());
+        assertFalse(parser.isZero());
+        assertEquals(2.0, parser.doubleValue());
+        parser.evaluate("Math.pow(10, 30)/3");
+        assertFalse(parser.isInteger());
+        assertEquals(1e30 / 3, parser.doubleValue(), 1e15);
+    }
+
+    @Test
+    void binaryGcd() {
+        assertEquals(6, RationalParser.gcd(12, 18));
+        assertEquals(6, RationalParser.gcd(-12, 18));
+        assertEquals(7, RationalParser.gcd(0, -7));
+        assertEquals(1, RationalParser.gcd(Long.MAX_VALUE, Long.MAX_VALUE - 1));
+        assertEquals(1L << 62, RationalParser.gcd(1L << 62, 0));
+    }
+
+    private String fraction(String expression) throws EvaluationException {
+        parser.evaluate(expression);
+        StringBuilder out = new StringBuilder();
+        parser.appendFraction(out);
+        return out.toString();
+    }
+
+    private String decimal(String expression, int fractionDigits) throws EvaluationException {
+        parser.evaluate(expression);
+        StringBuilder out = new StringBuilder();
+        parser.appendDecimal(out, fractionDigits);
+        return out.toString();
+    }
+}
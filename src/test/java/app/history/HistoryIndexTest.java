@@ -0,0 +1,142 @@
+package app.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests history search by text and by result range, against a plain scan of the entries, and the index's removal
+ * of the newest entries.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+class HistoryIndexTest {
+
+    @Test
+    void findsTextOfEveryLengthNewestFirst() {
+        HistoryIndex index = indexOf("sqrt(4) = 2", "1 + 1 = 2", "sqrt(9) = 3", "Sin(0) = 0");
+        assertEquals(List.of("sqrt(9) = 3", "sqrt(4) = 2"), index.search("sqrt"));
+        assertEquals(List.of("sqrt(9) = 3", "sqrt(4) = 2"), index.search("SQ"));
+        assertEquals(List.of("Sin(0) = 0", "sqrt(9) = 3", "sqrt(4) = 2"), index.search("s"));
+        assertEquals(List.of("1 + 1 = 2"), index.search("1 + 1"));
+        assertEquals(List.of("Sin(0) = 0"), index.search("sin("));
+        assertEquals(List.of(), index.search("cos"));
+        assertEquals(List.of(), index.search("sqrt(49"));
+    }
+
+    @Test
+    void blankQueryReturnsEverything() {
+        HistoryIndex index = indexOf("1 = 1", "2 = 2");
+        assertEquals(List.of("2 = 2", "1 = 1"), index.search(""));
+        assertEquals(List.of("2 = 2", "1 = 1"), index.search("   "));
+    }
+
+    @Test
+    void rangesFilterByResult() {
+        HistoryIndex index = indexOf("sqrt(4) = 2", "1 / 3 = 1/3", "10 * 10 = 100", "sqrt(2) ≈ 1.4142135624",
+                "1 / 0 = Error", "5 - 8 = -3");
+        assertEquals(List.of("10 * 10 = 100"), index.search("> 2"));
+        assertEquals(List.of("10 * 10 = 100", "sqrt(4) = 2"), index.search(">=2"));
+        assertEquals(List.of("5 - 8 = -3", "1 / 3 = 1/3"), index.search("<1"));
+        assertEquals(List.of("sqrt(2) ≈ 1.4142135624", "sqrt(4) = 2"), index.search("sqrt 1..2"));
+        assertEquals(List.of("sqrt(2) ≈ 1.4142135624", "sqrt(4) = 2"), index.search("sqrt 2..1"));
+        assertEquals(List.of("1 / 3 = 1/3"), index.search("0.3..0.34"));
+        assertEquals(List.of("5 - 8 = -3"), index.search("-5..0"));
+        assertEquals(List.of("10 * 10 = 100"), index.search(">1 <= 100 10"));
+    }
+
+    @Test
+    void textThatIsNotARangeIsSearchedAsText() {
+        HistoryIndex index = indexOf("2 > 1 = 1", "a..b = 0");
+        assertEquals(List.of("a..b = 0"), index.search("a..b"));
+        assertEquals(List.of(), index.search("> x"));
+    }
+
+    @Test
+    void parsesResults() {
+        assertEquals(2, HistoryIndex.parseResult("sqrt(4) = 2"));
+        assertEquals(0.5, HistoryIndex.parseResult("1 / 2 = 1/2"));
+        assertEquals(1.5, HistoryIndex.parseResult("x = 1 = 1.5"));
+        assertTrue(Double.isNaN(HistoryIndex.parseResult("1 / 0 = Error")));
+        assertTrue(Double.isNaN(HistoryIndex.parseResult("no result")));
+    }
+
+    @Test
+    void removeNewestForgetsOnlyTheRemovedEntries() {
+        HistoryIndex index = indexOf("abc = 1", "abcd = 2", "xyz = 3");
+        index.removeNewest(2);
+        assertEquals(1, index.size());
+        assertEquals(List.of("abc = 1"), index.search("abc"));
+        assertEquals(List.of(), index.search("xyz"));
+        assertEquals(List.of(), index.search("> 1"));
+        index.add("abcd = 4");
+        assertEquals(List.of("abcd = 4", "abc = 1"), index.search("abc"));
+        assertEquals(List.of("abcd = 4"), index.search("bcd"));
+        index.removeNewest(5);
+        assertEquals(0, index.size());
+        assertEquals(List.of(), index.search("a"));
+    }
+
+    @Test
+    void clearRemovesEverything() {
+        HistoryIndex index = indexOf("abc = 1", "def = 2");
+        index.clear();
+        assertEquals(0, index.size());
+        assertEquals(List.of(), index.search("abc"));
+        index.add("abc = 3");
+        assertEquals(List.of("abc = 3"), index.search("abc"));
+    }
+
+    @Test
+    void matchesPlainScanOfManyEntries() {
+        Random random = new Random(11);
+        String[] functions = {"sqrt", "sin", "cos", "ln", "abs", ""};
+        HistoryIndex index = new HistoryIndex();
+        List<String> entries = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            String function = functions[random.nextInt(functions.length)];
+            String entry = function + "(" + random.nextInt(1000) + " + " + random.nextInt(50) + ") = "
+                    + random.nextInt(2000);
+            index.add(entry);
+            entries.add(entry);
+            if (i % 500 == 499) {
+                int removed = random.nextInt(20);
+                index.removeNewest(removed);
+                entries.subList(entries.size() - removed, entries.size()).clear();
+            }
+        }
+        assertEquals(entries.size(), index.size());
+        for (String text : new String[] {"s", "sq", "sqrt", "n(1", "(12", "+ 4", "= 19", "cos(99", "zz"}) {
+            List<String> expected = new ArrayList<>();
+            for (int i = entries.size() - 1; i >= 0; i--) {
+                if (entries.get(i).toLowerCase(Locale.ROOT).contains(text)) {
+                    expected.add(entries.get(i));
+                }
+            }
+            assertEquals(expected, index.search(text), text);
+        }
+        List<String> inRange = index.search("sin 100..200");
+        assertFalse(inRange.isEmpty());
+        for (String entry : inRange) {
+            double result = HistoryIndex.parseResult(entry);
+            assertTrue(entry.contains("sin") && result >= 100 && result <= 200, entry);
+        }
+    }
+
+    private static HistoryIndex indexOf(String... entries) {
+        HistoryIndex index = new HistoryIndex();
+        for (String entry : entries) {
+            index.add(entry);
+        }
+        return index;
+    }
+}
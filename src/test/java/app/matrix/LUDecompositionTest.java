@@ -0,0 +1,98 @@
+package app.matrix;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the determinant, inverse and solve of matrices through their LU decomposition, including the singularity
+ * cutoff on badly scaled and nearly singular matrices.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+class LUDecompositionTest {
+
+    @Test
+    void determinantOfSmallMatrices() {
+        assertEquals(-2, Matrix.of(2, 2, 1, 2, 3, 4).determinant(), 1e-12);
+        assertEquals(10, Matrix.of(2, 2, 4, 7, 2, 6).determinant(), 1e-12);
+        assertEquals(6, Matrix.of(3, 3, 2, 0, 0, 0, 3, 0, 0, 0, 1).determinant(), 1e-12);
+    }
+
+    @Test
+    void rowSwapsNegateTheDeterminant() {
+        assertEquals(-1, Matrix.of(2, 2, 0, 1, 1, 0).determinant(), 0);
+        assertEquals(-6, Matrix.of(3, 3, 0, 2, 0, 3, 0, 0, 0, 0, 1).determinant(), 1e-12);
+    }
+
+    @Test
+    void inverseTimesMatrixIsIdentity() {
+        Matrix matrix = Matrix.random(40, 40, 7);
+        assertClose(Matrix.identity(40), matrix.times(matrix.inverse()), 1e-10);
+        assertClose(Matrix.of(2, 2, 0.6, -0.7, -0.2, 0.4), Matrix.of(2, 2, 4, 7, 2, 6).inverse(), 1e-12);
+    }
+
+    @Test
+    void solveHandlesSeveralRightHandSides() {
+        Matrix matrix = Matrix.of(3, 3, 2, 1, 1, 1, 3, 2, 1, 0, 0);
+        Matrix x = Matrix.of(3, 2, 1, -1, 2, 0, 3, 4);
+        assertClose(x, matrix.solve(matrix.times(x)), 1e-12);
+    }
+
+    @Test
+    void singularMatricesAreRejected() {
+        Matrix[] singular = {
+            Matrix.of(2, 2, 0, 0, 0, 0),
+            Matrix.of(2, 2, 1, 2, 2, 4),
+            Matrix.of(3, 3, 1, 2, 3, 4, 5, 6, 7, 8, 9),
+            Matrix.of(3, 3, 2, 4, 6, 1, 2, 3, 5, 1, 0),
+        };
+        for (Matrix matrix : singular) {
+            assertTrue(LUDecomposition.of(matrix).isSingular(), matrix.toString());
+            assertEquals(0, matrix.determinant(), 0);
+            assertThrows(ArithmeticException.class, matrix::inverse);
+            assertThrows(ArithmeticException.class, () -> matrix.solve(Matrix.identity(matrix.rows())));
+        }
+    }
+
+    @Test
+    void nearlySingularButInvertibleMatricesAreInverted() {
+        Matrix matrix = Matrix.of(2, 2, 1, 2, 2, 4.0000000001);
+        assertFalse(LUDecomposition.of(matrix).isSingular());
+        assertClose(Matrix.identity(2), matrix.times(matrix.inverse()), 1e-5);
+    }
+
+    @Test
+    void scaledDiagonalMatricesAreNotSingular() {
+        assertEquals(1, Matrix.of(2, 2, 1e10, 0, 0, 1e-10).determinant(), 1e-15);
+        assertEquals(1, Matrix.of(2, 2, 1e-300, 0, 0, 1e300).determinant(), 1e-15);
+        assertClose(Matrix.of(2, 2, 1e-20, 0, 0, 1), Matrix.of(2, 2, 1e20, 0, 0, 1).inverse(), 0);
+        assertClose(Matrix.identity(3).scale(1e10), Matrix.identity(3).scale(1e-10).inverse(), 1e-3);
+    }
+
+    @Test
+    void scaledRowsAndColumnsAreNotSingular() {
+        // Columns of very different scale: det = 1e-20
+        Matrix columns = Matrix.of(2, 2, 1, 1e-20, 1, 2e-20);
+        assertEquals(1e-20, columns.determinant(), 1e-34);
+        assertClose(Matrix.identity(2), columns.times(columns.inverse()), 1e-12);
+        // Rows of very different scale: det = 1e20
+        Matrix rows = Matrix.of(2, 2, 1e20, 2e20, 3, 4);
+        assertEquals(-2e20, rows.determinant(), 1e6);
+        assertClose(Matrix.identity(2), rows.times(rows.inverse()), 1e-12);
+    }
+
+    private static void assertClose(Matrix expected, Matrix actual, double tolerance) {
+        assertEquals(expected.size(), actual.size());
+        double[] expectedValues = expected.toArray();
+        double[] actualValues = actual.toArray();
+        for (int i = 0; i < expectedValues.length; i++) {
+            assertEquals(expectedValues[i], actualValues[i], tolerance, "entry " + i + " of " + actual);
+        }
+    }
+}
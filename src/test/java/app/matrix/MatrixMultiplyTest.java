@@ -0,0 +1,57 @@
+package app.matrix;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the blocked matrix product against a naive triple loop, below and above the block size and the parallel
+ * threshold, and the propagation of infinities and NaN.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+class MatrixMultiplyTest {
+
+    @Test
+    void smallProduct() {
+        Matrix product = Matrix.of(2, 3, 1, 2, 3, 4, 5, 6).times(Matrix.of(3, 2, 7, 8, 9, 10, 11, 12));
+        assertEquals(Matrix.of(2, 2, 58, 64, 139, 154), product);
+    }
+
+    @Test
+    void blockedProductMatchesNaiveProduct() {
+        int[][] sizes = {{1, 1, 1}, {3, 70, 5}, {65, 64, 63}, {130, 129, 131}, {200, 150, 170}};
+        for (int[] size : sizes) {
+            Matrix a = Matrix.random(size[0], size[1], 1);
+            Matrix b = Matrix.random(size[1], size[2], 2);
+            Matrix product = a.times(b);
+            for (int i = 0; i < size[0]; i++) {
+                for (int j = 0; j < size[2]; j++) {
+                    double expected = 0;
+                    for (int k = 0; k < size[1]; k++) {
+                        expected += a.get(i, k) * b.get(k, j);
+                    }
+                    assertEquals(expected, product.get(i, j), 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    void zeroTimesInfinityIsNaN() {
+        Matrix product = Matrix.of(1, 2, 0, 1).times(Matrix.of(2, 1, Double.POSITIVE_INFINITY, 1));
+        assertTrue(Double.isNaN(product.get(0, 0)));
+        product = Matrix.of(1, 2, 0, 1).times(Matrix.of(2, 1, Double.NaN, 1));
+        assertTrue(Double.isNaN(product.get(0, 0)));
+    }
+
+    @Test
+    void zeroMultipliersPropagateNaNThroughSolve() {
+        Matrix x = Matrix.identity(2).solve(Matrix.of(2, 1, Double.NaN, 1));
+        assertTrue(Double.isNaN(x.get(0, 0)));
+        assertTrue(Double.isNaN(x.get(1, 0)));
+    }
+}
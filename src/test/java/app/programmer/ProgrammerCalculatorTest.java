@@ -0,0 +1,115 @@
+package app.programmer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import app.programmer.ProgrammerCalculator.Operator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests left-to-right operations, word-size wraparound and editing of the right operand in programmer mode.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+class ProgrammerCalculatorTest {
+
+    @Test
+    void operationsApplyLeftToRight() {
+        ProgrammerCalculator calculator = new ProgrammerCalculator();
+        calculator.appendDigit(5);
+        calculator.operator(Operator.ADD);
+        calculator.appendDigit(3);
+        calculator.operator(Operator.MULTIPLY);
+        assertEquals(8, calculator.value());
+        calculator.appendDigit(2);
+        calculator.equals();
+        assertEquals(16, calculator.value());
+    }
+
+    @Test
+    void repeatedOperatorOnlyReplacesThePendingOne() {
+        ProgrammerCalculator calculator = new ProgrammerCalculator();
+        calculator.appendDigit(6);
+        calculator.operator(Operator.ADD);
+        calculator.operator(Operator.SUBTRACT);
+        calculator.appendDigit(2);
+        calculator.equals();
+        assertEquals(4, calculator.value());
+    }
+
+    @Test
+    void negatedRightOperandIsApplied() {
+        ProgrammerCalculator calculator = new ProgrammerCalculator();
+        calculator.appendDigit(5);
+        calculator.operator(Operator.ADD);
+        calculator.appendDigit(3);
+        calculator.negate();
+        calculator.operator(Operator.MULTIPLY);
+        assertEquals(2, calculator.value());
+        calculator.appendDigit(2);
+        calculator.equals();
+        assertEquals(4, calculator.value());
+    }
+
+    @Test
+    void complementedRightOperandIsApplied() {
+        ProgrammerCalculator calculator = new ProgrammerCalculator();
+        calculator.appendDigit(5);
+        calculator.operator(Operator.AND);
+        calculator.appendDigit(1);
+        calculator.not();
+        calculator.operator(Operator.OR);
+        assertEquals(4, calculator.value());
+    }
+
+    @Test
+    void clearedRightOperandIsApplied() {
+        ProgrammerCalculator calculator = new ProgrammerCalculator();
+        calculator.appendDigit(5);
+        calculator.operator(Operator.MULTIPLY);
+        calculator.appendDigit(3);
+        calculator.clearEntry();
+        calculator.operator(Operator.ADD);
+        assertEquals(0, calculator.value());
+    }
+
+    @Test
+    void resultsWrapAroundTheWordSize() {
+        ProgrammerCalculator calculator = new ProgrammerCalculator();
+        calculator.setWordSize(WordSize.BYTE);
+        calculator.appendDigit(1);
+        calculator.appendDigit(2);
+        calculator.appendDigit(7);
+        assertFalse(calculator.appendDigit(0));
+        calculator.operator(Operator.ADD);
+        calculator.appendDigit(1);
+        calculator.equals();
+        assertEquals(-128, calculator.value());
+    }
+
+    @Test
+    void hexadecimalEntrySetsEveryBit() {
+        ProgrammerCalculator calculator = new ProgrammerCalculator();
+        calculator.setRadix(16);
+        for (int i = 0; i < 16; i++) {
+            assertTrue(calculator.appendDigit(15));
+        }
+        assertFalse(calculator.appendDigit(1));
+        assertEquals(-1, calculator.value());
+    }
+
+    @Test
+    void divisionByZeroClears() {
+        ProgrammerCalculator calculator = new ProgrammerCalculator();
+        calculator.appendDigit(7);
+        calculator.operator(Operator.DIVIDE);
+        calculator.appendDigit(0);
+        assertThrows(ArithmeticException.class, calculator::equals);
+        assertEquals(0, calculator.value());
+        assertEquals(null, calculator.pending());
+    }
+}
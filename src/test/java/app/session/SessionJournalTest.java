@@ -0,0 +1,152 @@
+package app.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests that a session journal restores what was recorded, drops a record cut short by a crash and keeps appending
+ * after it, and compacts to the current state.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+class SessionJournalTest {
+
+    private static final SessionInput INPUT = new SessionInput("1+2", "1+2", "2", "2", "1 + 2", false, false, true,
+            null, 0, false);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void restoresRecordedChanges() throws Exception {
+        Path file = directory.resolve("session.journal");
+        try (SessionJournal journal = new SessionJournal(file)) {
+            assertEquals(new SessionSnapshot(List.of(), List.of(), null), journal.load().get());
+            journal.historyAdded(List.of("1 + 1 = 2"));
+            journal.historyAdded(List.of("3 * 3 = 9", "2 * 2 = 4"));
+            journal.historyRemoved(1);
+            journal.memoryChanged(List.of("9", "π"));
+            journal.inputChanged(INPUT);
+        }
+        SessionSnapshot restored = load(file);
+        assertEquals(List.of("2 * 2 = 4", "1 + 1 = 2"), restored.history());
+        assertEquals(List.of("9", "π"), restored.memory());
+        assertEquals(INPUT, restored.input());
+    }
+
+    @Test
+    void keepsOnlyTheLatestInput() throws Exception {
+        Path file = directory.resolve("session.journal");
+        SessionInput latest = new SessionInput("7", "7", "7", "7", "", true, true, false, "sqrt", 2, true);
+        try (SessionJournal journal = new SessionJournal(file)) {
+            journal.inputChanged(INPUT);
+            journal.inputChanged(latest);
+        }
+        assertEquals(latest, load(file).input());
+    }
+
+    @Test
+    void dropsATornRecordAndAppendsAfterTheLastCompleteOne() throws Exception {
+        Path file = directory.resolve("session.journal");
+        try (SessionJournal journal = new SessionJournal(file)) {
+            journal.historyAdded(List.of("1 + 1 = 2"));
+            journal.historyAdded(List.of("2 + 2 = 4"));
+        }
+        byte[] complete = Files.readAllBytes(file);
+        // A crash while the last record was being written
+        Files.write(file, Arrays.copyOf(complete, complete.length - 3));
+        assertEquals(List.of("1 + 1 = 2"), load(file).history());
+
+        try (SessionJournal journal = new SessionJournal(file)) {
+            journal.load().get();
+            journal.historyAdded(List.of("3 + 3 = 6"));
+        }
+        assertEquals(List.of("3 + 3 = 6", "1 + 1 = 2"), load(file).history());
+    }
+
+    @Test
+    void stopsAtARecordThatFailsItsChecksum() throws Exception {
+        Path file = directory.resolve("session.journal");
+        try (SessionJournal journal = new SessionJournal(file)) {
+            journal.historyAdded(List.of("first = 1"));
+            journal.historyAdded(List.of("second = 2"));
+        }
+        byte[] data = Files.readAllBytes(file);
+        data[data.length - 6] ^= 0x20;
+        Files.write(file, data);
+        assertEquals(List.of("first = 1"), load(file).history());
+    }
+
+    @Test
+    void startsOverWhenTheFileIsNotAJournal() throws Exception {
+        Path file = directory.resolve("session.journal");
+        Files.writeString(file, "not a journal");
+        try (SessionJournal journal = new SessionJournal(file)) {
+            assertEquals(List.of(), journal.load().get().history());
+            journal.historyAdded(List.of("1 + 1 = 2"));
+        }
+        assertEquals(List.of("1 + 1 = 2"), load(file).history());
+    }
+
+    @Test
+    void compactsWhenTheJournalOutgrowsItsState() throws Exception {
+        Path file = directory.resolve("session.journal");
+        String padding = "x".repeat(200);
+        try (SessionJournal journal = new SessionJournal(file)) {
+            journal.load().get();
+            for (int i = 0; i < 5_000; i++) {
+                journal.historyAdded(List.of(i + padding));
+                if (i % 100 != 0) {
+                    journal.historyRemoved(1);
+                }
+            }
+        }
+        // About 1 MB of records was appended for a state of 50 entries; compaction keeps the file near 256 KB at most
+        assertTrue(Files.size(file) < 300_000, "journal size " + Files.size(file));
+        assertFalse(Files.exists(directory.resolve("session.journal.tmp")));
+        List<String> history = load(file).history();
+        assertEquals(50, history.size());
+        assertEquals(4_900 + padding, history.get(0));
+        assertEquals(0 + padding, history.get(49));
+    }
+
+    @Test
+    void replaceRewritesTheWholeState() throws Exception {
+        Path file = directory.resolve("session.journal");
+        List<String> history = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            history.add("entry " + i);
+        }
+        try (SessionJournal journal = new SessionJournal(file)) {
+            journal.historyAdded(List.of("old = 0"));
+            journal.memoryChanged(List.of("old"));
+            journal.replace(new SessionSnapshot(history, List.of("1", "2"), null));
+            journal.historyAdded(List.of("new = 1"));
+        }
+        SessionSnapshot restored = load(file);
+        assertEquals(3_001, restored.history().size());
+        assertEquals("new = 1", restored.history().get(0));
+        assertEquals(history, restored.history().subList(1, 3_001));
+        assertEquals(List.of("1", "2"), restored.memory());
+        assertNull(restored.input());
+    }
+
+    private static SessionSnapshot load(Path file) throws Exception {
+        try (SessionJournal journal = new SessionJournal(file)) {
+            return journal.load().get();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package app.symbols;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import app.eval.EvaluationException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that worksheet definitions update the lines that depend on them, and that saved definitions which no longer
+ * evaluate are restored as lines with an error instead of being dropped.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+class WorksheetTest {
+
+    @Test
+    void definitionsUpdateDependentLines() throws EvaluationException {
+        Worksheet worksheet = new Worksheet();
+        worksheet.enter("rate = 0.5");
+        worksheet.enter("f(x) = x * rate");
+        Worksheet.Entry total = worksheet.enter("f(10)").get(0);
+        assertEquals(5, total.value());
+        worksheet.enter("rate = 2");
+        assertEquals(20, total.value());
+        worksheet.enter("f(x) = x + rate");
+        assertEquals(12, total.value());
+    }
+
+    @Test
+    void restoresErroredDefinitionsAsErroredLines() throws EvaluationException {
+        Worksheet worksheet = new Worksheet();
+        worksheet.enter("f(x) = x * 2");
+        worksheet.enter("g(x) = f(x) + 1");
+        worksheet.enter("total = g(3)");
+        // Redefining f with another number of parameters leaves the lines that call it with an error
+        worksheet.enter("f(x, y) = x * y");
+        List<String> saved = worksheet.definitionSources();
+        assertEquals(List.of("f(x, y) = x * y", "g(x) = f(x) + 1", "total = g(3)"), saved);
+
+        Worksheet restored = new Worksheet();
+        for (String line : saved) {
+            restored.restore(line);
+        }
+        assertEquals(saved, restored.definitionSources());
+        Worksheet.Entry g = restored.entries().get(1);
+        Worksheet.Entry total = restored.entries().get(2);
+        assertTrue(g.error() != null, "g should have an error");
+        assertTrue(total.error() != null, "total should have an error");
+        assertTrue(Double.isNaN(restored.value("total")));
+
+        // Fixing f brings both lines back
+        restored.enter("f(x) = x * 2");
+        assertNull(g.error());
+        assertNull(total.error());
+        assertEquals(7, restored.value("total"));
+    }
+
+    @Test
+    void restoreRejectsLinesThatAreNotDefinitions() {
+        Worksheet worksheet = new Worksheet();
+        assertThrows(EvaluationException.class, () -> worksheet.restore("1 +"));
+        assertThrows(EvaluationException.class, () -> worksheet.restore("a = a + 1"));
+        assertEquals(List.of(), worksheet.entries());
+    }
+}
@@ -0,0 +1,100 @@
+package app;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import app.perf.LatencyHistogram;
+import app.session.SessionAction;
+import app.session.SessionLogReader;
+
+import javafx.scene.input.KeyCode;
+
+/**
+ * SessionReplay feeds a recorded session log into the real calculator UI, headless under Monocle, and reports
+ * throughput and per-action latency. Every result checkpoint in the log is compared with the main display,
+ * and the replay fails (exit code 1) if any result differs, so recorded sessions can be used as regression benchmarks.
+ *
+ * Usage: SessionReplay <session.cslg> [original|max]
+ * At original speed the recorded pauses between actions are kept; at max speed (default) actions run back to back.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public final class SessionReplay {
+
+    /**
+     * Maximum number of mismatching results printed.
+     */
+    private static final int MAX_REPORTED_MISMATCHES = 10;
+
+    private SessionReplay() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1 || args.length > 2 || (args.length == 2 && !args[1].matches("original|max"))) {
+            System.err.println("Usage: SessionReplay <session.cslg> [original|max]");
+            System.exit(2);
+        }
+        List<SessionAction> actions = SessionLogReader.read(Path.of(args[0]));
+        boolean originalSpeed = args.length == 2 && args[1].equals("original");
+
+        UiDriver driver = UiDriver.start(400, 600);
+        UiDriver.Interaction clicks = new UiDriver.Interaction("clicks");
+        UiDriver.Interaction keys = new UiDriver.Interaction("key presses");
+        clicks.startRecording();
+        keys.startRecording();
+
+        List<String> mismatches = new ArrayList<>();
+        int checkpoints = 0;
+        long start = System.nanoTime();
+        try {
+            for (SessionAction action : actions) {
+                if (originalSpeed) {
+                    long wait = start + action.offsetNanos() - System.nanoTime();
+                    if (wait > 0) {
+                        TimeUnit.NANOSECONDS.sleep(wait);
+                    }
+                }
+                switch (action.type()) {
+                    case CLICK -> driver.click(action.name(), clicks);
+                    case KEY -> driver.press(KeyCode.valueOf(action.name()), action.text(), action.shift(), keys);
+                    case RESULT, FINAL -> {
+                        checkpoints++;
+                        String actual = driver.text("mainDisplay");
+                        if (!actual.equals(action.text())) {
+                            mismatches.add(String.format("%s at %.3f s: expected \"%s\", got \"%s\"", action.type(),
+                                    action.offsetNanos() / 1e9, action.text(), actual));
+                        }
+                    }
+                }
+            }
+        } finally {
+            driver.close();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long inputs = clicks.latency.count() + keys.latency.count();
+        System.out.printf("Replayed %d actions in %.2f s (%s speed): %.1f actions/s%n", inputs, seconds,
+                originalSpeed ? "original" : "max", inputs / seconds);
+        System.out.printf("%-12s %7s %21s %29s%n", "Action", "count", "handler p50/p99 ms", "latency p50/p99/max ms");
+        for (UiDriver.Interaction timing : List.of(clicks, keys)) {
+            System.out.printf("%-12s %7d %10.2f /%8.2f %10.2f /%8.2f /%8.2f%n", timing.name, timing.latency.count(),
+                    millis(timing.handler, 50), millis(timing.handler, 99),
+                    millis(timing.latency, 50), millis(timing.latency, 99), timing.latency.maxNanos() / 1e6);
+        }
+        LatencyHistogram pulses = driver.pulseDuration();
+        System.out.printf("Pulse CSS+layout: %d pulses, p50 %.2f ms, p99 %.2f ms%n",
+                pulses.count(), millis(pulses, 50), millis(pulses, 99));
+
+        System.out.printf("Results: %d of %d checkpoints match%n", checkpoints - mismatches.size(), checkpoints);
+        mismatches.stream().limit(MAX_REPORTED_MISMATCHES).forEach(mismatch -> System.out.println("  " + mismatch));
+        System.exit(mismatches.isEmpty() ? 0 : 1);
+    }
+
+    private static double millis(LatencyHistogram histogram, double percentile) {
+        return histogram.percentile(percentile) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,215 @@
+package app;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import app.perf.LatencyHistogram;
+
+import javafx.application.Platform;
+import javafx.event.Event;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Labeled;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.stage.Stage;
+
+/**
+ * UiDriver shows CalculatorLayout.fxml with the real JavaFXController and drives it with scripted clicks and key presses.
+ * Every interaction runs on the JavaFX Application Thread and is timed twice: the event handler alone, and from
+ * dispatch until the next pulse has applied CSS and laid out the result (the latency the user sees before rendering).
+ * CSS and layout time of every pulse is recorded separately.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+final class UiDriver {
+
+    /**
+     * Longest time to wait for an interaction's pulse before the run is considered hung.
+     */
+    private static final long INTERACTION_TIMEOUT_SECONDS = 10;
+
+    private final Stage stage;
+    private final Scene scene;
+    private volatile LatencyHistogram pulseDuration = new LatencyHistogram();
+    private long pulseStart;
+
+    private UiDriver(Stage stage) {
+        this.stage = stage;
+        this.scene = stage.getScene();
+        scene.addPreLayoutPulseListener(() -> pulseStart = System.nanoTime());
+        scene.addPostLayoutPulseListener(() -> pulseDuration.record(System.nanoTime() - pulseStart));
+    }
+
+    /**
+     * Starts the JavaFX toolkit and shows the calculator in a stage of the given size.
+     *
+     * @param width The window width
+     * @param height The window height
+     * @return The driver for the shown calculator
+     * @throws Exception if the toolkit cannot start or the layout cannot be loaded
+     */
+    static UiDriver start(double width, double height) throws Exception {
+        CompletableFuture<Void> started = new CompletableFuture<>();
+        Platform.startup(() -> started.complete(null));
+        started.get(INTERACTION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        CompletableFuture<UiDriver> driver = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                Parent root = new FXMLLoader(UiDriver.class.getResource("/app/CalculatorLayout.fxml")).load();
+                Scene scene = new Scene(root, width, height);
+                scene.getStylesheets().add(CalculatorApp.stylesheetUrl());
+                Stage stage = new Stage();
+                stage.setScene(scene);
+                stage.show();
+                driver.complete(new UiDriver(stage));
+            } catch (IOException | RuntimeException e) {
+                driver.completeExceptionally(e);
+            }
+        });
+        return driver.get(INTERACTION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Returns the CSS and layout time of every pulse since the driver started or resetPulseDuration() was called.
+     */
+    LatencyHistogram pulseDuration() {
+        return pulseDuration;
+    }
+
+    /**
+     * Discards the pulse times recorded so far, e.g. those of the warmup.
+     */
+    void resetPulseDuration() {
+        pulseDuration = new LatencyHistogram();
+    }
+
+    /**
+     * Clicks the button with the given fx:id.
+     */
+    void click(String buttonId, Interaction timing) throws Exception {
+        run(() -> ((Button) scene.lookup("#" + buttonId)).fire(), timing);
+    }
+
+    /**
+     * Presses the key for every character of the text, as typed on a US keyboard.
+     */
+    void type(String text, Interaction timing) throws Exception {
+        for (char c : text.toCharArray()) {
+            switch (c) {
+                case '+' -> press(KeyCode.EQUALS, "+", true, timing);
+                case '*' -> press(KeyCode.DIGIT8, "*", true, timing);
+                case '%' -> press(KeyCode.DIGIT5, "%", true, timing);
+                case '-' -> press(KeyCode.MINUS, "-", false, timing);
+                case '/' -> press(KeyCode.SLASH, "/", false, timing);
+                case '=' -> press(KeyCode.EQUALS, "=", false, timing);
+                case '.' -> press(KeyCode.PERIOD, ".", false, timing);
+                default -> {
+                    if (c < '0' || c > '9') {
+                        throw new IllegalArgumentException("Cannot type '" + c + "'");
+                    }
+                    press(KeyCode.valueOf("DIGIT" + c), String.valueOf(c), false, timing);
+                }
+            }
+        }
+    }
+
+    /**
+     * Presses a single key on the calculator root.
+     */
+    void press(KeyCode code, String text, boolean shift, Interaction timing) throws Exception {
+        KeyEvent event = new KeyEvent(KeyEvent.KEY_PRESSED, KeyEvent.CHAR_UNDEFINED, text, code, shift, false, false, false);
+        run(() -> Event.fireEvent(scene.getRoot(), event), timing);
+    }
+
+    /**
+     * Returns the text of the label or button with the given fx:id, read on the JavaFX Application Thread.
+     */
+    String text(String id) throws Exception {
+        CompletableFuture<String> text = new CompletableFuture<>();
+        Platform.runLater(() -> text.complete(((Labeled) scene.lookup("#" + id)).getText()));
+        return text.get(INTERACTION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Resizes the window.
+     */
+    void resize(double width, double height, Interaction timing) throws Exception {
+        run(() -> {
+            stage.setWidth(width);
+            stage.setHeight(height);
+        }, timing);
+    }
+
+    /**
+     * Closes the window and stops the JavaFX toolkit.
+     */
+    void close() {
+        Platform.runLater(() -> {
+            stage.close();
+            Platform.exit();
+        });
+    }
+
+    /**
+     * Runs an action on the JavaFX Application Thread and waits until the next pulse has laid out its result.
+     */
+    private void run(Runnable action, Interaction timing) throws InterruptedException, ExecutionException, TimeoutException {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            long start = System.nanoTime();
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                done.completeExceptionally(e);
+                return;
+            }
+            long handled = System.nanoTime();
+            Runnable[] listener = new Runnable[1];
+            listener[0] = () -> {
+                scene.removePostLayoutPulseListener(listener[0]);
+                timing.record(handled - start, System.nanoTime() - start);
+                done.complete(null);
+            };
+            scene.addPostLayoutPulseListener(listener[0]);
+            Platform.requestNextPulse();
+        });
+        done.get(INTERACTION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Latencies of one kind of interaction: the event handler alone, and dispatch until the result is laid out.
+     */
+    static final class Interaction {
+        final String name;
+        final LatencyHistogram handler = new LatencyHistogram();
+        final LatencyHistogram latency = new LatencyHistogram();
+        private volatile boolean recording;
+
+        Interaction(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Starts recording; interactions before this call are warmup and not counted.
+         */
+        void startRecording() {
+            recording = true;
+        }
+
+        private void record(long handlerNanos, long latencyNanos) {
+            if (recording) {
+                handler.record(handlerNanos);
+                latency.record(latencyNanos);
+            }
+        }
+    }
+}
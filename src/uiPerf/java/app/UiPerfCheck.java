@@ -0,0 +1,187 @@
+package app;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import app.perf.LatencyHistogram;
+
+import javafx.scene.input.KeyCode;
+
+/**
+ * UiPerfCheck runs scripted click and keyboard sessions against the real calculator UI, headless under Monocle,
+ * and fails (exit code 1) when interaction latency or pulse time exceeds its budget.
+ * Run by the Gradle uiPerfCheck task, which every test run depends on.
+ *
+ * The times are wall-clock, so a measurement that exceeds a budget is repeated, up to uiperf.attempts times in all,
+ * and the check only fails when every attempt exceeds one: a single slow run on a busy machine does not fail the build,
+ * while a real regression fails every attempt.
+ *
+ * Budgets and iteration counts can be overridden with system properties (Gradle: -Puiperf.latencyP99Ms=80):
+ * uiperf.handlerP99Ms, uiperf.latencyP99Ms, uiperf.pulseP99Ms, uiperf.budgetScale (multiplies every budget, e.g. 2
+ * on slow CI machines), uiperf.attempts, uiperf.warmup and uiperf.iterations.
+ *
+ * @version 1.0
+ * @since 2026.10.18
+ * @see <a href="https://github.com/JRBerger123/calculator-gui-app">GitHub Repository</a>
+ */
+public final class UiPerfCheck {
+
+    /**
+     * p99 budget for the time spent in the event handler of one click or key press.
+     */
+    private static final double HANDLER_P99_MS = doubleProperty("uiperf.handlerP99Ms", 8) * budgetScale();
+
+    /**
+     * p99 budget for one interaction, from dispatch until the next pulse has laid out the result.
+     */
+    private static final double LATENCY_P99_MS = doubleProperty("uiperf.latencyP99Ms", 50) * budgetScale();
+
+    /**
+     * p99 budget for CSS and layout of a single pulse (one 60 Hz frame).
+     */
+    private static final double PULSE_P99_MS = doubleProperty("uiperf.pulseP99Ms", 16) * budgetScale();
+
+    /**
+     * Number of measurements made before a budget that is exceeded in every one of them fails the check.
+     */
+    private static final int ATTEMPTS = Math.max(1, Integer.getInteger("uiperf.attempts", 3));
+
+    private static final int WARMUP = Integer.getInteger("uiperf.warmup", 20);
+    private static final int ITERATIONS = Integer.getInteger("uiperf.iterations", 30);
+
+    /**
+     * A scripted session; each run of it must leave the calculator in the state it started in.
+     */
+    @FunctionalInterface
+    private interface Script {
+        void run(UiDriver driver, UiDriver.Interaction timing) throws Exception;
+    }
+
+    private record NamedScript(String name, Script script) {
+    }
+
+    private UiPerfCheck() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<NamedScript> scripts = List.of(
+                new NamedScript("click digits and operators", (driver, timing) -> {
+                    for (String id : List.of("sevenButton", "eightButton", "nineButton", "plusButton",
+                            "oneButton", "twoButton", "decimalButton", "fiveButton", "equalsButton", "cButton")) {
+                        driver.click(id, timing);
+                    }
+                }),
+                new NamedScript("type arithmetic", (driver, timing) -> {
+                    driver.type("123.45*6-7/8=", timing);
+                    driver.press(KeyCode.ESCAPE, "", false, timing);
+                }),
+                new NamedScript("type long expression", (driver, timing) -> {
+                    StringBuilder expression = new StringBuilder("1");
+                    for (int i = 2; i <= 40; i++) {
+                        expression.append(i % 2 == 0 ? '+' : '*').append(i);
+                    }
+                    driver.type(expression.append('=').toString(), timing);
+                    driver.press(KeyCode.ESCAPE, "", false, timing);
+                }),
+                new NamedScript("unary operations and percent", (driver, timing) -> {
+                    driver.type("81", timing);
+                    for (String id : List.of("squareRootButton", "squareButton", "reciprocalButton",
+                            "negateButton", "togglePercentButton", "togglePercentButton", "backspaceButton", "cButton")) {
+                        driver.click(id, timing);
+                    }
+                }),
+                new NamedScript("side panel tabs", (driver, timing) -> {
+                    driver.click("memoryButton", timing);
+                    driver.click("historyButton", timing);
+                }),
+                new NamedScript("resize across side panel threshold", (driver, timing) -> {
+                    for (double width : new double[] {500, 560, 600, 700, 600, 540, 400}) {
+                        driver.resize(width, 600, timing);
+                    }
+                }));
+
+        UiDriver driver = UiDriver.start(400, 600);
+        List<String> failures = new ArrayList<>();
+        try {
+            for (NamedScript script : scripts) {
+                UiDriver.Interaction warmup = new UiDriver.Interaction(script.name());
+                for (int i = 0; i < WARMUP; i++) {
+                    script.script().run(driver, warmup);
+                }
+            }
+
+            // Measure after every script has warmed up, so JIT compilation of shared code does not land in one script
+            for (int attempt = 1; attempt <= ATTEMPTS; attempt++) {
+                failures = measure(driver, scripts);
+                if (failures.isEmpty()) {
+                    break;
+                }
+                if (attempt < ATTEMPTS) {
+                    System.out.printf("%nAttempt %d of %d exceeded a budget (%s), measuring again%n%n", attempt,
+                            ATTEMPTS, String.join("; ", failures));
+                }
+            }
+        } finally {
+            driver.close();
+        }
+
+        if (!failures.isEmpty()) {
+            System.out.println();
+            failures.forEach(failure -> System.out.println("Budget exceeded: " + failure));
+            System.exit(1);
+        }
+        System.out.println("\nAll UI latency budgets met");
+        System.exit(0);
+    }
+
+    /**
+     * Runs every script ITERATIONS times, prints the latencies and returns the budgets they exceed.
+     */
+    private static List<String> measure(UiDriver driver, List<NamedScript> scripts) throws Exception {
+        List<String> failures = new ArrayList<>();
+        List<UiDriver.Interaction> results = new ArrayList<>();
+        driver.resetPulseDuration();
+        for (NamedScript script : scripts) {
+            UiDriver.Interaction timing = new UiDriver.Interaction(script.name());
+            timing.startRecording();
+            for (int i = 0; i < ITERATIONS; i++) {
+                script.script().run(driver, timing);
+            }
+            results.add(timing);
+        }
+
+        System.out.printf("%-36s %7s %21s %21s%n", "Interaction", "count", "handler p50/p99 ms", "latency p50/p99 ms");
+        for (UiDriver.Interaction timing : results) {
+            System.out.printf("%-36s %7d %10.2f /%8.2f %10.2f /%8.2f%n", timing.name, timing.latency.count(),
+                    millis(timing.handler, 50), millis(timing.handler, 99),
+                    millis(timing.latency, 50), millis(timing.latency, 99));
+            check(failures, timing.name + " handler p99", millis(timing.handler, 99), HANDLER_P99_MS);
+            check(failures, timing.name + " latency p99", millis(timing.latency, 99), LATENCY_P99_MS);
+        }
+
+        LatencyHistogram pulses = driver.pulseDuration();
+        System.out.printf("%nPulse CSS+layout: %d pulses, p50 %.2f ms, p99 %.2f ms, max %.2f ms%n", pulses.count(),
+                millis(pulses, 50), millis(pulses, 99), pulses.maxNanos() / 1_000_000.0);
+        check(failures, "pulse CSS+layout p99", millis(pulses, 99), PULSE_P99_MS);
+        return failures;
+    }
+
+    private static void check(List<String> failures, String name, double valueMillis, double budgetMillis) {
+        if (valueMillis > budgetMillis) {
+            failures.add(String.format("%s %.2f ms > %.2f ms", name, valueMillis, budgetMillis));
+        }
+    }
+
+    private static double millis(LatencyHistogram histogram, double percentile) {
+        return histogram.percentile(percentile) / 1_000_000.0;
+    }
+
+    private static double budgetScale() {
+        return doubleProperty("uiperf.budgetScale", 1);
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+}